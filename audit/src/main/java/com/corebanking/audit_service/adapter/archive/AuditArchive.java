@@ -0,0 +1,270 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Cold tier of the audit log: a directory of {@link AuditArchiveSegment} files plus a watermark.
+ * Every log older than the watermark lives here; the hot table only answers from the watermark on.
+ * Segment statistics are loaded once, so a query opens only the files that may hold a match.
+ */
+public class AuditArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchive.class);
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String WATERMARK_FILE = "watermark";
+    private static final DateTimeFormatter SEGMENT_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // UUIDv7 ids carry their creation time; the slack covers time zones and clock skew
+    private static final long ID_TIME_SLACK_MILLIS = 86_400_000L;
+
+    record Segment(Path file, AuditArchiveSegment.Stats stats) {
+    }
+
+    private final Path directory;
+    private final Object writeLock = new Object();
+    private volatile List<Segment> segments = List.of();
+    private volatile LocalDateTime watermark;
+
+    public AuditArchive(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the watermark and segment statistics. Segments at or past the watermark were left by an
+     * interrupted run whose rows are still in the hot table, so they are deleted.
+     */
+    public void open() {
+        try {
+            Files.createDirectories(directory);
+            Path watermarkFile = directory.resolve(WATERMARK_FILE);
+            watermark = Files.exists(watermarkFile)
+                    ? LocalDateTime.parse(Files.readString(watermarkFile, StandardCharsets.UTF_8).trim())
+                    : null;
+            List<Segment> loaded = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        Files.delete(file);
+                    } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                        AuditArchiveSegment.Stats stats;
+                        try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(file)) {
+                            stats = reader.stats();
+                        }
+                        if (watermark == null || !stats.minTimestamp().isBefore(watermark)) {
+                            log.warn("Deleting audit archive segment {} left by an interrupted run", name);
+                            Files.delete(file);
+                        } else {
+                            loaded.add(new Segment(file, stats));
+                        }
+                    }
+                }
+            }
+            loaded.sort(Comparator.comparing((Segment segment) -> segment.stats().minTimestamp()));
+            segments = List.copyOf(loaded);
+            log.info("Audit archive opened with {} segments below {}", loaded.size(), watermark);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Logs older than this are archived, or {@code null} while nothing is.
+     */
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * At most {@code limit} matching logs after {@code after}, in {@code (timestamp, id)} order.
+     * Segments are visited by their first timestamp and the scan ends once no later segment can
+     * still place a row in the page.
+     */
+    public List<AuditLog> find(AuditArchiveFilter filter, AuditCursor after, int limit) {
+        List<AuditLog> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (result.size() >= limit
+                    && segment.stats().minTimestamp().isAfter(result.get(limit - 1).getTimestamp())) {
+                break;
+            }
+            if (!segment.stats().mayMatch(filter, after)) {
+                continue;
+            }
+            int before = result.size();
+            scan(segment, filter, after, limit, result::add);
+            if (result.size() > before) {
+                result.sort(AuditCursor.LOG_ORDER);
+                if (result.size() > limit) {
+                    result.subList(limit, result.size()).clear();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Pushes every archived log in the inclusive range to {@code sink} in order. Only segments that
+     * overlap the one being read are buffered.
+     */
+    public long stream(LocalDateTime start, LocalDateTime end, Consumer<AuditLog> sink) {
+        AuditArchiveFilter filter = new AuditArchiveFilter(null, null, null, null, start, end);
+        PriorityQueue<AuditLog> pending = new PriorityQueue<>(AuditCursor.LOG_ORDER);
+        long count = 0;
+        for (Segment segment : segments) {
+            if (!segment.stats().mayMatch(filter, null)) {
+                continue;
+            }
+            LocalDateTime next = segment.stats().minTimestamp();
+            while (!pending.isEmpty() && pending.peek().getTimestamp().isBefore(next)) {
+                sink.accept(pending.poll());
+                count++;
+            }
+            scan(segment, filter, null, Integer.MAX_VALUE, pending::add);
+        }
+        while (!pending.isEmpty()) {
+            sink.accept(pending.poll());
+            count++;
+        }
+        return count;
+    }
+
+    public Optional<AuditLog> findById(UUID id) {
+        List<Segment> likely = new ArrayList<>();
+        List<Segment> others = new ArrayList<>();
+        if (id.version() == 7) {
+            long millis = id.getMostSignificantBits() >>> 16;
+            for (Segment segment : segments) {
+                boolean inRange = millis >= toEpochMillis(segment.stats().minTimestamp()) - ID_TIME_SLACK_MILLIS
+                        && millis <= toEpochMillis(segment.stats().maxTimestamp()) + ID_TIME_SLACK_MILLIS;
+                (inRange ? likely : others).add(segment);
+            }
+        } else {
+            others.addAll(segments);
+        }
+        for (List<Segment> candidates : List.of(likely, others)) {
+            for (Segment segment : candidates) {
+                Optional<AuditLog> found = findById(segment, id);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Ids already archived for logs in {@code [start, end)}.
+     */
+    public Set<UUID> archivedIds(LocalDateTime start, LocalDateTime end) {
+        Set<UUID> ids = new HashSet<>();
+        AuditArchiveFilter filter = new AuditArchiveFilter(null, null, null, null, start, end);
+        for (Segment segment : segments) {
+            if (!segment.stats().mayMatch(filter, null)) {
+                continue;
+            }
+            try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(segment.file())) {
+                ids.addAll(List.of(reader.ids()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Writes one segment. Rows must be in {@code (timestamp, id)} order; they become visible to
+     * queries only once the watermark passes them.
+     */
+    public void write(List<AuditLog> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            Path file = directory.resolve(rows.get(0).getTimestamp().format(SEGMENT_DAY) + "-"
+                    + UUID.randomUUID() + SEGMENT_SUFFIX);
+            try {
+                AuditArchiveSegment.Stats stats = AuditArchiveSegment.write(file, rows);
+                List<Segment> updated = new ArrayList<>(segments);
+                updated.add(new Segment(file, stats));
+                updated.sort(Comparator.comparing((Segment segment) -> segment.stats().minTimestamp()));
+                segments = List.copyOf(updated);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void advanceWatermark(LocalDateTime newWatermark) {
+        synchronized (writeLock) {
+            if (watermark != null && !newWatermark.isAfter(watermark)) {
+                return;
+            }
+            Path file = directory.resolve(WATERMARK_FILE);
+            Path temp = directory.resolve(WATERMARK_FILE + ".tmp");
+            try {
+                Files.writeString(temp, newWatermark.toString(), StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            watermark = newWatermark;
+        }
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void scan(Segment segment, AuditArchiveFilter filter, AuditCursor after, int limit,
+                      Consumer<AuditLog> sink) {
+        try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(segment.file())) {
+            reader.scan(filter, after, limit, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<AuditLog> findById(Segment segment, UUID id) {
+        try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(segment.file())) {
+            UUID[] ids = reader.ids();
+            for (UUID candidate : ids) {
+                if (candidate.equals(id)) {
+                    List<AuditLog> rows = new ArrayList<>(1);
+                    reader.scan(AuditArchiveFilter.all(), null, Integer.MAX_VALUE,
+                            row -> { if (row.getId().equals(id)) rows.add(row); });
+                    return rows.stream().findFirst();
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,49 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Conditions of an archive scan; {@code null} fields do not filter. The date range is inclusive,
+ * like the repository's {@code BETWEEN} queries.
+ */
+public record AuditArchiveFilter(String userId, String action, String entityType, String entityId,
+                                 LocalDateTime start, LocalDateTime end) {
+
+    public static AuditArchiveFilter all() {
+        return new AuditArchiveFilter(null, null, null, null, null, null);
+    }
+
+    public static AuditArchiveFilter user(String userId) {
+        return new AuditArchiveFilter(userId, null, null, null, null, null);
+    }
+
+    public static AuditArchiveFilter action(String action) {
+        return new AuditArchiveFilter(null, action, null, null, null, null);
+    }
+
+    public static AuditArchiveFilter entity(String entityType, String entityId) {
+        return new AuditArchiveFilter(null, null, entityType, entityId, null, null);
+    }
+
+    public static AuditArchiveFilter of(AuditCriteria criteria) {
+        return new AuditArchiveFilter(criteria.getUserId(), criteria.getAction(), criteria.getEntityType(),
+                criteria.getEntityId(), criteria.getStart(), criteria.getEnd());
+    }
+
+    public static AuditArchiveFilter range(String userId, LocalDateTime start, LocalDateTime end) {
+        return new AuditArchiveFilter(userId, null, null, null, start, end);
+    }
+
+    public boolean matches(AuditLog auditLog) {
+        return (userId == null || userId.equals(auditLog.getUserId()))
+                && (action == null || action.equals(auditLog.getAction()))
+                && (entityType == null || entityType.equals(auditLog.getEntityType()))
+                && (entityId == null || Objects.equals(entityId, auditLog.getEntityId()))
+                && (start == null || !auditLog.getTimestamp().isBefore(start))
+                && (end == null || !auditLog.getTimestamp().isAfter(end));
+    }
+}
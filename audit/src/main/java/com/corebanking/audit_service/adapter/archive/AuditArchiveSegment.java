@@ -0,0 +1,548 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable columnar file of archived audit logs, rows in {@code (timestamp, id)} order.
+ *
+ * <pre>
+ * "AUDARC01" | column blocks | footer | footer length (int) | "AUDARC01"
+ * </pre>
+ *
+ * Every column is encoded on its own and deflated: ids as raw 16 bytes, timestamps as zig-zag
+ * varint deltas of epoch microseconds, short strings through a per-segment dictionary, details
+ * length-prefixed and the chain link as shard, sequence and hash. The footer holds the block
+ * directory and the {@link Stats} used to skip the segment without reading any block. Scans
+ * decode the filter columns first and the rest only when some row matches.
+ */
+final class AuditArchiveSegment {
+
+    private static final byte[] MAGIC = "AUDARC01".getBytes(StandardCharsets.US_ASCII);
+
+    enum Column { ID, TIMESTAMP, USER_ID, ACTION, ENTITY_TYPE, ENTITY_ID, DETAILS, IP_ADDRESS, USER_AGENT, CHAIN }
+
+    /**
+     * Footer statistics. {@code users} and {@code entities} are Bloom filters over user ids and
+     * {@code entityType + '\0' + entityId}; actions and entity types are listed exactly.
+     */
+    record Stats(int rowCount, LocalDateTime minTimestamp, LocalDateTime maxTimestamp,
+                 String minUserId, String maxUserId, Set<String> actions, Set<String> entityTypes,
+                 AuditBloomFilter users, AuditBloomFilter entities) {
+
+        boolean mayMatch(AuditArchiveFilter filter, AuditCursor after) {
+            if (filter.start() != null && maxTimestamp.isBefore(filter.start())) {
+                return false;
+            }
+            if (filter.end() != null && minTimestamp.isAfter(filter.end())) {
+                return false;
+            }
+            if (after != null && maxTimestamp.isBefore(after.getTimestamp())) {
+                return false;
+            }
+            if (filter.userId() != null && (filter.userId().compareTo(minUserId) < 0
+                    || filter.userId().compareTo(maxUserId) > 0 || !users.mightContain(filter.userId()))) {
+                return false;
+            }
+            if (filter.action() != null && !actions.contains(filter.action())) {
+                return false;
+            }
+            if (filter.entityType() != null && !entityTypes.contains(filter.entityType())) {
+                return false;
+            }
+            return filter.entityId() == null || filter.entityType() == null
+                    || entities.mightContain(entityKey(filter.entityType(), filter.entityId()));
+        }
+    }
+
+    private AuditArchiveSegment() {
+    }
+
+    /**
+     * Writes the rows, which must be non-empty and in {@code (timestamp, id)} order, to a temporary
+     * file that is synced and then moved into place.
+     */
+    static Stats write(Path file, List<AuditLog> rows) throws IOException {
+        int count = rows.size();
+        Map<Column, byte[]> raw = new EnumMap<>(Column.class);
+        raw.put(Column.ID, encodeIds(rows));
+        raw.put(Column.TIMESTAMP, encodeTimestamps(rows));
+        raw.put(Column.USER_ID, encodeDictionary(rows.stream().map(AuditLog::getUserId).toList()));
+        raw.put(Column.ACTION, encodeDictionary(rows.stream().map(AuditLog::getAction).toList()));
+        raw.put(Column.ENTITY_TYPE, encodeDictionary(rows.stream().map(AuditLog::getEntityType).toList()));
+        raw.put(Column.ENTITY_ID, encodeDictionary(rows.stream().map(AuditLog::getEntityId).toList()));
+        raw.put(Column.DETAILS, encodeStrings(rows.stream().map(AuditLog::getDetails).toList()));
+        raw.put(Column.IP_ADDRESS, encodeDictionary(rows.stream().map(AuditLog::getIpAddress).toList()));
+        raw.put(Column.USER_AGENT, encodeDictionary(rows.stream().map(AuditLog::getUserAgent).toList()));
+        raw.put(Column.CHAIN, encodeChain(rows));
+
+        TreeSet<String> users = new TreeSet<>();
+        Set<String> actions = new TreeSet<>();
+        Set<String> entityTypes = new TreeSet<>();
+        AuditBloomFilter entities = AuditBloomFilter.withCapacity(count);
+        for (AuditLog row : rows) {
+            users.add(row.getUserId());
+            actions.add(row.getAction());
+            entityTypes.add(row.getEntityType());
+            if (row.getEntityId() != null) {
+                entities.add(entityKey(row.getEntityType(), row.getEntityId()));
+            }
+        }
+        AuditBloomFilter userFilter = AuditBloomFilter.withCapacity(users.size());
+        users.forEach(userFilter::add);
+        Stats stats = new Stats(count, rows.get(0).getTimestamp(), rows.get(count - 1).getTimestamp(),
+                users.first(), users.last(), Set.copyOf(actions), Set.copyOf(entityTypes), userFilter, entities);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = write(channel, ByteBuffer.wrap(MAGIC), 0);
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            DataOutputStream footer = new DataOutputStream(footerBytes);
+            writeStats(footer, stats);
+            footer.writeInt(raw.size());
+            for (Map.Entry<Column, byte[]> column : raw.entrySet()) {
+                byte[] compressed = deflate(column.getValue());
+                footer.writeByte(column.getKey().ordinal());
+                footer.writeLong(offset);
+                footer.writeInt(compressed.length);
+                footer.writeInt(column.getValue().length);
+                offset = write(channel, ByteBuffer.wrap(compressed), offset);
+            }
+            footer.flush();
+            offset = write(channel, ByteBuffer.wrap(footerBytes.toByteArray()), offset);
+            offset = write(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, footerBytes.size()), offset);
+            write(channel, ByteBuffer.wrap(MAGIC), offset);
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        return stats;
+    }
+
+    static Reader open(Path file) throws IOException {
+        return new Reader(file);
+    }
+
+    static String entityKey(String entityType, String entityId) {
+        return entityType + '\0' + entityId;
+    }
+
+    static final class Reader implements Closeable {
+        private final FileChannel channel;
+        private final Stats stats;
+        private final Map<Column, long[]> blocks = new EnumMap<>(Column.class);
+
+        private Reader(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                ByteBuffer tail = read(size - Integer.BYTES - MAGIC.length, Integer.BYTES + MAGIC.length);
+                byte[] magic = new byte[MAGIC.length];
+                tail.get(Integer.BYTES, magic);
+                if (!Arrays.equals(magic, MAGIC)) {
+                    throw new IOException("Not an audit archive segment: " + file);
+                }
+                int footerLength = tail.getInt(0);
+                ByteBuffer footerBuffer = read(size - Integer.BYTES - MAGIC.length - footerLength, footerLength);
+                DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBuffer.array()));
+                this.stats = readStats(footer);
+                int columns = footer.readInt();
+                for (int i = 0; i < columns; i++) {
+                    Column column = Column.values()[footer.readByte()];
+                    blocks.put(column, new long[]{footer.readLong(), footer.readInt(), footer.readInt()});
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        Stats stats() {
+            return stats;
+        }
+
+        /**
+         * Pushes the rows matching the filter and following {@code after} to {@code sink} in order,
+         * stopping after {@code limit} rows.
+         */
+        void scan(AuditArchiveFilter filter, AuditCursor after, int limit, Consumer<AuditLog> sink) throws IOException {
+            int count = stats.rowCount();
+            LocalDateTime[] timestamps = decodeTimestamps(column(Column.TIMESTAMP), count);
+            UUID[] ids = decodeIds(column(Column.ID), count);
+            BitSet candidates = new BitSet(count);
+            for (int row = 0; row < count; row++) {
+                LocalDateTime timestamp = timestamps[row];
+                if ((filter.start() == null || !timestamp.isBefore(filter.start()))
+                        && (filter.end() == null || !timestamp.isAfter(filter.end()))
+                        && (after == null || after.isBefore(timestamp, ids[row]))) {
+                    candidates.set(row);
+                }
+            }
+            String[] userIds = refine(candidates, Column.USER_ID, filter.userId(), count);
+            String[] actions = refine(candidates, Column.ACTION, filter.action(), count);
+            String[] entityTypes = refine(candidates, Column.ENTITY_TYPE, filter.entityType(), count);
+            String[] entityIds = refine(candidates, Column.ENTITY_ID, filter.entityId(), count);
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            userIds = userIds != null ? userIds : decodeDictionary(column(Column.USER_ID), count);
+            actions = actions != null ? actions : decodeDictionary(column(Column.ACTION), count);
+            entityTypes = entityTypes != null ? entityTypes : decodeDictionary(column(Column.ENTITY_TYPE), count);
+            entityIds = entityIds != null ? entityIds : decodeDictionary(column(Column.ENTITY_ID), count);
+            String[] details = decodeStrings(column(Column.DETAILS), count);
+            String[] ipAddresses = decodeDictionary(column(Column.IP_ADDRESS), count);
+            String[] userAgents = decodeDictionary(column(Column.USER_AGENT), count);
+            AuditChainLink[] chain = decodeChain(column(Column.CHAIN), count);
+            int emitted = 0;
+            for (int row = candidates.nextSetBit(0); row >= 0 && emitted < limit; row = candidates.nextSetBit(row + 1)) {
+                sink.accept(new AuditLog(ids[row], userIds[row], actions[row], entityTypes[row], entityIds[row],
+                        details[row], timestamps[row], ipAddresses[row], userAgents[row], chain[row]));
+                emitted++;
+            }
+        }
+
+        UUID[] ids() throws IOException {
+            return decodeIds(column(Column.ID), stats.rowCount());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        // Clears candidates whose value differs; returns the decoded column when it was needed
+        private String[] refine(BitSet candidates, Column column, String expected, int count) throws IOException {
+            if (expected == null || candidates.isEmpty()) {
+                return null;
+            }
+            String[] values = decodeDictionary(column(column), count);
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                if (!expected.equals(values[row])) {
+                    candidates.clear(row);
+                }
+            }
+            return values;
+        }
+
+        private ByteBuffer column(Column column) throws IOException {
+            long[] block = blocks.get(column);
+            ByteBuffer compressed = read(block[0], (int) block[1]);
+            return ByteBuffer.wrap(inflate(compressed.array(), (int) block[2]));
+        }
+
+        private ByteBuffer read(long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Truncated audit archive segment");
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static long write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return position;
+    }
+
+    private static void writeStats(DataOutputStream out, Stats stats) throws IOException {
+        out.writeInt(stats.rowCount());
+        out.writeLong(toMicros(stats.minTimestamp()));
+        out.writeLong(toMicros(stats.maxTimestamp()));
+        out.writeUTF(stats.minUserId());
+        out.writeUTF(stats.maxUserId());
+        writeSet(out, stats.actions());
+        writeSet(out, stats.entityTypes());
+        writeWords(out, stats.users().words());
+        writeWords(out, stats.entities().words());
+    }
+
+    private static Stats readStats(DataInputStream in) throws IOException {
+        return new Stats(in.readInt(), fromMicros(in.readLong()), fromMicros(in.readLong()), in.readUTF(), in.readUTF(),
+                readSet(in), readSet(in), AuditBloomFilter.of(readWords(in)), AuditBloomFilter.of(readWords(in)));
+    }
+
+    private static void writeSet(DataOutputStream out, Set<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static Set<String> readSet(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return Set.copyOf(values);
+    }
+
+    private static void writeWords(DataOutputStream out, long[] words) throws IOException {
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private static long[] readWords(DataInputStream in) throws IOException {
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return words;
+    }
+
+    private static byte[] encodeIds(List<AuditLog> rows) {
+        ByteBuffer buffer = ByteBuffer.allocate(rows.size() * 16);
+        rows.forEach(row -> buffer.putLong(row.getId().getMostSignificantBits())
+                .putLong(row.getId().getLeastSignificantBits()));
+        return buffer.array();
+    }
+
+    private static UUID[] decodeIds(ByteBuffer buffer, int count) {
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return ids;
+    }
+
+    private static byte[] encodeTimestamps(List<AuditLog> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 3);
+        long previous = 0;
+        for (AuditLog row : rows) {
+            long micros = toMicros(row.getTimestamp());
+            writeVarLong(out, zigZag(micros - previous));
+            previous = micros;
+        }
+        return out.toByteArray();
+    }
+
+    private static LocalDateTime[] decodeTimestamps(ByteBuffer buffer, int count) {
+        LocalDateTime[] timestamps = new LocalDateTime[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readVarLong(buffer));
+            timestamps[i] = fromMicros(previous);
+        }
+        return timestamps;
+    }
+
+    // Index 0 stands for null; the dictionary is stored in first-seen order
+    private static byte[] encodeDictionary(List<String> values) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] indexes = new int[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            indexes[i] = dictionary.computeIfAbsent(value, v -> {
+                entries.add(v);
+                return entries.size();
+            });
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, entries.size());
+        for (String entry : entries) {
+            writeString(out, entry);
+        }
+        for (int index : indexes) {
+            writeVarLong(out, index);
+        }
+        return out.toByteArray();
+    }
+
+    private static String[] decodeDictionary(ByteBuffer buffer, int count) {
+        String[] dictionary = new String[(int) readVarLong(buffer) + 1];
+        for (int i = 1; i < dictionary.length; i++) {
+            dictionary[i] = readString(buffer);
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = dictionary[(int) readVarLong(buffer)];
+        }
+        return values;
+    }
+
+    private static byte[] encodeStrings(List<String> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String value : values) {
+            if (value == null) {
+                writeVarLong(out, 0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, bytes.length + 1L);
+                out.write(bytes, 0, bytes.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String[] decodeStrings(ByteBuffer buffer, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = (int) readVarLong(buffer);
+            if (length > 0) {
+                byte[] bytes = new byte[length - 1];
+                buffer.get(bytes);
+                values[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+        return values;
+    }
+
+    private static byte[] encodeChain(List<AuditLog> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (AuditLog row : rows) {
+            AuditChainLink link = row.getChainLink();
+            if (link == null) {
+                writeVarLong(out, 0);
+                continue;
+            }
+            writeVarLong(out, link.getShard() + 1L);
+            writeVarLong(out, link.getSequence());
+            out.write(link.getHash(), 0, link.getHash().length);
+        }
+        return out.toByteArray();
+    }
+
+    private static AuditChainLink[] decodeChain(ByteBuffer buffer, int count) {
+        AuditChainLink[] links = new AuditChainLink[count];
+        for (int i = 0; i < count; i++) {
+            long shard = readVarLong(buffer);
+            if (shard == 0) {
+                continue;
+            }
+            long sequence = readVarLong(buffer);
+            byte[] hash = new byte[32];
+            buffer.get(hash);
+            links[i] = new AuditChainLink((int) (shard - 1), sequence, hash);
+        }
+        return links;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[(int) readVarLong(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // The database keeps microseconds, so nothing is lost
+    private static long toMicros(LocalDateTime timestamp) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), timestamp);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                read += inflater.inflate(raw, read, rawLength - read);
+            }
+            if (read != rawLength) {
+                throw new IOException("Corrupt audit archive column");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt audit archive column", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
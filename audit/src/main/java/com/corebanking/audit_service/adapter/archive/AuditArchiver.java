@@ -0,0 +1,128 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.adapter.persistence.AuditLogJpaRepository;
+import com.corebanking.audit_service.adapter.persistence.AuditSearchIndex;
+import com.corebanking.audit_service.adapter.persistence.JpaAuditRepositoryAdapter;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves logs older than the hot window from {@code audit_logs} into the {@link AuditArchive}, one
+ * day at a time: the day is written as segments, the watermark passes it and only then are its
+ * rows deleted. A crash before the watermark moves leaves segments that the archive discards on
+ * open; a crash after it leaves hot rows that the next run deletes without archiving them twice.
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.archive.enabled", havingValue = "true")
+public class AuditArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditArchiver.class);
+
+    static final int DELETE_CHUNK = 1000;
+    // Hot timestamps are stored with microsecond precision
+    private static final Duration PRECISION = Duration.ofNanos(1000);
+
+    private final AuditArchive archive;
+    private final JpaAuditRepositoryAdapter hotRepository;
+    private final AuditLogJpaRepository jpaRepository;
+    private final AuditSearchIndex searchIndex;
+    private final Duration hotWindow;
+    private final int segmentRows;
+    private final Clock clock;
+
+    @Autowired
+    public AuditArchiver(
+            AuditArchive archive,
+            JpaAuditRepositoryAdapter hotRepository,
+            AuditLogJpaRepository jpaRepository,
+            AuditSearchIndex searchIndex,
+            @Value("${app.audit.archive.hot-window:90d}") Duration hotWindow,
+            @Value("${app.audit.archive.segment-rows:100000}") int segmentRows) {
+        this(archive, hotRepository, jpaRepository, searchIndex, hotWindow, segmentRows, Clock.systemDefaultZone());
+    }
+
+    AuditArchiver(AuditArchive archive, JpaAuditRepositoryAdapter hotRepository, AuditLogJpaRepository jpaRepository,
+                  AuditSearchIndex searchIndex, Duration hotWindow, int segmentRows, Clock clock) {
+        this.archive = archive;
+        this.hotRepository = hotRepository;
+        this.jpaRepository = jpaRepository;
+        this.searchIndex = searchIndex;
+        this.hotWindow = hotWindow;
+        this.segmentRows = segmentRows;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${app.audit.archive.cron:0 45 2 * * *}")
+    public void archive() {
+        archiveBefore(LocalDate.now(clock).minusDays(hotWindow.toDays()).atStartOfDay());
+    }
+
+    /**
+     * Archives every whole day before {@code cutoff}, returning the number of logs moved.
+     */
+    long archiveBefore(LocalDateTime cutoff) {
+        Optional<LocalDateTime> oldest = jpaRepository.findOldestTimestamp();
+        if (oldest.isEmpty() || !oldest.get().isBefore(cutoff)) {
+            return 0;
+        }
+        long archived = 0;
+        for (LocalDate day = oldest.get().toLocalDate(); day.atStartOfDay().isBefore(cutoff); day = day.plusDays(1)) {
+            archived += archiveDay(day);
+        }
+        long purged = searchIndex.purgeBefore(archive.getWatermark());
+        log.info("Archived {} audit logs before {} and purged {} search postings", archived, cutoff, purged);
+        return archived;
+    }
+
+    long archiveDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        LocalDateTime watermark = archive.getWatermark();
+        // Logs replayed late into an archived day are added; ones already archived are only deleted
+        Set<UUID> alreadyArchived = watermark != null && start.isBefore(watermark)
+                ? archive.archivedIds(start, end)
+                : Set.of();
+
+        List<UUID> ids = new ArrayList<>();
+        List<AuditLog> segment = new ArrayList<>(Math.min(segmentRows, 10_000));
+        long[] archived = {0};
+        hotRepository.streamByTimestampBetween(start, end.minus(PRECISION), auditLog -> {
+            ids.add(auditLog.getId());
+            if (alreadyArchived.contains(auditLog.getId())) {
+                return;
+            }
+            segment.add(auditLog);
+            archived[0]++;
+            if (segment.size() >= segmentRows) {
+                archive.write(segment);
+                segment.clear();
+            }
+        });
+        archive.write(segment);
+        archive.advanceWatermark(end);
+
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK) {
+            jpaRepository.deleteArchived(ids.subList(from, Math.min(from + DELETE_CHUNK, ids.size())), start, end);
+        }
+        if (!ids.isEmpty()) {
+            log.debug("Archived {} and deleted {} audit logs of {}", archived[0], ids.size(), day);
+        }
+        return archived[0];
+    }
+}
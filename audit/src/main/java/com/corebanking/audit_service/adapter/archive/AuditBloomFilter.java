@@ -0,0 +1,64 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size Bloom filter over strings, about 1% false positives at ten bits per value. Segment
+ * stats use it for high-cardinality columns, where a min/max range prunes almost nothing.
+ */
+final class AuditBloomFilter {
+
+    private static final int BITS_PER_VALUE = 10;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+
+    private AuditBloomFilter(long[] words) {
+        this.words = words;
+    }
+
+    static AuditBloomFilter withCapacity(int values) {
+        long bits = Math.max(64L, (long) values * BITS_PER_VALUE);
+        return new AuditBloomFilter(new long[(int) ((bits + 63) / 64)]);
+    }
+
+    static AuditBloomFilter of(long[] words) {
+        return new AuditBloomFilter(words.clone());
+    }
+
+    void add(String value) {
+        long bits = words.length * 64L;
+        int h1 = value.hashCode();
+        int h2 = fnv1a(value);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long bits = words.length * 64L;
+        int h1 = value.hashCode();
+        int h2 = fnv1a(value);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long[] words() {
+        return words.clone();
+    }
+
+    private static int fnv1a(String value) {
+        int hash = 0x811C9DC5;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash | 1;
+    }
+}
@@ -0,0 +1,167 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.adapter.persistence.JpaAuditRepositoryAdapter;
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Serves {@link AuditRepositoryPort} from the archive below its watermark and from the hot table
+ * above it. Pages are read from the archive first and completed from the hot table, so keyset
+ * cursors cross the boundary unchanged. Writes, full-text search and activity rollups stay on the
+ * hot table.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "app.audit.archive.enabled", havingValue = "true")
+public class TieredAuditRepositoryAdapter implements AuditRepositoryPort {
+
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    private final JpaAuditRepositoryAdapter hotRepository;
+    private final AuditArchive archive;
+
+    public TieredAuditRepositoryAdapter(JpaAuditRepositoryAdapter hotRepository, AuditArchive archive) {
+        this.hotRepository = hotRepository;
+        this.archive = archive;
+    }
+
+    @Override
+    public AuditLog save(AuditLog auditLog) {
+        return hotRepository.save(auditLog);
+    }
+
+    @Override
+    public List<AuditLog> saveAll(List<AuditLog> auditLogs) {
+        return hotRepository.saveAll(auditLogs);
+    }
+
+    @Override
+    public Optional<AuditLog> findById(UUID id) {
+        Optional<AuditLog> hot = hotRepository.findById(id);
+        return hot.isPresent() || archive.getWatermark() == null ? hot : archive.findById(id);
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return hotRepository.findExistingIds(ids);
+    }
+
+    @Override
+    public List<AuditLog> findByUserId(String userId, AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.user(userId), after, limit,
+                (cursor, remaining) -> hotRepository.findByUserId(userId, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByEntityType(String entityType, AuditCursor after, int limit) {
+        return find(new AuditArchiveFilter(null, null, entityType, null, null, null), after, limit,
+                (cursor, remaining) -> hotRepository.findByEntityType(entityType, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByEntityTypeAndEntityId(String entityType, String entityId, AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.entity(entityType, entityId), after, limit,
+                (cursor, remaining) -> hotRepository.findByEntityTypeAndEntityId(entityType, entityId, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByAction(String action, AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.action(action), after, limit,
+                (cursor, remaining) -> hotRepository.findByAction(action, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end, AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.range(null, start, end), after, limit,
+                (cursor, remaining) -> hotRepository.findByTimestampBetween(start, end, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end,
+                                                          AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.range(userId, start, end), after, limit,
+                (cursor, remaining) -> hotRepository.findByUserIdAndTimestampBetween(userId, start, end,
+                        cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> findByCriteria(AuditCriteria criteria, AuditCursor after, int limit) {
+        return find(AuditArchiveFilter.of(criteria), after, limit,
+                (cursor, remaining) -> hotRepository.findByCriteria(criteria, cursor, remaining));
+    }
+
+    @Override
+    public List<AuditLog> searchDetails(AuditSearchQuery query, AuditCursor after, int limit) {
+        return hotRepository.searchDetails(query, after, limit);
+    }
+
+    @Override
+    public long streamByTimestampBetween(LocalDateTime start, LocalDateTime end, Consumer<AuditLog> sink) {
+        LocalDateTime watermark = archive.getWatermark();
+        if (watermark == null) {
+            return hotRepository.streamByTimestampBetween(start, end, sink);
+        }
+        long count = 0;
+        if (start.isBefore(watermark)) {
+            count += archive.stream(start, end.isBefore(watermark) ? end : lastArchived(watermark), sink);
+        }
+        if (!end.isBefore(watermark)) {
+            count += hotRepository.streamByTimestampBetween(start.isBefore(watermark) ? watermark : start, end, sink);
+        }
+        return count;
+    }
+
+    @Override
+    public List<AuditActivityCount> findActivity(AuditStatsGranularity granularity, AuditStatsDimension dimension,
+                                                 String value, LocalDateTime start, LocalDateTime end, int limit) {
+        return hotRepository.findActivity(granularity, dimension, value, start, end, limit);
+    }
+
+    private List<AuditLog> find(AuditArchiveFilter filter, AuditCursor after, int limit,
+                                BiFunction<AuditCursor, Integer, List<AuditLog>> hotQuery) {
+        LocalDateTime watermark = archive.getWatermark();
+        if (watermark == null) {
+            return hotQuery.apply(after, limit);
+        }
+        List<AuditLog> result = new ArrayList<>();
+        if (after == null || after.getTimestamp().isBefore(watermark)) {
+            if (filter.start() == null || filter.start().isBefore(watermark)) {
+                result.addAll(archive.find(filter, after, limit));
+            }
+            if (result.size() >= limit) {
+                return result;
+            }
+        }
+        if (filter.end() != null && filter.end().isBefore(watermark)) {
+            return result;
+        }
+        // Hot rows below the watermark are already archived and only wait to be deleted
+        AuditCursor floor = new AuditCursor(lastArchived(watermark), MAX_ID);
+        AuditCursor hotAfter = after == null || !floor.isBefore(after.getTimestamp(), after.getId()) ? floor : after;
+        result.addAll(hotQuery.apply(hotAfter, limit - result.size()));
+        return result;
+    }
+
+    private static LocalDateTime lastArchived(LocalDateTime watermark) {
+        return watermark.minusNanos(1000);
+    }
+}
@@ -0,0 +1,384 @@
+package com.corebanking.audit_service.adapter.journal;
+
+import com.corebanking.audit_service.adapter.persistence.TimeOrderedUuidGenerator;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditJournalPort;
+import com.corebanking.audit_service.domain.service.AuditIngestionRejectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of accepted audit events in fixed-size, memory-mapped segment files.
+ * Appending copies the record into the mapping under a short lock; a single flusher thread
+ * then forces everything written so far to disk, so concurrent appenders share one fsync
+ * (group commit). {@link #append} returns once its record is durable, or after {@code ackTimeout}
+ * if the sync is slower: the record is already in the segment and will be synced and replayed, so
+ * failing the call would only make the client retry and duplicate it.
+ *
+ * <p>Records are {@code [length][crc32c][payload]} and addressed by a global offset,
+ * {@code segmentId * segmentSize + position}. A zero length, or no room for a header, ends a
+ * segment. On start the tail of the last segment is validated and anything after the last
+ * intact record is zeroed. Replayed segments are deleted once {@link #markReplayed} passes them.
+ */
+public class AuditJournal implements AuditJournalPort {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+
+    static final int HEADER = 2 * Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String REPLAY_OFFSET = "replay.offset";
+
+    public record Batch(List<AuditLog> auditLogs, long nextOffset) {
+    }
+
+    private record Segment(long id, MappedByteBuffer buffer) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSize;
+    private final Duration ackTimeout;
+
+    // Guards the active segment and the write offset
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Guards durable; appenders wait on durableAdvanced, the flusher on workAvailable
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition workAvailable = syncLock.newCondition();
+    private final Condition durableAdvanced = syncLock.newCondition();
+
+    private Segment active;
+    private volatile long written;
+    private volatile long durable;
+    private volatile long replayed;
+    private volatile boolean running;
+    private Thread flusher;
+    // Only touched by the replay thread
+    private Segment reading;
+
+    public AuditJournal(Path directory, long segmentSize, long maxSize, Duration ackTimeout) {
+        if (segmentSize <= HEADER || segmentSize > Integer.MAX_VALUE || maxSize < segmentSize) {
+            throw new IllegalArgumentException("Journal segment size must fit in a mapping and max size hold a segment");
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        this.maxSize = maxSize;
+        this.ackTimeout = ackTimeout;
+    }
+
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = segmentIds();
+            replayed = readReplayOffset(segments.isEmpty() ? 0 : segments.get(0) * segmentSize);
+            deleteSegmentsBefore(replayed / segmentSize);
+            long last = segments.isEmpty() ? replayed / segmentSize : Math.max(segments.get(segments.size() - 1), replayed / segmentSize);
+            active = new Segment(last, map(last, FileChannel.MapMode.READ_WRITE));
+            int position = recover(active.buffer());
+            written = durable = Math.max(last * segmentSize + position, replayed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit journal in " + directory, e);
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "audit-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Audit journal opened in {}: {} bytes pending replay", directory, written - replayed);
+    }
+
+    public void stop() {
+        running = false;
+        signalWork();
+        try {
+            flusher.join(ackTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Audit journal closed: {} bytes pending replay", durable - replayed);
+    }
+
+    @Override
+    public AuditLog append(AuditLog auditLog) {
+        AuditLog journaled = auditLog.getId() != null ? auditLog : new AuditLog(TimeOrderedUuidGenerator.generate(),
+                auditLog.getUserId(), auditLog.getAction(), auditLog.getEntityType(), auditLog.getEntityId(),
+                auditLog.getDetails(), auditLog.getTimestamp(), auditLog.getIpAddress(), auditLog.getUserAgent());
+        byte[] payload = AuditJournalCodec.encode(journaled);
+        int recordSize = HEADER + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("audit.journal.record.tooLarge");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        long end;
+        writeLock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Audit journal is closed");
+            }
+            if (written + recordSize - replayed > maxSize) {
+                throw new AuditIngestionRejectedException("audit.journal.full");
+            }
+            if (active.buffer().remaining() < recordSize) {
+                roll();
+            }
+            active.buffer().putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+            end = active.id() * segmentSize + active.buffer().position();
+            written = end;
+        } finally {
+            writeLock.unlock();
+        }
+        if (!awaitDurable(end)) {
+            log.warn("Audit log {} accepted before its journal sync completed within {}", journaled.getId(), ackTimeout);
+        }
+        return journaled;
+    }
+
+    /**
+     * Reads up to {@code maxRecords} durable records starting at {@code offset}.
+     */
+    public Batch read(long offset, int maxRecords) {
+        List<AuditLog> auditLogs = new ArrayList<>();
+        long position = offset;
+        while (auditLogs.size() < maxRecords && position < durable) {
+            long segmentId = position / segmentSize;
+            int within = (int) (position % segmentSize);
+            ByteBuffer buffer = readMapping(segmentId);
+            int length = within + HEADER <= segmentSize ? buffer.getInt(within) : 0;
+            if (length == 0) {
+                position = (segmentId + 1) * segmentSize;
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(within + HEADER, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(within + Integer.BYTES)) {
+                throw new IllegalStateException("Corrupt audit journal record at offset " + position);
+            }
+            auditLogs.add(AuditJournalCodec.decode(payload));
+            position += HEADER + length;
+        }
+        return new Batch(auditLogs, position);
+    }
+
+    /**
+     * Records that everything before {@code offset} is in the repository, persisting the
+     * offset for restarts and deleting segments that lie entirely before it.
+     */
+    public void markReplayed(long offset) {
+        try {
+            Path temp = directory.resolve(REPLAY_OFFSET + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, offset));
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(REPLAY_OFFSET),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            replayed = offset;
+            deleteSegmentsBefore(Math.min(offset / segmentSize, activeSegmentId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot record audit journal replay offset", e);
+        }
+    }
+
+    public long getReplayedOffset() { return replayed; }
+    public long getDurableOffset() { return durable; }
+    public long getPendingBytes() { return durable - replayed; }
+
+    private long activeSegmentId() {
+        writeLock.lock();
+        try {
+            return active.id();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Called with writeLock held: the full segment is forced before appends move on
+    private void roll() {
+        active.buffer().force();
+        advanceDurable(written);
+        long next = active.id() + 1;
+        try {
+            active = new Segment(next, map(next, FileChannel.MapMode.READ_WRITE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create audit journal segment " + next, e);
+        }
+        written = next * segmentSize;
+    }
+
+    // Returns false if the record was not yet synced when the wait gave up
+    private boolean awaitDurable(long end) {
+        signalWork();
+        long remaining = ackTimeout.toNanos();
+        syncLock.lock();
+        try {
+            while (durable < end) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = durableAdvanced.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        while (running || durable < written) {
+            syncLock.lock();
+            try {
+                while (running && durable >= written) {
+                    workAvailable.await(100, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                syncLock.unlock();
+            }
+
+            Segment segment;
+            long target;
+            writeLock.lock();
+            try {
+                segment = active;
+                target = written;
+            } finally {
+                writeLock.unlock();
+            }
+            long base = segment.id() * segmentSize;
+            int from = (int) Math.max(0, durable - base);
+            int to = (int) (target - base);
+            if (to > from) {
+                segment.buffer().force(from, to - from);
+            }
+            advanceDurable(target);
+        }
+    }
+
+    private void advanceDurable(long offset) {
+        syncLock.lock();
+        try {
+            if (offset > durable) {
+                durable = offset;
+            }
+            durableAdvanced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void signalWork() {
+        syncLock.lock();
+        try {
+            workAvailable.signal();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Positions the buffer after the last intact record and zeroes the rest, so a torn
+     * append can never be read back as a record.
+     */
+    private int recover(MappedByteBuffer buffer) {
+        int position = 0;
+        while (position + HEADER <= segmentSize) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER + length > segmentSize) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                log.warn("Discarding torn audit journal record at segment position {}", position);
+                break;
+            }
+            position += HEADER + length;
+        }
+        byte[] zeros = new byte[8192];
+        for (int i = position; i < segmentSize; i += zeros.length) {
+            buffer.put(i, zeros, 0, Math.min(zeros.length, segmentSize - i));
+        }
+        buffer.force();
+        buffer.position(position);
+        return position;
+    }
+
+    private ByteBuffer readMapping(long segmentId) {
+        if (reading == null || reading.id() != segmentId) {
+            try {
+                reading = new Segment(segmentId, map(segmentId, FileChannel.MapMode.READ_ONLY));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read audit journal segment " + segmentId, e);
+            }
+        }
+        return reading.buffer();
+    }
+
+    private MappedByteBuffer map(long segmentId, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE};
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(segmentPath(segmentId), options)) {
+            return channel.map(mode, 0, segmentSize);
+        }
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%020d%s", segmentId, SEGMENT_SUFFIX));
+    }
+
+    private List<Long> segmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long readReplayOffset(long defaultOffset) throws IOException {
+        Path file = directory.resolve(REPLAY_OFFSET);
+        if (!Files.exists(file)) {
+            return defaultOffset;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file)).getLong();
+    }
+
+    private void deleteSegmentsBefore(long segmentId) throws IOException {
+        for (Long id : segmentIds()) {
+            if (id < segmentId) {
+                Files.deleteIfExists(segmentPath(id));
+            }
+        }
+    }
+}
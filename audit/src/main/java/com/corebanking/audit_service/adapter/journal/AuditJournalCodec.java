@@ -0,0 +1,80 @@
+package com.corebanking.audit_service.adapter.journal;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Binary form of a journaled audit event: a format byte, the ID, the timestamp and the
+ * length-prefixed UTF-8 fields ({@code -1} for null).
+ */
+final class AuditJournalCodec {
+
+    private static final byte FORMAT = 1;
+
+    private AuditJournalCodec() {
+    }
+
+    static byte[] encode(AuditLog auditLog) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            out.writeLong(auditLog.getId().getMostSignificantBits());
+            out.writeLong(auditLog.getId().getLeastSignificantBits());
+            out.writeLong(auditLog.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(auditLog.getTimestamp().getNano());
+            writeString(out, auditLog.getUserId());
+            writeString(out, auditLog.getAction());
+            writeString(out, auditLog.getEntityType());
+            writeString(out, auditLog.getEntityId());
+            writeString(out, auditLog.getDetails());
+            writeString(out, auditLog.getIpAddress());
+            writeString(out, auditLog.getUserAgent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static AuditLog decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte format = in.readByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unknown audit journal record format " + format);
+            }
+            UUID id = new UUID(in.readLong(), in.readLong());
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            return new AuditLog(id, readString(in), readString(in), readString(in), readString(in),
+                    readString(in), timestamp, readString(in), readString(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package com.corebanking.audit_service.adapter.journal;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Copies journaled events into the repository in batches on a background thread. Events keep
+ * their journal IDs, and IDs already stored are skipped, so replaying a batch again after a
+ * crash between the insert and the offset update does not duplicate it. A failing batch is
+ * retried after {@code retryBackoff} until the database accepts it; nothing is dropped.
+ */
+public class AuditJournalReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournalReplayer.class);
+
+    private final AuditJournal journal;
+    private final AuditRepositoryPort auditRepository;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryBackoff;
+    private final Duration shutdownTimeout;
+    private final Consumer<AuditLog> onWritten;
+    private final Thread replayer;
+
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    private volatile boolean running;
+
+    public AuditJournalReplayer(AuditJournal journal, AuditRepositoryPort auditRepository, int batchSize,
+                                Duration pollInterval, Duration retryBackoff, Duration shutdownTimeout,
+                                Consumer<AuditLog> onWritten) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.journal = journal;
+        this.auditRepository = auditRepository;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.onWritten = onWritten;
+        this.replayer = new Thread(this::runReplayer, "audit-journal-replayer");
+        this.replayer.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        replayer.start();
+    }
+
+    /**
+     * Stops polling for new events and waits up to {@code shutdownTimeout} for what is already
+     * journaled to be replayed. Anything left is replayed on the next start.
+     */
+    public void stop() {
+        running = false;
+        try {
+            replayer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        replayer.interrupt();
+        log.info("Audit journal replayer stopped: replayed={}, duplicates={}, pendingBytes={}",
+                replayedCount.get(), duplicateCount.get(), journal.getPendingBytes());
+    }
+
+    public long getReplayedCount() { return replayedCount.get(); }
+    public long getDuplicateCount() { return duplicateCount.get(); }
+    public long getFailedAttempts() { return failedAttempts.get(); }
+
+    /**
+     * Replays the next batch, returning whether there was anything to replay.
+     */
+    boolean replayNext() {
+        AuditJournal.Batch batch = journal.read(journal.getReplayedOffset(), batchSize);
+        if (!batch.auditLogs().isEmpty()) {
+            replay(batch.auditLogs());
+        }
+        if (batch.nextOffset() != journal.getReplayedOffset()) {
+            journal.markReplayed(batch.nextOffset());
+        }
+        return !batch.auditLogs().isEmpty();
+    }
+
+    private void replay(List<AuditLog> auditLogs) {
+        Set<UUID> existing = auditRepository.findExistingIds(auditLogs.stream().map(AuditLog::getId).toList());
+        List<AuditLog> missing = auditLogs.stream()
+                .filter(auditLog -> !existing.contains(auditLog.getId()))
+                .toList();
+        if (!missing.isEmpty()) {
+            auditRepository.saveAll(missing).forEach(this::notifyWritten);
+        }
+        replayedCount.addAndGet(missing.size());
+        duplicateCount.addAndGet(existing.size());
+    }
+
+    private void runReplayer() {
+        while (true) {
+            try {
+                if (!replayNext()) {
+                    if (!running) {
+                        return;
+                    }
+                    Thread.sleep(pollInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failedAttempts.incrementAndGet();
+                log.error("Audit journal replay failed, retrying in {}", retryBackoff, e);
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(retryBackoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void notifyWritten(AuditLog saved) {
+        if (onWritten == null || saved == null) {
+            return;
+        }
+        try {
+            onWritten.accept(saved);
+        } catch (RuntimeException e) {
+            log.warn("Audit write listener failed for id={}", saved.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Event count per time bucket and dimension value. Rows are upserted by
+ * {@link AuditActivityRollups}; the mapping only keeps the table in the managed schema.
+ */
+@Entity
+@Table(name = "audit_activity_rollups", indexes = {
+    @Index(name = "idx_rollup_bucket", columnList = "granularity, dimension, bucket_start")
+})
+@IdClass(AuditActivityRollupEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditActivityRollupEntity {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AuditStatsGranularity granularity;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuditStatsDimension dimension;
+
+    @Id
+    @Column(name = "dimension_value", nullable = false, length = 100)
+    private String dimensionValue;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private AuditStatsGranularity granularity;
+        private AuditStatsDimension dimension;
+        private String dimensionValue;
+        private LocalDateTime bucketStart;
+    }
+}
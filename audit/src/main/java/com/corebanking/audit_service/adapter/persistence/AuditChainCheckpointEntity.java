@@ -0,0 +1,44 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "audit_chain_checkpoints", indexes = {
+    @Index(name = "idx_checkpoint_to", columnList = "chain_shard, to_seq")
+})
+@IdClass(AuditChainCheckpointEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditChainCheckpointEntity {
+    @Id
+    @Column(name = "chain_shard", nullable = false)
+    private Integer shard;
+
+    @Id
+    @Column(name = "from_seq", nullable = false)
+    private Long fromSequence;
+
+    @Column(name = "to_seq", nullable = false)
+    private Long toSequence;
+
+    @Column(name = "merkle_root", nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] merkleRoot;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer shard;
+        private Long fromSequence;
+    }
+}
@@ -0,0 +1,15 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AuditChainCheckpointJpaRepository
+        extends JpaRepository<AuditChainCheckpointEntity, AuditChainCheckpointEntity.Key> {
+
+    Optional<AuditChainCheckpointEntity> findFirstByShardOrderByToSequenceDesc(Integer shard);
+
+    List<AuditChainCheckpointEntity> findByShardAndFromSequenceGreaterThanEqualAndToSequenceLessThanEqualOrderByFromSequenceAsc(
+            Integer shard, Long fromSequence, Long toSequence);
+}
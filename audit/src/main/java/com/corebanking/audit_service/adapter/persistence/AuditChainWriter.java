@@ -0,0 +1,154 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.service.AuditChainDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Links new audit logs into per-shard hash chains. A transaction appends all of its logs to one
+ * shard and holds only that shard's lock until it completes, so up to {@code shards} writers
+ * chain concurrently and a rolled back transaction leaves no gap behind.
+ *
+ * <p>Each instance must own distinct shards: ids are {@code instanceId * shards + i}, and two
+ * instances sharing an id fork the chain, which verification reports as duplicate sequences.
+ * The instance id therefore has no default and startup fails until it is configured.
+ */
+@Component
+public class AuditChainWriter {
+
+    private static final class Shard {
+        private final int id;
+        private final ReentrantLock lock = new ReentrantLock();
+        // Committed head, guarded by lock; sequence -1 until loaded from the database
+        private long sequence = -1;
+        private byte[] hash;
+
+        private Shard(int id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Append {
+        private final Shard shard;
+        private long sequence;
+        private byte[] hash;
+
+        private Append(Shard shard) {
+            this.shard = shard;
+            this.sequence = shard.sequence;
+            this.hash = shard.hash;
+        }
+
+        private void complete(boolean committed) {
+            try {
+                if (committed) {
+                    shard.sequence = sequence;
+                    shard.hash = hash;
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    private final AuditLogJpaRepository jpaRepository;
+    private final Shard[] shards;
+
+    @Autowired
+    public AuditChainWriter(AuditLogJpaRepository jpaRepository,
+                            @Value("${app.audit.integrity.shards:16}") int shards,
+                            @Value("${app.audit.integrity.instance-id}") int instanceId) {
+        if (shards < 1 || instanceId < 0) {
+            throw new IllegalArgumentException("Integrity shards must be positive and instance id non-negative");
+        }
+        this.jpaRepository = jpaRepository;
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(instanceId * shards + i);
+        }
+    }
+
+    /**
+     * Assigns shard, sequence and chain hash to the entities in order, truncating their
+     * timestamps to the stored precision and generating missing ids first, since both are hashed.
+     */
+    public void append(List<AuditLogEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+        Append append = transactional ? (Append) TransactionSynchronizationManager.getResource(this) : null;
+        if (append == null) {
+            append = begin(transactional);
+        }
+        try {
+            for (AuditLogEntity entity : entities) {
+                entity.setTimestamp(AuditChainDigest.truncate(entity.getTimestamp()));
+                if (entity.getId() == null) {
+                    entity.setId(TimeOrderedUuidGenerator.generate());
+                }
+                long sequence = append.sequence + 1;
+                byte[] hash = AuditChainDigest.digest(append.hash, append.shard.id, sequence, entity.getId(),
+                        entity.getUserId(), entity.getAction(), entity.getEntityType(), entity.getEntityId(),
+                        entity.getDetails(), entity.getTimestamp(), entity.getIpAddress(), entity.getUserAgent());
+                entity.setChainShard(append.shard.id);
+                entity.setChainSequence(sequence);
+                entity.setChainHash(hash);
+                append.sequence = sequence;
+                append.hash = hash;
+            }
+        } finally {
+            // Without a transaction the rows are written one statement at a time; advance right away
+            if (!transactional) {
+                append.complete(true);
+            }
+        }
+    }
+
+    private Append begin(boolean transactional) {
+        Shard shard = lockShard();
+        try {
+            if (shard.sequence < 0) {
+                AuditLogEntity head = jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(shard.id).orElse(null);
+                shard.sequence = head != null ? head.getChainSequence() : 0;
+                shard.hash = head != null ? head.getChainHash() : AuditChainDigest.GENESIS;
+            }
+        } catch (RuntimeException e) {
+            shard.lock.unlock();
+            throw e;
+        }
+        Append append = new Append(shard);
+        if (transactional) {
+            TransactionSynchronizationManager.bindResource(this, append);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AuditChainWriter.this);
+                    append.complete(status == STATUS_COMMITTED);
+                }
+            });
+        }
+        return append;
+    }
+
+    // Takes the first free shard from a random start; only when all are busy does it wait
+    private Shard lockShard() {
+        int start = ThreadLocalRandom.current().nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[(start + i) % shards.length];
+            if (shard.lock.tryLock()) {
+                return shard;
+            }
+        }
+        Shard shard = shards[start];
+        shard.lock.lock();
+        return shard;
+    }
+}
@@ -0,0 +1,100 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores {@code details} as UTF-8 prefixed by a one-byte format marker. Payloads of at least
+ * {@link #COMPRESSION_THRESHOLD} bytes are deflated when that actually makes them smaller; short
+ * ones are kept as is since the deflate overhead would outweigh the gain.
+ */
+@Converter
+public class AuditDetailsConverter implements AttributeConverter<String, byte[]> {
+
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    static final byte PLAIN = 0;
+    static final byte DEFLATE = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] utf8 = attribute.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(utf8);
+            if (compressed.length < utf8.length) {
+                return withMarker(DEFLATE, compressed);
+            }
+        }
+        return withMarker(PLAIN, utf8);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.length == 0) {
+            return "";
+        }
+        byte[] payload = Arrays.copyOfRange(dbData, 1, dbData.length);
+        return switch (dbData[0]) {
+            case PLAIN -> new String(payload, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(payload), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unknown audit details format " + dbData[0]);
+        };
+    }
+
+    private static byte[] withMarker(byte marker, byte[] payload) {
+        byte[] stored = new byte[payload.length + 1];
+        stored[0] = marker;
+        System.arraycopy(payload, 0, stored, 1, payload.length);
+        return stored;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed audit details");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed audit details", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary encoding for repeated audit strings (actions, entity types, user agents). Each
+ * distinct value is stored once in {@code audit_dictionary} and rows reference it by an
+ * {@code INT} id. Both directions are cached in process; the values are low-cardinality by
+ * nature, so the caches are not bounded.
+ * <p>
+ * New values are inserted in their own transaction so an id is never cached for a row that a
+ * rolled-back audit write would take with it.
+ */
+@Component
+public class AuditDictionary {
+
+    public enum Kind { ACTION, ENTITY_TYPE, USER_AGENT }
+
+    private record Term(Kind kind, String value) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations newTransaction;
+    private final Map<Term, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuditDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, requiresNew(transactionManager));
+    }
+
+    AuditDictionary(JdbcTemplate jdbcTemplate, TransactionOperations newTransaction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = newTransaction;
+    }
+
+    /**
+     * Returns the id of {@code value}, inserting it first if it is new.
+     */
+    public Integer register(Kind kind, String value) {
+        if (value == null) {
+            return null;
+        }
+        Integer id = find(kind, value);
+        if (id != null) {
+            return id;
+        }
+        Integer created = newTransaction.execute(status -> {
+            // INSERT IGNORE lets concurrent writers of the same new value converge on one row
+            jdbcTemplate.update("INSERT IGNORE INTO audit_dictionary (kind, term) VALUES (?, ?)", kind.name(), value);
+            return selectId(kind, value);
+        });
+        if (created == null) {
+            throw new IllegalStateException("Could not register audit dictionary value for " + kind);
+        }
+        remember(kind, value, created);
+        return created;
+    }
+
+    /**
+     * Returns the id of {@code value}, or {@code null} if it has never been registered.
+     */
+    public Integer find(Kind kind, String value) {
+        if (value == null) {
+            return null;
+        }
+        Term term = new Term(kind, value);
+        Integer id = ids.get(term);
+        if (id == null) {
+            id = selectId(kind, value);
+            if (id != null) {
+                remember(kind, value, id);
+            }
+        }
+        return id;
+    }
+
+    public String valueOf(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String value = values.get(id);
+        if (value == null) {
+            List<String> rows = jdbcTemplate.queryForList("SELECT term FROM audit_dictionary WHERE id = ?", String.class, id);
+            if (rows.isEmpty()) {
+                throw new IllegalStateException("Unknown audit dictionary id " + id);
+            }
+            value = rows.get(0);
+            values.put(id, value);
+        }
+        return value;
+    }
+
+    private Integer selectId(Kind kind, String value) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT id FROM audit_dictionary WHERE kind = ? AND term = ?", Integer.class, kind.name(), value);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void remember(Kind kind, String value, Integer id) {
+        ids.put(new Term(kind, value), id);
+        values.put(id, value);
+    }
+
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -0,0 +1,53 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps a dictionary-encoded string attribute to its {@code INT} id. Values are registered by
+ * {@link JpaAuditRepositoryAdapter} before a row is saved, so this only looks them up; a query
+ * for a value that was never stored binds {@code NULL} and matches nothing.
+ * <p>
+ * Instantiated by Hibernate through Spring's bean container, which injects the dictionary.
+ */
+public abstract class AuditDictionaryConverter implements AttributeConverter<String, Integer> {
+
+    private final AuditDictionary dictionary;
+    private final AuditDictionary.Kind kind;
+
+    protected AuditDictionaryConverter(AuditDictionary dictionary, AuditDictionary.Kind kind) {
+        this.dictionary = dictionary;
+        this.kind = kind;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        return dictionary.find(kind, attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer dbData) {
+        return dictionary.valueOf(dbData);
+    }
+
+    @Converter
+    public static class Action extends AuditDictionaryConverter {
+        public Action(AuditDictionary dictionary) {
+            super(dictionary, AuditDictionary.Kind.ACTION);
+        }
+    }
+
+    @Converter
+    public static class EntityType extends AuditDictionaryConverter {
+        public EntityType(AuditDictionary dictionary) {
+            super(dictionary, AuditDictionary.Kind.ENTITY_TYPE);
+        }
+    }
+
+    @Converter
+    public static class UserAgent extends AuditDictionaryConverter {
+        public UserAgent(AuditDictionary dictionary) {
+            super(dictionary, AuditDictionary.Kind.USER_AGENT);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lookup table for the low-cardinality strings of {@code audit_logs}. Only mapped so the schema is
+ * managed with the rest of the entities; rows are read and written by {@link AuditDictionary}.
+ */
+@Entity
+@Table(name = "audit_dictionary", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_audit_dictionary_kind_term", columnNames = {"kind", "term"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditDictionaryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuditDictionary.Kind kind;
+
+    @Column(nullable = false, length = 500)
+    private String term;
+}
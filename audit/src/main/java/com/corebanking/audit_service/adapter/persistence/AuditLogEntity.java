@@ -6,25 +6,30 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_entity_type", columnList = "entity_type"),
-    @Index(name = "idx_entity_id", columnList = "entity_id"),
-    @Index(name = "idx_action", columnList = "action"),
+    @Index(name = "idx_user_timestamp", columnList = "user_id, timestamp"),
+    @Index(name = "idx_entity_type_timestamp", columnList = "entity_type_id, timestamp"),
+    @Index(name = "idx_entity_timestamp", columnList = "entity_type_id, entity_id, timestamp"),
+    @Index(name = "idx_action_timestamp", columnList = "action_id, timestamp"),
     @Index(name = "idx_timestamp", columnList = "timestamp"),
-    @Index(name = "idx_entity_type_id", columnList = "entity_type, entity_id")
+    @Index(name = "idx_chain", columnList = "chain_shard, chain_seq")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class AuditLogEntity {
+public class AuditLogEntity implements Persistable<UUID> {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     
     @Column(name = "user_id", nullable = false, length = 100)
@@ -32,12 +37,14 @@ public class AuditLogEntity {
     @NotNull(message = "User ID cannot be null")
     private String userId;
     
-    @Column(nullable = false, length = 50)
+    @Convert(converter = AuditDictionaryConverter.Action.class)
+    @Column(name = "action_id", nullable = false)
     @NotBlank(message = "Action cannot be blank")
     @NotNull(message = "Action cannot be null")
     private String action;
     
-    @Column(name = "entity_type", nullable = false, length = 100)
+    @Convert(converter = AuditDictionaryConverter.EntityType.class)
+    @Column(name = "entity_type_id", nullable = false)
     @NotBlank(message = "Entity type cannot be blank")
     @NotNull(message = "Entity type cannot be null")
     private String entityType;
@@ -45,7 +52,8 @@ public class AuditLogEntity {
     @Column(name = "entity_id", length = 100)
     private String entityId;
     
-    @Column(columnDefinition = "TEXT")
+    @Convert(converter = AuditDetailsConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String details;
     
     @Column(nullable = false)
@@ -55,7 +63,33 @@ public class AuditLogEntity {
     @Column(name = "ip_address", length = 45)
     private String ipAddress;
     
-    @Column(name = "user_agent", length = 500)
+    @Convert(converter = AuditDictionaryConverter.UserAgent.class)
+    @Column(name = "user_agent_id")
     private String userAgent;
+
+    // Not unique: a partitioned table cannot enforce keys without timestamp; verification reports duplicates
+    @Column(name = "chain_shard")
+    private Integer chainShard;
+
+    @Column(name = "chain_seq")
+    private Long chainSequence;
+
+    @Column(name = "chain_hash", columnDefinition = "BINARY(32)")
+    private byte[] chainHash;
+
+    // Ids are assigned before the insert (chained or replayed), so newness cannot be derived from the id
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 }
 
@@ -1,19 +1,130 @@
 package com.corebanking.audit_service.adapter.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface AuditLogJpaRepository extends JpaRepository<AuditLogEntity, UUID> {
-    List<AuditLogEntity> findByUserId(String userId);
-    List<AuditLogEntity> findByEntityType(String entityType);
-    List<AuditLogEntity> findByEntityTypeAndEntityId(String entityType, String entityId);
-    List<AuditLogEntity> findByAction(String action);
-    List<AuditLogEntity> findByTimestampBetween(LocalDateTime start, LocalDateTime end);
-    List<AuditLogEntity> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end);
-}
 
+    String AFTER_CURSOR = " AND (a.timestamp > :cursorTimestamp"
+            + " OR (a.timestamp = :cursorTimestamp AND a.id > :cursorId))";
+    String ORDER_BY_KEY = " ORDER BY a.timestamp ASC, a.id ASC";
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.userId = :userId" + ORDER_BY_KEY)
+    List<AuditLogEntity> findByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.userId = :userId" + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByUserIdAfter(@Param("userId") String userId,
+                                           @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                           @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.entityType = :entityType" + ORDER_BY_KEY)
+    List<AuditLogEntity> findByEntityType(@Param("entityType") String entityType, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.entityType = :entityType" + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByEntityTypeAfter(@Param("entityType") String entityType,
+                                               @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                               @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.entityType = :entityType AND a.entityId = :entityId"
+            + ORDER_BY_KEY)
+    List<AuditLogEntity> findByEntityTypeAndEntityId(@Param("entityType") String entityType,
+                                                     @Param("entityId") String entityId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.entityType = :entityType AND a.entityId = :entityId"
+            + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByEntityTypeAndEntityIdAfter(@Param("entityType") String entityType,
+                                                          @Param("entityId") String entityId,
+                                                          @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                                          @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.action = :action" + ORDER_BY_KEY)
+    List<AuditLogEntity> findByAction(@Param("action") String action, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.action = :action" + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByActionAfter(@Param("action") String action,
+                                           @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                           @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.timestamp BETWEEN :start AND :end" + ORDER_BY_KEY)
+    List<AuditLogEntity> findByTimestampBetween(@Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.timestamp BETWEEN :start AND :end" + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByTimestampBetweenAfter(@Param("start") LocalDateTime start,
+                                                     @Param("end") LocalDateTime end,
+                                                     @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                                     @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.userId = :userId AND a.timestamp BETWEEN :start AND :end"
+            + ORDER_BY_KEY)
+    List<AuditLogEntity> findByUserIdAndTimestampBetween(@Param("userId") String userId,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.userId = :userId AND a.timestamp BETWEEN :start AND :end"
+            + AFTER_CURSOR + ORDER_BY_KEY)
+    List<AuditLogEntity> findByUserIdAndTimestampBetweenAfter(@Param("userId") String userId,
+                                                              @Param("start") LocalDateTime start,
+                                                              @Param("end") LocalDateTime end,
+                                                              @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                                              @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    // Forward-only cursor: MariaDB Connector/J streams rows in fetch-size chunks instead of buffering the result
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.timestamp BETWEEN :start AND :end" + ORDER_BY_KEY)
+    Stream<AuditLogEntity> streamByTimestampBetween(@Param("start") LocalDateTime start,
+                                                    @Param("end") LocalDateTime end);
+
+    @Query("SELECT a.id FROM AuditLogEntity a WHERE a.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT MIN(a.timestamp) FROM AuditLogEntity a")
+    Optional<LocalDateTime> findOldestTimestamp();
+
+    // The timestamp bounds keep the delete inside one partition
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuditLogEntity a WHERE a.id IN :ids AND a.timestamp >= :start AND a.timestamp < :end")
+    int deleteArchived(@Param("ids") Collection<UUID> ids, @Param("start") LocalDateTime start,
+                       @Param("end") LocalDateTime end);
+
+    @Query("SELECT DISTINCT a.chainShard FROM AuditLogEntity a WHERE a.chainShard IS NOT NULL ORDER BY a.chainShard")
+    List<Integer> findChainShards();
+
+    Optional<AuditLogEntity> findFirstByChainShardOrderByChainSequenceDesc(Integer chainShard);
+
+    Optional<AuditLogEntity> findFirstByChainShardAndChainSequence(Integer chainShard, Long chainSequence);
+
+    @Query("SELECT MIN(a.chainSequence), MAX(a.chainSequence) FROM AuditLogEntity a"
+            + " WHERE a.chainShard = :shard AND a.timestamp BETWEEN :start AND :end")
+    List<Object[]> findChainSequenceRange(@Param("shard") Integer shard, @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM AuditLogEntity a WHERE a.chainShard = :shard AND a.chainSequence BETWEEN :from AND :to"
+            + " ORDER BY a.chainSequence ASC, a.id ASC")
+    Stream<AuditLogEntity> streamChain(@Param("shard") Integer shard, @Param("from") Long from,
+                                       @Param("to") Long to);
+}
@@ -0,0 +1,208 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code audit_logs} range-partitioned by month on {@code timestamp} (MariaDB
+ * {@code RANGE COLUMNS}). Date-range queries only touch the partitions they overlap, upcoming
+ * months are pre-created, and expired months are dropped or exchanged into an archive table as a
+ * metadata operation instead of a bulk {@code DELETE}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.partitioning.enabled", havingValue = "true")
+public class AuditPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    static final String TABLE = "audit_logs";
+    static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    enum RetentionAction { DROP, ARCHIVE }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditSearchIndex searchIndex;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final RetentionAction retentionAction;
+    private final Clock clock;
+
+    @Autowired
+    public AuditPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            AuditSearchIndex searchIndex,
+            @Value("${app.audit.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${app.audit.partitioning.retention-months:0}") int retentionMonths,
+            @Value("${app.audit.partitioning.retention-action:ARCHIVE}") String retentionAction) {
+        this(jdbcTemplate, searchIndex, monthsAhead, retentionMonths,
+                RetentionAction.valueOf(retentionAction.toUpperCase(Locale.ROOT)), Clock.systemDefaultZone());
+    }
+
+    AuditPartitionManager(JdbcTemplate jdbcTemplate, AuditSearchIndex searchIndex, int monthsAhead,
+                          int retentionMonths, RetentionAction retentionAction, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchIndex = searchIndex;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (existingPartitions().isEmpty()) {
+            partitionTable();
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.audit.partitioning.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        createUpcomingPartitions();
+        if (retentionMonths > 0) {
+            applyRetention();
+        }
+    }
+
+    /**
+     * One-off conversion of an unpartitioned table. MariaDB requires the partitioning column in
+     * every unique key, so the primary key becomes {@code (id, timestamp)}; ids stay unique.
+     */
+    void partitionTable() {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(timestamp) FROM " + TABLE, LocalDateTime.class);
+        YearMonth current = YearMonth.now(clock);
+        YearMonth first = oldest != null ? YearMonth.from(oldest) : current;
+        List<YearMonth> months = monthsBetween(first, current.plusMonths(monthsAhead));
+
+        log.warn("Partitioning {} by month from {} to {}; this rewrites the table",
+                TABLE, months.get(0), months.get(months.size() - 1));
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS(timestamp) ("
+                + partitionDefinitions(months) + ")");
+    }
+
+    void createUpcomingPartitions() {
+        List<YearMonth> existing = existingMonths();
+        YearMonth through = YearMonth.now(clock).plusMonths(monthsAhead);
+        YearMonth next = existing.isEmpty() ? YearMonth.now(clock) : existing.get(existing.size() - 1).plusMonths(1);
+        if (next.isAfter(through)) {
+            return;
+        }
+        List<YearMonth> missing = monthsBetween(next, through);
+        log.info("Creating audit partitions {} to {}", missing.get(0), missing.get(missing.size() - 1));
+        // Splitting the catch-all partition is metadata-only while it is empty
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + partitionDefinitions(missing) + ")");
+    }
+
+    void applyRetention() {
+        YearMonth oldestKept = YearMonth.now(clock).minusMonths(retentionMonths);
+        for (YearMonth month : existingMonths()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            String partition = month.format(PARTITION_NAME);
+            if (retentionAction == RetentionAction.ARCHIVE && !archivePartition(partition)) {
+                break;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+            log.info("Dropped expired audit partition {}", partition);
+        }
+        long purged = searchIndex.purgeBefore(oldestKept.atDay(1).atStartOfDay());
+        if (purged > 0) {
+            log.info("Purged {} search postings older than {}", purged, oldestKept);
+        }
+    }
+
+    /**
+     * Moves a partition's rows into its archive table. Each step is a separate DDL statement, so
+     * a run that failed part-way is resumed rather than repeated: partitioning is only removed
+     * while the archive table still has it, and an exchange that already happened (partition
+     * empty, archive populated) is not swapped back. Returns {@code false} when both sides hold
+     * rows, leaving the partition in place for an operator.
+     */
+    boolean archivePartition(String partition) {
+        String archive = TABLE + "_archive_" + partition.substring(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive + " LIKE " + TABLE);
+        if (isPartitioned(archive)) {
+            jdbcTemplate.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+        if (rowCount(archive) > 0) {
+            if (rowCount(TABLE + " PARTITION (" + partition + ")") > 0) {
+                log.error("Audit partition {} and archive table {} both hold rows; leaving the partition in place",
+                        partition, archive);
+                return false;
+            }
+            log.info("Audit partition {} was already exchanged into {}", partition, archive);
+            return true;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + partition
+                + " WITH TABLE " + archive);
+        log.info("Archived audit partition {} into {}", partition, archive);
+        return true;
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, table);
+        return partitions != null && partitions > 0;
+    }
+
+    private long rowCount(String from) {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+        return rows != null ? rows : 0L;
+    }
+
+    List<String> existingPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                        + " ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, TABLE);
+    }
+
+    private List<YearMonth> existingMonths() {
+        return existingPartitions().stream()
+                .filter(name -> !MAX_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .collect(Collectors.toList());
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth first, YearMonth last) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    private static String partitionDefinitions(List<YearMonth> months) {
+        StringBuilder sql = new StringBuilder();
+        for (YearMonth month : months) {
+            sql.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append(" 00:00:00'), ");
+        }
+        return sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE)").toString();
+    }
+}
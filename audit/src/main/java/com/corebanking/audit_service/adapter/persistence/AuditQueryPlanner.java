@@ -0,0 +1,133 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Turns {@link AuditCriteria} into a native query pinned to one of the composite indexes. Every
+ * index ends in {@code timestamp} and InnoDB appends the primary key to secondary indexes, so
+ * the equality prefix, the date range, the keyset cursor and {@code ORDER BY timestamp, id} are
+ * all answered by one ordered range scan; the remaining filters are checked on the rows read.
+ */
+class AuditQueryPlanner {
+
+    enum Index {
+        ENTITY("idx_entity_timestamp"),
+        USER("idx_user_timestamp"),
+        ENTITY_TYPE("idx_entity_type_timestamp"),
+        ACTION("idx_action_timestamp"),
+        TIMESTAMP("idx_timestamp");
+
+        private final String name;
+
+        Index(String name) {
+            this.name = name;
+        }
+
+        String indexName() {
+            return name;
+        }
+    }
+
+    record Plan(Index index, String sql, List<Object> parameters) {
+    }
+
+    private final AuditDictionary dictionary;
+
+    AuditQueryPlanner(AuditDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Most selective index first: an entity's history is shorter than a user's, and both are far
+     * shorter than an entity type's or an action's.
+     */
+    static Index chooseIndex(AuditCriteria criteria) {
+        if (criteria.getEntityType() != null && criteria.getEntityId() != null) {
+            return Index.ENTITY;
+        }
+        if (criteria.getUserId() != null) {
+            return Index.USER;
+        }
+        if (criteria.getEntityType() != null) {
+            return Index.ENTITY_TYPE;
+        }
+        if (criteria.getAction() != null) {
+            return Index.ACTION;
+        }
+        return Index.TIMESTAMP;
+    }
+
+    /**
+     * Empty when an action or entity type was never stored, since nothing can match.
+     */
+    Optional<Plan> plan(AuditCriteria criteria, AuditCursor after, int limit) {
+        Integer actionId = criteria.getAction() != null
+                ? dictionary.find(AuditDictionary.Kind.ACTION, criteria.getAction())
+                : null;
+        Integer entityTypeId = criteria.getEntityType() != null
+                ? dictionary.find(AuditDictionary.Kind.ENTITY_TYPE, criteria.getEntityType())
+                : null;
+        if ((criteria.getAction() != null && actionId == null)
+                || (criteria.getEntityType() != null && entityTypeId == null)) {
+            return Optional.empty();
+        }
+
+        Index index = chooseIndex(criteria);
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        // Equality columns in index order, so the prefix is obvious when reading the statement
+        switch (index) {
+            case ENTITY -> {
+                condition(conditions, parameters, "entity_type_id = ?", entityTypeId);
+                condition(conditions, parameters, "entity_id = ?", criteria.getEntityId());
+            }
+            case USER -> condition(conditions, parameters, "user_id = ?", criteria.getUserId());
+            case ENTITY_TYPE -> condition(conditions, parameters, "entity_type_id = ?", entityTypeId);
+            case ACTION -> condition(conditions, parameters, "action_id = ?", actionId);
+            case TIMESTAMP -> { }
+        }
+        if (index != Index.USER && criteria.getUserId() != null) {
+            condition(conditions, parameters, "user_id = ?", criteria.getUserId());
+        }
+        if (index != Index.ACTION && actionId != null) {
+            condition(conditions, parameters, "action_id = ?", actionId);
+        }
+        if (index != Index.ENTITY && index != Index.ENTITY_TYPE && entityTypeId != null) {
+            condition(conditions, parameters, "entity_type_id = ?", entityTypeId);
+        }
+        if (index != Index.ENTITY && criteria.getEntityId() != null) {
+            condition(conditions, parameters, "entity_id = ?", criteria.getEntityId());
+        }
+        if (criteria.getStart() != null) {
+            condition(conditions, parameters, "timestamp >= ?", criteria.getStart());
+        }
+        if (criteria.getEnd() != null) {
+            condition(conditions, parameters, "timestamp <= ?", criteria.getEnd());
+        }
+        if (after != null) {
+            conditions.add("(timestamp > ? OR (timestamp = ? AND id > ?))");
+            parameters.add(after.getTimestamp());
+            parameters.add(after.getTimestamp());
+            parameters.add(AuditSearchIndex.toBytes(after.getId()));
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM audit_logs FORCE INDEX (")
+                .append(index.indexName()).append(')');
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY timestamp ASC, id ASC LIMIT ?");
+        parameters.add(limit);
+        return Optional.of(new Plan(index, sql.toString(), List.copyOf(parameters)));
+    }
+
+    private static void condition(List<String> conditions, List<Object> parameters, String condition, Object value) {
+        conditions.add(condition);
+        parameters.add(value);
+    }
+}
@@ -0,0 +1,67 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditText;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains {@code audit_search_terms}, the inverted index over audit details. Details are stored
+ * compressed, so MariaDB FULLTEXT cannot index them; postings are written here instead, in the
+ * same transaction as the logs they point to.
+ */
+@Component
+public class AuditSearchIndex {
+
+    private static final int PURGE_CHUNK = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void index(List<AuditLog> auditLogs) {
+        List<Object[]> postings = new ArrayList<>();
+        for (AuditLog auditLog : auditLogs) {
+            if (auditLog.getId() == null) {
+                continue;
+            }
+            byte[] id = toBytes(auditLog.getId());
+            for (String term : AuditText.terms(auditLog.getDetails())) {
+                postings.add(new Object[]{term, auditLog.getTimestamp(), id});
+            }
+        }
+        if (!postings.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO audit_search_terms (term, timestamp, audit_id) VALUES (?, ?, ?)", postings);
+        }
+    }
+
+    /**
+     * Deletes postings of logs older than {@code before} in chunks, so retention never holds
+     * long locks on the index.
+     */
+    public long purgeBefore(LocalDateTime before) {
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM audit_search_terms WHERE timestamp < ? LIMIT " + PURGE_CHUNK, before);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK);
+        return purged;
+    }
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
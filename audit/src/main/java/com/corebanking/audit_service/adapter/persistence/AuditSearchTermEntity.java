@@ -0,0 +1,50 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posting of the details inverted index: one row per distinct word of a log's details.
+ * {@code idx_search_term} serves lookups in time order; {@code idx_search_timestamp} lets
+ * retention purge old postings. Rows are written by {@link AuditSearchIndex}.
+ */
+@Entity
+@Table(name = "audit_search_terms", indexes = {
+    @Index(name = "idx_search_term", columnList = "term, timestamp, audit_id"),
+    @Index(name = "idx_search_timestamp", columnList = "timestamp")
+})
+@IdClass(AuditSearchTermEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditSearchTermEntity {
+    @Id
+    @Column(nullable = false, length = 64)
+    private String term;
+
+    @Id
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "audit_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID auditId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String term;
+        private LocalDateTime timestamp;
+        private UUID auditId;
+    }
+}
@@ -1,29 +1,87 @@
 package com.corebanking.audit_service.adapter.persistence;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditChainCheckpoint;
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditChainSegment;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.port.AuditChainRepositoryPort;
 import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
-public class JpaAuditRepositoryAdapter implements AuditRepositoryPort {
+public class JpaAuditRepositoryAdapter implements AuditRepositoryPort, AuditChainRepositoryPort {
 
     private final AuditLogJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final AuditDictionary dictionary;
+    private final AuditSearchIndex searchIndex;
+    private final AuditActivityRollups activityRollups;
+    private final AuditChainWriter chainWriter;
+    private final AuditChainCheckpointJpaRepository checkpointRepository;
+    private final AuditQueryPlanner queryPlanner;
 
-    public JpaAuditRepositoryAdapter(AuditLogJpaRepository jpaRepository) {
+    public JpaAuditRepositoryAdapter(AuditLogJpaRepository jpaRepository, EntityManager entityManager,
+                                     AuditDictionary dictionary, AuditSearchIndex searchIndex,
+                                     AuditActivityRollups activityRollups, AuditChainWriter chainWriter,
+                                     AuditChainCheckpointJpaRepository checkpointRepository) {
         this.jpaRepository = jpaRepository;
+        this.chainWriter = chainWriter;
+        this.checkpointRepository = checkpointRepository;
+        this.entityManager = entityManager;
+        this.dictionary = dictionary;
+        this.searchIndex = searchIndex;
+        this.activityRollups = activityRollups;
+        this.queryPlanner = new AuditQueryPlanner(dictionary);
     }
 
     @Override
+    @Transactional
     public AuditLog save(AuditLog auditLog) {
         AuditLogEntity entity = toEntity(auditLog);
-        AuditLogEntity saved = jpaRepository.save(entity);
-        return toDomain(saved);
+        chainWriter.append(List.of(entity));
+        AuditLog saved = toDomain(jpaRepository.save(entity));
+        searchIndex.index(List.of(saved));
+        activityRollups.record(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<AuditLog> saveAll(List<AuditLog> auditLogs) {
+        List<AuditLogEntity> entities = auditLogs.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+        chainWriter.append(entities);
+        List<AuditLog> saved = jpaRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        searchIndex.index(saved);
+        activityRollups.record(saved);
+        return saved;
     }
 
     @Override
@@ -33,43 +91,257 @@ public class JpaAuditRepositoryAdapter implements AuditRepositoryPort {
     }
 
     @Override
-    public List<AuditLog> findByUserId(String userId) {
-        return jpaRepository.findByUserId(userId).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingIds(ids));
     }
 
     @Override
-    public List<AuditLog> findByEntityType(String entityType) {
-        return jpaRepository.findByEntityType(entityType).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public List<AuditLog> findByUserId(String userId, AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByUserId(userId, page)
+                : jpaRepository.findByUserIdAfter(userId, after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
     }
 
     @Override
-    public List<AuditLog> findByEntityTypeAndEntityId(String entityType, String entityId) {
-        return jpaRepository.findByEntityTypeAndEntityId(entityType, entityId).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public List<AuditLog> findByEntityType(String entityType, AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByEntityType(entityType, page)
+                : jpaRepository.findByEntityTypeAfter(entityType, after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
     }
 
     @Override
-    public List<AuditLog> findByAction(String action) {
-        return jpaRepository.findByAction(action).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public List<AuditLog> findByEntityTypeAndEntityId(String entityType, String entityId, AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByEntityTypeAndEntityId(entityType, entityId, page)
+                : jpaRepository.findByEntityTypeAndEntityIdAfter(entityType, entityId,
+                        after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
     }
 
     @Override
-    public List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end) {
-        return jpaRepository.findByTimestampBetween(start, end).stream()
+    public List<AuditLog> findByAction(String action, AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByAction(action, page)
+                : jpaRepository.findByActionAfter(action, after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
+    }
+
+    @Override
+    public List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end, AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByTimestampBetween(start, end, page)
+                : jpaRepository.findByTimestampBetweenAfter(start, end, after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
+    }
+
+    @Override
+    public List<AuditLog> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end,
+                                                          AuditCursor after, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        List<AuditLogEntity> rows = after == null
+                ? jpaRepository.findByUserIdAndTimestampBetween(userId, start, end, page)
+                : jpaRepository.findByUserIdAndTimestampBetweenAfter(userId, start, end,
+                        after.getTimestamp(), after.getId(), page);
+        return toDomain(rows);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AuditLog> findByCriteria(AuditCriteria criteria, AuditCursor after, int limit) {
+        Optional<AuditQueryPlanner.Plan> plan = queryPlanner.plan(criteria, after, limit);
+        if (plan.isEmpty()) {
+            return List.of();
+        }
+        Query query = entityManager.createNativeQuery(plan.get().sql(), AuditLogEntity.class);
+        List<Object> parameters = plan.get().parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return toDomain((List<AuditLogEntity>) query.getResultList());
+    }
+
+    /**
+     * Joins one posting per index term. The first, longest term drives the query: its
+     * {@code (term, timestamp, audit_id)} index supplies the date range, the keyset cursor and
+     * the ordering, so a page is read without sorting.
+     */
+    @Override
+    public List<AuditLog> searchDetails(AuditSearchQuery query, AuditCursor after, int limit) {
+        List<String> terms = query.indexTerms();
+        StringBuilder jpql = new StringBuilder("SELECT a FROM AuditLogEntity a");
+        for (int i = 0; i < terms.size(); i++) {
+            jpql.append(" JOIN AuditSearchTermEntity t").append(i)
+                    .append(" ON t").append(i).append(".auditId = a.id AND t").append(i).append(".term = :term").append(i);
+        }
+        jpql.append(" WHERE t0.timestamp = a.timestamp");
+        if (query.getUserId() != null) {
+            jpql.append(" AND a.userId = :userId");
+        }
+        if (query.getAction() != null) {
+            jpql.append(" AND a.action = :action");
+        }
+        if (query.getEntityType() != null) {
+            jpql.append(" AND a.entityType = :entityType");
+        }
+        if (query.getEntityId() != null) {
+            jpql.append(" AND a.entityId = :entityId");
+        }
+        if (query.getStart() != null) {
+            jpql.append(" AND t0.timestamp >= :start");
+        }
+        if (query.getEnd() != null) {
+            jpql.append(" AND t0.timestamp <= :end");
+        }
+        if (after != null) {
+            jpql.append(" AND (t0.timestamp > :cursorTimestamp"
+                    + " OR (t0.timestamp = :cursorTimestamp AND t0.auditId > :cursorId))");
+        }
+        jpql.append(" ORDER BY t0.timestamp ASC, t0.auditId ASC");
+
+        TypedQuery<AuditLogEntity> typed = entityManager.createQuery(jpql.toString(), AuditLogEntity.class);
+        for (int i = 0; i < terms.size(); i++) {
+            typed.setParameter("term" + i, terms.get(i));
+        }
+        if (query.getUserId() != null) {
+            typed.setParameter("userId", query.getUserId());
+        }
+        if (query.getAction() != null) {
+            typed.setParameter("action", query.getAction());
+        }
+        if (query.getEntityType() != null) {
+            typed.setParameter("entityType", query.getEntityType());
+        }
+        if (query.getEntityId() != null) {
+            typed.setParameter("entityId", query.getEntityId());
+        }
+        if (query.getStart() != null) {
+            typed.setParameter("start", query.getStart());
+        }
+        if (query.getEnd() != null) {
+            typed.setParameter("end", query.getEnd());
+        }
+        if (after != null) {
+            typed.setParameter("cursorTimestamp", after.getTimestamp());
+            typed.setParameter("cursorId", after.getId());
+        }
+        return toDomain(typed.setMaxResults(limit).getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamByTimestampBetween(LocalDateTime start, LocalDateTime end, Consumer<AuditLog> sink) {
+        long count = 0;
+        try (Stream<AuditLogEntity> rows = jpaRepository.streamByTimestampBetween(start, end)) {
+            Iterator<AuditLogEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AuditLogEntity entity = iterator.next();
+                sink.accept(toDomain(entity));
+                // Keep the persistence context empty so memory stays constant over the whole range
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<AuditActivityCount> findActivity(AuditStatsGranularity granularity, AuditStatsDimension dimension,
+                                                 String value, LocalDateTime start, LocalDateTime end, int limit) {
+        return activityRollups.find(granularity, dimension, value, start, end, limit);
+    }
+
+    @Override
+    public List<Integer> findShards() {
+        return jpaRepository.findChainShards();
+    }
+
+    @Override
+    public Optional<AuditChainLink> findHead(int shard) {
+        return jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(shard)
+                .map(this::toChainLink);
+    }
+
+    @Override
+    public Optional<AuditChainLink> findLink(int shard, long sequence) {
+        return jpaRepository.findFirstByChainShardAndChainSequence(shard, sequence)
+                .map(this::toChainLink);
+    }
+
+    @Override
+    public Optional<AuditChainSegment> findSegment(int shard, LocalDateTime start, LocalDateTime end) {
+        List<Object[]> range = jpaRepository.findChainSequenceRange(shard, start, end);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuditChainSegment(shard, (Long) range.get(0)[0], (Long) range.get(0)[1]));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamSegment(AuditChainSegment segment, Consumer<AuditLog> sink) {
+        long count = 0;
+        try (Stream<AuditLogEntity> rows = jpaRepository.streamChain(segment.getShard(),
+                segment.getFromSequence(), segment.getToSequence())) {
+            Iterator<AuditLogEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AuditLogEntity entity = iterator.next();
+                sink.accept(toDomain(entity));
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Optional<AuditChainCheckpoint> findLatestCheckpoint(int shard) {
+        return checkpointRepository.findFirstByShardOrderByToSequenceDesc(shard)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<AuditChainCheckpoint> findCheckpoints(AuditChainSegment segment) {
+        return checkpointRepository
+                .findByShardAndFromSequenceGreaterThanEqualAndToSequenceLessThanEqualOrderByFromSequenceAsc(
+                        segment.getShard(), segment.getFromSequence(), segment.getToSequence())
+                .stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<AuditLog> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end) {
-        return jpaRepository.findByUserIdAndTimestampBetween(userId, start, end).stream()
+    public AuditChainCheckpoint saveCheckpoint(AuditChainCheckpoint checkpoint) {
+        AuditChainSegment segment = checkpoint.getSegment();
+        AuditChainCheckpointEntity entity = new AuditChainCheckpointEntity(segment.getShard(),
+                segment.getFromSequence(), segment.getToSequence(), checkpoint.getMerkleRoot(),
+                checkpoint.getCreatedAt());
+        return toDomain(checkpointRepository.save(entity));
+    }
+
+    private AuditChainLink toChainLink(AuditLogEntity entity) {
+        return new AuditChainLink(entity.getChainShard(), entity.getChainSequence(), entity.getChainHash());
+    }
+
+    private AuditChainCheckpoint toDomain(AuditChainCheckpointEntity entity) {
+        return new AuditChainCheckpoint(
+            new AuditChainSegment(entity.getShard(), entity.getFromSequence(), entity.getToSequence()),
+            entity.getMerkleRoot(),
+            entity.getCreatedAt()
+        );
+    }
+
+    private List<AuditLog> toDomain(List<AuditLogEntity> entities) {
+        return entities.stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
@@ -84,11 +356,17 @@ public class JpaAuditRepositoryAdapter implements AuditRepositoryPort {
             entity.getDetails(),
             entity.getTimestamp(),
             entity.getIpAddress(),
-            entity.getUserAgent()
+            entity.getUserAgent(),
+            entity.getChainShard() != null ? toChainLink(entity) : null
         );
     }
 
     AuditLogEntity toEntity(AuditLog auditLog) {
+        // The dictionary converters only look values up, so new ones are registered before the insert
+        dictionary.register(AuditDictionary.Kind.ACTION, auditLog.getAction());
+        dictionary.register(AuditDictionary.Kind.ENTITY_TYPE, auditLog.getEntityType());
+        dictionary.register(AuditDictionary.Kind.USER_AGENT, auditLog.getUserAgent());
+
         AuditLogEntity entity = new AuditLogEntity();
         if (auditLog.getId() != null) {
             entity.setId(auditLog.getId());
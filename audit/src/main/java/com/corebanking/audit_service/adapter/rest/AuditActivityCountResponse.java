@@ -0,0 +1,9 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.time.LocalDateTime;
+
+public record AuditActivityCountResponse(
+        LocalDateTime bucketStart,
+        String value,
+        long count
+) {}
@@ -0,0 +1,9 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.util.UUID;
+
+public record AuditBatchItemResponse(
+        int index,
+        UUID id,
+        String error
+) {}
@@ -0,0 +1,9 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.util.List;
+
+public record AuditBatchResponse(
+        int created,
+        int rejected,
+        List<AuditBatchItemResponse> results
+) {}
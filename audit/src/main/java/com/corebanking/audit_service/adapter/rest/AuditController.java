@@ -1,7 +1,19 @@
 package com.corebanking.audit_service.adapter.rest;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditBatchItemResult;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditExport;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditPage;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.service.AuditIngestionRejectedException;
+import com.corebanking.audit_service.domain.service.AuditLiveTail;
 import com.corebanking.audit_service.domain.service.AuditService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -9,14 +21,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/audit")
@@ -24,12 +50,17 @@ public class AuditController {
 
     private static final Logger log = LoggerFactory.getLogger(AuditController.class);
 
+    // EventSource clients reconnect on their own, so a bounded stream lets idle dead clients go
+    private static final long TAIL_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
     private final AuditService auditService;
     private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
 
-    public AuditController(AuditService auditService, MessageSource messageSource) {
+    public AuditController(AuditService auditService, MessageSource messageSource, ObjectMapper objectMapper) {
         this.auditService = auditService;
         this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -47,6 +78,20 @@ public class AuditController {
             String ipAddress = getClientIpAddress(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
 
+            if (auditService.isAsyncIngestionEnabled()) {
+                AuditLog accepted = auditService.submitAuditLog(
+                    request.userId(),
+                    request.action(),
+                    request.entityType(),
+                    request.entityId(),
+                    request.details(),
+                    ipAddress,
+                    userAgent
+                );
+                log.debug("Audit log accepted for asynchronous write");
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(accepted));
+            }
+
             AuditLog auditLog = auditService.createAuditLog(
                 request.userId(),
                 request.action(),
@@ -72,6 +117,10 @@ public class AuditController {
             log.info("Audit log created successfully with ID: {}", auditLog.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (AuditIngestionRejectedException e) {
+            log.warn("Audit ingestion rejected: {}", e.getMessage());
+            String message = messageSource.getMessage(e.getMessage(), null, "Too many requests", locale);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new ErrorResponse(message));
         } catch (IllegalArgumentException e) {
             log.warn("Business validation failed: {}", e.getMessage());
             String key = e.getMessage();
@@ -80,6 +129,84 @@ public class AuditController {
         }
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> createAuditLogBatch(
+            @RequestBody List<CreateAuditLogRequest> requests,
+            HttpServletRequest httpRequest,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+        return processBatch(requests, httpRequest, locale);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Object> createAuditLogBatchNdjson(
+            @RequestBody String body,
+            HttpServletRequest httpRequest,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        List<CreateAuditLogRequest> requests = new ArrayList<>();
+        for (String line : body.split("\\r?\\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                requests.add(objectMapper.readValue(line, CreateAuditLogRequest.class));
+            } catch (JsonProcessingException e) {
+                requests.add(null);
+            }
+        }
+        return processBatch(requests, httpRequest, locale);
+    }
+
+    private ResponseEntity<Object> processBatch(List<CreateAuditLogRequest> requests,
+                                                HttpServletRequest httpRequest, Locale locale) {
+
+        log.info("Received audit log batch request with {} entries", requests != null ? requests.size() : 0);
+
+        try {
+            String ipAddress = getClientIpAddress(httpRequest);
+            String userAgent = httpRequest.getHeader("User-Agent");
+
+            List<AuditLog> entries = requests == null ? List.of() : requests.stream()
+                    .map(request -> request == null ? null : new AuditLog(
+                        request.userId(),
+                        request.action(),
+                        request.entityType(),
+                        request.entityId(),
+                        request.details(),
+                        null,
+                        ipAddress,
+                        userAgent
+                    ))
+                    .toList();
+
+            List<AuditBatchItemResult> results = auditService.createAuditLogBatch(entries);
+            List<AuditBatchItemResponse> items = results.stream()
+                    .map(result -> result.isCreated()
+                            ? new AuditBatchItemResponse(result.getIndex(), result.getAuditLog().getId(), null)
+                            : new AuditBatchItemResponse(result.getIndex(), null,
+                                messageSource.getMessage(result.getErrorKey(), null, "Unknown error", locale)))
+                    .toList();
+            int created = (int) results.stream().filter(AuditBatchItemResult::isCreated).count();
+            AuditBatchResponse response = new AuditBatchResponse(created, results.size() - created, items);
+
+            log.info("Audit log batch processed: created={}, rejected={}", created, results.size() - created);
+            HttpStatus status = created == results.size() ? HttpStatus.CREATED
+                    : created == 0 ? HttpStatus.BAD_REQUEST
+                    : HttpStatus.MULTI_STATUS;
+            return ResponseEntity.status(status).body(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Batch validation failed: {}", e.getMessage());
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Object> getAuditLogById(
             @PathVariable UUID id,
@@ -109,26 +236,15 @@ public class AuditController {
     @GetMapping("/user/{userId}")
     public ResponseEntity<Object> getAuditLogsByUserId(
             @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByUserId(userId);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
-                    .toList();
-            return ResponseEntity.ok(responses);
+            AuditPage page = auditService.getAuditLogsByUserId(userId, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -139,26 +255,15 @@ public class AuditController {
     @GetMapping("/entity/{entityType}")
     public ResponseEntity<Object> getAuditLogsByEntityType(
             @PathVariable String entityType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByEntityType(entityType);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
-                    .toList();
-            return ResponseEntity.ok(responses);
+            AuditPage page = auditService.getAuditLogsByEntityType(entityType, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -170,26 +275,15 @@ public class AuditController {
     public ResponseEntity<Object> getAuditLogsByEntity(
             @PathVariable String entityType,
             @PathVariable String entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByEntity(entityType, entityId);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
-                    .toList();
-            return ResponseEntity.ok(responses);
+            AuditPage page = auditService.getAuditLogsByEntity(entityType, entityId, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -200,26 +294,15 @@ public class AuditController {
     @GetMapping("/action/{action}")
     public ResponseEntity<Object> getAuditLogsByAction(
             @PathVariable String action,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByAction(action);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
-                    .toList();
-            return ResponseEntity.ok(responses);
+            AuditPage page = auditService.getAuditLogsByAction(action, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -231,26 +314,15 @@ public class AuditController {
     public ResponseEntity<Object> getAuditLogsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByDateRange(start, end);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
-                    .toList();
-            return ResponseEntity.ok(responses);
+            AuditPage page = auditService.getAuditLogsByDateRange(start, end, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -263,26 +335,142 @@ public class AuditController {
             @PathVariable String userId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
 
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         try {
-            List<AuditLog> auditLogs = auditService.getAuditLogsByUserAndDateRange(userId, start, end);
-            List<AuditLogResponse> responses = auditLogs.stream()
-                    .map(log -> new AuditLogResponse(
-                        log.getId(),
-                        log.getUserId(),
-                        log.getAction(),
-                        log.getEntityType(),
-                        log.getEntityId(),
-                        log.getDetails(),
-                        log.getTimestamp(),
-                        log.getIpAddress(),
-                        log.getUserAgent()
-                    ))
+            AuditPage page = auditService.getAuditLogsByUserAndDateRange(userId, start, end, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
+        } catch (IllegalArgumentException e) {
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<Object> queryAuditLogs(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        try {
+            AuditCriteria criteria = AuditCriteria.of(userId, action, entityType, entityId, start, end);
+            AuditPage page = auditService.getAuditLogsByCriteria(criteria, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
+        } catch (IllegalArgumentException e) {
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+
+    /**
+     * Server-sent events for every log persisted after subscribing that matches the filters, read
+     * from memory only. A client that cannot keep up receives a {@code disconnect} event with
+     * reason {@code SLOW_CONSUMER} and the stream ends.
+     */
+    @GetMapping(value = "/tail", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> tailAuditLogs(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        SseEmitter emitter = new SseEmitter(TAIL_TIMEOUT_MILLIS);
+        AuditLiveTail.Subscription subscription;
+        try {
+            AuditCriteria criteria = AuditCriteria.of(userId, action, entityType, entityId, null, null);
+            subscription = auditService.tailAuditLogs(criteria, new AuditLiveTail.Listener() {
+                @Override
+                public void onEvent(AuditLog auditLog) throws IOException {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(auditLog.getId()))
+                            .name("audit")
+                            .data(toResponse(auditLog), MediaType.APPLICATION_JSON));
+                }
+
+                @Override
+                public void onClose(AuditLiveTail.CloseReason reason) {
+                    try {
+                        emitter.send(SseEmitter.event().name("disconnect").data(reason.name()));
+                    } catch (IOException | IllegalStateException ignored) {
+                        // The client is already gone
+                    }
+                    emitter.complete();
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            return errorStream(HttpStatus.BAD_REQUEST, e.getMessage(), locale);
+        } catch (IllegalStateException e) {
+            log.warn("Audit tail rejected: {}", e.getMessage());
+            return errorStream(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), locale);
+        }
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Object> searchAuditLogs(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        try {
+            AuditSearchQuery query = AuditSearchQuery.parse(q, start, end);
+            AuditPage page = auditService.searchAuditLogs(query, AuditCursorCodec.decode(cursor), size);
+            return ResponseEntity.ok(toPageResponse(page));
+        } catch (IllegalArgumentException e) {
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Object> getActivityStats(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String dimension,
+            @RequestParam(required = false) String value,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        try {
+            AuditStatsGranularity bucketSize = AuditStatsGranularity.fromParameter(granularity);
+            AuditStatsDimension groupBy = AuditStatsDimension.fromParameter(dimension);
+            List<AuditActivityCount> counts = auditService.getActivityStats(bucketSize, groupBy, value, start, end);
+            List<AuditActivityCountResponse> buckets = counts.stream()
+                    .map(count -> new AuditActivityCountResponse(count.getBucketStart(), count.getValue(), count.getCount()))
                     .toList();
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok(new AuditStatsResponse(bucketSize.name(), groupBy.name(), buckets));
         } catch (IllegalArgumentException e) {
             String key = e.getMessage();
             String message = messageSource.getMessage(key, null, "Unknown error", locale);
@@ -290,6 +478,89 @@ public class AuditController {
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        AuditExportFormat exportFormat;
+        AuditExport export;
+        try {
+            exportFormat = AuditExportFormat.fromParameter(format);
+            export = auditService.exportAuditLogsByDateRange(start, end);
+        } catch (IllegalArgumentException e) {
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, new ErrorResponse(message)));
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        log.info("Exporting audit logs from {} to {} as {} (gzip={})", start, end, exportFormat, gzip);
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192, true) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 65536);
+            AuditExportWriter exportWriter = new AuditExportWriter(writer, exportFormat, objectMapper);
+            exportWriter.writeHeader();
+            long rows = export.writeTo(exportWriter);
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            log.info("Audit export finished: {} rows", rows);
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"audit-export." + exportFormat.getFileExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private ResponseEntity<ResponseBodyEmitter> errorStream(HttpStatus status, String key, Locale locale) {
+        String message = messageSource.getMessage(key, null, "Unknown error", locale);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(new ErrorResponse(message), MediaType.APPLICATION_JSON);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(emitter);
+    }
+
+    private AuditLogPageResponse toPageResponse(AuditPage page) {
+        List<AuditLogResponse> items = page.getItems().stream()
+                .map(this::toResponse)
+                .toList();
+        return new AuditLogPageResponse(items, AuditCursorCodec.encode(page.getNextCursor()));
+    }
+
+    private AuditLogResponse toResponse(AuditLog auditLog) {
+        return new AuditLogResponse(
+            auditLog.getId(),
+            auditLog.getUserId(),
+            auditLog.getAction(),
+            auditLog.getEntityType(),
+            auditLog.getEntityId(),
+            auditLog.getDetails(),
+            auditLog.getTimestamp(),
+            auditLog.getIpAddress(),
+            auditLog.getUserAgent()
+        );
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
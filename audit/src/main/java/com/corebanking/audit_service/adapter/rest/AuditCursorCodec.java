@@ -0,0 +1,50 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import com.corebanking.audit_service.domain.model.AuditCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque, URL-safe representation of an {@link AuditCursor} handed to clients as {@code nextCursor}.
+ */
+final class AuditCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private AuditCursorCodec() {
+    }
+
+    static String encode(AuditCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getTimestamp().toString() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static AuditCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("audit.cursor.invalid");
+            }
+            return new AuditCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("audit.cursor.invalid");
+        } catch (IllegalArgumentException e) {
+            // Base64 and UUID parsing failures surface as IllegalArgumentException with their own message
+            throw new IllegalArgumentException("audit.cursor.invalid");
+        }
+    }
+}
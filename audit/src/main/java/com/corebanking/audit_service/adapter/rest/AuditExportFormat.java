@@ -0,0 +1,30 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.util.Locale;
+
+enum AuditExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    AuditExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    static AuditExportFormat fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("audit.export.format.invalid");
+        }
+    }
+
+    String getContentType() { return contentType; }
+    String getFileExtension() { return fileExtension; }
+}
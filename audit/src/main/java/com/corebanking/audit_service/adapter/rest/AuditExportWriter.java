@@ -0,0 +1,104 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * Writes audit logs one row at a time, flushing periodically so the client receives data while
+ * the export is still being read from the database.
+ */
+final class AuditExportWriter implements Consumer<AuditLog> {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final String CSV_HEADER =
+            "id,userId,action,entityType,entityId,details,timestamp,ipAddress,userAgent\n";
+
+    private final Writer out;
+    private final AuditExportFormat format;
+    private final ObjectMapper objectMapper;
+    private long rows;
+
+    AuditExportWriter(Writer out, AuditExportFormat format, ObjectMapper objectMapper) {
+        this.out = out;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    void writeHeader() throws IOException {
+        if (format == AuditExportFormat.CSV) {
+            out.write(CSV_HEADER);
+        }
+    }
+
+    @Override
+    public void accept(AuditLog auditLog) {
+        try {
+            if (format == AuditExportFormat.CSV) {
+                writeCsvRow(auditLog);
+            } else {
+                out.write(objectMapper.writeValueAsString(new AuditLogResponse(
+                    auditLog.getId(),
+                    auditLog.getUserId(),
+                    auditLog.getAction(),
+                    auditLog.getEntityType(),
+                    auditLog.getEntityId(),
+                    auditLog.getDetails(),
+                    auditLog.getTimestamp(),
+                    auditLog.getIpAddress(),
+                    auditLog.getUserAgent()
+                )));
+                out.write('\n');
+            }
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long getRows() { return rows; }
+
+    private void writeCsvRow(AuditLog auditLog) throws IOException {
+        writeCsvField(auditLog.getId());
+        out.write(',');
+        writeCsvField(auditLog.getUserId());
+        out.write(',');
+        writeCsvField(auditLog.getAction());
+        out.write(',');
+        writeCsvField(auditLog.getEntityType());
+        out.write(',');
+        writeCsvField(auditLog.getEntityId());
+        out.write(',');
+        writeCsvField(auditLog.getDetails());
+        out.write(',');
+        writeCsvField(auditLog.getTimestamp());
+        out.write(',');
+        writeCsvField(auditLog.getIpAddress());
+        out.write(',');
+        writeCsvField(auditLog.getUserAgent());
+        out.write('\n');
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes
+    private void writeCsvField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
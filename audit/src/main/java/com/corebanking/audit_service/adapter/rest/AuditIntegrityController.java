@@ -0,0 +1,55 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import com.corebanking.audit_service.domain.model.AuditVerificationReport;
+import com.corebanking.audit_service.domain.service.AuditIntegrityService;
+import org.springframework.context.MessageSource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/audit/integrity")
+public class AuditIntegrityController {
+
+    private final AuditIntegrityService integrityService;
+    private final MessageSource messageSource;
+
+    public AuditIntegrityController(AuditIntegrityService integrityService, MessageSource messageSource) {
+        this.integrityService = integrityService;
+        this.messageSource = messageSource;
+    }
+
+    @GetMapping("/verify")
+    public ResponseEntity<Object> verify(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        try {
+            AuditVerificationReport report = integrityService.verify(start, end);
+            return ResponseEntity.ok(new AuditVerificationResponse(
+                report.getStart(),
+                report.getEnd(),
+                report.isValid(),
+                report.getShards(),
+                report.getEventsVerified(),
+                report.getCheckpointsVerified(),
+                report.getElapsed().toMillis(),
+                Math.round(report.getEventsPerSecond()),
+                report.getFailures().stream()
+                        .map(failure -> new AuditVerificationFailureResponse(
+                                failure.getShard(), failure.getSequence(), failure.getReason().name()))
+                        .toList()
+            ));
+        } catch (IllegalArgumentException e) {
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.util.List;
+
+public record AuditLogPageResponse(
+        List<AuditLogResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,9 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.util.List;
+
+public record AuditStatsResponse(
+        String granularity,
+        String dimension,
+        List<AuditActivityCountResponse> buckets
+) {}
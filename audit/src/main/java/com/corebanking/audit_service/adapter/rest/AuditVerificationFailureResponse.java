@@ -0,0 +1,7 @@
+package com.corebanking.audit_service.adapter.rest;
+
+public record AuditVerificationFailureResponse(
+        int shard,
+        long sequence,
+        String reason
+) {}
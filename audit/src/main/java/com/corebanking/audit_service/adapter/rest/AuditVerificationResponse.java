@@ -0,0 +1,16 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AuditVerificationResponse(
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean valid,
+        int shards,
+        long eventsVerified,
+        int checkpointsVerified,
+        long elapsedMillis,
+        long eventsPerSecond,
+        List<AuditVerificationFailureResponse> failures
+) {}
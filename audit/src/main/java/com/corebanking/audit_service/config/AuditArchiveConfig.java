@@ -0,0 +1,20 @@
+package com.corebanking.audit_service.config;
+
+import com.corebanking.audit_service.adapter.archive.AuditArchive;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class AuditArchiveConfig {
+
+    @Bean(initMethod = "open")
+    @ConditionalOnProperty(name = "app.audit.archive.enabled", havingValue = "true")
+    public AuditArchive auditArchive(
+            @Value("${app.audit.archive.directory:data/audit-archive}") Path directory) {
+        return new AuditArchive(directory);
+    }
+}
@@ -0,0 +1,24 @@
+package com.corebanking.audit_service.config;
+
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import com.corebanking.audit_service.domain.service.AuditEntityTimelineCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AuditCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.audit.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public AuditEntityTimelineCache auditEntityTimelineCache(
+            AuditRepositoryPort auditRepository,
+            @Value("${app.audit.cache.max-entities:10000}") long maxEntities,
+            @Value("${app.audit.cache.max-entries-per-entity:1000}") int maxEntriesPerEntity,
+            @Value("${app.audit.cache.ttl:10m}") Duration ttl) {
+        return new AuditEntityTimelineCache(auditRepository, maxEntities, maxEntriesPerEntity, ttl);
+    }
+}
@@ -0,0 +1,88 @@
+package com.corebanking.audit_service.config;
+
+import com.corebanking.audit_service.adapter.journal.AuditJournal;
+import com.corebanking.audit_service.adapter.journal.AuditJournalReplayer;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import com.corebanking.audit_service.domain.service.AuditEntityTimelineCache;
+import com.corebanking.audit_service.domain.service.AuditLiveTail;
+import com.corebanking.audit_service.domain.service.AuditWriteBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+@Configuration
+public class AuditIngestionConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.audit.ingestion.async-enabled", havingValue = "true")
+    public AuditWriteBuffer auditWriteBuffer(
+            AuditRepositoryPort auditRepository,
+            @Value("${app.audit.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.ingestion.batch-size:500}") int batchSize,
+            @Value("${app.audit.ingestion.flush-interval:200ms}") Duration flushInterval,
+            @Value("${app.audit.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+            ObjectProvider<AuditEntityTimelineCache> timelineCache,
+            ObjectProvider<AuditLiveTail> liveTail) {
+        return new AuditWriteBuffer(auditRepository, queueCapacity, batchSize, flushInterval, shutdownTimeout,
+                onWritten(timelineCache.getIfAvailable(), liveTail.getIfAvailable()));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.audit.journal.enabled", havingValue = "true")
+    public AuditJournal auditJournal(
+            @Value("${app.audit.journal.directory:data/audit-journal}") Path directory,
+            @Value("${app.audit.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${app.audit.journal.max-size:4GB}") DataSize maxSize,
+            @Value("${app.audit.journal.ack-timeout:5s}") Duration ackTimeout) {
+        return new AuditJournal(directory, segmentSize.toBytes(), maxSize.toBytes(), ackTimeout);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.audit.journal.enabled", havingValue = "true")
+    public AuditJournalReplayer auditJournalReplayer(
+            AuditJournal journal,
+            AuditRepositoryPort auditRepository,
+            @Value("${app.audit.journal.replay-batch-size:500}") int batchSize,
+            @Value("${app.audit.journal.poll-interval:50ms}") Duration pollInterval,
+            @Value("${app.audit.journal.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${app.audit.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+            ObjectProvider<AuditEntityTimelineCache> timelineCache,
+            ObjectProvider<AuditLiveTail> liveTail) {
+        return new AuditJournalReplayer(journal, auditRepository, batchSize, pollInterval, retryBackoff,
+                shutdownTimeout, onWritten(timelineCache.getIfAvailable(), liveTail.getIfAvailable()));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.audit.tail.enabled", havingValue = "true", matchIfMissing = true)
+    public AuditLiveTail auditLiveTail(
+            @Value("${app.audit.tail.ring-capacity:8192}") int ringCapacity,
+            @Value("${app.audit.tail.subscriber-buffer:1000}") int subscriberBuffer,
+            @Value("${app.audit.tail.max-subscribers:100}") int maxSubscribers,
+            @Value("${app.audit.tail.sender-threads:4}") int senderThreads,
+            @Value("${app.audit.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        return new AuditLiveTail(ringCapacity, subscriberBuffer, maxSubscribers, senderThreads, shutdownTimeout);
+    }
+
+    // Same notifications the synchronous path sends from AuditService
+    private static Consumer<AuditLog> onWritten(AuditEntityTimelineCache timelineCache, AuditLiveTail liveTail) {
+        if (timelineCache == null && liveTail == null) {
+            return null;
+        }
+        return auditLog -> {
+            if (timelineCache != null) {
+                timelineCache.append(auditLog);
+            }
+            if (liveTail != null) {
+                liveTail.publish(auditLog);
+            }
+        };
+    }
+}
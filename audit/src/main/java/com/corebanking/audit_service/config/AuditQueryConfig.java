@@ -0,0 +1,17 @@
+package com.corebanking.audit_service.config;
+
+import com.corebanking.audit_service.domain.model.AuditQueryLimits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AuditQueryConfig {
+
+    @Bean
+    public AuditQueryLimits auditQueryLimits(
+            @Value("${app.audit.query.default-page-size:100}") int defaultPageSize,
+            @Value("${app.audit.query.max-page-size:1000}") int maxPageSize) {
+        return new AuditQueryLimits(defaultPageSize, maxPageSize);
+    }
+}
@@ -0,0 +1,23 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of audit events with a given dimension value in the bucket starting at {@code bucketStart}.
+ */
+public class AuditActivityCount {
+    private final LocalDateTime bucketStart;
+    private final String value;
+    private final long count;
+
+    public AuditActivityCount(LocalDateTime bucketStart, String value, long count) {
+        this.bucketStart = bucketStart;
+        this.value = value;
+        this.count = count;
+    }
+
+    // Getters
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public String getValue() { return value; }
+    public long getCount() { return count; }
+}
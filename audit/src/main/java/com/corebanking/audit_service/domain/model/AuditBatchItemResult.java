@@ -0,0 +1,28 @@
+package com.corebanking.audit_service.domain.model;
+
+public class AuditBatchItemResult {
+    private final int index;
+    private final AuditLog auditLog;
+    private final String errorKey;
+
+    private AuditBatchItemResult(int index, AuditLog auditLog, String errorKey) {
+        this.index = index;
+        this.auditLog = auditLog;
+        this.errorKey = errorKey;
+    }
+
+    public static AuditBatchItemResult created(int index, AuditLog auditLog) {
+        return new AuditBatchItemResult(index, auditLog, null);
+    }
+
+    public static AuditBatchItemResult rejected(int index, String errorKey) {
+        return new AuditBatchItemResult(index, null, errorKey);
+    }
+
+    public boolean isCreated() { return auditLog != null; }
+
+    // Getters
+    public int getIndex() { return index; }
+    public AuditLog getAuditLog() { return auditLog; }
+    public String getErrorKey() { return errorKey; }
+}
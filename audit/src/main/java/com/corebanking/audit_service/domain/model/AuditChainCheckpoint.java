@@ -0,0 +1,24 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Merkle root over the chain digests of a closed segment. Checkpoints of a shard are contiguous
+ * and never overlap, so publishing their roots pins the whole chain.
+ */
+public class AuditChainCheckpoint {
+    private final AuditChainSegment segment;
+    private final byte[] merkleRoot;
+    private final LocalDateTime createdAt;
+
+    public AuditChainCheckpoint(AuditChainSegment segment, byte[] merkleRoot, LocalDateTime createdAt) {
+        this.segment = segment;
+        this.merkleRoot = merkleRoot.clone();
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public AuditChainSegment getSegment() { return segment; }
+    public byte[] getMerkleRoot() { return merkleRoot.clone(); }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,21 @@
+package com.corebanking.audit_service.domain.model;
+
+/**
+ * Position of an audit log in its shard's hash chain and the chain digest up to and including it.
+ */
+public class AuditChainLink {
+    private final int shard;
+    private final long sequence;
+    private final byte[] hash;
+
+    public AuditChainLink(int shard, long sequence, byte[] hash) {
+        this.shard = shard;
+        this.sequence = sequence;
+        this.hash = hash.clone();
+    }
+
+    // Getters
+    public int getShard() { return shard; }
+    public long getSequence() { return sequence; }
+    public byte[] getHash() { return hash.clone(); }
+}
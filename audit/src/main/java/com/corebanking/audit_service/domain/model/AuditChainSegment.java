@@ -0,0 +1,25 @@
+package com.corebanking.audit_service.domain.model;
+
+/**
+ * Inclusive range of sequence numbers in one shard's hash chain.
+ */
+public class AuditChainSegment {
+    private final int shard;
+    private final long fromSequence;
+    private final long toSequence;
+
+    public AuditChainSegment(int shard, long fromSequence, long toSequence) {
+        this.shard = shard;
+        this.fromSequence = fromSequence;
+        this.toSequence = toSequence;
+    }
+
+    public long size() {
+        return toSequence - fromSequence + 1;
+    }
+
+    // Getters
+    public int getShard() { return shard; }
+    public long getFromSequence() { return fromSequence; }
+    public long getToSequence() { return toSequence; }
+}
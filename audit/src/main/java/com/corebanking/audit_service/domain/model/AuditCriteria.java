@@ -0,0 +1,64 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Any combination of equality filters and an inclusive date range; {@code null} fields do not
+ * filter. Results are always ordered by {@code (timestamp, id)}.
+ */
+public class AuditCriteria {
+
+    private final String userId;
+    private final String action;
+    private final String entityType;
+    private final String entityId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private AuditCriteria(String userId, String action, String entityType, String entityId,
+                          LocalDateTime start, LocalDateTime end) {
+        this.userId = userId;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Blank values are treated as absent. An entity id is only meaningful within its type.
+     */
+    public static AuditCriteria of(String userId, String action, String entityType, String entityId,
+                                   LocalDateTime start, LocalDateTime end) {
+        AuditCriteria criteria = new AuditCriteria(blankToNull(userId), blankToNull(action),
+                blankToNull(entityType), blankToNull(entityId), start, end);
+        if (criteria.entityId != null && criteria.entityType == null) {
+            throw new IllegalArgumentException("audit.entityType.required");
+        }
+        if (start != null && end != null && start.isAfter(end)) {
+            throw new IllegalArgumentException("audit.dateRange.invalid");
+        }
+        return criteria;
+    }
+
+    public boolean matches(AuditLog auditLog) {
+        return (userId == null || userId.equals(auditLog.getUserId()))
+                && (action == null || action.equals(auditLog.getAction()))
+                && (entityType == null || entityType.equals(auditLog.getEntityType()))
+                && (entityId == null || entityId.equals(auditLog.getEntityId()))
+                && (start == null || !auditLog.getTimestamp().isBefore(start))
+                && (end == null || !auditLog.getTimestamp().isAfter(end));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    // Getters
+    public String getUserId() { return userId; }
+    public String getAction() { return action; }
+    public String getEntityType() { return entityType; }
+    public String getEntityId() { return entityId; }
+    public LocalDateTime getStart() { return start; }
+    public LocalDateTime getEnd() { return end; }
+}
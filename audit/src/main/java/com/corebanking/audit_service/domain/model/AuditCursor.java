@@ -0,0 +1,58 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in the {@code (timestamp, id)} ordering of audit logs. A page continues with the
+ * first row strictly after this position.
+ */
+public class AuditCursor {
+
+    // Same ordering as the database: timestamp, then the BINARY(16) id compared byte by byte
+    public static final Comparator<UUID> UNSIGNED_ID_ORDER = (a, b) -> {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+    public static final Comparator<AuditLog> LOG_ORDER = Comparator
+            .comparing(AuditLog::getTimestamp)
+            .thenComparing(AuditLog::getId, UNSIGNED_ID_ORDER);
+
+    private final LocalDateTime timestamp;
+    private final UUID id;
+
+    public AuditCursor(LocalDateTime timestamp, UUID id) {
+        this.timestamp = Objects.requireNonNull(timestamp);
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public static AuditCursor after(AuditLog auditLog) {
+        return new AuditCursor(auditLog.getTimestamp(), auditLog.getId());
+    }
+
+    /**
+     * Whether a row at {@code (timestamp, id)} comes after this position.
+     */
+    public boolean isBefore(LocalDateTime timestamp, UUID id) {
+        int result = this.timestamp.compareTo(timestamp);
+        return result < 0 || (result == 0 && UNSIGNED_ID_ORDER.compare(this.id, id) < 0);
+    }
+
+    // Getters
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public UUID getId() { return id; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AuditCursor other)) return false;
+        return timestamp.equals(other.timestamp) && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timestamp, id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.util.function.Consumer;
+
+/**
+ * A validated, not yet executed export. Calling {@link #writeTo} streams every matching log to the
+ * sink one at a time and returns how many were written.
+ */
+@FunctionalInterface
+public interface AuditExport {
+    long writeTo(Consumer<AuditLog> sink);
+}
@@ -13,9 +13,16 @@ public class AuditLog {
     private LocalDateTime timestamp;
     private String ipAddress;
     private String userAgent;
+    private AuditChainLink chainLink;
 
     public AuditLog(UUID id, String userId, String action, String entityType, String entityId, 
                    String details, LocalDateTime timestamp, String ipAddress, String userAgent) {
+        this(id, userId, action, entityType, entityId, details, timestamp, ipAddress, userAgent, null);
+    }
+
+    public AuditLog(UUID id, String userId, String action, String entityType, String entityId,
+                   String details, LocalDateTime timestamp, String ipAddress, String userAgent,
+                   AuditChainLink chainLink) {
         this.id = id;
         this.userId = userId;
         this.action = action;
@@ -25,6 +32,7 @@ public class AuditLog {
         this.timestamp = timestamp;
         this.ipAddress = ipAddress;
         this.userAgent = userAgent;
+        this.chainLink = chainLink;
     }
 
     public AuditLog(String userId, String action, String entityType, String entityId, 
@@ -42,5 +50,6 @@ public class AuditLog {
     public LocalDateTime getTimestamp() { return timestamp; }
     public String getIpAddress() { return ipAddress; }
     public String getUserAgent() { return userAgent; }
+    public AuditChainLink getChainLink() { return chainLink; }
 }
 
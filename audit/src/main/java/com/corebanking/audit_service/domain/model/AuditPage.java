@@ -0,0 +1,19 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.util.List;
+
+public class AuditPage {
+    private final List<AuditLog> items;
+    private final AuditCursor nextCursor;
+
+    public AuditPage(List<AuditLog> items, AuditCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() { return nextCursor != null; }
+
+    // Getters
+    public List<AuditLog> getItems() { return items; }
+    public AuditCursor getNextCursor() { return nextCursor; }
+}
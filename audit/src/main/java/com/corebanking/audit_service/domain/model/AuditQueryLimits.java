@@ -0,0 +1,36 @@
+package com.corebanking.audit_service.domain.model;
+
+public class AuditQueryLimits {
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public AuditQueryLimits(int defaultPageSize, int maxPageSize) {
+        if (defaultPageSize <= 0 || maxPageSize < defaultPageSize) {
+            throw new IllegalArgumentException("Page sizes must satisfy 0 < default <= max");
+        }
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public static AuditQueryLimits defaults() {
+        return new AuditQueryLimits(100, 1000);
+    }
+
+    /**
+     * Returns the requested page size capped at {@code maxPageSize}, or the default when none
+     * was requested.
+     */
+    public int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        if (requested <= 0) {
+            throw new IllegalArgumentException("audit.page.size.invalid");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    // Getters
+    public int getDefaultPageSize() { return defaultPageSize; }
+    public int getMaxPageSize() { return maxPageSize; }
+}
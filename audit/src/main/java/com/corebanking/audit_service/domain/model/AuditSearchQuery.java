@@ -0,0 +1,139 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed full-text search over audit details. The query text accepts words, {@code "quoted
+ * phrases"} and {@code field:value} filters on {@code user}, {@code action}, {@code entityType}
+ * and {@code entityId}; every part must match.
+ */
+public class AuditSearchQuery {
+
+    public static final int MAX_TERMS = 10;
+
+    private static final Pattern PART = Pattern.compile("(\\w+):(\"[^\"]*\"?|\\S+)|\"([^\"]*)\"?|(\\S+)");
+
+    private final List<String> terms;
+    private final List<List<String>> phrases;
+    private final String userId;
+    private final String action;
+    private final String entityType;
+    private final String entityId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private AuditSearchQuery(List<String> terms, List<List<String>> phrases, String userId, String action,
+                             String entityType, String entityId, LocalDateTime start, LocalDateTime end) {
+        this.terms = terms;
+        this.phrases = phrases;
+        this.userId = userId;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static AuditSearchQuery parse(String text, LocalDateTime start, LocalDateTime end) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("audit.search.query.required");
+        }
+        if (start != null && end != null && start.isAfter(end)) {
+            throw new IllegalArgumentException("audit.dateRange.invalid");
+        }
+
+        List<String> terms = new ArrayList<>();
+        List<List<String>> phrases = new ArrayList<>();
+        String userId = null;
+        String action = null;
+        String entityType = null;
+        String entityId = null;
+
+        Matcher matcher = PART.matcher(text);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                String value = unquote(matcher.group(2));
+                switch (matcher.group(1)) {
+                    case "user" -> userId = value;
+                    case "action" -> action = value;
+                    case "entityType" -> entityType = value;
+                    case "entityId" -> entityId = value;
+                    default -> addText(matcher.group(), terms, phrases);
+                }
+            } else if (matcher.group(3) != null) {
+                addText(matcher.group(3), terms, phrases);
+            } else {
+                addText(matcher.group(4), terms, phrases);
+            }
+        }
+
+        AuditSearchQuery query = new AuditSearchQuery(List.copyOf(terms), List.copyOf(phrases),
+                userId, action, entityType, entityId, start, end);
+        if (query.indexTerms().isEmpty()) {
+            throw new IllegalArgumentException("audit.search.query.required");
+        }
+        if (query.indexTerms().size() > MAX_TERMS) {
+            throw new IllegalArgumentException("audit.search.query.tooComplex");
+        }
+        return query;
+    }
+
+    /**
+     * Distinct words every match must contain, longest first since longer words tend to be the
+     * most selective.
+     */
+    public List<String> indexTerms() {
+        Set<String> all = new LinkedHashSet<>(terms);
+        phrases.forEach(all::addAll);
+        List<String> sorted = new ArrayList<>(all);
+        sorted.sort(Comparator.comparingInt(String::length).reversed());
+        return Collections.unmodifiableList(sorted);
+    }
+
+    public boolean hasPhrases() {
+        return !phrases.isEmpty();
+    }
+
+    /**
+     * Checks the parts the index cannot answer on its own, i.e. that phrase words are adjacent.
+     */
+    public boolean matches(AuditLog auditLog) {
+        if (phrases.isEmpty()) {
+            return true;
+        }
+        List<String> tokens = AuditText.tokens(auditLog.getDetails());
+        return phrases.stream().allMatch(phrase -> Collections.indexOfSubList(tokens, phrase) >= 0);
+    }
+
+    private static void addText(String text, List<String> terms, List<List<String>> phrases) {
+        List<String> tokens = AuditText.tokens(text);
+        if (tokens.size() == 1) {
+            terms.add(tokens.get(0));
+        } else if (tokens.size() > 1) {
+            phrases.add(List.copyOf(tokens));
+        }
+    }
+
+    private static String unquote(String value) {
+        String unquoted = value.startsWith("\"") ? value.substring(1) : value;
+        return unquoted.endsWith("\"") ? unquoted.substring(0, unquoted.length() - 1) : unquoted;
+    }
+
+    // Getters
+    public List<String> getTerms() { return terms; }
+    public List<List<String>> getPhrases() { return phrases; }
+    public String getUserId() { return userId; }
+    public String getAction() { return action; }
+    public String getEntityType() { return entityType; }
+    public String getEntityId() { return entityId; }
+    public LocalDateTime getStart() { return start; }
+    public LocalDateTime getEnd() { return end; }
+}
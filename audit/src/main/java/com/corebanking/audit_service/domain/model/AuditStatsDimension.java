@@ -0,0 +1,35 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+public enum AuditStatsDimension {
+    ACTION(AuditLog::getAction),
+    ENTITY_TYPE(AuditLog::getEntityType),
+    USER(AuditLog::getUserId);
+
+    private final Function<AuditLog, String> extractor;
+
+    AuditStatsDimension(Function<AuditLog, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public static AuditStatsDimension fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("audit.stats.dimension.invalid");
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if (normalized.equals("ENTITYTYPE")) {
+            return ENTITY_TYPE;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("audit.stats.dimension.invalid");
+        }
+    }
+
+    public String valueOf(AuditLog auditLog) {
+        return extractor.apply(auditLog);
+    }
+}
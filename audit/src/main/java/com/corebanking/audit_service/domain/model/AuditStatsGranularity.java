@@ -0,0 +1,35 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+public enum AuditStatsGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    AuditStatsGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public static AuditStatsGranularity fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return HOUR;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("audit.stats.granularity.invalid");
+        }
+    }
+
+    /**
+     * Start of the bucket containing {@code timestamp}.
+     */
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,50 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenization shared by the details search index and search queries: accents are folded,
+ * text is lower-cased and split on anything that is not a letter or digit. Single characters
+ * are dropped and long tokens truncated, the same way on both sides.
+ */
+public final class AuditText {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_TERM_LENGTH = 64;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private AuditText() {
+    }
+
+    /**
+     * Tokens in text order, repetitions included.
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        for (String token : SEPARATORS.split(folded.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= MIN_TERM_LENGTH) {
+                tokens.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Distinct tokens, in order of first appearance.
+     */
+    public static Set<String> terms(String text) {
+        return new LinkedHashSet<>(tokens(text));
+    }
+}
@@ -0,0 +1,21 @@
+package com.corebanking.audit_service.domain.model;
+
+public class AuditVerificationFailure {
+
+    public enum Reason { HASH_MISMATCH, SEQUENCE_GAP, DUPLICATE_SEQUENCE, CHECKPOINT_MISMATCH }
+
+    private final int shard;
+    private final long sequence;
+    private final Reason reason;
+
+    public AuditVerificationFailure(int shard, long sequence, Reason reason) {
+        this.shard = shard;
+        this.sequence = sequence;
+        this.reason = reason;
+    }
+
+    // Getters
+    public int getShard() { return shard; }
+    public long getSequence() { return sequence; }
+    public Reason getReason() { return reason; }
+}
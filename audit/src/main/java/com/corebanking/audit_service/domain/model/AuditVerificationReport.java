@@ -0,0 +1,44 @@
+package com.corebanking.audit_service.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AuditVerificationReport {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final int shards;
+    private final long eventsVerified;
+    private final int checkpointsVerified;
+    private final List<AuditVerificationFailure> failures;
+    private final Duration elapsed;
+
+    public AuditVerificationReport(LocalDateTime start, LocalDateTime end, int shards, long eventsVerified,
+                                   int checkpointsVerified, List<AuditVerificationFailure> failures, Duration elapsed) {
+        this.start = start;
+        this.end = end;
+        this.shards = shards;
+        this.eventsVerified = eventsVerified;
+        this.checkpointsVerified = checkpointsVerified;
+        this.failures = List.copyOf(failures);
+        this.elapsed = elapsed;
+    }
+
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    public double getEventsPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return eventsVerified * 1000.0 / millis;
+    }
+
+    // Getters
+    public LocalDateTime getStart() { return start; }
+    public LocalDateTime getEnd() { return end; }
+    public int getShards() { return shards; }
+    public long getEventsVerified() { return eventsVerified; }
+    public int getCheckpointsVerified() { return checkpointsVerified; }
+    public List<AuditVerificationFailure> getFailures() { return failures; }
+    public Duration getElapsed() { return elapsed; }
+}
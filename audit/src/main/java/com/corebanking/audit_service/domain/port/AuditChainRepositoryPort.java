@@ -0,0 +1,40 @@
+package com.corebanking.audit_service.domain.port;
+
+import com.corebanking.audit_service.domain.model.AuditChainCheckpoint;
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditChainSegment;
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Read access to the per-shard hash chains of audit logs and their Merkle checkpoints.
+ */
+public interface AuditChainRepositoryPort {
+    List<Integer> findShards();
+    Optional<AuditChainLink> findHead(int shard);
+    Optional<AuditChainLink> findLink(int shard, long sequence);
+
+    /**
+     * Lowest and highest sequence of the shard's logs timestamped within the range.
+     */
+    Optional<AuditChainSegment> findSegment(int shard, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Pushes the shard's logs in the segment to {@code sink} in sequence order without
+     * materializing them, returning the number streamed.
+     */
+    long streamSegment(AuditChainSegment segment, Consumer<AuditLog> sink);
+
+    Optional<AuditChainCheckpoint> findLatestCheckpoint(int shard);
+
+    /**
+     * Checkpoints of the segment's shard lying entirely within it, ordered by sequence.
+     */
+    List<AuditChainCheckpoint> findCheckpoints(AuditChainSegment segment);
+
+    AuditChainCheckpoint saveCheckpoint(AuditChainCheckpoint checkpoint);
+}
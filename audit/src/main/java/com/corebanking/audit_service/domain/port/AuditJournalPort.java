@@ -0,0 +1,15 @@
+package com.corebanking.audit_service.domain.port;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+/**
+ * Durable local log of accepted audit events, replayed into the repository asynchronously.
+ */
+public interface AuditJournalPort {
+
+    /**
+     * Appends the event and returns it with its final ID assigned, once it is on disk or, if the
+     * sync is slow, once it is written and will be replayed. A returned event is always accepted.
+     */
+    AuditLog append(AuditLog auditLog);
+}
@@ -1,19 +1,55 @@
 package com.corebanking.audit_service.domain.port;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+/**
+ * Query methods return at most {@code limit} logs ordered by {@code (timestamp, id)}, starting
+ * strictly after {@code after} or from the beginning when it is {@code null}.
+ */
 public interface AuditRepositoryPort {
     AuditLog save(AuditLog auditLog);
+    List<AuditLog> saveAll(List<AuditLog> auditLogs);
     Optional<AuditLog> findById(UUID id);
-    List<AuditLog> findByUserId(String userId);
-    List<AuditLog> findByEntityType(String entityType);
-    List<AuditLog> findByEntityTypeAndEntityId(String entityType, String entityId);
-    List<AuditLog> findByAction(String action);
-    List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end);
-    List<AuditLog> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end);
-}
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+    List<AuditLog> findByUserId(String userId, AuditCursor after, int limit);
+    List<AuditLog> findByEntityType(String entityType, AuditCursor after, int limit);
+    List<AuditLog> findByEntityTypeAndEntityId(String entityType, String entityId, AuditCursor after, int limit);
+    List<AuditLog> findByAction(String action, AuditCursor after, int limit);
+    List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end, AuditCursor after, int limit);
+    List<AuditLog> findByUserIdAndTimestampBetween(String userId, LocalDateTime start, LocalDateTime end,
+                                                   AuditCursor after, int limit);
+    List<AuditLog> findByCriteria(AuditCriteria criteria, AuditCursor after, int limit);
+
+    /**
+     * Logs whose details contain every {@link AuditSearchQuery#indexTerms() index term} and that
+     * satisfy the query's field and date filters. Phrase adjacency is not checked here.
+     */
+    List<AuditLog> searchDetails(AuditSearchQuery query, AuditCursor after, int limit);
 
+    /**
+     * Pushes every log in the range to {@code sink} in {@code (timestamp, id)} order without
+     * materializing the result, returning the number of logs streamed.
+     */
+    long streamByTimestampBetween(LocalDateTime start, LocalDateTime end, Consumer<AuditLog> sink);
+
+    /**
+     * Pre-aggregated event counts for buckets starting between {@code start} and {@code end},
+     * ordered by bucket and value, optionally restricted to one dimension value. Returns at most
+     * {@code limit} counts.
+     */
+    List<AuditActivityCount> findActivity(AuditStatsGranularity granularity, AuditStatsDimension dimension,
+                                          String value, LocalDateTime start, LocalDateTime end, int limit);
+}
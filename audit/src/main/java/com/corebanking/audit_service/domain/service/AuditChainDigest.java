@@ -0,0 +1,98 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditLog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * SHA-256 digests of the per-shard audit hash chains. Each event's digest covers the previous
+ * digest, its position, its row id and every audited field, so changing, removing or reordering
+ * a stored event, or swapping two rows' ids, breaks the chain from that event on.
+ */
+public final class AuditChainDigest {
+
+    public static final int LENGTH = 32;
+    public static final byte[] GENESIS = new byte[LENGTH];
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    private AuditChainDigest() {
+    }
+
+    /**
+     * Digest of an already chained log, computed from its predecessor's digest.
+     */
+    public static byte[] digest(byte[] previous, AuditLog auditLog) {
+        AuditChainLink link = auditLog.getChainLink();
+        return digest(previous, link.getShard(), link.getSequence(), auditLog.getId(), auditLog.getUserId(),
+                auditLog.getAction(), auditLog.getEntityType(), auditLog.getEntityId(), auditLog.getDetails(),
+                auditLog.getTimestamp(), auditLog.getIpAddress(), auditLog.getUserAgent());
+    }
+
+    public static byte[] digest(byte[] previous, int shard, long sequence, UUID id, String userId, String action,
+                                String entityType, String entityId, String details, LocalDateTime timestamp,
+                                String ipAddress, String userAgent) {
+        MessageDigest sha256 = sha256();
+        sha256.update(previous);
+        sha256.update(ByteBuffer.allocate(Integer.BYTES + 3 * Long.BYTES).putInt(shard).putLong(sequence)
+                .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array());
+        update(sha256, userId);
+        update(sha256, action);
+        update(sha256, entityType);
+        update(sha256, entityId);
+        update(sha256, details);
+        update(sha256, timestamp == null ? null : TIMESTAMP.format(truncate(timestamp)));
+        update(sha256, ipAddress);
+        update(sha256, userAgent);
+        return sha256.digest();
+    }
+
+    /**
+     * The database keeps microseconds, so timestamps are truncated before they are hashed and stored.
+     */
+    public static LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp == null ? null : timestamp.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    static byte[] leaf(byte[] chainHash) {
+        MessageDigest sha256 = sha256();
+        sha256.update((byte) 0x00);
+        sha256.update(chainHash);
+        return sha256.digest();
+    }
+
+    static byte[] node(byte[] left, byte[] right) {
+        MessageDigest sha256 = sha256();
+        sha256.update((byte) 0x01);
+        sha256.update(left);
+        sha256.update(right);
+        return sha256.digest();
+    }
+
+    // Length-prefixed so that field boundaries cannot be shifted without changing the digest
+    private static void update(MessageDigest sha256, String value) {
+        if (value == null) {
+            sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        sha256.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
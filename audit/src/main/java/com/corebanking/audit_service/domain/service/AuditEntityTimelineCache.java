@@ -0,0 +1,166 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of complete audit timelines keyed by {@code (entityType, entityId)}, kept in
+ * the same {@code (timestamp, id)} order as the repository queries.
+ * <p>
+ * Writes made through this instance are appended to a cached timeline instead of invalidating
+ * it. Entries expire {@code ttl} after they were loaded regardless of appends, which bounds how
+ * long writes made by other instances can stay invisible. Entities with more than
+ * {@code maxEntriesPerEntity} logs are remembered as too large and always read from the
+ * repository.
+ */
+public class AuditEntityTimelineCache {
+
+    private static final Timeline TOO_LARGE = new Timeline(List.of(), false);
+
+    private final AuditRepositoryPort auditRepository;
+    private final int maxEntriesPerEntity;
+    private final Cache<TimelineKey, Timeline> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AuditEntityTimelineCache(AuditRepositoryPort auditRepository, long maxEntities,
+                                    int maxEntriesPerEntity, Duration ttl) {
+        if (maxEntities <= 0 || maxEntriesPerEntity <= 0) {
+            throw new IllegalArgumentException("maxEntities and maxEntriesPerEntity must be positive");
+        }
+        this.auditRepository = auditRepository;
+        this.maxEntriesPerEntity = maxEntriesPerEntity;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntities)
+                .expireAfter(new ExpireAfterLoad(ttl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns up to {@code limit} logs of the entity strictly after {@code cursor}, or empty when
+     * the entity's timeline is too large to be cached.
+     */
+    public Optional<List<AuditLog>> find(String entityType, String entityId, AuditCursor cursor, int limit) {
+        boolean[] loaded = new boolean[1];
+        Timeline timeline = cache.get(new TimelineKey(entityType, entityId), key -> {
+            loaded[0] = true;
+            return load(key);
+        });
+        if (!timeline.complete()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        (loaded[0] ? misses : hits).increment();
+        return Optional.of(timeline.slice(cursor, limit));
+    }
+
+    /**
+     * Adds a persisted log to its entity's timeline if that timeline is currently cached.
+     */
+    public void append(AuditLog auditLog) {
+        if (auditLog == null || auditLog.getId() == null || auditLog.getEntityId() == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(new TimelineKey(auditLog.getEntityType(), auditLog.getEntityId()),
+                (key, timeline) -> timeline.with(auditLog, maxEntriesPerEntity));
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return cache.stats().evictionCount(); }
+    public long getSize() { return cache.estimatedSize(); }
+
+    private Timeline load(TimelineKey key) {
+        List<AuditLog> rows = auditRepository.findByEntityTypeAndEntityId(
+                key.entityType(), key.entityId(), null, maxEntriesPerEntity + 1);
+        if (rows.size() > maxEntriesPerEntity) {
+            return TOO_LARGE;
+        }
+        return new Timeline(List.copyOf(rows), true);
+    }
+
+    private record TimelineKey(String entityType, String entityId) {
+    }
+
+    private record Timeline(List<AuditLog> entries, boolean complete) {
+
+        List<AuditLog> slice(AuditCursor cursor, int limit) {
+            int from = cursor == null ? 0 : firstIndexAfter(cursor.getTimestamp(), cursor.getId());
+            return entries.subList(from, Math.min(entries.size(), from + limit));
+        }
+
+        Timeline with(AuditLog auditLog, int maxEntries) {
+            if (!complete) {
+                return this;
+            }
+            int index = Collections.binarySearch(entries, auditLog, AuditCursor.LOG_ORDER);
+            if (index >= 0) {
+                return this;
+            }
+            if (entries.size() >= maxEntries) {
+                return TOO_LARGE;
+            }
+            List<AuditLog> updated = new ArrayList<>(entries.size() + 1);
+            updated.addAll(entries);
+            updated.add(-index - 1, auditLog);
+            return new Timeline(Collections.unmodifiableList(updated), true);
+        }
+
+        private int firstIndexAfter(LocalDateTime timestamp, UUID id) {
+            int low = 0;
+            int high = entries.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                AuditLog entry = entries.get(mid);
+                int cmp = entry.getTimestamp().compareTo(timestamp);
+                if (cmp == 0) {
+                    cmp = AuditCursor.UNSIGNED_ID_ORDER.compare(entry.getId(), id);
+                }
+                if (cmp <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class ExpireAfterLoad implements Expiry<TimelineKey, Timeline> {
+        private final long ttlNanos;
+
+        ExpireAfterLoad(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(TimelineKey key, Timeline value, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(TimelineKey key, Timeline value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TimelineKey key, Timeline value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
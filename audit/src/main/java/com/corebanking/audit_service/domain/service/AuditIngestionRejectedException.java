@@ -0,0 +1,8 @@
+package com.corebanking.audit_service.domain.service;
+
+public class AuditIngestionRejectedException extends RuntimeException {
+
+    public AuditIngestionRejectedException(String messageKey) {
+        super(messageKey);
+    }
+}
@@ -0,0 +1,295 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditChainCheckpoint;
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditChainSegment;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditVerificationFailure;
+import com.corebanking.audit_service.domain.model.AuditVerificationReport;
+import com.corebanking.audit_service.domain.port.AuditChainRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closes the audit hash chains into Merkle checkpoints and verifies them. Shards are
+ * independent chains, so a date range is verified by streaming every shard in parallel.
+ */
+@Service
+public class AuditIntegrityService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditIntegrityService.class);
+
+    public static final int MAX_REPORTED_FAILURES = 100;
+    static final long MAX_CHECKPOINT_LEAVES = 100_000;
+
+    private final AuditChainRepositoryPort chainRepository;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    @Autowired
+    public AuditIntegrityService(AuditChainRepositoryPort chainRepository,
+                                 @Value("${app.audit.integrity.parallelism:4}") int parallelism) {
+        this(chainRepository, Executors.newFixedThreadPool(parallelism, verifierThreads()), Clock.systemDefaultZone());
+    }
+
+    AuditIntegrityService(AuditChainRepositoryPort chainRepository, ExecutorService executor, Clock clock) {
+        this.chainRepository = chainRepository;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public AuditVerificationReport verify(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || start.isAfter(end)) {
+            throw new IllegalArgumentException("audit.integrity.range.invalid");
+        }
+        long started = System.nanoTime();
+        List<Integer> shards = chainRepository.findShards();
+        List<Future<ChainVerifier>> pending = new ArrayList<>(shards.size());
+        for (Integer shard : shards) {
+            pending.add(executor.submit(() -> chainRepository.findSegment(shard, start, end)
+                    .map(segment -> verifySegment(segment, false))
+                    .orElse(null)));
+        }
+
+        long events = 0;
+        int checkpoints = 0;
+        List<AuditVerificationFailure> failures = new ArrayList<>();
+        for (Future<ChainVerifier> future : pending) {
+            ChainVerifier verifier = await(future);
+            if (verifier == null) {
+                continue;
+            }
+            events += verifier.events;
+            checkpoints += verifier.checkpointsVerified;
+            verifier.failures.stream()
+                    .limit(MAX_REPORTED_FAILURES - failures.size())
+                    .forEach(failures::add);
+        }
+        return new AuditVerificationReport(start, end, shards.size(), events, checkpoints, failures,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    @Scheduled(cron = "${app.audit.integrity.verify-cron:0 30 3 * * *}")
+    public void verifyPreviousDay() {
+        LocalDate today = LocalDate.now(clock);
+        AuditVerificationReport report = verify(today.minusDays(1).atStartOfDay(), today.atStartOfDay().minusNanos(1000));
+        if (report.isValid()) {
+            log.info("Audit chain verified for {}: {} events in {} shards, {} checkpoints, {} events/s",
+                    today.minusDays(1), report.getEventsVerified(), report.getShards(),
+                    report.getCheckpointsVerified(), Math.round(report.getEventsPerSecond()));
+        } else {
+            log.error("Audit chain verification failed for {}: {} failures, first {}", today.minusDays(1),
+                    report.getFailures().size(), describe(report.getFailures().get(0)));
+        }
+    }
+
+    @Scheduled(cron = "${app.audit.integrity.checkpoint-cron:0 */10 * * * *}")
+    public void createCheckpoints() {
+        for (Integer shard : chainRepository.findShards()) {
+            try {
+                createCheckpoints(shard);
+            } catch (RuntimeException e) {
+                log.error("Failed to checkpoint audit chain shard {}", shard, e);
+            }
+        }
+    }
+
+    /**
+     * Checkpoints the shard's chain from the last checkpoint up to its current head. Every
+     * segment is verified before its root is stored, so a checkpoint never vouches for a broken chain.
+     */
+    List<AuditChainCheckpoint> createCheckpoints(int shard) {
+        Optional<AuditChainLink> head = chainRepository.findHead(shard);
+        if (head.isEmpty()) {
+            return List.of();
+        }
+        long next = chainRepository.findLatestCheckpoint(shard)
+                .map(checkpoint -> checkpoint.getSegment().getToSequence() + 1)
+                .orElse(1L);
+        List<AuditChainCheckpoint> created = new ArrayList<>();
+        while (next <= head.get().getSequence()) {
+            AuditChainSegment segment = new AuditChainSegment(shard, next,
+                    Math.min(head.get().getSequence(), next + MAX_CHECKPOINT_LEAVES - 1));
+            ChainVerifier verifier = verifySegment(segment, true);
+            if (!verifier.failures.isEmpty()) {
+                log.error("Not checkpointing audit chain shard {} from {}: {}", shard, next,
+                        describe(verifier.failures.get(0)));
+                break;
+            }
+            created.add(chainRepository.saveCheckpoint(
+                    new AuditChainCheckpoint(segment, verifier.segmentTree.root(), LocalDateTime.now(clock))));
+            next = segment.getToSequence() + 1;
+        }
+        return created;
+    }
+
+    private ChainVerifier verifySegment(AuditChainSegment segment, boolean buildRoot) {
+        byte[] previous = segment.getFromSequence() == 1
+                ? AuditChainDigest.GENESIS
+                : chainRepository.findLink(segment.getShard(), segment.getFromSequence() - 1)
+                        .map(AuditChainLink::getHash)
+                        .orElse(null);
+        ChainVerifier verifier = new ChainVerifier(segment, previous, chainRepository.findCheckpoints(segment), buildRoot);
+        chainRepository.streamSegment(segment, verifier::accept);
+        verifier.finish();
+        return verifier;
+    }
+
+    private static ChainVerifier await(Future<ChainVerifier> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Audit chain verification interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Audit chain verification failed", e.getCause());
+        }
+    }
+
+    private static String describe(AuditVerificationFailure failure) {
+        return failure.getReason() + " at shard " + failure.getShard() + " sequence " + failure.getSequence();
+    }
+
+    private static ThreadFactory verifierThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "audit-verifier-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Checks one shard's segment row by row: sequences must be contiguous, each digest must
+     * recompute from its predecessor's stored digest, and every checkpoint inside the segment
+     * must match the Merkle root of its rows. Recomputing from the stored predecessor localizes
+     * a tampered row instead of failing everything after it.
+     */
+    private static final class ChainVerifier {
+        private final AuditChainSegment segment;
+        private final Iterator<AuditChainCheckpoint> checkpoints;
+        private final AuditMerkleTree segmentTree;
+        private final List<AuditVerificationFailure> failures = new ArrayList<>();
+        private AuditChainCheckpoint nextCheckpoint;
+        private AuditChainCheckpoint openCheckpoint;
+        private AuditMerkleTree checkpointTree;
+        // null when the predecessor is unknown (archived or after a gap): the next row is taken as the anchor
+        private byte[] previous;
+        private long expected;
+        private long events;
+        private int checkpointsVerified;
+
+        private ChainVerifier(AuditChainSegment segment, byte[] previous, List<AuditChainCheckpoint> checkpoints,
+                              boolean buildRoot) {
+            this.segment = segment;
+            this.previous = previous;
+            this.expected = segment.getFromSequence();
+            this.checkpoints = checkpoints.iterator();
+            this.nextCheckpoint = this.checkpoints.hasNext() ? this.checkpoints.next() : null;
+            this.segmentTree = buildRoot ? new AuditMerkleTree() : null;
+        }
+
+        private void accept(AuditLog auditLog) {
+            AuditChainLink link = auditLog.getChainLink();
+            long sequence = link.getSequence();
+            events++;
+            if (sequence < expected) {
+                fail(sequence, AuditVerificationFailure.Reason.DUPLICATE_SEQUENCE);
+                return;
+            }
+            if (sequence > expected) {
+                fail(expected, AuditVerificationFailure.Reason.SEQUENCE_GAP);
+                previous = null;
+            }
+            if (previous != null && !Arrays.equals(AuditChainDigest.digest(previous, auditLog), link.getHash())) {
+                fail(sequence, AuditVerificationFailure.Reason.HASH_MISMATCH);
+            }
+            previous = link.getHash();
+            expected = sequence + 1;
+            addLeaf(sequence, link.getHash());
+        }
+
+        private void addLeaf(long sequence, byte[] hash) {
+            if (segmentTree != null) {
+                segmentTree.add(hash);
+            }
+            if (openCheckpoint != null && sequence > openCheckpoint.getSegment().getToSequence()) {
+                closeCheckpoint(null);
+            }
+            while (openCheckpoint == null && nextCheckpoint != null
+                    && nextCheckpoint.getSegment().getFromSequence() <= sequence) {
+                if (nextCheckpoint.getSegment().getFromSequence() == sequence) {
+                    openCheckpoint = nextCheckpoint;
+                    checkpointTree = new AuditMerkleTree();
+                } else {
+                    fail(nextCheckpoint.getSegment().getFromSequence(), AuditVerificationFailure.Reason.CHECKPOINT_MISMATCH);
+                }
+                nextCheckpoint = checkpoints.hasNext() ? checkpoints.next() : null;
+            }
+            if (openCheckpoint != null) {
+                checkpointTree.add(hash);
+                if (sequence == openCheckpoint.getSegment().getToSequence()) {
+                    closeCheckpoint(checkpointTree.root());
+                }
+            }
+        }
+
+        private void closeCheckpoint(byte[] root) {
+            if (root != null && Arrays.equals(root, openCheckpoint.getMerkleRoot())) {
+                checkpointsVerified++;
+            } else {
+                fail(openCheckpoint.getSegment().getFromSequence(), AuditVerificationFailure.Reason.CHECKPOINT_MISMATCH);
+            }
+            openCheckpoint = null;
+            checkpointTree = null;
+        }
+
+        private void finish() {
+            if (expected <= segment.getToSequence()) {
+                fail(expected, AuditVerificationFailure.Reason.SEQUENCE_GAP);
+            }
+            if (openCheckpoint != null) {
+                closeCheckpoint(null);
+            }
+            while (nextCheckpoint != null) {
+                fail(nextCheckpoint.getSegment().getFromSequence(), AuditVerificationFailure.Reason.CHECKPOINT_MISMATCH);
+                nextCheckpoint = checkpoints.hasNext() ? checkpoints.next() : null;
+            }
+        }
+
+        private void fail(long sequence, AuditVerificationFailure.Reason reason) {
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new AuditVerificationFailure(segment.getShard(), sequence, reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process fan-out of persisted audit events to live subscribers. Writers only store the event
+ * in a ring buffer, so publishing never blocks on a subscriber. A single dispatcher thread reads
+ * the ring, matches each event against every subscription's criteria and queues it in that
+ * subscription's bounded buffer; a small sender pool drains the buffers into the listeners. A
+ * subscriber whose buffer fills up is disconnected instead of slowing anyone else down.
+ */
+public class AuditLiveTail {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLiveTail.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public enum CloseReason { SLOW_CONSUMER, SHUTDOWN, DISCONNECTED }
+
+    /**
+     * Receives the events of one subscription, always from a sender thread and never
+     * concurrently. Throwing from {@link #onEvent} ends the subscription.
+     */
+    public interface Listener {
+        void onEvent(AuditLog auditLog) throws Exception;
+
+        void onClose(CloseReason reason);
+    }
+
+    private final AtomicReferenceArray<AuditLog> ring;
+    private final int mask;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Duration shutdownTimeout;
+    private final ExecutorService senders;
+    private final Thread dispatcher;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object publishLock = new Object();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong overrun = new AtomicLong();
+    private final AtomicLong slowConsumers = new AtomicLong();
+
+    private volatile boolean running;
+
+    public AuditLiveTail(int ringCapacity, int subscriberBuffer, int maxSubscribers, int senderThreads,
+                         Duration shutdownTimeout) {
+        if (Integer.bitCount(ringCapacity) != 1 || subscriberBuffer <= 0 || senderThreads <= 0) {
+            throw new IllegalArgumentException(
+                    "ringCapacity must be a power of two and subscriberBuffer, senderThreads positive");
+        }
+        this.ring = new AtomicReferenceArray<>(ringCapacity);
+        this.mask = ringCapacity - 1;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.shutdownTimeout = shutdownTimeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "audit-live-tail-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Events published before the thread is scheduled are still dispatched
+        long firstSequence = published.get();
+        this.dispatcher = new Thread(() -> runDispatcher(firstSequence), "audit-live-tail-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        dispatcher.start();
+        log.info("Audit live tail started: ring={}, subscriberBuffer={}, maxSubscribers={}",
+                mask + 1, subscriberBuffer, maxSubscribers);
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        subscriptions.forEach(subscription -> subscription.close(CloseReason.SHUTDOWN));
+        senders.shutdown();
+        try {
+            senders.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stores a persisted event for the dispatcher. Costs one slot write whether or not anyone is
+     * subscribed.
+     */
+    public void publish(AuditLog auditLog) {
+        synchronized (publishLock) {
+            long sequence = published.get();
+            ring.set((int) (sequence & mask), auditLog);
+            published.set(sequence + 1);
+        }
+        LockSupport.unpark(dispatcher);
+    }
+
+    /**
+     * Only the criteria's equality filters apply; the stream has no date range. Throws
+     * {@code audit.tail.full} when the subscriber limit is reached.
+     */
+    public Subscription subscribe(AuditCriteria criteria, Listener listener) {
+        if (!running || subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("audit.tail.full");
+        }
+        Subscription subscription = new Subscription(criteria, listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public int getSubscriberCount() { return subscriptions.size(); }
+    public long getPublishedCount() { return published.get(); }
+    public long getOverrunCount() { return overrun.get(); }
+    public long getSlowConsumerCount() { return slowConsumers.get(); }
+
+    private void runDispatcher(long firstSequence) {
+        long cursor = firstSequence;
+        while (running) {
+            long available = published.get();
+            if (cursor == available) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            if (available - cursor > ring.length()) {
+                // Publishers lapped the dispatcher; the oldest events are gone for every subscriber
+                overrun.addAndGet(available - ring.length() - cursor);
+                cursor = available - ring.length();
+            }
+            AuditLog event = ring.get((int) (cursor & mask));
+            if (published.get() - cursor > ring.length()) {
+                continue;
+            }
+            cursor++;
+            for (Subscription subscription : subscriptions) {
+                if (subscription.criteria.matches(event)) {
+                    subscription.enqueue(event);
+                }
+            }
+        }
+    }
+
+    public final class Subscription implements AutoCloseable {
+        private final AuditCriteria criteria;
+        private final Listener listener;
+        private final BlockingQueue<AuditLog> buffer;
+        private final AtomicReference<CloseReason> closed = new AtomicReference<>();
+        private final AtomicBoolean notified = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(AuditCriteria criteria, Listener listener) {
+            this.criteria = criteria;
+            this.listener = listener;
+            this.buffer = new ArrayBlockingQueue<>(subscriberBuffer);
+        }
+
+        public boolean isOpen() {
+            return closed.get() == null;
+        }
+
+        /**
+         * Ends the subscription without notifying the listener, e.g. when the client went away.
+         */
+        @Override
+        public void close() {
+            notified.set(true);
+            close(CloseReason.DISCONNECTED);
+        }
+
+        private void close(CloseReason reason) {
+            if (closed.compareAndSet(null, reason)) {
+                subscriptions.remove(this);
+                buffer.clear();
+                if (reason == CloseReason.SLOW_CONSUMER) {
+                    slowConsumers.incrementAndGet();
+                    log.warn("Disconnecting slow audit tail subscriber after {} buffered events", subscriberBuffer);
+                }
+                // The close notice goes through the drain so it never overlaps an event being sent
+                scheduleDrain();
+            }
+        }
+
+        private void enqueue(AuditLog event) {
+            if (!buffer.offer(event)) {
+                close(CloseReason.SLOW_CONSUMER);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    log.debug("Audit tail sender rejected drain: {}", e.getMessage());
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                AuditLog event;
+                while (isOpen() && (event = buffer.poll()) != null) {
+                    try {
+                        listener.onEvent(event);
+                    } catch (Exception e) {
+                        log.debug("Audit tail subscriber failed, closing: {}", e.getMessage());
+                        close(CloseReason.DISCONNECTED);
+                    }
+                }
+                CloseReason reason = closed.get();
+                if (reason != null && notified.compareAndSet(false, true)) {
+                    listener.onClose(reason);
+                }
+                draining.set(false);
+                // Work that arrived after the checks above but before the flag was cleared
+            } while (hasPendingWork() && draining.compareAndSet(false, true));
+        }
+
+        private boolean hasPendingWork() {
+            return isOpen() ? !buffer.isEmpty() : !notified.get();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.corebanking.audit_service.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming Merkle root over chain digests. Leaves are folded as they arrive, keeping one
+ * pending node per tree level, so a checkpoint of any size is built or verified in
+ * {@code O(log n)} memory. An unpaired node is promoted to the next level unchanged.
+ */
+public class AuditMerkleTree {
+
+    // levels.get(i) is the pending root of a complete subtree of 2^i leaves, or null
+    private final List<byte[]> levels = new ArrayList<>();
+    private long leafCount;
+
+    public static byte[] root(List<byte[]> chainHashes) {
+        AuditMerkleTree tree = new AuditMerkleTree();
+        chainHashes.forEach(tree::add);
+        return tree.root();
+    }
+
+    public void add(byte[] chainHash) {
+        byte[] node = AuditChainDigest.leaf(chainHash);
+        int level = 0;
+        while (level < levels.size() && levels.get(level) != null) {
+            node = AuditChainDigest.node(levels.get(level), node);
+            levels.set(level, null);
+            level++;
+        }
+        if (level == levels.size()) {
+            levels.add(node);
+        } else {
+            levels.set(level, node);
+        }
+        leafCount++;
+    }
+
+    public long getLeafCount() {
+        return leafCount;
+    }
+
+    public byte[] root() {
+        if (leafCount == 0) {
+            throw new IllegalStateException("Merkle tree has no leaves");
+        }
+        byte[] root = null;
+        for (byte[] node : levels) {
+            if (node != null) {
+                root = root == null ? node : AuditChainDigest.node(node, root);
+            }
+        }
+        return root;
+    }
+}
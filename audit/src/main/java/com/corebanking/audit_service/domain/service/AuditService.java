@@ -1,10 +1,25 @@
 package com.corebanking.audit_service.domain.service;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditBatchItemResult;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditExport;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditPage;
+import com.corebanking.audit_service.domain.model.AuditQueryLimits;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.port.AuditJournalPort;
 import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,14 +27,133 @@ import java.util.UUID;
 @Service
 public class AuditService {
 
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_SEARCH_SCAN = 10_000;
+    public static final int MAX_STATS_BUCKETS = 10_000;
+
     private final AuditRepositoryPort auditRepository;
+    private final AuditWriteBuffer writeBuffer;
+    private final AuditQueryLimits queryLimits;
+    private final AuditEntityTimelineCache timelineCache;
+    private final AuditJournalPort journal;
+    private final AuditLiveTail liveTail;
+
+    @Autowired
+    public AuditService(AuditRepositoryPort auditRepository, ObjectProvider<AuditWriteBuffer> writeBuffer,
+                        ObjectProvider<AuditQueryLimits> queryLimits,
+                        ObjectProvider<AuditEntityTimelineCache> timelineCache,
+                        ObjectProvider<AuditJournalPort> journal, ObjectProvider<AuditLiveTail> liveTail) {
+        this(auditRepository, writeBuffer.getIfAvailable(), queryLimits.getIfAvailable(),
+                timelineCache.getIfAvailable(), journal.getIfAvailable(), liveTail.getIfAvailable());
+    }
 
-    public AuditService(AuditRepositoryPort auditRepository) {
+    AuditService(AuditRepositoryPort auditRepository, AuditWriteBuffer writeBuffer, AuditQueryLimits queryLimits,
+                 AuditEntityTimelineCache timelineCache, AuditJournalPort journal, AuditLiveTail liveTail) {
         this.auditRepository = auditRepository;
+        this.journal = journal;
+        this.liveTail = liveTail;
+        this.writeBuffer = writeBuffer;
+        this.queryLimits = queryLimits != null ? queryLimits : AuditQueryLimits.defaults();
+        this.timelineCache = timelineCache;
     }
 
     public AuditLog createAuditLog(String userId, String action, String entityType, 
                                   String entityId, String details, String ipAddress, String userAgent) {
+        AuditLog auditLog = newAuditLog(userId, action, entityType, entityId, details, ipAddress, userAgent);
+        AuditLog saved = auditRepository.save(auditLog);
+        written(saved);
+        return saved;
+    }
+
+    /**
+     * Validates every entry with the same rules as {@link #createAuditLog} and persists the valid
+     * ones in a single batch. Invalid entries are reported by index without aborting the rest.
+     * Only user, action, entity, details, IP and user agent are read from each entry; the
+     * timestamp is assigned here.
+     */
+    public List<AuditBatchItemResult> createAuditLogBatch(List<AuditLog> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("audit.batch.empty");
+        }
+        if (entries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("audit.batch.tooLarge");
+        }
+
+        AuditBatchItemResult[] results = new AuditBatchItemResult[entries.size()];
+        List<AuditLog> valid = new ArrayList<>(entries.size());
+        List<Integer> validIndexes = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            AuditLog entry = entries.get(i);
+            if (entry == null) {
+                results[i] = AuditBatchItemResult.rejected(i, "audit.batch.entry.invalid");
+                continue;
+            }
+            try {
+                valid.add(newAuditLog(entry.getUserId(), entry.getAction(), entry.getEntityType(),
+                        entry.getEntityId(), entry.getDetails(), entry.getIpAddress(), entry.getUserAgent()));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = AuditBatchItemResult.rejected(i, e.getMessage());
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            List<AuditLog> saved = auditRepository.saveAll(valid);
+            for (int j = 0; j < saved.size(); j++) {
+                int index = validIndexes.get(j);
+                results[index] = AuditBatchItemResult.created(index, saved.get(j));
+                written(saved.get(j));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    public boolean isAsyncIngestionEnabled() {
+        return writeBuffer != null || journal != null;
+    }
+
+    /**
+     * Validates the event and hands it to the journal, when enabled, or to the write buffer.
+     * A journaled log is on disk and already has its final ID; a buffered log has no ID yet,
+     * it is assigned when the background writer flushes the batch.
+     */
+    public AuditLog submitAuditLog(String userId, String action, String entityType,
+                                   String entityId, String details, String ipAddress, String userAgent) {
+        if (writeBuffer == null && journal == null) {
+            throw new IllegalStateException("Asynchronous audit ingestion is disabled");
+        }
+        AuditLog auditLog = newAuditLog(userId, action, entityType, entityId, details, ipAddress, userAgent);
+        if (journal != null) {
+            return journal.append(auditLog);
+        }
+        if (!writeBuffer.offer(auditLog)) {
+            throw new AuditIngestionRejectedException("audit.ingestion.queue.full");
+        }
+        return auditLog;
+    }
+
+    /**
+     * Pushes every log persisted from now on that matches the criteria to {@code listener}. Throws
+     * {@link IllegalStateException} with a message key when live tail is disabled or full.
+     */
+    public AuditLiveTail.Subscription tailAuditLogs(AuditCriteria criteria, AuditLiveTail.Listener listener) {
+        if (liveTail == null) {
+            throw new IllegalStateException("audit.tail.disabled");
+        }
+        return liveTail.subscribe(criteria, listener);
+    }
+
+    private void written(AuditLog saved) {
+        if (timelineCache != null) {
+            timelineCache.append(saved);
+        }
+        if (liveTail != null) {
+            liveTail.publish(saved);
+        }
+    }
+
+    private AuditLog newAuditLog(String userId, String action, String entityType,
+                                 String entityId, String details, String ipAddress, String userAgent) {
         if (userId == null || userId.isBlank()) {
             throw new IllegalArgumentException("audit.userId.required");
         }
@@ -30,7 +164,7 @@ public class AuditService {
             throw new IllegalArgumentException("audit.entityType.required");
         }
         
-        AuditLog auditLog = new AuditLog(
+        return new AuditLog(
             userId,
             action,
             entityType,
@@ -40,56 +174,67 @@ public class AuditService {
             ipAddress,
             userAgent
         );
-        
-        return auditRepository.save(auditLog);
     }
 
     public Optional<AuditLog> getAuditLogById(UUID id) {
         return auditRepository.findById(id);
     }
 
-    public List<AuditLog> getAuditLogsByUserId(String userId) {
+    public AuditPage getAuditLogsByUserId(String userId, AuditCursor cursor, Integer pageSize) {
         if (userId == null || userId.isBlank()) {
             throw new IllegalArgumentException("audit.userId.required");
         }
-        return auditRepository.findByUserId(userId);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByUserId(userId, cursor, limit + 1), limit);
     }
 
-    public List<AuditLog> getAuditLogsByEntityType(String entityType) {
+    public AuditPage getAuditLogsByEntityType(String entityType, AuditCursor cursor, Integer pageSize) {
         if (entityType == null || entityType.isBlank()) {
             throw new IllegalArgumentException("audit.entityType.required");
         }
-        return auditRepository.findByEntityType(entityType);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByEntityType(entityType, cursor, limit + 1), limit);
     }
 
-    public List<AuditLog> getAuditLogsByEntity(String entityType, String entityId) {
+    public AuditPage getAuditLogsByEntity(String entityType, String entityId, AuditCursor cursor, Integer pageSize) {
         if (entityType == null || entityType.isBlank()) {
             throw new IllegalArgumentException("audit.entityType.required");
         }
         if (entityId == null || entityId.isBlank()) {
             throw new IllegalArgumentException("audit.entityId.required");
         }
-        return auditRepository.findByEntityTypeAndEntityId(entityType, entityId);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        Optional<List<AuditLog>> cached = timelineCache != null
+                ? timelineCache.find(entityType, entityId, cursor, limit + 1)
+                : Optional.empty();
+        List<AuditLog> rows = cached.isPresent()
+                ? cached.get()
+                : auditRepository.findByEntityTypeAndEntityId(entityType, entityId, cursor, limit + 1);
+        return toPage(rows, limit);
     }
 
-    public List<AuditLog> getAuditLogsByAction(String action) {
+    public AuditPage getAuditLogsByAction(String action, AuditCursor cursor, Integer pageSize) {
         if (action == null || action.isBlank()) {
             throw new IllegalArgumentException("audit.action.required");
         }
-        return auditRepository.findByAction(action);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByAction(action, cursor, limit + 1), limit);
     }
 
-    public List<AuditLog> getAuditLogsByDateRange(LocalDateTime start, LocalDateTime end) {
+    public AuditPage getAuditLogsByDateRange(LocalDateTime start, LocalDateTime end,
+                                             AuditCursor cursor, Integer pageSize) {
         if (start == null || end == null) {
             throw new IllegalArgumentException("audit.dateRange.required");
         }
         if (start.isAfter(end)) {
             throw new IllegalArgumentException("audit.dateRange.invalid");
         }
-        return auditRepository.findByTimestampBetween(start, end);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByTimestampBetween(start, end, cursor, limit + 1), limit);
     }
 
-    public List<AuditLog> getAuditLogsByUserAndDateRange(String userId, LocalDateTime start, LocalDateTime end) {
+    public AuditPage getAuditLogsByUserAndDateRange(String userId, LocalDateTime start, LocalDateTime end,
+                                                    AuditCursor cursor, Integer pageSize) {
         if (userId == null || userId.isBlank()) {
             throw new IllegalArgumentException("audit.userId.required");
         }
@@ -99,7 +244,91 @@ public class AuditService {
         if (start.isAfter(end)) {
             throw new IllegalArgumentException("audit.dateRange.invalid");
         }
-        return auditRepository.findByUserIdAndTimestampBetween(userId, start, end);
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByUserIdAndTimestampBetween(userId, start, end, cursor, limit + 1), limit);
+    }
+
+    public AuditPage getAuditLogsByCriteria(AuditCriteria criteria, AuditCursor cursor, Integer pageSize) {
+        int limit = queryLimits.resolvePageSize(pageSize);
+        return toPage(auditRepository.findByCriteria(criteria, cursor, limit + 1), limit);
+    }
+
+    /**
+     * The index narrows candidates to logs containing every word; phrase adjacency is checked
+     * here. At most {@link #MAX_SEARCH_SCAN} candidates are examined per call, so a page may come
+     * back short, with a cursor to resume from, when phrase matches are sparse.
+     */
+    public AuditPage searchAuditLogs(AuditSearchQuery query, AuditCursor cursor, Integer pageSize) {
+        int limit = queryLimits.resolvePageSize(pageSize);
+        if (!query.hasPhrases()) {
+            return toPage(auditRepository.searchDetails(query, cursor, limit + 1), limit);
+        }
+
+        List<AuditLog> matches = new ArrayList<>(limit + 1);
+        AuditCursor position = cursor;
+        int scanned = 0;
+        while (true) {
+            List<AuditLog> candidates = auditRepository.searchDetails(query, position, limit + 1);
+            for (AuditLog candidate : candidates) {
+                position = AuditCursor.after(candidate);
+                scanned++;
+                if (query.matches(candidate)) {
+                    matches.add(candidate);
+                    if (matches.size() > limit) {
+                        return toPage(matches, limit);
+                    }
+                }
+            }
+            if (candidates.size() <= limit) {
+                return new AuditPage(matches, null);
+            }
+            if (scanned >= MAX_SEARCH_SCAN) {
+                return new AuditPage(matches, position);
+            }
+        }
+    }
+
+    /**
+     * Answers from the rollup tables only. Buckets are included when they start inside the range,
+     * so {@code start} is rounded down to its bucket.
+     */
+    public List<AuditActivityCount> getActivityStats(AuditStatsGranularity granularity, AuditStatsDimension dimension,
+                                                     String value, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("audit.dateRange.required");
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("audit.dateRange.invalid");
+        }
+        String filter = value == null || value.isBlank() ? null : value;
+        List<AuditActivityCount> counts = auditRepository.findActivity(
+                granularity, dimension, filter, granularity.truncate(start), end, MAX_STATS_BUCKETS + 1);
+        if (counts.size() > MAX_STATS_BUCKETS) {
+            throw new IllegalArgumentException("audit.stats.tooManyBuckets");
+        }
+        return counts;
+    }
+
+    /**
+     * Validates the range eagerly so callers can reject the request before any output is written;
+     * rows are only read when the returned export is executed.
+     */
+    public AuditExport exportAuditLogsByDateRange(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("audit.dateRange.required");
+        }
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("audit.dateRange.invalid");
+        }
+        return sink -> auditRepository.streamByTimestampBetween(start, end, sink);
     }
-}
 
+    // The repository is asked for one row more than the page size to know whether a next page exists
+    private AuditPage toPage(List<AuditLog> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new AuditPage(rows, null);
+        }
+        List<AuditLog> items = new ArrayList<>(rows.subList(0, limit));
+        return new AuditPage(items, AuditCursor.after(items.get(limit - 1)));
+    }
+}
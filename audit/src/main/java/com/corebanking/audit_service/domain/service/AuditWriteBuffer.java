@@ -0,0 +1,188 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded in-memory queue of audit events flushed to the repository in batches by a single
+ * background writer. A batch is written as soon as it reaches {@code batchSize} events or
+ * {@code flushInterval} has elapsed since its first event, whichever comes first. Every
+ * persisted event is passed to the optional {@code onWritten} listener from the writer thread.
+ */
+public class AuditWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditWriteBuffer.class);
+
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AuditRepositoryPort auditRepository;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+    private final Consumer<AuditLog> onWritten;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    // Producers hold the read lock across check-and-enqueue so stop() never leaves an accepted event behind
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    public AuditWriteBuffer(AuditRepositoryPort auditRepository, int capacity, int batchSize,
+                            Duration flushInterval, Duration shutdownTimeout) {
+        this(auditRepository, capacity, batchSize, flushInterval, shutdownTimeout, null);
+    }
+
+    public AuditWriteBuffer(AuditRepositoryPort auditRepository, int capacity, int batchSize,
+                            Duration flushInterval, Duration shutdownTimeout, Consumer<AuditLog> onWritten) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("capacity and batchSize must be positive");
+        }
+        this.auditRepository = auditRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.onWritten = onWritten;
+        this.writer = new Thread(this::runWriter, "audit-write-buffer");
+        this.writer.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        writer.start();
+        log.info("Audit write buffer started: capacity={}, batchSize={}, flushInterval={}ms",
+                queue.remainingCapacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    /**
+     * Stops accepting events and waits up to {@code shutdownTimeout} for the writer to drain
+     * everything already queued.
+     */
+    public void stop() {
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive() || !queue.isEmpty()) {
+            log.warn("Audit write buffer stopped with {} events still queued", queue.size());
+        } else {
+            log.info("Audit write buffer drained: written={}, failed={}", written.get(), failed.get());
+        }
+    }
+
+    public boolean offer(AuditLog auditLog) {
+        shutdownLock.readLock().lock();
+        try {
+            if (running && queue.offer(auditLog)) {
+                accepted.incrementAndGet();
+                return true;
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public int getQueueDepth() { return queue.size(); }
+    public long getAcceptedCount() { return accepted.get(); }
+    public long getRejectedCount() { return rejected.get(); }
+    public long getWrittenCount() { return written.get(); }
+    public long getFailedCount() { return failed.get(); }
+
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(Math.min(flushIntervalNanos, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    boolean waiting = remaining > 0 && running;
+                    // Bounded waits so stop() is noticed without interrupting a write
+                    AuditLog next = waiting
+                            ? queue.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next != null) {
+                        batch.add(next);
+                    } else if (!waiting) {
+                        break;
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<AuditLog> saved = auditRepository.saveAll(List.copyOf(batch));
+            written.addAndGet(batch.size());
+            saved.forEach(this::notifyWritten);
+        } catch (RuntimeException e) {
+            log.error("Batch write of {} audit events failed, retrying one by one", batch.size(), e);
+            for (AuditLog auditLog : batch) {
+                try {
+                    AuditLog saved = auditRepository.save(auditLog);
+                    written.incrementAndGet();
+                    notifyWritten(saved);
+                } catch (RuntimeException single) {
+                    failed.incrementAndGet();
+                    log.error("Dropping audit event userId={}, action={}, entityType={}, entityId={}",
+                            auditLog.getUserId(), auditLog.getAction(), auditLog.getEntityType(),
+                            auditLog.getEntityId(), single);
+                }
+            }
+        }
+    }
+
+    private void notifyWritten(AuditLog saved) {
+        if (onWritten == null || saved == null) {
+            return;
+        }
+        try {
+            onWritten.accept(saved);
+        } catch (RuntimeException e) {
+            log.warn("Audit write listener failed for id={}", saved.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditArchiveSegmentTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 1, 15, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private static List<AuditLog> rows(int count) {
+        List<AuditLog> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            byte[] hash = new byte[32];
+            hash[0] = (byte) i;
+            rows.add(new AuditLog(new UUID(i, i), "user" + (i % 5), i % 2 == 0 ? "CREATE" : "UPDATE",
+                    "ACCOUNT", "acc-" + (i % 10), i % 3 == 0 ? null : "details " + i,
+                    DAY.plusSeconds(i).plusNanos(123_000), i % 4 == 0 ? null : "10.0.0." + i, "curl/8.0",
+                    i % 7 == 0 ? null : new AuditChainLink(i % 3, i, hash)));
+        }
+        return rows;
+    }
+
+    private List<AuditLog> scan(Path file, AuditArchiveFilter filter, AuditCursor after, int limit) throws IOException {
+        List<AuditLog> result = new ArrayList<>();
+        try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(file)) {
+            reader.scan(filter, after, limit, result::add);
+        }
+        return result;
+    }
+
+    @Test
+    void write_RoundTripsEveryColumn() throws IOException {
+        // Given
+        List<AuditLog> rows = rows(50);
+        Path file = directory.resolve("a.seg");
+
+        // When
+        AuditArchiveSegment.write(file, rows);
+        List<AuditLog> read = scan(file, AuditArchiveFilter.all(), null, Integer.MAX_VALUE);
+
+        // Then
+        assertEquals(rows.size(), read.size());
+        for (int i = 0; i < rows.size(); i++) {
+            AuditLog expected = rows.get(i);
+            AuditLog actual = read.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getUserId(), actual.getUserId());
+            assertEquals(expected.getAction(), actual.getAction());
+            assertEquals(expected.getEntityType(), actual.getEntityType());
+            assertEquals(expected.getEntityId(), actual.getEntityId());
+            assertEquals(expected.getDetails(), actual.getDetails());
+            assertEquals(expected.getTimestamp(), actual.getTimestamp());
+            assertEquals(expected.getIpAddress(), actual.getIpAddress());
+            assertEquals(expected.getUserAgent(), actual.getUserAgent());
+            if (expected.getChainLink() == null) {
+                assertNull(actual.getChainLink());
+            } else {
+                assertEquals(expected.getChainLink().getShard(), actual.getChainLink().getShard());
+                assertEquals(expected.getChainLink().getSequence(), actual.getChainLink().getSequence());
+                assertArrayEquals(expected.getChainLink().getHash(), actual.getChainLink().getHash());
+            }
+        }
+        assertFalse(Files.exists(directory.resolve("a.seg.tmp")));
+    }
+
+    @Test
+    void write_ReturnsFooterStats() throws IOException {
+        // Given
+        Path file = directory.resolve("a.seg");
+
+        // When
+        AuditArchiveSegment.Stats stats = AuditArchiveSegment.write(file, rows(20));
+
+        // Then
+        assertEquals(20, stats.rowCount());
+        assertEquals(DAY.plusNanos(123_000), stats.minTimestamp());
+        assertEquals(DAY.plusSeconds(19).plusNanos(123_000), stats.maxTimestamp());
+        assertEquals("user0", stats.minUserId());
+        assertEquals("user4", stats.maxUserId());
+        try (AuditArchiveSegment.Reader reader = AuditArchiveSegment.open(file)) {
+            AuditArchiveSegment.Stats reloaded = reader.stats();
+            assertEquals(stats.maxTimestamp(), reloaded.maxTimestamp());
+            assertEquals(stats.actions(), reloaded.actions());
+            assertArrayEquals(stats.users().words(), reloaded.users().words());
+            assertArrayEquals(stats.entities().words(), reloaded.entities().words());
+        }
+    }
+
+    @Test
+    void scan_AppliesFilterCursorAndLimit() throws IOException {
+        // Given
+        List<AuditLog> rows = rows(50);
+        Path file = directory.resolve("a.seg");
+        AuditArchiveSegment.write(file, rows);
+
+        // When
+        List<AuditLog> result = scan(file, new AuditArchiveFilter("user1", "UPDATE", "ACCOUNT", null, null, null),
+                AuditCursor.after(rows.get(1)), 3);
+
+        // Then
+        assertEquals(List.of(rows.get(11).getId(), rows.get(21).getId(), rows.get(31).getId()),
+                result.stream().map(AuditLog::getId).toList());
+    }
+
+    @Test
+    void mayMatch_SkipsSegmentsOutsideUserActionOrDateRange() throws IOException {
+        // Given
+        AuditArchiveSegment.Stats stats = AuditArchiveSegment.write(directory.resolve("a.seg"), rows(20));
+
+        // Then
+        assertTrue(stats.mayMatch(AuditArchiveFilter.user("user3"), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.user("user9"), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.user("admin"), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.action("DELETE"), null));
+        assertTrue(stats.mayMatch(AuditArchiveFilter.entity("ACCOUNT", "acc-3"), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.entity("LOAN", "acc-3"), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.range(null, DAY.plusDays(1), DAY.plusDays(2)), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.range(null, DAY.minusDays(2), DAY.minusNanos(1)), null));
+        assertFalse(stats.mayMatch(AuditArchiveFilter.all(), new AuditCursor(DAY.plusHours(1), new UUID(0, 0))));
+    }
+
+    @Test
+    void open_RejectsFilesThatAreNotSegments() throws IOException {
+        // Given
+        Path file = directory.resolve("bogus.seg");
+        Files.write(file, new byte[64]);
+
+        // Then
+        assertThrows(IOException.class, () -> AuditArchiveSegment.open(file));
+    }
+}
@@ -0,0 +1,140 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditArchiveTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 1, 15, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private static UUID timeOrderedId(LocalDateTime timestamp, long sequence) {
+        long millis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new UUID((millis << 16) | 0x7000L | (sequence & 0xFFF), 0x8000_0000_0000_0000L | sequence);
+    }
+
+    private static AuditLog log(String userId, LocalDateTime timestamp, long sequence) {
+        return new AuditLog(timeOrderedId(timestamp, sequence), userId, "UPDATE", "ACCOUNT", "acc-1", "details",
+                timestamp, "10.0.0.1", "curl/8.0", null);
+    }
+
+    private static List<AuditLog> day(LocalDateTime day, String userId, int count) {
+        List<AuditLog> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(log(userId, day.plusMinutes(i), i));
+        }
+        return rows;
+    }
+
+    private AuditArchive open() {
+        AuditArchive archive = new AuditArchive(directory);
+        archive.open();
+        return archive;
+    }
+
+    @Test
+    void find_MergesSegmentsInKeyOrderAndPages() {
+        // Given
+        AuditArchive archive = open();
+        List<AuditLog> first = day(DAY, "user123", 5);
+        List<AuditLog> second = day(DAY.plusDays(1), "user123", 5);
+        archive.write(second);
+        archive.write(first);
+        archive.advanceWatermark(DAY.plusDays(2));
+
+        // When
+        List<AuditLog> page = archive.find(AuditArchiveFilter.user("user123"), null, 7);
+        List<AuditLog> next = archive.find(AuditArchiveFilter.user("user123"), AuditCursor.after(page.get(6)), 7);
+
+        // Then
+        List<AuditLog> all = new ArrayList<>(first);
+        all.addAll(second);
+        assertEquals(all.subList(0, 7).stream().map(AuditLog::getId).toList(),
+                page.stream().map(AuditLog::getId).toList());
+        assertEquals(all.subList(7, 10).stream().map(AuditLog::getId).toList(),
+                next.stream().map(AuditLog::getId).toList());
+    }
+
+    @Test
+    void stream_EmitsOverlappingSegmentsInOrder() {
+        // Given
+        AuditArchive archive = open();
+        List<AuditLog> rows = day(DAY, "user123", 10);
+        List<AuditLog> even = new ArrayList<>();
+        List<AuditLog> odd = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            (i % 2 == 0 ? even : odd).add(rows.get(i));
+        }
+        archive.write(even);
+        archive.write(odd);
+        archive.advanceWatermark(DAY.plusDays(1));
+
+        // When
+        List<AuditLog> streamed = new ArrayList<>();
+        long count = archive.stream(DAY.plusMinutes(2), DAY.plusMinutes(7), streamed::add);
+
+        // Then
+        assertEquals(6, count);
+        assertEquals(rows.subList(2, 8).stream().map(AuditLog::getId).toList(),
+                streamed.stream().map(AuditLog::getId).toList());
+    }
+
+    @Test
+    void findById_FindsArchivedLog() {
+        // Given
+        AuditArchive archive = open();
+        List<AuditLog> rows = day(DAY, "user123", 5);
+        archive.write(rows);
+        archive.advanceWatermark(DAY.plusDays(1));
+
+        // Then
+        assertEquals("user123", archive.findById(rows.get(3).getId()).orElseThrow().getUserId());
+        assertTrue(archive.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void open_ReloadsSegmentsAndDiscardsOnesPastTheWatermark() throws Exception {
+        // Given
+        AuditArchive archive = open();
+        archive.write(day(DAY, "user123", 5));
+        archive.advanceWatermark(DAY.plusDays(1));
+        archive.write(day(DAY.plusDays(1), "user123", 5));
+        Files.writeString(directory.resolve("partial.seg.tmp"), "x");
+
+        // When
+        AuditArchive reopened = open();
+
+        // Then
+        assertEquals(DAY.plusDays(1), reopened.getWatermark());
+        assertEquals(1, reopened.getSegmentCount());
+        assertEquals(5, reopened.find(AuditArchiveFilter.all(), null, 100).size());
+        assertFalse(Files.exists(directory.resolve("partial.seg.tmp")));
+    }
+
+    @Test
+    void advanceWatermark_NeverMovesBack() {
+        // Given
+        AuditArchive archive = open();
+        archive.advanceWatermark(DAY.plusDays(2));
+
+        // When
+        archive.advanceWatermark(DAY.plusDays(1));
+
+        // Then
+        assertEquals(DAY.plusDays(2), archive.getWatermark());
+    }
+}
@@ -0,0 +1,133 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.adapter.persistence.AuditLogJpaRepository;
+import com.corebanking.audit_service.adapter.persistence.AuditSearchIndex;
+import com.corebanking.audit_service.adapter.persistence.JpaAuditRepositoryAdapter;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditArchiverTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private JpaAuditRepositoryAdapter hotRepository;
+
+    @Mock
+    private AuditLogJpaRepository jpaRepository;
+
+    @Mock
+    private AuditSearchIndex searchIndex;
+
+    @TempDir
+    Path directory;
+
+    private AuditArchive archive;
+    private AuditArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archive = new AuditArchive(directory);
+        archive.open();
+        Clock clock = Clock.fixed(DAY.plusDays(92).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        archiver = new AuditArchiver(archive, hotRepository, jpaRepository, searchIndex, Duration.ofDays(90), 2, clock);
+    }
+
+    private static AuditLog log(LocalDateTime timestamp, long sequence) {
+        return new AuditLog(new UUID(sequence, sequence), "user123", "UPDATE", "ACCOUNT", "acc-1", "details",
+                timestamp, null, null, null);
+    }
+
+    private void hotRows(LocalDate day, AuditLog... rows) {
+        doAnswer(invocation -> {
+            Consumer<AuditLog> sink = invocation.getArgument(2);
+            for (AuditLog row : rows) {
+                sink.accept(row);
+            }
+            return (long) rows.length;
+        }).when(hotRepository).streamByTimestampBetween(eq(day.atStartOfDay()),
+                eq(day.plusDays(1).atStartOfDay().minusNanos(1000)), any());
+    }
+
+    @Test
+    void archive_MovesWholeDaysOutsideTheHotWindow() {
+        // Given
+        AuditLog first = log(DAY.atTime(9, 0), 1);
+        AuditLog second = log(DAY.atTime(10, 0), 2);
+        AuditLog third = log(DAY.atTime(11, 0), 3);
+        AuditLog nextDay = log(DAY.plusDays(1).atTime(9, 0), 4);
+        when(jpaRepository.findOldestTimestamp()).thenReturn(Optional.of(first.getTimestamp()));
+        hotRows(DAY, first, second, third);
+        hotRows(DAY.plusDays(1), nextDay);
+
+        // When
+        archiver.archive();
+
+        // Then
+        assertEquals(DAY.plusDays(2).atStartOfDay(), archive.getWatermark());
+        assertEquals(3, archive.getSegmentCount());
+        assertEquals(4, archive.find(AuditArchiveFilter.user("user123"), null, 10).size());
+        verify(jpaRepository).deleteArchived(List.of(first.getId(), second.getId(), third.getId()),
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        verify(jpaRepository).deleteArchived(List.of(nextDay.getId()),
+                DAY.plusDays(1).atStartOfDay(), DAY.plusDays(2).atStartOfDay());
+        verify(searchIndex).purgeBefore(DAY.plusDays(2).atStartOfDay());
+    }
+
+    @Test
+    void archive_DoesNothingWhenEverythingIsHot() {
+        // Given
+        when(jpaRepository.findOldestTimestamp()).thenReturn(Optional.of(DAY.plusDays(5).atStartOfDay()));
+
+        // When
+        archiver.archive();
+
+        // Then
+        assertNull(archive.getWatermark());
+        verifyNoInteractions(hotRepository, searchIndex);
+        verify(jpaRepository, never()).deleteArchived(anyCollection(), any(), any());
+    }
+
+    @Test
+    void archiveDay_DeletesWithoutRewritingLogsAlreadyArchived() {
+        // Given
+        AuditLog archived = log(DAY.atTime(9, 0), 1);
+        AuditLog late = log(DAY.atTime(9, 30), 2);
+        archive.write(List.of(archived));
+        archive.advanceWatermark(DAY.plusDays(1).atStartOfDay());
+        hotRows(DAY, archived, late);
+
+        // When
+        long count = archiver.archiveDay(DAY);
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(2, archive.getSegmentCount());
+        assertEquals(2, archive.find(AuditArchiveFilter.all(), null, 10).size());
+        verify(jpaRepository).deleteArchived(List.of(archived.getId(), late.getId()),
+                DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+    }
+}
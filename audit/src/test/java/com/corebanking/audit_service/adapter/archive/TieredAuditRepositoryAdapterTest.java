@@ -0,0 +1,177 @@
+package com.corebanking.audit_service.adapter.archive;
+
+import com.corebanking.audit_service.adapter.persistence.JpaAuditRepositoryAdapter;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredAuditRepositoryAdapterTest {
+
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2024, 1, 16, 0, 0);
+    private static final AuditCursor FLOOR = new AuditCursor(WATERMARK.minusNanos(1000), new UUID(-1L, -1L));
+
+    @Mock
+    private JpaAuditRepositoryAdapter hotRepository;
+
+    @Mock
+    private AuditArchive archive;
+
+    @InjectMocks
+    private TieredAuditRepositoryAdapter adapter;
+
+    private static AuditLog log(LocalDateTime timestamp) {
+        return new AuditLog(UUID.randomUUID(), "user123", "UPDATE", "ACCOUNT", "acc-1", "details",
+                timestamp, null, null, null);
+    }
+
+    @Test
+    void findByUserId_UsesOnlyHotTableBeforeAnythingIsArchived() {
+        // Given
+        List<AuditLog> hot = List.of(log(WATERMARK));
+        when(archive.getWatermark()).thenReturn(null);
+        when(hotRepository.findByUserId("user123", null, 10)).thenReturn(hot);
+
+        // When
+        List<AuditLog> result = adapter.findByUserId("user123", null, 10);
+
+        // Then
+        assertEquals(hot, result);
+        verify(archive, never()).find(any(), any(), anyInt());
+    }
+
+    @Test
+    void findByUserId_ReadsArchiveFirstAndCompletesFromHotTable() {
+        // Given
+        AuditLog archived = log(WATERMARK.minusHours(1));
+        AuditLog hot = log(WATERMARK.plusHours(1));
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.find(AuditArchiveFilter.user("user123"), null, 3)).thenReturn(List.of(archived));
+        when(hotRepository.findByUserId("user123", FLOOR, 2)).thenReturn(List.of(hot));
+
+        // When
+        List<AuditLog> result = adapter.findByUserId("user123", null, 3);
+
+        // Then
+        assertEquals(List.of(archived, hot), result);
+    }
+
+    @Test
+    void findByUserId_SkipsHotTableWhenArchiveFillsThePage() {
+        // Given
+        List<AuditLog> archived = List.of(log(WATERMARK.minusHours(2)), log(WATERMARK.minusHours(1)));
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.find(AuditArchiveFilter.user("user123"), null, 2)).thenReturn(archived);
+
+        // When
+        List<AuditLog> result = adapter.findByUserId("user123", null, 2);
+
+        // Then
+        assertEquals(archived, result);
+        verifyNoInteractions(hotRepository);
+    }
+
+    @Test
+    void findByUserId_CursorPastWatermarkSkipsArchive() {
+        // Given
+        AuditCursor cursor = new AuditCursor(WATERMARK.plusHours(1), UUID.randomUUID());
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(hotRepository.findByUserId("user123", cursor, 5)).thenReturn(List.of());
+
+        // When
+        adapter.findByUserId("user123", cursor, 5);
+
+        // Then
+        verify(archive, never()).find(any(), any(), anyInt());
+    }
+
+    @Test
+    void findByTimestampBetween_RangeBelowWatermarkSkipsHotTable() {
+        // Given
+        LocalDateTime start = WATERMARK.minusDays(3);
+        LocalDateTime end = WATERMARK.minusDays(2);
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.find(AuditArchiveFilter.range(null, start, end), null, 10)).thenReturn(List.of());
+
+        // When
+        adapter.findByTimestampBetween(start, end, null, 10);
+
+        // Then
+        verifyNoInteractions(hotRepository);
+    }
+
+    @Test
+    void findByCriteria_PassesEveryFilterToArchive() {
+        // Given
+        AuditCriteria criteria = AuditCriteria.of("user123", "UPDATE", "ACCOUNT", "acc-1", null, null);
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.find(new AuditArchiveFilter("user123", "UPDATE", "ACCOUNT", "acc-1", null, null), null, 5))
+            .thenReturn(List.of());
+        when(hotRepository.findByCriteria(criteria, FLOOR, 5)).thenReturn(List.of());
+
+        // When
+        List<AuditLog> result = adapter.findByCriteria(criteria, null, 5);
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void streamByTimestampBetween_SplitsRangeAtWatermark() {
+        // Given
+        LocalDateTime start = WATERMARK.minusDays(1);
+        LocalDateTime end = WATERMARK.plusDays(1);
+        AuditLog archived = log(start);
+        AuditLog hot = log(end);
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.stream(eq(start), eq(WATERMARK.minusNanos(1000)), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<AuditLog>>getArgument(2).accept(archived);
+            return 1L;
+        });
+        when(hotRepository.streamByTimestampBetween(eq(WATERMARK), eq(end), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<AuditLog>>getArgument(2).accept(hot);
+            return 1L;
+        });
+
+        // When
+        List<AuditLog> streamed = new ArrayList<>();
+        long count = adapter.streamByTimestampBetween(start, end, streamed::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(List.of(archived, hot), streamed);
+    }
+
+    @Test
+    void findById_FallsBackToArchive() {
+        // Given
+        UUID id = UUID.randomUUID();
+        AuditLog archived = log(WATERMARK.minusDays(1));
+        when(hotRepository.findById(id)).thenReturn(Optional.empty());
+        when(archive.getWatermark()).thenReturn(WATERMARK);
+        when(archive.findById(id)).thenReturn(Optional.of(archived));
+
+        // When
+        Optional<AuditLog> result = adapter.findById(id);
+
+        // Then
+        assertEquals(Optional.of(archived), result);
+    }
+}
@@ -0,0 +1,90 @@
+package com.corebanking.audit_service.adapter.journal;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditJournalReplayerTest {
+
+    @Mock
+    private AuditJournal journal;
+
+    @Mock
+    private AuditRepositoryPort auditRepository;
+
+    private static AuditLog event(UUID id) {
+        return new AuditLog(id, "user123", "UPDATE", "ACCOUNT", "acc-1", null,
+            LocalDateTime.of(2024, 3, 1, 10, 0), null, null);
+    }
+
+    @Test
+    void replayNext_SkipsEventsAlreadyStored() {
+        // Given
+        List<AuditLog> written = new ArrayList<>();
+        AuditJournalReplayer replayer = new AuditJournalReplayer(journal, auditRepository, 100,
+            Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(1), written::add);
+        AuditLog stored = event(UUID.randomUUID());
+        AuditLog missing = event(UUID.randomUUID());
+        when(journal.getReplayedOffset()).thenReturn(0L);
+        when(journal.read(0L, 100)).thenReturn(new AuditJournal.Batch(List.of(stored, missing), 512L));
+        when(auditRepository.findExistingIds(List.of(stored.getId(), missing.getId()))).thenReturn(Set.of(stored.getId()));
+        when(auditRepository.saveAll(List.of(missing))).thenReturn(List.of(missing));
+
+        // When
+        boolean replayed = replayer.replayNext();
+
+        // Then
+        assertTrue(replayed);
+        assertEquals(List.of(missing), written);
+        assertEquals(1, replayer.getReplayedCount());
+        assertEquals(1, replayer.getDuplicateCount());
+        verify(journal).markReplayed(512L);
+    }
+
+    @Test
+    void replayNext_KeepsOffsetWhenRepositoryFails() {
+        // Given
+        AuditJournalReplayer replayer = new AuditJournalReplayer(journal, auditRepository, 100,
+            Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(1), null);
+        AuditLog event = event(UUID.randomUUID());
+        when(journal.getReplayedOffset()).thenReturn(0L);
+        when(journal.read(0L, 100)).thenReturn(new AuditJournal.Batch(List.of(event), 256L));
+        when(auditRepository.findExistingIds(anyList())).thenThrow(new IllegalStateException("database unavailable"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, replayer::replayNext);
+        verify(journal, never()).markReplayed(anyLong());
+    }
+
+    @Test
+    void replayNext_AdvancesPastSegmentEndWithoutEvents() {
+        // Given
+        AuditJournalReplayer replayer = new AuditJournalReplayer(journal, auditRepository, 100,
+            Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(1), null);
+        when(journal.getReplayedOffset()).thenReturn(200L);
+        when(journal.read(200L, 100)).thenReturn(new AuditJournal.Batch(List.of(), 256L));
+
+        // When
+        boolean replayed = replayer.replayNext();
+
+        // Then
+        assertFalse(replayed);
+        verify(journal).markReplayed(256L);
+        verifyNoInteractions(auditRepository);
+    }
+}
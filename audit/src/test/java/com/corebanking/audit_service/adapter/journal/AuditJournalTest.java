@@ -0,0 +1,206 @@
+package com.corebanking.audit_service.adapter.journal;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.service.AuditIngestionRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    private final List<AuditJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        opened.forEach(AuditJournal::stop);
+    }
+
+    private AuditJournal open(long segmentSize, long maxSize) {
+        return open(segmentSize, maxSize, Duration.ofSeconds(5));
+    }
+
+    private AuditJournal open(long segmentSize, long maxSize, Duration ackTimeout) {
+        AuditJournal journal = new AuditJournal(directory, segmentSize, maxSize, ackTimeout);
+        journal.start();
+        opened.add(journal);
+        return journal;
+    }
+
+    private static AuditLog event(String entityId) {
+        return new AuditLog("user123", "UPDATE", "ACCOUNT", entityId, "balance changed", TIMESTAMP, "10.0.0.1", null);
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    @Test
+    void append_AssignsIdAndRoundTripsEveryField() {
+        // Given
+        AuditJournal journal = open(4096, 1 << 20);
+
+        // When
+        AuditLog journaled = journal.append(event("acc-1"));
+        AuditJournal.Batch batch = journal.read(journal.getReplayedOffset(), 10);
+
+        // Then
+        assertNotNull(journaled.getId());
+        assertEquals(1, batch.auditLogs().size());
+        AuditLog read = batch.auditLogs().get(0);
+        assertEquals(journaled.getId(), read.getId());
+        assertEquals("user123", read.getUserId());
+        assertEquals("acc-1", read.getEntityId());
+        assertEquals("balance changed", read.getDetails());
+        assertEquals(TIMESTAMP, read.getTimestamp());
+        assertNull(read.getUserAgent());
+        assertEquals(journal.getDurableOffset(), batch.nextOffset());
+    }
+
+    @Test
+    void append_ConcurrentAppendersAreAllDurable() throws Exception {
+        // Given
+        AuditJournal journal = open(1 << 16, 1 << 24);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> ids.add(journal.append(event("acc-" + index)).getId())));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        List<AuditLog> read = new ArrayList<>();
+        long offset = journal.getReplayedOffset();
+        AuditJournal.Batch batch;
+        do {
+            batch = journal.read(offset, 100);
+            read.addAll(batch.auditLogs());
+            offset = batch.nextOffset();
+        } while (!batch.auditLogs().isEmpty());
+        assertEquals(400, read.size());
+        assertEquals(ids, Set.copyOf(read.stream().map(AuditLog::getId).toList()));
+    }
+
+    @Test
+    void append_RollsSegmentsAndReplayDeletesThem() throws IOException {
+        // Given
+        AuditJournal journal = open(256, 1 << 20);
+        for (int i = 0; i < 10; i++) {
+            journal.append(event("acc-" + i));
+        }
+        assertTrue(segmentCount() > 2);
+
+        // When
+        AuditJournal.Batch batch = journal.read(journal.getReplayedOffset(), 100);
+        journal.markReplayed(batch.nextOffset());
+
+        // Then
+        assertEquals(10, batch.auditLogs().size());
+        assertEquals(1, segmentCount());
+        assertEquals(0, journal.getPendingBytes());
+    }
+
+    @Test
+    void start_ResumesAfterReplayedOffsetAndDropsTornTail() throws IOException {
+        // Given
+        AuditJournal first = open(4096, 1 << 20);
+        first.append(event("acc-1"));
+        first.markReplayed(first.read(first.getReplayedOffset(), 10).nextOffset());
+        AuditLog pending = first.append(event("acc-2"));
+        long end = first.getDurableOffset();
+        first.stop();
+        opened.remove(first);
+        // A record header whose payload never made it to disk
+        try (FileChannel channel = FileChannel.open(directory.resolve(String.format("%020d.seg", 0)),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putInt(0, 100).putInt(4, 12345), end);
+        }
+
+        // When
+        AuditJournal reopened = open(4096, 1 << 20);
+        AuditJournal.Batch batch = reopened.read(reopened.getReplayedOffset(), 10);
+        AuditLog next = reopened.append(event("acc-3"));
+
+        // Then
+        assertEquals(List.of(pending.getId()), batch.auditLogs().stream().map(AuditLog::getId).toList());
+        assertEquals(List.of(pending.getId(), next.getId()),
+            reopened.read(reopened.getReplayedOffset(), 10).auditLogs().stream().map(AuditLog::getId).toList());
+    }
+
+    @Test
+    void append_RejectsWhenUnreplayedEventsExceedMaxSize() {
+        // Given
+        AuditJournal journal = open(256, 256);
+        journal.append(event("acc-1"));
+
+        // When & Then
+        AuditIngestionRejectedException exception = assertThrows(AuditIngestionRejectedException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                journal.append(event("acc-" + i));
+            }
+        });
+        assertEquals("audit.journal.full", exception.getMessage());
+    }
+
+    @Test
+    void append_RejectsRecordLargerThanSegment() {
+        // Given
+        AuditJournal journal = open(256, 1 << 20);
+        AuditLog large = new AuditLog("user123", "UPDATE", "ACCOUNT", "acc-1", "x".repeat(300), TIMESTAMP, null, null);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> journal.append(large));
+        assertEquals("audit.journal.record.tooLarge", exception.getMessage());
+    }
+
+    @Test
+    void append_AcceptsRecordWhoseSyncOutlastsTheAckTimeoutAndReplaysItOnce() throws Exception {
+        // Given
+        AuditJournal journal = open(1 << 16, 1 << 20, Duration.ZERO);
+
+        // When
+        AuditLog accepted = journal.append(event("acc-1"));
+
+        // Then
+        assertNotNull(accepted.getId());
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (journal.getPendingBytes() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        AuditJournal.Batch batch = journal.read(journal.getReplayedOffset(), 10);
+        assertEquals(List.of(accepted.getId()), batch.auditLogs().stream().map(AuditLog::getId).toList());
+    }
+}
@@ -0,0 +1,79 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditActivityRollupsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditLog log(String userId, String action, LocalDateTime timestamp) {
+        return new AuditLog(UUID.randomUUID(), userId, action, "LOAN", "loan1", null, timestamp, null, null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_AggregatesIncrementsPerBucketBeforeUpserting() {
+        // Given
+        AuditActivityRollups rollups = new AuditActivityRollups(jdbcTemplate);
+        LocalDateTime timestamp = LocalDateTime.of(2024, 3, 10, 12, 34, 56);
+
+        // When
+        rollups.record(List.of(
+            log("alice", "CREATE", timestamp),
+            log("bob", "CREATE", timestamp.plusSeconds(2))));
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), rows.capture());
+        // 3 granularities x (1 action + 1 entity type + 2 users)
+        assertEquals(12, rows.getValue().size());
+        Object[] first = rows.getValue().get(0);
+        assertArrayEquals(new Object[]{"MINUTE", "ACTION", "CREATE", LocalDateTime.of(2024, 3, 10, 12, 34), 2L}, first);
+        assertTrue(rows.getValue().stream().anyMatch(row -> row[0].equals("DAY") && row[2].equals("bob")
+            && row[3].equals(LocalDateTime.of(2024, 3, 10, 0, 0)) && row[4].equals(1L)));
+    }
+
+    @Test
+    void record_NothingToWrite() {
+        // When
+        new AuditActivityRollups(jdbcTemplate).record(List.of());
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void find_FiltersByValueWhenGiven() {
+        // Given
+        AuditActivityRollups rollups = new AuditActivityRollups(jdbcTemplate);
+        LocalDateTime start = LocalDateTime.of(2024, 3, 10, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 11, 0, 0);
+
+        // When
+        rollups.find(AuditStatsGranularity.HOUR, AuditStatsDimension.USER, "alice", start, end, 100);
+
+        // Then
+        verify(jdbcTemplate).query(contains("AND dimension_value = ?"), any(RowMapper.class),
+            eq("HOUR"), eq("USER"), eq("alice"), eq(start), eq(end), eq(100));
+    }
+}
@@ -0,0 +1,157 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.service.AuditChainDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditChainWriterTest {
+
+    @Mock
+    private AuditLogJpaRepository jpaRepository;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static AuditLogEntity entity(String entityId) {
+        AuditLogEntity entity = new AuditLogEntity();
+        entity.setUserId("user123");
+        entity.setAction("UPDATE");
+        entity.setEntityType("ACCOUNT");
+        entity.setEntityId(entityId);
+        entity.setTimestamp(LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_789));
+        return entity;
+    }
+
+    @Test
+    void append_ChainsFromGenesisWithContiguousSequences() {
+        // Given
+        AuditChainWriter writer = new AuditChainWriter(jpaRepository, 1, 0);
+        when(jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(0)).thenReturn(Optional.empty());
+        AuditLogEntity first = entity("acc-1");
+        AuditLogEntity second = entity("acc-2");
+
+        // When
+        writer.append(List.of(first, second));
+
+        // Then
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_000), first.getTimestamp());
+        assertEquals(1L, first.getChainSequence());
+        assertEquals(2L, second.getChainSequence());
+        assertNotNull(first.getId());
+        assertArrayEquals(AuditChainDigest.digest(AuditChainDigest.GENESIS, 0, 1L, first.getId(), "user123", "UPDATE",
+            "ACCOUNT", "acc-1", null, first.getTimestamp(), null, null), first.getChainHash());
+        assertArrayEquals(AuditChainDigest.digest(first.getChainHash(), 0, 2L, second.getId(), "user123", "UPDATE",
+            "ACCOUNT", "acc-2", null, second.getTimestamp(), null, null), second.getChainHash());
+        assertTrue(first.isNew());
+    }
+
+    @Test
+    void append_KeepsAssignedIdAndHashesIt() {
+        // Given
+        AuditChainWriter writer = new AuditChainWriter(jpaRepository, 1, 0);
+        when(jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(0)).thenReturn(Optional.empty());
+        UUID replayedId = new UUID(7L, 7L);
+        AuditLogEntity replayed = entity("acc-1");
+        replayed.setId(replayedId);
+
+        // When
+        writer.append(List.of(replayed));
+
+        // Then
+        assertEquals(replayedId, replayed.getId());
+        assertArrayEquals(AuditChainDigest.digest(AuditChainDigest.GENESIS, 0, 1L, replayedId, "user123", "UPDATE",
+            "ACCOUNT", "acc-1", null, replayed.getTimestamp(), null, null), replayed.getChainHash());
+    }
+
+    @Test
+    void append_ContinuesFromStoredHeadOnce() {
+        // Given
+        AuditChainWriter writer = new AuditChainWriter(jpaRepository, 1, 3);
+        AuditLogEntity head = entity("acc-0");
+        head.setChainSequence(41L);
+        head.setChainHash(new byte[32]);
+        when(jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(3)).thenReturn(Optional.of(head));
+
+        // When
+        AuditLogEntity first = entity("acc-1");
+        writer.append(List.of(first));
+        AuditLogEntity second = entity("acc-2");
+        writer.append(List.of(second));
+
+        // Then
+        assertEquals(3, first.getChainShard());
+        assertEquals(42L, first.getChainSequence());
+        assertEquals(43L, second.getChainSequence());
+        verify(jpaRepository, times(1)).findFirstByChainShardOrderByChainSequenceDesc(3);
+    }
+
+    @Test
+    void append_KeepsOneShardPerTransactionAndRevertsOnRollback() {
+        // Given
+        AuditChainWriter writer = new AuditChainWriter(jpaRepository, 1, 0);
+        when(jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(0)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AuditLogEntity first = entity("acc-1");
+        writer.append(List.of(first));
+        AuditLogEntity second = entity("acc-2");
+        writer.append(List.of(second));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        AuditLogEntity retried = entity("acc-3");
+        writer.append(List.of(retried));
+
+        // Then
+        assertEquals(1, synchronizations.size());
+        assertEquals(2L, second.getChainSequence());
+        assertEquals(1L, retried.getChainSequence());
+        assertFalse(TransactionSynchronizationManager.hasResource(writer));
+    }
+
+    @Test
+    void append_AdvancesHeadOnCommit() {
+        // Given
+        AuditChainWriter writer = new AuditChainWriter(jpaRepository, 1, 0);
+        when(jpaRepository.findFirstByChainShardOrderByChainSequenceDesc(0)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+        AuditLogEntity first = entity("acc-1");
+        writer.append(List.of(first));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        AuditLogEntity next = entity("acc-2");
+        writer.append(List.of(next));
+
+        // Then
+        assertEquals(2L, next.getChainSequence());
+        assertArrayEquals(AuditChainDigest.digest(first.getChainHash(), 0, 2L, next.getId(), "user123", "UPDATE",
+            "ACCOUNT", "acc-2", null, next.getTimestamp(), null, null), next.getChainHash());
+    }
+
+    @Test
+    void constructor_RejectsInvalidShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditChainWriter(jpaRepository, 0, 0));
+    }
+}
@@ -0,0 +1,84 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditDetailsConverterTest {
+
+    private final AuditDetailsConverter converter = new AuditDetailsConverter();
+
+    @Test
+    void convert_ShortDetailsStoredPlain() {
+        // Given
+        String details = "Customer created successfully";
+
+        // When
+        byte[] stored = converter.convertToDatabaseColumn(details);
+
+        // Then
+        assertEquals(AuditDetailsConverter.PLAIN, stored[0]);
+        assertEquals(details.getBytes(StandardCharsets.UTF_8).length + 1, stored.length);
+        assertEquals(details, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void convert_LargeRepetitiveDetailsCompressed() {
+        // Given
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            json.append("{\"field\":\"status\",\"old\":\"PENDING\",\"new\":\"APPROVED\",\"approvedBy\":\"analyst-")
+                .append(i).append("\"},");
+        }
+        String details = json.append("]").toString();
+
+        // When
+        byte[] stored = converter.convertToDatabaseColumn(details);
+
+        // Then
+        assertEquals(AuditDetailsConverter.DEFLATE, stored[0]);
+        assertTrue(stored.length < details.length() / 4, "compressed to " + stored.length + " of " + details.length());
+        assertEquals(details, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void convert_IncompressibleDetailsStoredPlain() {
+        // Given
+        StringBuilder random = new StringBuilder();
+        Random generator = new Random(42);
+        while (random.length() < AuditDetailsConverter.COMPRESSION_THRESHOLD) {
+            random.append((char) ('!' + generator.nextInt(90)));
+        }
+
+        // When
+        byte[] stored = converter.convertToDatabaseColumn(random.toString());
+
+        // Then
+        assertEquals(random.toString(), converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    void convert_NonAsciiRoundTrip() {
+        // Given
+        String details = "Préstamo aprobado por José Ñúñez ".repeat(20);
+
+        // When & Then
+        assertEquals(details, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(details)));
+    }
+
+    @Test
+    void convert_NullStaysNull() {
+        // When & Then
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void convert_UnknownFormatFails() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute(new byte[]{9, 1, 2}));
+    }
+}
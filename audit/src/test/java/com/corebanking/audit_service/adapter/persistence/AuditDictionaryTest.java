@@ -0,0 +1,108 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditDictionaryTest {
+
+    private static final String SELECT_ID = "SELECT id FROM audit_dictionary WHERE kind = ? AND term = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditDictionary dictionary() {
+        return new AuditDictionary(jdbcTemplate, TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void register_InsertsNewValueOnceAndCachesIt() {
+        // Given
+        AuditDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "ACTION", "CREATE"))
+            .thenReturn(List.of())
+            .thenReturn(List.of(7));
+
+        // When
+        Integer first = dictionary.register(AuditDictionary.Kind.ACTION, "CREATE");
+        Integer second = dictionary.register(AuditDictionary.Kind.ACTION, "CREATE");
+
+        // Then
+        assertEquals(7, first);
+        assertEquals(7, second);
+        assertEquals("CREATE", dictionary.valueOf(7));
+        verify(jdbcTemplate, times(1)).update(contains("INSERT IGNORE"), eq("ACTION"), eq("CREATE"));
+        verify(jdbcTemplate, times(2)).queryForList(SELECT_ID, Integer.class, "ACTION", "CREATE");
+    }
+
+    @Test
+    void find_UnknownValueDoesNotInsert() {
+        // Given
+        AuditDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "ACTION", "PURGE")).thenReturn(List.of());
+
+        // When
+        Integer id = dictionary.find(AuditDictionary.Kind.ACTION, "PURGE");
+
+        // Then
+        assertNull(id);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void find_SameValueOfDifferentKindsIsDistinct() {
+        // Given
+        AuditDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "ACTION", "LOAN")).thenReturn(List.of(1));
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "ENTITY_TYPE", "LOAN")).thenReturn(List.of(2));
+
+        // When & Then
+        assertEquals(1, dictionary.find(AuditDictionary.Kind.ACTION, "LOAN"));
+        assertEquals(2, dictionary.find(AuditDictionary.Kind.ENTITY_TYPE, "LOAN"));
+    }
+
+    @Test
+    void valueOf_LoadsOnceThenServesFromCache() {
+        // Given
+        AuditDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList("SELECT term FROM audit_dictionary WHERE id = ?", String.class, 3))
+            .thenReturn(List.of("Mozilla/5.0"));
+
+        // When
+        String first = dictionary.valueOf(3);
+        String second = dictionary.valueOf(3);
+
+        // Then
+        assertEquals("Mozilla/5.0", first);
+        assertEquals("Mozilla/5.0", second);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(String.class), eq(3));
+    }
+
+    @Test
+    void valueOf_UnknownIdFails() {
+        // Given
+        AuditDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList("SELECT term FROM audit_dictionary WHERE id = ?", String.class, 99))
+            .thenReturn(List.of());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> dictionary.valueOf(99));
+    }
+
+    @Test
+    void register_NullValueIsNull() {
+        // When & Then
+        assertNull(dictionary().register(AuditDictionary.Kind.USER_AGENT, null));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,163 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionManagerTest {
+
+    private static final String PARTITION_COUNT = "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AuditSearchIndex searchIndex;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+
+    private AuditPartitionManager manager(int monthsAhead, int retentionMonths,
+                                          AuditPartitionManager.RetentionAction action) {
+        return new AuditPartitionManager(jdbcTemplate, searchIndex, monthsAhead, retentionMonths, action, clock);
+    }
+
+    private void givenArchive(String archive, int partitions, long rows) {
+        when(jdbcTemplate.queryForObject(PARTITION_COUNT, Integer.class, archive)).thenReturn(partitions);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + archive, Long.class)).thenReturn(rows);
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs"))).thenReturn(List.of(names));
+    }
+
+    @Test
+    void initialize_PartitionsUnpartitionedTableFromOldestRow() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("audit_logs")))
+            .thenReturn(List.of())
+            .thenReturn(List.of("p202401", "p202402", "p202403", "p202404", "pmax"));
+        when(jdbcTemplate.queryForObject("SELECT MIN(timestamp) FROM audit_logs", LocalDateTime.class))
+            .thenReturn(LocalDateTime.of(2024, 1, 20, 8, 0));
+
+        // When
+        manager(1, 0, AuditPartitionManager.RetentionAction.DROP).initialize();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp)");
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS(timestamp) ("
+            + "PARTITION p202401 VALUES LESS THAN ('2024-02-01 00:00:00'), "
+            + "PARTITION p202402 VALUES LESS THAN ('2024-03-01 00:00:00'), "
+            + "PARTITION p202403 VALUES LESS THAN ('2024-04-01 00:00:00'), "
+            + "PARTITION p202404 VALUES LESS THAN ('2024-05-01 00:00:00'), "
+            + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE audit_logs REORGANIZE"));
+    }
+
+    @Test
+    void createUpcomingPartitions_SplitsCatchAllPartition() {
+        // Given
+        givenPartitions("p202402", "p202403", "pmax");
+
+        // When
+        manager(2, 0, AuditPartitionManager.RetentionAction.DROP).createUpcomingPartitions();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs REORGANIZE PARTITION pmax INTO ("
+            + "PARTITION p202404 VALUES LESS THAN ('2024-05-01 00:00:00'), "
+            + "PARTITION p202405 VALUES LESS THAN ('2024-06-01 00:00:00'), "
+            + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    void createUpcomingPartitions_NothingMissing() {
+        // Given
+        givenPartitions("p202403", "p202404", "pmax");
+
+        // When
+        manager(1, 0, AuditPartitionManager.RetentionAction.DROP).createUpcomingPartitions();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void applyRetention_DropsExpiredPartitions() {
+        // Given
+        givenPartitions("p202311", "p202312", "p202401", "p202402", "p202403", "pmax");
+
+        // When
+        manager(0, 2, AuditPartitionManager.RetentionAction.DROP).applyRetention();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION p202311");
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION p202312");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DROP PARTITION p202401");
+        verify(jdbcTemplate, never()).execute(contains("EXCHANGE"));
+        verify(searchIndex).purgeBefore(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    void applyRetention_ArchivesBeforeDropping() {
+        // Given
+        givenPartitions("p202312", "p202401", "p202402", "p202403", "pmax");
+        givenArchive("audit_logs_archive_202312", 1, 0L);
+
+        // When
+        manager(0, 2, AuditPartitionManager.RetentionAction.ARCHIVE).applyRetention();
+
+        // Then
+        var inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS audit_logs_archive_202312 LIKE audit_logs");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs_archive_202312 REMOVE PARTITIONING");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs EXCHANGE PARTITION p202312 WITH TABLE audit_logs_archive_202312");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION p202312");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DROP PARTITION p202401");
+    }
+
+    @Test
+    void applyRetention_ResumesAfterFailureBetweenExchangeAndDrop() {
+        // Given: a previous run exchanged p202312 but failed before dropping it
+        givenPartitions("p202312", "p202401", "p202402", "p202403", "pmax");
+        givenArchive("audit_logs_archive_202312", 0, 42L);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs PARTITION (p202312)", Long.class))
+            .thenReturn(0L);
+
+        // When
+        manager(0, 2, AuditPartitionManager.RetentionAction.ARCHIVE).applyRetention();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(contains("REMOVE PARTITIONING"));
+        verify(jdbcTemplate, never()).execute(contains("EXCHANGE"));
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DROP PARTITION p202312");
+    }
+
+    @Test
+    void applyRetention_KeepsPartitionWhenArchiveAndPartitionBothHoldRows() {
+        // Given
+        givenPartitions("p202311", "p202312", "p202401", "p202402", "p202403", "pmax");
+        givenArchive("audit_logs_archive_202311", 0, 42L);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs PARTITION (p202311)", Long.class))
+            .thenReturn(7L);
+
+        // When
+        manager(0, 2, AuditPartitionManager.RetentionAction.ARCHIVE).applyRetention();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(contains("EXCHANGE"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE audit_logs DROP PARTITION"));
+        verify(searchIndex).purgeBefore(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditQueryPlannerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 31, 23, 59);
+
+    @Mock
+    private AuditDictionary dictionary;
+
+    @InjectMocks
+    private AuditQueryPlanner planner;
+
+    @Test
+    void chooseIndex_PrefersMostSelectivePrefix() {
+        assertEquals(AuditQueryPlanner.Index.ENTITY,
+                AuditQueryPlanner.chooseIndex(AuditCriteria.of("user123", "UPDATE", "ACCOUNT", "acc-1", null, null)));
+        assertEquals(AuditQueryPlanner.Index.USER,
+                AuditQueryPlanner.chooseIndex(AuditCriteria.of("user123", "UPDATE", "ACCOUNT", null, START, END)));
+        assertEquals(AuditQueryPlanner.Index.ENTITY_TYPE,
+                AuditQueryPlanner.chooseIndex(AuditCriteria.of(null, "UPDATE", "ACCOUNT", null, null, null)));
+        assertEquals(AuditQueryPlanner.Index.ACTION,
+                AuditQueryPlanner.chooseIndex(AuditCriteria.of(null, "UPDATE", null, null, START, END)));
+        assertEquals(AuditQueryPlanner.Index.TIMESTAMP,
+                AuditQueryPlanner.chooseIndex(AuditCriteria.of(null, null, null, null, START, END)));
+    }
+
+    @Test
+    void plan_UserActionAndRange_ScansUserIndexInTimeOrder() {
+        // Given
+        when(dictionary.find(AuditDictionary.Kind.ACTION, "UPDATE")).thenReturn(7);
+        AuditCriteria criteria = AuditCriteria.of("user123", "UPDATE", null, null, START, END);
+
+        // When
+        AuditQueryPlanner.Plan plan = planner.plan(criteria, null, 21).orElseThrow();
+
+        // Then
+        assertEquals(AuditQueryPlanner.Index.USER, plan.index());
+        assertEquals("SELECT * FROM audit_logs FORCE INDEX (idx_user_timestamp)"
+                + " WHERE user_id = ? AND action_id = ? AND timestamp >= ? AND timestamp <= ?"
+                + " ORDER BY timestamp ASC, id ASC LIMIT ?", plan.sql());
+        assertEquals(List.of("user123", 7, START, END, 21), plan.parameters());
+    }
+
+    @Test
+    void plan_EntityWithCursor_PutsEqualityPrefixFirstAndAddsKeyset() {
+        // Given
+        when(dictionary.find(AuditDictionary.Kind.ENTITY_TYPE, "ACCOUNT")).thenReturn(3);
+        AuditCursor cursor = new AuditCursor(START, new UUID(1L, 2L));
+        AuditCriteria criteria = AuditCriteria.of("user123", null, "ACCOUNT", "acc-1", null, null);
+
+        // When
+        AuditQueryPlanner.Plan plan = planner.plan(criteria, cursor, 10).orElseThrow();
+
+        // Then
+        assertEquals("SELECT * FROM audit_logs FORCE INDEX (idx_entity_timestamp)"
+                + " WHERE entity_type_id = ? AND entity_id = ? AND user_id = ?"
+                + " AND (timestamp > ? OR (timestamp = ? AND id > ?))"
+                + " ORDER BY timestamp ASC, id ASC LIMIT ?", plan.sql());
+        assertEquals(List.of(3, "acc-1", "user123", START, START), plan.parameters().subList(0, 5));
+        assertArrayEquals(AuditSearchIndex.toBytes(cursor.getId()), (byte[]) plan.parameters().get(5));
+    }
+
+    @Test
+    void plan_NoFilters_ScansTimestampIndex() {
+        // When
+        AuditQueryPlanner.Plan plan = planner.plan(AuditCriteria.of(null, null, null, null, null, null), null, 5)
+                .orElseThrow();
+
+        // Then
+        assertEquals("SELECT * FROM audit_logs FORCE INDEX (idx_timestamp) ORDER BY timestamp ASC, id ASC LIMIT ?",
+                plan.sql());
+    }
+
+    @Test
+    void plan_UnknownAction_MatchesNothing() {
+        // Given
+        when(dictionary.find(AuditDictionary.Kind.ACTION, "NEVER_SEEN")).thenReturn(null);
+
+        // When
+        Optional<AuditQueryPlanner.Plan> plan = planner.plan(
+                AuditCriteria.of(null, "NEVER_SEEN", null, null, null, null), null, 5);
+
+        // Then
+        assertTrue(plan.isEmpty());
+    }
+}
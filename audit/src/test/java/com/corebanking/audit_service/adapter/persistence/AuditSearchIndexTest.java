@@ -0,0 +1,89 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void index_WritesOnePostingPerDistinctTerm() {
+        // Given
+        AuditSearchIndex index = new AuditSearchIndex(jdbcTemplate);
+        UUID id = UUID.randomUUID();
+        LocalDateTime timestamp = LocalDateTime.of(2024, 3, 10, 12, 0);
+        AuditLog auditLog = new AuditLog(id, "user1", "UPDATE", "LOAN", "loan1",
+            "Loan approved; loan amount raised", timestamp, null, null);
+
+        // When
+        index.index(List.of(auditLog));
+
+        // Then
+        ArgumentCaptor<List<Object[]>> postings = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT IGNORE INTO audit_search_terms"), postings.capture());
+        assertEquals(List.of("loan", "approved", "amount", "raised"),
+            postings.getValue().stream().map(row -> (String) row[0]).toList());
+        assertArrayEquals(AuditSearchIndex.toBytes(id), (byte[]) postings.getValue().get(0)[2]);
+        assertEquals(timestamp, postings.getValue().get(0)[1]);
+    }
+
+    @Test
+    void index_SkipsLogsWithoutDetails() {
+        // Given
+        AuditSearchIndex index = new AuditSearchIndex(jdbcTemplate);
+        AuditLog auditLog = new AuditLog(UUID.randomUUID(), "user1", "UPDATE", "LOAN", "loan1",
+            null, LocalDateTime.now(), null, null);
+
+        // When
+        index.index(List.of(auditLog));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void purgeBefore_DeletesInChunksUntilDone() {
+        // Given
+        AuditSearchIndex index = new AuditSearchIndex(jdbcTemplate);
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(jdbcTemplate.update(contains("DELETE FROM audit_search_terms"), eq(before))).thenReturn(10_000, 42);
+
+        // When
+        long purged = index.purgeBefore(before);
+
+        // Then
+        assertEquals(10_042, purged);
+        verify(jdbcTemplate, times(2)).update(anyString(), eq(before));
+    }
+
+    @Test
+    void toBytes_IsBigEndian() {
+        // Given
+        UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+
+        // When
+        byte[] bytes = AuditSearchIndex.toBytes(id);
+
+        // Then
+        assertEquals(16, bytes.length);
+        assertEquals((byte) 0x01, bytes[0]);
+        assertEquals((byte) 0x57, bytes[15]);
+    }
+}
@@ -1,16 +1,27 @@
 package com.corebanking.audit_service.adapter.persistence;
 
+import com.corebanking.audit_service.domain.model.AuditChainSegment;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -22,6 +33,30 @@ class JpaAuditRepositoryAdapterTest {
     @Mock
     private AuditLogJpaRepository jpaRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AuditDictionary dictionary;
+
+    @Mock
+    private AuditSearchIndex searchIndex;
+
+    @Mock
+    private AuditActivityRollups activityRollups;
+
+    @Mock
+    private AuditChainWriter chainWriter;
+
+    @Mock
+    private AuditChainCheckpointJpaRepository checkpointRepository;
+
+    @Mock
+    private TypedQuery<AuditLogEntity> typedQuery;
+
+    @Mock
+    private Query nativeQuery;
+
     @InjectMocks
     private JpaAuditRepositoryAdapter adapter;
 
@@ -150,15 +185,15 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByUserId("user123")).thenReturn(List.of(entity));
+        when(jpaRepository.findByUserId(eq("user123"), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByUserId("user123");
+        List<AuditLog> result = adapter.findByUserId("user123", null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("user123", result.get(0).getUserId());
-        verify(jpaRepository).findByUserId("user123");
+        verify(jpaRepository).findByUserId(eq("user123"), any(Pageable.class));
     }
 
     @Test
@@ -175,15 +210,15 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByEntityType("USER")).thenReturn(List.of(entity));
+        when(jpaRepository.findByEntityType(eq("USER"), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByEntityType("USER");
+        List<AuditLog> result = adapter.findByEntityType("USER", null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("USER", result.get(0).getEntityType());
-        verify(jpaRepository).findByEntityType("USER");
+        verify(jpaRepository).findByEntityType(eq("USER"), any(Pageable.class));
     }
 
     @Test
@@ -200,16 +235,16 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByEntityTypeAndEntityId("USER", "user456")).thenReturn(List.of(entity));
+        when(jpaRepository.findByEntityTypeAndEntityId(eq("USER"), eq("user456"), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByEntityTypeAndEntityId("USER", "user456");
+        List<AuditLog> result = adapter.findByEntityTypeAndEntityId("USER", "user456", null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("USER", result.get(0).getEntityType());
         assertEquals("user456", result.get(0).getEntityId());
-        verify(jpaRepository).findByEntityTypeAndEntityId("USER", "user456");
+        verify(jpaRepository).findByEntityTypeAndEntityId(eq("USER"), eq("user456"), any(Pageable.class));
     }
 
     @Test
@@ -226,15 +261,15 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByAction("CREATE")).thenReturn(List.of(entity));
+        when(jpaRepository.findByAction(eq("CREATE"), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByAction("CREATE");
+        List<AuditLog> result = adapter.findByAction("CREATE", null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("CREATE", result.get(0).getAction());
-        verify(jpaRepository).findByAction("CREATE");
+        verify(jpaRepository).findByAction(eq("CREATE"), any(Pageable.class));
     }
 
     @Test
@@ -253,15 +288,15 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByTimestampBetween(start, end)).thenReturn(List.of(entity));
+        when(jpaRepository.findByTimestampBetween(eq(start), eq(end), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByTimestampBetween(start, end);
+        List<AuditLog> result = adapter.findByTimestampBetween(start, end, null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("user123", result.get(0).getUserId());
-        verify(jpaRepository).findByTimestampBetween(start, end);
+        verify(jpaRepository).findByTimestampBetween(eq(start), eq(end), any(Pageable.class));
     }
 
     @Test
@@ -280,15 +315,15 @@ class JpaAuditRepositoryAdapterTest {
         entity.setIpAddress("192.168.1.1");
         entity.setUserAgent("Mozilla/5.0");
 
-        when(jpaRepository.findByUserIdAndTimestampBetween("user123", start, end)).thenReturn(List.of(entity));
+        when(jpaRepository.findByUserIdAndTimestampBetween(eq("user123"), eq(start), eq(end), any(Pageable.class))).thenReturn(List.of(entity));
 
         // When
-        List<AuditLog> result = adapter.findByUserIdAndTimestampBetween("user123", start, end);
+        List<AuditLog> result = adapter.findByUserIdAndTimestampBetween("user123", start, end, null, 10);
 
         // Then
         assertEquals(1, result.size());
         assertEquals("user123", result.get(0).getUserId());
-        verify(jpaRepository).findByUserIdAndTimestampBetween("user123", start, end);
+        verify(jpaRepository).findByUserIdAndTimestampBetween(eq("user123"), eq(start), eq(end), any(Pageable.class));
     }
 
     @Test
@@ -345,6 +380,23 @@ class JpaAuditRepositoryAdapterTest {
         assertEquals("Mozilla/5.0", result.getUserAgent());
     }
 
+    @Test
+    void toEntity_RegistersDictionaryValues() {
+        // Given
+        AuditLog auditLog = new AuditLog(
+            "user123", "CREATE", "USER", "user456", "Created user",
+            LocalDateTime.of(2023, 1, 1, 12, 0), "192.168.1.1", "Mozilla/5.0"
+        );
+
+        // When
+        adapter.toEntity(auditLog);
+
+        // Then
+        verify(dictionary).register(AuditDictionary.Kind.ACTION, "CREATE");
+        verify(dictionary).register(AuditDictionary.Kind.ENTITY_TYPE, "USER");
+        verify(dictionary).register(AuditDictionary.Kind.USER_AGENT, "Mozilla/5.0");
+    }
+
     @Test
     void toEntity_WithNullId() {
         // Given
@@ -360,4 +412,233 @@ class JpaAuditRepositoryAdapterTest {
         assertNull(result.getId());
         assertEquals("user123", result.getUserId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_Success() {
+        // Given
+        List<AuditLog> auditLogs = List.of(
+            new AuditLog("user1", "CREATE", "USER", "u1", null, LocalDateTime.of(2023, 1, 1, 12, 0), null, null),
+            new AuditLog("user2", "UPDATE", "USER", "u2", null, LocalDateTime.of(2023, 1, 1, 12, 1), null, null)
+        );
+        when(jpaRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLogEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+            return entities;
+        });
+
+        // When
+        List<AuditLog> result = adapter.saveAll(auditLogs);
+
+        // Then
+        assertEquals(2, result.size());
+        assertNotNull(result.get(0).getId());
+        assertEquals("user1", result.get(0).getUserId());
+        assertEquals("UPDATE", result.get(1).getAction());
+        verify(jpaRepository).saveAll(anyList());
+    }
+
+    @Test
+    void findByTimestampBetween_AfterCursor() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
+        AuditCursor cursor = new AuditCursor(LocalDateTime.of(2023, 6, 1, 0, 0), UUID.randomUUID());
+        when(jpaRepository.findByTimestampBetweenAfter(eq(start), eq(end), eq(cursor.getTimestamp()), eq(cursor.getId()),
+            argThat(page -> page.getPageSize() == 25 && page.getPageNumber() == 0)))
+            .thenReturn(List.of());
+
+        // When
+        List<AuditLog> result = adapter.findByTimestampBetween(start, end, cursor, 25);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(jpaRepository, never()).findByTimestampBetween(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void streamByTimestampBetween_DetachesEachRow() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
+        AuditLogEntity first = new AuditLogEntity();
+        first.setId(UUID.randomUUID());
+        first.setUserId("user1");
+        first.setTimestamp(LocalDateTime.of(2023, 2, 1, 0, 0));
+        AuditLogEntity second = new AuditLogEntity();
+        second.setId(UUID.randomUUID());
+        second.setUserId("user2");
+        second.setTimestamp(LocalDateTime.of(2023, 3, 1, 0, 0));
+        when(jpaRepository.streamByTimestampBetween(start, end)).thenReturn(Stream.of(first, second));
+        List<AuditLog> received = new ArrayList<>();
+
+        // When
+        long count = adapter.streamByTimestampBetween(start, end, received::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals("user1", received.get(0).getUserId());
+        assertEquals("user2", received.get(1).getUserId());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void save_IndexesDetails() {
+        // Given
+        AuditLog auditLog = new AuditLog(
+            "user123", "CREATE", "USER", "user456", "Created user",
+            LocalDateTime.of(2023, 1, 1, 12, 0), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(jpaRepository.save(any(AuditLogEntity.class))).thenAnswer(invocation -> {
+            AuditLogEntity entity = invocation.getArgument(0);
+            entity.setId(UUID.randomUUID());
+            return entity;
+        });
+
+        // When
+        AuditLog result = adapter.save(auditLog);
+
+        // Then
+        verify(searchIndex).index(List.of(result));
+        verify(activityRollups).record(List.of(result));
+    }
+
+    @Test
+    void searchDetails_JoinsOnePostingPerTermAndAppliesFilters() {
+        // Given
+        AuditSearchQuery query = AuditSearchQuery.parse("approved \"loan rejected\" user:alice",
+            LocalDateTime.of(2024, 1, 1, 0, 0), null);
+        AuditCursor after = new AuditCursor(LocalDateTime.of(2024, 2, 1, 0, 0), UUID.randomUUID());
+        when(entityManager.createQuery(anyString(), eq(AuditLogEntity.class))).thenReturn(typedQuery);
+        when(typedQuery.setParameter(anyString(), any())).thenReturn(typedQuery);
+        when(typedQuery.setMaxResults(11)).thenReturn(typedQuery);
+        when(typedQuery.getResultList()).thenReturn(List.of());
+
+        // When
+        List<AuditLog> result = adapter.searchDetails(query, after, 11);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(entityManager).createQuery(argThat((String jpql) ->
+            jpql.contains("JOIN AuditSearchTermEntity t0") && jpql.contains("JOIN AuditSearchTermEntity t2")
+                && !jpql.contains("t3") && jpql.contains("a.userId = :userId")
+                && jpql.contains("t0.timestamp >= :start") && !jpql.contains(":end")
+                && jpql.endsWith("ORDER BY t0.timestamp ASC, t0.auditId ASC")), eq(AuditLogEntity.class));
+        verify(typedQuery).setParameter("term0", "approved");
+        verify(typedQuery).setParameter("userId", "alice");
+        verify(typedQuery).setParameter("cursorId", after.getId());
+    }
+
+    @Test
+    void findByCriteria_RunsPlannedNativeQuery() {
+        // Given
+        AuditLogEntity entity = new AuditLogEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setUserId("user123");
+        entity.setAction("UPDATE");
+        entity.setEntityType("ACCOUNT");
+        entity.setTimestamp(LocalDateTime.of(2024, 1, 2, 10, 0));
+        AuditCriteria criteria = AuditCriteria.of("user123", "UPDATE", null, null, null, null);
+        when(dictionary.find(AuditDictionary.Kind.ACTION, "UPDATE")).thenReturn(7);
+        when(entityManager.createNativeQuery(anyString(), eq(AuditLogEntity.class))).thenReturn(nativeQuery);
+        when(nativeQuery.getResultList()).thenReturn(List.of(entity));
+
+        // When
+        List<AuditLog> result = adapter.findByCriteria(criteria, null, 11);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("UPDATE", result.get(0).getAction());
+        verify(entityManager).createNativeQuery(argThat((String sql) -> sql.contains("FORCE INDEX (idx_user_timestamp)")),
+            eq(AuditLogEntity.class));
+        verify(nativeQuery).setParameter(1, "user123");
+        verify(nativeQuery).setParameter(2, 7);
+        verify(nativeQuery).setParameter(3, 11);
+    }
+
+    @Test
+    void findByCriteria_UnknownEntityTypeSkipsQuery() {
+        // Given
+        when(dictionary.find(AuditDictionary.Kind.ENTITY_TYPE, "UNKNOWN")).thenReturn(null);
+
+        // When
+        List<AuditLog> result = adapter.findByCriteria(AuditCriteria.of(null, null, "UNKNOWN", null, null, null), null, 11);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void saveAll_ChainsEntitiesBeforeInsert() {
+        // Given
+        AuditLog auditLog = new AuditLog("user123", "CREATE", "USER", "user456", "Created user",
+            LocalDateTime.of(2024, 1, 1, 12, 0), "192.168.1.1", "Mozilla/5.0");
+        doAnswer(invocation -> {
+            List<AuditLogEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> {
+                entity.setChainShard(3);
+                entity.setChainSequence(42L);
+                entity.setChainHash(new byte[32]);
+            });
+            return null;
+        }).when(chainWriter).append(anyList());
+        when(jpaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<AuditLog> result = adapter.saveAll(List.of(auditLog));
+
+        // Then
+        assertEquals(3, result.get(0).getChainLink().getShard());
+        assertEquals(42L, result.get(0).getChainLink().getSequence());
+    }
+
+    @Test
+    void findSegment_EmptyWhenShardHasNoLogsInRange() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 2, 0, 0);
+        List<Object[]> range = new ArrayList<>();
+        range.add(new Object[]{null, null});
+        when(jpaRepository.findChainSequenceRange(1, start, end)).thenReturn(range);
+
+        // When / Then
+        assertTrue(adapter.findSegment(1, start, end).isEmpty());
+    }
+
+    @Test
+    void findSegment_ReturnsSequenceBounds() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 2, 0, 0);
+        List<Object[]> range = new ArrayList<>();
+        range.add(new Object[]{10L, 25L});
+        when(jpaRepository.findChainSequenceRange(1, start, end)).thenReturn(range);
+
+        // When
+        AuditChainSegment segment = adapter.findSegment(1, start, end).orElseThrow();
+
+        // Then
+        assertEquals(10L, segment.getFromSequence());
+        assertEquals(25L, segment.getToSequence());
+        assertEquals(16L, segment.size());
+    }
+
+    @Test
+    void findExistingIds_SkipsQueryForEmptyInput() {
+        // When / Then
+        assertTrue(adapter.findExistingIds(List.of()).isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void findExistingIds_ReturnsStoredIds() {
+        // Given
+        UUID stored = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(jpaRepository.findExistingIds(List.of(stored, missing))).thenReturn(List.of(stored));
+
+        // When / Then
+        assertEquals(Set.of(stored), adapter.findExistingIds(List.of(stored, missing)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.corebanking.audit_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generate_ProducesVersion7WithRfcVariant() {
+        // When
+        UUID id = TimeOrderedUuidGenerator.generate();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void generate_EncodesCurrentTimeInLeadingBits() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = TimeOrderedUuidGenerator.generate();
+
+        // Then
+        long embeddedMillis = id.getMostSignificantBits() >>> 16;
+        assertTrue(embeddedMillis >= before);
+        assertTrue(embeddedMillis <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void generate_IsStrictlyIncreasingInByteOrder() {
+        // Given
+        UUID previous = TimeOrderedUuidGenerator.generate();
+
+        for (int i = 0; i < 10_000; i++) {
+            // When
+            UUID next = TimeOrderedUuidGenerator.generate();
+
+            // Then
+            assertTrue(compareUnsigned(previous, next) < 0, "ids must sort in generation order");
+            previous = next;
+        }
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    @Test
+    void generate_KeepsAssignedId() {
+        // Given
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        UUID assigned = UUID.randomUUID();
+
+        // When & Then
+        assertTrue(generator.allowAssignedIdentifiers());
+        assertEquals(assigned, generator.generate(null, null, assigned, null));
+        assertEquals(7, ((UUID) generator.generate(null, null, null, null)).version());
+    }
+}
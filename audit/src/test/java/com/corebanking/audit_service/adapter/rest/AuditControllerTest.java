@@ -1,7 +1,19 @@
 package com.corebanking.audit_service.adapter.rest;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditBatchItemResult;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditPage;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.service.AuditIngestionRejectedException;
+import com.corebanking.audit_service.domain.service.AuditLiveTail;
 import com.corebanking.audit_service.domain.service.AuditService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -9,14 +21,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -236,16 +256,17 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByUserId("user123")).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByUserId("user123", null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByUserId("user123", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByUserId("user123", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
         assertEquals("user123", responses.get(0).userId());
     }
@@ -253,12 +274,12 @@ class AuditControllerTest {
     @Test
     void getAuditLogsByUserId_ValidationError() {
         // Given
-        when(auditService.getAuditLogsByUserId("")).thenThrow(new IllegalArgumentException("audit.userId.required"));
+        when(auditService.getAuditLogsByUserId("", null, null)).thenThrow(new IllegalArgumentException("audit.userId.required"));
         when(messageSource.getMessage("audit.userId.required", null, "Unknown error", Locale.ENGLISH))
             .thenReturn("User ID is required");
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByUserId("", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByUserId("", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
@@ -274,16 +295,17 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByEntityType("USER")).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByEntityType("USER", null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByEntityType("USER", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByEntityType("USER", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
         assertEquals("USER", responses.get(0).entityType());
     }
@@ -295,16 +317,17 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByEntity("USER", "user456")).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByEntity("USER", "user456", null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByEntity("USER", "user456", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByEntity("USER", "user456", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
         assertEquals("user456", responses.get(0).entityId());
     }
@@ -312,12 +335,12 @@ class AuditControllerTest {
     @Test
     void getAuditLogsByEntity_ValidationError() {
         // Given
-        when(auditService.getAuditLogsByEntity("", "user456")).thenThrow(new IllegalArgumentException("audit.entityType.required"));
+        when(auditService.getAuditLogsByEntity("", "user456", null, null)).thenThrow(new IllegalArgumentException("audit.entityType.required"));
         when(messageSource.getMessage("audit.entityType.required", null, "Unknown error", Locale.ENGLISH))
             .thenReturn("Entity type is required");
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByEntity("", "user456", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByEntity("", "user456", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
@@ -333,16 +356,17 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByAction("CREATE")).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByAction("CREATE", null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByAction("CREATE", "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByAction("CREATE", null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
         assertEquals("CREATE", responses.get(0).action());
     }
@@ -356,16 +380,17 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByDateRange(start, end)).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByDateRange(start, end, null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByDateRange(start, end, "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByDateRange(start, end, null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
     }
 
@@ -374,12 +399,12 @@ class AuditControllerTest {
         // Given
         LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
         LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
-        when(auditService.getAuditLogsByDateRange(start, end)).thenThrow(new IllegalArgumentException("audit.dateRange.required"));
+        when(auditService.getAuditLogsByDateRange(start, end, null, null)).thenThrow(new IllegalArgumentException("audit.dateRange.required"));
         when(messageSource.getMessage("audit.dateRange.required", null, "Unknown error", Locale.ENGLISH))
             .thenReturn("Date range is required");
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByDateRange(start, end, "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByDateRange(start, end, null, null, "en");
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
@@ -397,16 +422,470 @@ class AuditControllerTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditService.getAuditLogsByUserAndDateRange("user123", start, end)).thenReturn(List.of(auditLog));
+        when(auditService.getAuditLogsByUserAndDateRange("user123", start, end, null, null)).thenReturn(new AuditPage(List.of(auditLog), null));
 
         // When
-        ResponseEntity<Object> result = controller.getAuditLogsByUserAndDateRange("user123", start, end, "en");
+        ResponseEntity<Object> result = controller.getAuditLogsByUserAndDateRange("user123", start, end, null, null, "en");
 
         // Then
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody() instanceof List);
-        @SuppressWarnings("unchecked")
-        List<AuditLogResponse> responses = (List<AuditLogResponse>) result.getBody();
+        assertTrue(result.getBody() instanceof AuditLogPageResponse);
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        List<AuditLogResponse> responses = page.items();
+        assertNull(page.nextCursor());
         assertEquals(1, responses.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAuditLog_AsyncAccepted() {
+        // Given
+        AuditLog pending = new AuditLog(
+            "user123", "CREATE", "USER", "user456",
+            "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.isAsyncIngestionEnabled()).thenReturn(true);
+        when(auditService.submitAuditLog(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenReturn(pending);
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn(null);
+        when(httpRequest.getHeader("X-Real-IP")).thenReturn(null);
+        when(httpRequest.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        CreateAuditLogRequest request = new CreateAuditLogRequest(
+            "user123", "CREATE", "USER", "user456", "Created user"
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.createAuditLog(request, httpRequest, "en");
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        AuditLogResponse response = (AuditLogResponse) result.getBody();
+        assertNull(response.id());
+        assertEquals("user123", response.userId());
+        verify(auditService, never()).createAuditLog(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createAuditLog_AsyncQueueFull() {
+        // Given
+        when(auditService.isAsyncIngestionEnabled()).thenReturn(true);
+        when(auditService.submitAuditLog(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenThrow(new AuditIngestionRejectedException("audit.ingestion.queue.full"));
+        when(messageSource.getMessage("audit.ingestion.queue.full", null, "Too many requests", Locale.ENGLISH))
+            .thenReturn("Audit ingestion queue is full, retry later");
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn(null);
+        when(httpRequest.getHeader("X-Real-IP")).thenReturn(null);
+        when(httpRequest.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        CreateAuditLogRequest request = new CreateAuditLogRequest(
+            "user123", "CREATE", "USER", "user456", "Created user"
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.createAuditLog(request, httpRequest, null);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
+        ErrorResponse response = (ErrorResponse) result.getBody();
+        assertEquals("Audit ingestion queue is full, retry later", response.error());
+    }
+
+    @Test
+    void createAuditLogBatch_AllCreated() {
+        // Given
+        AuditLog saved = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
+            "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.createAuditLogBatch(anyList())).thenReturn(List.of(AuditBatchItemResult.created(0, saved)));
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn(null);
+        when(httpRequest.getHeader("X-Real-IP")).thenReturn(null);
+        when(httpRequest.getRemoteAddr()).thenReturn("192.168.1.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        List<CreateAuditLogRequest> requests = List.of(
+            new CreateAuditLogRequest("user123", "CREATE", "USER", "user456", "Created user")
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.createAuditLogBatch(requests, httpRequest, "en");
+
+        // Then
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        AuditBatchResponse response = (AuditBatchResponse) result.getBody();
+        assertEquals(1, response.created());
+        assertEquals(0, response.rejected());
+        assertEquals(saved.getId(), response.results().get(0).id());
+        verify(auditService).createAuditLogBatch(argThat(entries ->
+            entries.size() == 1 && "192.168.1.1".equals(entries.get(0).getIpAddress())));
+    }
+
+    @Test
+    void createAuditLogBatch_PartialFailure() {
+        // Given
+        AuditLog saved = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
+            "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.createAuditLogBatch(anyList())).thenReturn(List.of(
+            AuditBatchItemResult.created(0, saved),
+            AuditBatchItemResult.rejected(1, "audit.action.required")
+        ));
+        when(messageSource.getMessage("audit.action.required", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Action is required");
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        List<CreateAuditLogRequest> requests = List.of(
+            new CreateAuditLogRequest("user123", "CREATE", "USER", "user456", "Created user"),
+            new CreateAuditLogRequest("user123", "", "USER", "user456", "Created user")
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.createAuditLogBatch(requests, httpRequest, null);
+
+        // Then
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        AuditBatchResponse response = (AuditBatchResponse) result.getBody();
+        assertEquals(1, response.created());
+        assertEquals(1, response.rejected());
+        assertNull(response.results().get(1).id());
+        assertEquals("Action is required", response.results().get(1).error());
+    }
+
+    @Test
+    void createAuditLogBatch_Empty() {
+        // Given
+        when(auditService.createAuditLogBatch(anyList())).thenThrow(new IllegalArgumentException("audit.batch.empty"));
+        when(messageSource.getMessage("audit.batch.empty", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Batch must contain at least one entry");
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        // When
+        ResponseEntity<Object> result = controller.createAuditLogBatch(List.of(), httpRequest, "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Batch must contain at least one entry", ((ErrorResponse) result.getBody()).error());
+    }
+
+    @Test
+    void createAuditLogBatchNdjson_MalformedLineRejected() {
+        // Given
+        AuditController ndjsonController = new AuditController(auditService, messageSource, new ObjectMapper());
+        AuditLog saved = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
+            null, LocalDateTime.now(), "10.0.0.1", "Mozilla/5.0"
+        );
+        when(auditService.createAuditLogBatch(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> entries = invocation.getArgument(0);
+            assertEquals(2, entries.size());
+            assertEquals("user123", entries.get(0).getUserId());
+            assertNull(entries.get(1));
+            return List.of(
+                AuditBatchItemResult.created(0, saved),
+                AuditBatchItemResult.rejected(1, "audit.batch.entry.invalid")
+            );
+        });
+        when(messageSource.getMessage("audit.batch.entry.invalid", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Malformed batch entry");
+        when(httpRequest.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1");
+        when(httpRequest.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+
+        String body = "{\"userId\":\"user123\",\"action\":\"CREATE\",\"entityType\":\"USER\",\"entityId\":\"user456\"}\n"
+            + "\n"
+            + "{not json\n";
+
+        // When
+        ResponseEntity<Object> result = ndjsonController.createAuditLogBatchNdjson(body, httpRequest, "en");
+
+        // Then
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        AuditBatchResponse response = (AuditBatchResponse) result.getBody();
+        assertEquals("Malformed batch entry", response.results().get(1).error());
+    }
+
+    @Test
+    void getAuditLogsByEntity_NextCursorRoundTrip() {
+        // Given
+        AuditLog auditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "LOAN", "loan1",
+            "Created loan", LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123456000), "192.168.1.1", "Mozilla/5.0"
+        );
+        AuditCursor next = AuditCursor.after(auditLog);
+        when(auditService.getAuditLogsByEntity("LOAN", "loan1", null, 1))
+            .thenReturn(new AuditPage(List.of(auditLog), next));
+        when(auditService.getAuditLogsByEntity("LOAN", "loan1", next, 1))
+            .thenReturn(new AuditPage(List.of(), null));
+
+        // When
+        ResponseEntity<Object> firstPage = controller.getAuditLogsByEntity("LOAN", "loan1", null, 1, "en");
+        String token = ((AuditLogPageResponse) firstPage.getBody()).nextCursor();
+        ResponseEntity<Object> secondPage = controller.getAuditLogsByEntity("LOAN", "loan1", token, 1, "en");
+
+        // Then
+        assertNotNull(token);
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        assertTrue(((AuditLogPageResponse) secondPage.getBody()).items().isEmpty());
+        assertNull(((AuditLogPageResponse) secondPage.getBody()).nextCursor());
+    }
+
+    @Test
+    void getAuditLogsByUserId_InvalidCursor() {
+        // Given
+        when(messageSource.getMessage("audit.cursor.invalid", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Invalid pagination cursor");
+
+        // When
+        ResponseEntity<Object> result = controller.getAuditLogsByUserId("user123", "not-a-cursor", null, "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Invalid pagination cursor", ((ErrorResponse) result.getBody()).error());
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void exportAuditLogs_Ndjson() throws Exception {
+        // Given
+        AuditController exportController = new AuditController(auditService, messageSource,
+            new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
+        AuditLog auditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
+            "Created user", LocalDateTime.of(2023, 6, 1, 12, 0), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.exportAuditLogsByDateRange(start, end)).thenReturn(sink -> {
+            sink.accept(auditLog);
+            sink.accept(auditLog);
+            return 2;
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = exportController.exportAuditLogs(start, end, null, null, "en");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getHeaders().getFirst("Content-Type").startsWith("application/x-ndjson"));
+        assertNull(result.getHeaders().getFirst("Content-Encoding"));
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"userId\":\"user123\""));
+        assertTrue(lines[0].contains("\"timestamp\":\"2023-06-01T12:00:00\""));
+    }
+
+    @Test
+    void exportAuditLogs_CsvGzip() throws Exception {
+        // Given
+        AuditController exportController = new AuditController(auditService, messageSource, new ObjectMapper());
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
+        UUID id = UUID.randomUUID();
+        AuditLog auditLog = new AuditLog(
+            id, "user123", "UPDATE", "USER", "user456",
+            "Changed \"email\", phone", LocalDateTime.of(2023, 6, 1, 12, 0), "192.168.1.1", null
+        );
+        when(auditService.exportAuditLogsByDateRange(start, end)).thenReturn(sink -> {
+            sink.accept(auditLog);
+            return 1;
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = exportController.exportAuditLogs(start, end, "csv", "gzip, deflate", "en");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Then
+        assertEquals("gzip", result.getHeaders().getFirst("Content-Encoding"));
+        assertEquals(
+            "id,userId,action,entityType,entityId,details,timestamp,ipAddress,userAgent\n"
+                + id + ",user123,UPDATE,USER,user456,\"Changed \"\"email\"\", phone\",2023-06-01T12:00,192.168.1.1,\n",
+            csv);
+    }
+
+    @Test
+    void exportAuditLogs_InvalidFormat() throws Exception {
+        // Given
+        AuditController exportController = new AuditController(auditService, messageSource, new ObjectMapper());
+        when(messageSource.getMessage("audit.export.format.invalid", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Export format must be ndjson or csv");
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = exportController.exportAuditLogs(
+            LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 2, 1, 0, 0), "xml", null, "en");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("{\"error\":\"Export format must be ndjson or csv\"}", out.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void queryAuditLogs_CombinesFilters() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
+        AuditLog auditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "UPDATE", "LOAN", "loan1",
+            "Loan approved", LocalDateTime.of(2024, 1, 5, 9, 0), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.getAuditLogsByCriteria(any(AuditCriteria.class), isNull(), eq(20)))
+            .thenReturn(new AuditPage(List.of(auditLog), null));
+
+        // When
+        ResponseEntity<Object> result = controller.queryAuditLogs("user123", "UPDATE", null, null, start, end,
+            null, 20, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        assertEquals(1, page.items().size());
+        verify(auditService).getAuditLogsByCriteria(argThat(criteria -> "user123".equals(criteria.getUserId())
+            && "UPDATE".equals(criteria.getAction()) && start.equals(criteria.getStart())), isNull(), eq(20));
+    }
+
+    @Test
+    void queryAuditLogs_EntityIdWithoutType() {
+        // Given
+        when(messageSource.getMessage("audit.entityType.required", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Entity type is required");
+
+        // When
+        ResponseEntity<Object> result = controller.queryAuditLogs(null, null, null, "loan1", null, null,
+            null, null, "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Entity type is required", ((ErrorResponse) result.getBody()).error());
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void tailAuditLogs_SubscribesWithFilters() {
+        // Given
+        AuditLiveTail.Subscription subscription = mock(AuditLiveTail.Subscription.class);
+        when(auditService.tailAuditLogs(any(AuditCriteria.class), any(AuditLiveTail.Listener.class)))
+            .thenReturn(subscription);
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> result = controller.tailAuditLogs("user123", null, "LOAN", null, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody() instanceof SseEmitter);
+        verify(auditService).tailAuditLogs(argThat(criteria -> "user123".equals(criteria.getUserId())
+            && "LOAN".equals(criteria.getEntityType())), any(AuditLiveTail.Listener.class));
+    }
+
+    @Test
+    void tailAuditLogs_TooManySubscribers() {
+        // Given
+        when(auditService.tailAuditLogs(any(AuditCriteria.class), any(AuditLiveTail.Listener.class)))
+            .thenThrow(new IllegalStateException("audit.tail.full"));
+        when(messageSource.getMessage("audit.tail.full", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Too many live tail subscribers, retry later");
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> result = controller.tailAuditLogs(null, null, null, null, "en");
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+    }
+
+    @Test
+    void tailAuditLogs_EntityIdWithoutType() {
+        // Given
+        when(messageSource.getMessage("audit.entityType.required", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Entity type is required");
+
+        // When
+        ResponseEntity<ResponseBodyEmitter> result = controller.tailAuditLogs(null, null, null, "loan1", "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void searchAuditLogs_Success() {
+        // Given
+        AuditLog auditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "UPDATE", "LOAN", "loan1",
+            "Loan approved", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditService.searchAuditLogs(any(AuditSearchQuery.class), isNull(), eq(20)))
+            .thenReturn(new AuditPage(List.of(auditLog), null));
+
+        // When
+        ResponseEntity<Object> result = controller.searchAuditLogs("approved entityType:LOAN", null, null, null, 20, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        AuditLogPageResponse page = (AuditLogPageResponse) result.getBody();
+        assertEquals(1, page.items().size());
+        verify(auditService).searchAuditLogs(argThat(query -> "LOAN".equals(query.getEntityType())
+            && query.getTerms().equals(List.of("approved"))), isNull(), eq(20));
+    }
+
+    @Test
+    void searchAuditLogs_MissingQuery() {
+        // Given
+        when(messageSource.getMessage("audit.search.query.required", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Search text is required");
+
+        // When
+        ResponseEntity<Object> result = controller.searchAuditLogs(null, null, null, null, null, "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Search text is required", ((ErrorResponse) result.getBody()).error());
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void getActivityStats_Success() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 10, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 11, 0, 0);
+        when(auditService.getActivityStats(AuditStatsGranularity.HOUR, AuditStatsDimension.ENTITY_TYPE, null, start, end))
+            .thenReturn(List.of(new AuditActivityCount(start, "LOAN", 7)));
+
+        // When
+        ResponseEntity<Object> result = controller.getActivityStats("hour", "entityType", null, start, end, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        AuditStatsResponse stats = (AuditStatsResponse) result.getBody();
+        assertEquals("HOUR", stats.granularity());
+        assertEquals("ENTITY_TYPE", stats.dimension());
+        assertEquals(List.of(new AuditActivityCountResponse(start, "LOAN", 7)), stats.buckets());
+    }
+
+    @Test
+    void getActivityStats_InvalidGranularity() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 10, 0, 0);
+        when(messageSource.getMessage("audit.stats.granularity.invalid", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("Granularity must be minute, hour or day");
+
+        // When
+        ResponseEntity<Object> result = controller.getActivityStats("week", "action", null, start, start, "en");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(auditService);
+    }
+}
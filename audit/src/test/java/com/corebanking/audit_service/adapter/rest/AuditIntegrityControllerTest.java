@@ -0,0 +1,75 @@
+package com.corebanking.audit_service.adapter.rest;
+
+import com.corebanking.audit_service.domain.model.AuditVerificationFailure;
+import com.corebanking.audit_service.domain.model.AuditVerificationReport;
+import com.corebanking.audit_service.domain.service.AuditIntegrityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditIntegrityControllerTest {
+
+    @Mock
+    private AuditIntegrityService integrityService;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private AuditIntegrityController controller;
+
+    @Test
+    void verify_ReturnsReportWithThroughput() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 2, 0, 0);
+        AuditVerificationReport report = new AuditVerificationReport(start, end, 16, 50_000, 3,
+            List.of(new AuditVerificationFailure(2, 17, AuditVerificationFailure.Reason.HASH_MISMATCH)),
+            Duration.ofMillis(500));
+        when(integrityService.verify(start, end)).thenReturn(report);
+
+        // When
+        ResponseEntity<Object> response = controller.verify(start, end, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        AuditVerificationResponse body = (AuditVerificationResponse) response.getBody();
+        assertFalse(body.valid());
+        assertEquals(100_000, body.eventsPerSecond());
+        assertEquals(500, body.elapsedMillis());
+        assertEquals("HASH_MISMATCH", body.failures().get(0).reason());
+    }
+
+    @Test
+    void verify_InvalidRange() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 2, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 1, 0, 0);
+        when(integrityService.verify(start, end)).thenThrow(new IllegalArgumentException("audit.integrity.range.invalid"));
+        when(messageSource.getMessage(eq("audit.integrity.range.invalid"), isNull(), anyString(), eq(Locale.forLanguageTag("es"))))
+            .thenReturn("El inicio y el fin son obligatorios y el inicio no puede ser posterior al fin");
+
+        // When
+        ResponseEntity<Object> response = controller.verify(start, end, "es");
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("El inicio y el fin son obligatorios y el inicio no puede ser posterior al fin",
+            ((ErrorResponse) response.getBody()).error());
+    }
+}
@@ -0,0 +1,40 @@
+package com.corebanking.audit_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditCriteriaTest {
+
+    @Test
+    void of_TreatsBlankValuesAsAbsent() {
+        // When
+        AuditCriteria criteria = AuditCriteria.of(" ", "", "ACCOUNT", null, null, null);
+
+        // Then
+        assertNull(criteria.getUserId());
+        assertNull(criteria.getAction());
+        assertEquals("ACCOUNT", criteria.getEntityType());
+    }
+
+    @Test
+    void of_EntityIdWithoutType() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AuditCriteria.of(null, null, null, "acc-1", null, null));
+        assertEquals("audit.entityType.required", exception.getMessage());
+    }
+
+    @Test
+    void of_StartAfterEnd() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AuditCriteria.of("user123", null, null, null, start, start.minusDays(1)));
+        assertEquals("audit.dateRange.invalid", exception.getMessage());
+    }
+}
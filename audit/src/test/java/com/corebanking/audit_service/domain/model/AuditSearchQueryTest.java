@@ -0,0 +1,81 @@
+package com.corebanking.audit_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditSearchQueryTest {
+
+    private AuditLog withDetails(String details) {
+        return new AuditLog(UUID.randomUUID(), "user1", "UPDATE", "LOAN", "loan1", details,
+            LocalDateTime.now(), null, null);
+    }
+
+    @Test
+    void parse_TermsPhrasesAndFieldFilters() {
+        // When
+        AuditSearchQuery query = AuditSearchQuery.parse(
+            "Rechazado \"límite de crédito\" user:alice entityType:LOAN action:\"MANUAL REVIEW\"", null, null);
+
+        // Then
+        assertEquals(List.of("rechazado"), query.getTerms());
+        assertEquals(List.of(List.of("limite", "de", "credito")), query.getPhrases());
+        assertEquals("alice", query.getUserId());
+        assertEquals("LOAN", query.getEntityType());
+        assertEquals("MANUAL REVIEW", query.getAction());
+        assertNull(query.getEntityId());
+        assertEquals("rechazado", query.indexTerms().get(0));
+        assertEquals(4, query.indexTerms().size());
+    }
+
+    @Test
+    void parse_UnknownFieldIsSearchedAsText() {
+        // When
+        AuditSearchQuery query = AuditSearchQuery.parse("error:timeout", null, null);
+
+        // Then
+        assertEquals(List.of(List.of("error", "timeout")), query.getPhrases());
+    }
+
+    @Test
+    void parse_RequiresText() {
+        // When & Then
+        assertEquals("audit.search.query.required",
+            assertThrows(IllegalArgumentException.class, () -> AuditSearchQuery.parse(" ", null, null)).getMessage());
+        assertEquals("audit.search.query.required",
+            assertThrows(IllegalArgumentException.class, () -> AuditSearchQuery.parse("user:alice", null, null)).getMessage());
+    }
+
+    @Test
+    void parse_TooManyTerms() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AuditSearchQuery.parse("aa bb cc dd ee ff gg hh ii jj kk", null, null)
+        );
+        assertEquals("audit.search.query.tooComplex", exception.getMessage());
+    }
+
+    @Test
+    void parse_InvalidDateRange() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AuditSearchQuery.parse("loan", LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0))
+        );
+        assertEquals("audit.dateRange.invalid", exception.getMessage());
+    }
+
+    @Test
+    void matches_RequiresPhraseWordsToBeAdjacent() {
+        // Given
+        AuditSearchQuery query = AuditSearchQuery.parse("\"loan approved\"", null, null);
+
+        // When & Then
+        assertTrue(query.matches(withDetails("The LOAN approved by analyst")));
+        assertFalse(query.matches(withDetails("approved loan")));
+        assertFalse(query.matches(withDetails(null)));
+    }
+}
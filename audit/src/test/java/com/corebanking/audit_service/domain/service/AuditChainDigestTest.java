@@ -0,0 +1,79 @@
+package com.corebanking.audit_service.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditChainDigestTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_000);
+    private static final UUID ID = new UUID(1L, 1L);
+
+    private static byte[] digest(String entityId, String details) {
+        return AuditChainDigest.digest(AuditChainDigest.GENESIS, 0, 1L, ID, "user123", "UPDATE", "ACCOUNT",
+            entityId, details, TIMESTAMP, "10.0.0.1", "curl");
+    }
+
+    @Test
+    void digest_ChangesWithAnyField() {
+        byte[] original = digest("acc-1", "balance=10");
+
+        assertEquals(AuditChainDigest.LENGTH, original.length);
+        assertArrayEquals(original, digest("acc-1", "balance=10"));
+        assertFalse(Arrays.equals(original, digest("acc-1", "balance=11")));
+        assertFalse(Arrays.equals(original, digest("acc-1", null)));
+    }
+
+    @Test
+    void digest_ChangesWithRowId() {
+        byte[] otherId = AuditChainDigest.digest(AuditChainDigest.GENESIS, 0, 1L, new UUID(1L, 2L), "user123",
+            "UPDATE", "ACCOUNT", "acc-1", "balance=10", TIMESTAMP, "10.0.0.1", "curl");
+
+        assertFalse(Arrays.equals(digest("acc-1", "balance=10"), otherId));
+    }
+
+    @Test
+    void digest_FieldBoundariesCannotBeShifted() {
+        assertFalse(Arrays.equals(digest("acc-1", "x"), digest("acc-1x", "")));
+    }
+
+    @Test
+    void digest_IgnoresPrecisionBelowMicroseconds() {
+        byte[] truncated = digest("acc-1", null);
+        byte[] precise = AuditChainDigest.digest(AuditChainDigest.GENESIS, 0, 1L, ID, "user123", "UPDATE", "ACCOUNT",
+            "acc-1", null, TIMESTAMP.plusNanos(999), "10.0.0.1", "curl");
+
+        assertArrayEquals(truncated, precise);
+    }
+
+    @Test
+    void merkleRoot_PromotesUnpairedNodes() {
+        // Given
+        List<byte[]> hashes = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            hashes.add(digest("acc-" + i, null));
+        }
+        List<byte[]> level = new ArrayList<>();
+        hashes.forEach(hash -> level.add(AuditChainDigest.leaf(hash)));
+
+        // When
+        byte[] root = AuditMerkleTree.root(hashes);
+
+        // Then: ((0,1),(2,3)) , ((4,5),6)
+        byte[] left = AuditChainDigest.node(AuditChainDigest.node(level.get(0), level.get(1)),
+            AuditChainDigest.node(level.get(2), level.get(3)));
+        byte[] right = AuditChainDigest.node(AuditChainDigest.node(level.get(4), level.get(5)), level.get(6));
+        assertArrayEquals(AuditChainDigest.node(left, right), root);
+    }
+
+    @Test
+    void merkleRoot_RejectsEmptyTree() {
+        assertThrows(IllegalStateException.class, () -> new AuditMerkleTree().root());
+    }
+}
@@ -0,0 +1,145 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEntityTimelineCacheTest {
+
+    @Mock
+    private AuditRepositoryPort auditRepository;
+
+    private final LocalDateTime base = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private AuditLog log(String entityId, int minute) {
+        return new AuditLog(UUID.randomUUID(), "user123", "UPDATE", "LOAN", entityId,
+            "details", base.plusMinutes(minute), "192.168.1.1", "Mozilla/5.0");
+    }
+
+    private AuditEntityTimelineCache cache(int maxEntriesPerEntity) {
+        return new AuditEntityTimelineCache(auditRepository, 100, maxEntriesPerEntity, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void find_LoadsOnceThenServesFromMemory() {
+        // Given
+        AuditEntityTimelineCache cache = cache(10);
+        List<AuditLog> timeline = List.of(log("loan1", 0), log("loan1", 1));
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 11)).thenReturn(timeline);
+
+        // When
+        Optional<List<AuditLog>> first = cache.find("LOAN", "loan1", null, 5);
+        Optional<List<AuditLog>> second = cache.find("LOAN", "loan1", null, 5);
+
+        // Then
+        assertEquals(timeline, first.orElseThrow());
+        assertEquals(timeline, second.orElseThrow());
+        verify(auditRepository, times(1)).findByEntityTypeAndEntityId(anyString(), anyString(), any(), anyInt());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void find_SlicesAfterCursor() {
+        // Given
+        AuditEntityTimelineCache cache = cache(10);
+        AuditLog first = log("loan1", 0);
+        AuditLog second = log("loan1", 1);
+        AuditLog third = log("loan1", 2);
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 11))
+            .thenReturn(List.of(first, second, third));
+
+        // When
+        List<AuditLog> page = cache.find("LOAN", "loan1", AuditCursor.after(first), 1).orElseThrow();
+
+        // Then
+        assertEquals(List.of(second), page);
+    }
+
+    @Test
+    void find_TooLargeTimelineFallsBackToRepository() {
+        // Given
+        AuditEntityTimelineCache cache = cache(2);
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 3))
+            .thenReturn(List.of(log("loan1", 0), log("loan1", 1), log("loan1", 2)));
+
+        // When
+        Optional<List<AuditLog>> first = cache.find("LOAN", "loan1", null, 5);
+        Optional<List<AuditLog>> second = cache.find("LOAN", "loan1", null, 5);
+
+        // Then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(auditRepository, times(1)).findByEntityTypeAndEntityId(anyString(), anyString(), any(), anyInt());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void append_AddsToCachedTimelineInOrder() {
+        // Given
+        AuditEntityTimelineCache cache = cache(10);
+        AuditLog first = log("loan1", 0);
+        AuditLog third = log("loan1", 2);
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 11)).thenReturn(List.of(first, third));
+        cache.find("LOAN", "loan1", null, 5);
+        AuditLog second = log("loan1", 1);
+
+        // When
+        cache.append(second);
+        cache.append(second);
+
+        // Then
+        assertEquals(List.of(first, second, third), cache.find("LOAN", "loan1", null, 5).orElseThrow());
+        verify(auditRepository, times(1)).findByEntityTypeAndEntityId(anyString(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void append_IgnoresEntitiesNotCached() {
+        // Given
+        AuditEntityTimelineCache cache = cache(10);
+
+        // When
+        cache.append(log("loan1", 0));
+
+        // Then
+        assertEquals(0, cache.getSize());
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void append_BeyondLimitMarksTimelineTooLarge() {
+        // Given
+        AuditEntityTimelineCache cache = cache(1);
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 2)).thenReturn(List.of(log("loan1", 0)));
+        cache.find("LOAN", "loan1", null, 5);
+
+        // When
+        cache.append(log("loan1", 1));
+
+        // Then
+        assertTrue(cache.find("LOAN", "loan1", null, 5).isEmpty());
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveBounds() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            new AuditEntityTimelineCache(auditRepository, 0, 10, Duration.ofMinutes(1))
+        );
+    }
+}
@@ -0,0 +1,242 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditChainCheckpoint;
+import com.corebanking.audit_service.domain.model.AuditChainLink;
+import com.corebanking.audit_service.domain.model.AuditChainSegment;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditVerificationFailure;
+import com.corebanking.audit_service.domain.model.AuditVerificationReport;
+import com.corebanking.audit_service.domain.port.AuditChainRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditIntegrityServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 3, 1, 23, 59);
+
+    @Mock
+    private AuditChainRepositoryPort chainRepository;
+
+    private ExecutorService executor;
+    private AuditIntegrityService integrityService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        Clock clock = Clock.fixed(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        integrityService = new AuditIntegrityService(chainRepository, executor, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        integrityService.shutdown();
+    }
+
+    private static List<AuditLog> chain(int shard, int size) {
+        List<AuditLog> logs = new ArrayList<>();
+        byte[] previous = AuditChainDigest.GENESIS;
+        for (long sequence = 1; sequence <= size; sequence++) {
+            LocalDateTime timestamp = START.plusMinutes(sequence);
+            String details = "change " + sequence;
+            byte[] hash = AuditChainDigest.digest(previous, shard, sequence, new UUID(shard, sequence), "user123", "UPDATE", "ACCOUNT",
+                "acc-" + sequence, details, timestamp, "10.0.0.1", "curl");
+            logs.add(withLink(shard, sequence, details, timestamp, hash));
+            previous = hash;
+        }
+        return logs;
+    }
+
+    private static AuditLog withLink(int shard, long sequence, String details, LocalDateTime timestamp, byte[] hash) {
+        return new AuditLog(new UUID(shard, sequence), "user123", "UPDATE", "ACCOUNT", "acc-" + sequence, details, timestamp,
+            "10.0.0.1", "curl", new AuditChainLink(shard, sequence, hash));
+    }
+
+    private static List<byte[]> hashes(List<AuditLog> logs) {
+        return logs.stream().map(log -> log.getChainLink().getHash()).toList();
+    }
+
+    private void givenShard(int shard, List<AuditLog> logs, List<AuditChainCheckpoint> checkpoints) {
+        AuditChainSegment segment = new AuditChainSegment(shard, 1, logs.size());
+        when(chainRepository.findSegment(shard, START, END)).thenReturn(Optional.of(segment));
+        when(chainRepository.findCheckpoints(argThat(s -> s != null && s.getShard() == shard))).thenReturn(checkpoints);
+        when(chainRepository.streamSegment(argThat(s -> s != null && s.getShard() == shard), any()))
+            .thenAnswer(invocation -> {
+                Consumer<AuditLog> sink = invocation.getArgument(1);
+                logs.forEach(sink);
+                return (long) logs.size();
+            });
+    }
+
+    @Test
+    void verify_ValidChainsAcrossShards() {
+        // Given
+        List<AuditLog> first = chain(0, 10);
+        List<AuditLog> second = chain(1, 5);
+        AuditChainCheckpoint checkpoint = new AuditChainCheckpoint(new AuditChainSegment(0, 1, 4),
+            AuditMerkleTree.root(hashes(first.subList(0, 4))), START);
+        when(chainRepository.findShards()).thenReturn(List.of(0, 1));
+        givenShard(0, first, List.of(checkpoint));
+        givenShard(1, second, List.of());
+
+        // When
+        AuditVerificationReport report = integrityService.verify(START, END);
+
+        // Then
+        assertTrue(report.isValid());
+        assertEquals(2, report.getShards());
+        assertEquals(15, report.getEventsVerified());
+        assertEquals(1, report.getCheckpointsVerified());
+        assertTrue(report.getEventsPerSecond() > 0);
+    }
+
+    @Test
+    void verify_LocalizesTamperedEvent() {
+        // Given
+        List<AuditLog> logs = new ArrayList<>(chain(0, 6));
+        AuditLog original = logs.get(2);
+        logs.set(2, new AuditLog(original.getId(), "user123", "UPDATE", "ACCOUNT", original.getEntityId(), "forged",
+            original.getTimestamp(), "10.0.0.1", "curl", original.getChainLink()));
+        when(chainRepository.findShards()).thenReturn(List.of(0));
+        givenShard(0, logs, List.of());
+
+        // When
+        AuditVerificationReport report = integrityService.verify(START, END);
+
+        // Then
+        assertFalse(report.isValid());
+        assertEquals(1, report.getFailures().size());
+        assertEquals(3L, report.getFailures().get(0).getSequence());
+        assertEquals(AuditVerificationFailure.Reason.HASH_MISMATCH, report.getFailures().get(0).getReason());
+    }
+
+    @Test
+    void verify_ReportsDeletedEventAndBrokenCheckpoint() {
+        // Given
+        List<AuditLog> logs = chain(0, 6);
+        AuditChainCheckpoint checkpoint = new AuditChainCheckpoint(new AuditChainSegment(0, 1, 6),
+            AuditMerkleTree.root(hashes(logs)), START);
+        List<AuditLog> stored = new ArrayList<>(logs);
+        stored.remove(3);
+        when(chainRepository.findShards()).thenReturn(List.of(0));
+        givenShard(0, stored, List.of(checkpoint));
+        when(chainRepository.findSegment(0, START, END)).thenReturn(Optional.of(new AuditChainSegment(0, 1, 6)));
+
+        // When
+        AuditVerificationReport report = integrityService.verify(START, END);
+
+        // Then
+        List<AuditVerificationFailure.Reason> reasons = report.getFailures().stream()
+            .map(AuditVerificationFailure::getReason).toList();
+        assertEquals(List.of(AuditVerificationFailure.Reason.SEQUENCE_GAP,
+            AuditVerificationFailure.Reason.CHECKPOINT_MISMATCH), reasons);
+        assertEquals(4L, report.getFailures().get(0).getSequence());
+        assertEquals(0, report.getCheckpointsVerified());
+    }
+
+    @Test
+    void verify_StartsFromStoredPredecessor() {
+        // Given
+        List<AuditLog> logs = chain(0, 8);
+        AuditChainSegment segment = new AuditChainSegment(0, 5, 8);
+        when(chainRepository.findShards()).thenReturn(List.of(0));
+        when(chainRepository.findSegment(0, START, END)).thenReturn(Optional.of(segment));
+        when(chainRepository.findLink(0, 4L)).thenReturn(Optional.of(logs.get(3).getChainLink()));
+        when(chainRepository.findCheckpoints(segment)).thenReturn(List.of());
+        when(chainRepository.streamSegment(eq(segment), any())).thenAnswer(invocation -> {
+            Consumer<AuditLog> sink = invocation.getArgument(1);
+            logs.subList(4, 8).forEach(sink);
+            return 4L;
+        });
+
+        // When
+        AuditVerificationReport report = integrityService.verify(START, END);
+
+        // Then
+        assertTrue(report.isValid());
+        assertEquals(4, report.getEventsVerified());
+    }
+
+    @Test
+    void verify_RejectsInvertedRange() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> integrityService.verify(END, START));
+
+        assertEquals("audit.integrity.range.invalid", exception.getMessage());
+        verifyNoInteractions(chainRepository);
+    }
+
+    @Test
+    void createCheckpoints_ClosesChainFromLastCheckpointToHead() {
+        // Given
+        List<AuditLog> logs = chain(0, 9);
+        AuditChainSegment pending = new AuditChainSegment(0, 5, 9);
+        when(chainRepository.findHead(0)).thenReturn(Optional.of(logs.get(8).getChainLink()));
+        when(chainRepository.findLatestCheckpoint(0)).thenReturn(Optional.of(
+            new AuditChainCheckpoint(new AuditChainSegment(0, 1, 4), new byte[32], START)));
+        when(chainRepository.findLink(0, 4L)).thenReturn(Optional.of(logs.get(3).getChainLink()));
+        when(chainRepository.findCheckpoints(any())).thenReturn(List.of());
+        when(chainRepository.streamSegment(any(), any())).thenAnswer(invocation -> {
+            Consumer<AuditLog> sink = invocation.getArgument(1);
+            logs.subList(4, 9).forEach(sink);
+            return 5L;
+        });
+        when(chainRepository.saveCheckpoint(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<AuditChainCheckpoint> created = integrityService.createCheckpoints(0);
+
+        // Then
+        ArgumentCaptor<AuditChainCheckpoint> captor = ArgumentCaptor.forClass(AuditChainCheckpoint.class);
+        verify(chainRepository).saveCheckpoint(captor.capture());
+        assertEquals(1, created.size());
+        assertEquals(pending.getFromSequence(), captor.getValue().getSegment().getFromSequence());
+        assertEquals(pending.getToSequence(), captor.getValue().getSegment().getToSequence());
+        assertArrayEquals(AuditMerkleTree.root(hashes(logs.subList(4, 9))), captor.getValue().getMerkleRoot());
+    }
+
+    @Test
+    void createCheckpoints_SkipsBrokenChain() {
+        // Given
+        List<AuditLog> logs = new ArrayList<>(chain(0, 3));
+        AuditLog original = logs.get(1);
+        logs.set(1, new AuditLog(original.getId(), "mallory", "UPDATE", "ACCOUNT", original.getEntityId(),
+            original.getDetails(), original.getTimestamp(), "10.0.0.1", "curl", original.getChainLink()));
+        when(chainRepository.findHead(0)).thenReturn(Optional.of(logs.get(2).getChainLink()));
+        when(chainRepository.findLatestCheckpoint(0)).thenReturn(Optional.empty());
+        when(chainRepository.findCheckpoints(any())).thenReturn(List.of());
+        when(chainRepository.streamSegment(any(), any())).thenAnswer(invocation -> {
+            Consumer<AuditLog> sink = invocation.getArgument(1);
+            logs.forEach(sink);
+            return 3L;
+        });
+
+        // When
+        List<AuditChainCheckpoint> created = integrityService.createCheckpoints(0);
+
+        // Then
+        assertTrue(created.isEmpty());
+        verify(chainRepository, never()).saveCheckpoint(any());
+    }
+}
@@ -0,0 +1,178 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLiveTailTest {
+
+    private AuditLiveTail liveTail;
+
+    @AfterEach
+    void stop() {
+        if (liveTail != null) {
+            liveTail.stop();
+        }
+    }
+
+    private AuditLiveTail start(int subscriberBuffer, int maxSubscribers) {
+        liveTail = new AuditLiveTail(64, subscriberBuffer, maxSubscribers, 2, Duration.ofSeconds(2));
+        liveTail.start();
+        return liveTail;
+    }
+
+    private static AuditLog newLog(String userId, String action) {
+        return new AuditLog(UUID.randomUUID(), userId, action, "ACCOUNT", "acc-1", "details",
+                LocalDateTime.now(), "10.0.0.1", "curl/8.0");
+    }
+
+    private static class RecordingListener implements AuditLiveTail.Listener {
+        final List<AuditLog> events = new CopyOnWriteArrayList<>();
+        final List<AuditLiveTail.CloseReason> closes = new CopyOnWriteArrayList<>();
+        final CountDownLatch received;
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile CountDownLatch blocker;
+
+        RecordingListener(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(AuditLog auditLog) throws Exception {
+            if (blocker != null) {
+                blocker.await();
+            }
+            events.add(auditLog);
+            received.countDown();
+        }
+
+        @Override
+        public void onClose(AuditLiveTail.CloseReason reason) {
+            closes.add(reason);
+            closed.countDown();
+        }
+    }
+
+    @Test
+    void publish_DeliversMatchingEventsInOrder() throws InterruptedException {
+        // Given
+        AuditLiveTail tail = start(100, 10);
+        RecordingListener listener = new RecordingListener(2);
+        tail.subscribe(AuditCriteria.of("user123", null, null, null, null, null), listener);
+        AuditLog first = newLog("user123", "CREATE");
+        AuditLog second = newLog("user123", "UPDATE");
+
+        // When
+        tail.publish(first);
+        tail.publish(newLog("other", "CREATE"));
+        tail.publish(second);
+
+        // Then
+        assertTrue(listener.received.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(first, second), listener.events);
+        assertEquals(3, tail.getPublishedCount());
+    }
+
+    @Test
+    void publish_FansOutToEverySubscriber() throws InterruptedException {
+        // Given
+        AuditLiveTail tail = start(100, 10);
+        RecordingListener creates = new RecordingListener(1);
+        RecordingListener all = new RecordingListener(2);
+        tail.subscribe(AuditCriteria.of(null, "CREATE", null, null, null, null), creates);
+        tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), all);
+
+        // When
+        tail.publish(newLog("user1", "CREATE"));
+        tail.publish(newLog("user2", "DELETE"));
+
+        // Then
+        assertTrue(all.received.await(2, TimeUnit.SECONDS));
+        assertTrue(creates.received.await(2, TimeUnit.SECONDS));
+        assertEquals(1, creates.events.size());
+    }
+
+    @Test
+    void publish_DisconnectsSlowConsumerWithoutAffectingOthers() throws InterruptedException {
+        // Given
+        AuditLiveTail tail = start(2, 10);
+        RecordingListener slow = new RecordingListener(1);
+        slow.blocker = new CountDownLatch(1);
+        RecordingListener fast = new RecordingListener(10);
+        AuditLiveTail.Subscription slowSubscription =
+                tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), slow);
+        tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), fast);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            tail.publish(newLog("user" + i, "CREATE"));
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertTrue(fast.received.await(2, TimeUnit.SECONDS));
+        slow.blocker.countDown();
+        assertTrue(slow.closed.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(AuditLiveTail.CloseReason.SLOW_CONSUMER), slow.closes);
+        assertFalse(slowSubscription.isOpen());
+        assertEquals(1, tail.getSubscriberCount());
+        assertEquals(1, tail.getSlowConsumerCount());
+    }
+
+    @Test
+    void subscribe_RejectsBeyondLimit() {
+        // Given
+        AuditLiveTail tail = start(10, 1);
+        tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), new RecordingListener(0));
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), new RecordingListener(0)));
+        assertEquals("audit.tail.full", exception.getMessage());
+    }
+
+    @Test
+    void close_StopsDeliveryWithoutNotifying() throws InterruptedException {
+        // Given
+        AuditLiveTail tail = start(10, 10);
+        RecordingListener listener = new RecordingListener(1);
+        AuditLiveTail.Subscription subscription =
+                tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), listener);
+
+        // When
+        subscription.close();
+        tail.publish(newLog("user123", "CREATE"));
+
+        // Then
+        assertFalse(listener.received.await(200, TimeUnit.MILLISECONDS));
+        assertTrue(listener.closes.isEmpty());
+        assertEquals(0, tail.getSubscriberCount());
+    }
+
+    @Test
+    void stop_NotifiesSubscribersOfShutdown() throws InterruptedException {
+        // Given
+        AuditLiveTail tail = start(10, 10);
+        RecordingListener listener = new RecordingListener(0);
+        tail.subscribe(AuditCriteria.of(null, null, null, null, null, null), listener);
+
+        // When
+        tail.stop();
+        liveTail = null;
+
+        // Then
+        assertTrue(listener.closed.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(AuditLiveTail.CloseReason.SHUTDOWN), listener.closes);
+    }
+}
@@ -1,14 +1,27 @@
 package com.corebanking.audit_service.domain.service;
 
+import com.corebanking.audit_service.domain.model.AuditActivityCount;
+import com.corebanking.audit_service.domain.model.AuditBatchItemResult;
+import com.corebanking.audit_service.domain.model.AuditCriteria;
+import com.corebanking.audit_service.domain.model.AuditCursor;
+import com.corebanking.audit_service.domain.model.AuditExport;
 import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.model.AuditPage;
+import com.corebanking.audit_service.domain.model.AuditQueryLimits;
+import com.corebanking.audit_service.domain.model.AuditSearchQuery;
+import com.corebanking.audit_service.domain.model.AuditStatsDimension;
+import com.corebanking.audit_service.domain.model.AuditStatsGranularity;
+import com.corebanking.audit_service.domain.port.AuditJournalPort;
 import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,9 +36,16 @@ class AuditServiceTest {
     @Mock
     private AuditRepositoryPort auditRepository;
 
-    @InjectMocks
+    @Mock
+    private AuditEntityTimelineCache timelineCache;
+
     private AuditService auditService;
 
+    @BeforeEach
+    void setUp() {
+        auditService = new AuditService(auditRepository, null, AuditQueryLimits.defaults(), null, null, null);
+    }
+
     @Test
     void createAuditLog_Success() {
         // Given
@@ -52,6 +72,34 @@ class AuditServiceTest {
         verify(auditRepository).save(any(AuditLog.class));
     }
 
+    @Test
+    void createAuditLog_PublishesToLiveTail() {
+        // Given
+        AuditLiveTail liveTail = mock(AuditLiveTail.class);
+        AuditService tailedService = new AuditService(auditRepository, null, null, null, null, liveTail);
+        AuditLog savedAuditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
+            "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditRepository.save(any(AuditLog.class))).thenReturn(savedAuditLog);
+
+        // When
+        tailedService.createAuditLog("user123", "CREATE", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0");
+
+        // Then
+        verify(liveTail).publish(savedAuditLog);
+    }
+
+    @Test
+    void tailAuditLogs_Disabled() {
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            auditService.tailAuditLogs(AuditCriteria.of(null, null, null, null, null, null),
+                mock(AuditLiveTail.Listener.class))
+        );
+        assertEquals("audit.tail.disabled", exception.getMessage());
+    }
+
     @Test
     void createAuditLog_UserIdNull() {
         // When & Then
@@ -155,22 +203,22 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByUserId("user123")).thenReturn(List.of(auditLog));
+        when(auditRepository.findByUserId("user123", null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByUserId("user123");
+        AuditPage result = auditService.getAuditLogsByUserId("user123", null, null);
 
         // Then
-        assertEquals(1, result.size());
-        assertEquals("user123", result.get(0).getUserId());
-        verify(auditRepository).findByUserId("user123");
+        assertEquals(1, result.getItems().size());
+        assertEquals("user123", result.getItems().get(0).getUserId());
+        verify(auditRepository).findByUserId("user123", null, 101);
     }
 
     @Test
     void getAuditLogsByUserId_UserIdNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserId(null)
+            auditService.getAuditLogsByUserId(null, null, null)
         );
         assertEquals("audit.userId.required", exception.getMessage());
     }
@@ -179,7 +227,7 @@ class AuditServiceTest {
     void getAuditLogsByUserId_UserIdBlank() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserId("")
+            auditService.getAuditLogsByUserId("", null, null)
         );
         assertEquals("audit.userId.required", exception.getMessage());
     }
@@ -191,22 +239,22 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByEntityType("USER")).thenReturn(List.of(auditLog));
+        when(auditRepository.findByEntityType("USER", null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByEntityType("USER");
+        AuditPage result = auditService.getAuditLogsByEntityType("USER", null, null);
 
         // Then
-        assertEquals(1, result.size());
-        assertEquals("USER", result.get(0).getEntityType());
-        verify(auditRepository).findByEntityType("USER");
+        assertEquals(1, result.getItems().size());
+        assertEquals("USER", result.getItems().get(0).getEntityType());
+        verify(auditRepository).findByEntityType("USER", null, 101);
     }
 
     @Test
     void getAuditLogsByEntityType_EntityTypeNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntityType(null)
+            auditService.getAuditLogsByEntityType(null, null, null)
         );
         assertEquals("audit.entityType.required", exception.getMessage());
     }
@@ -215,7 +263,7 @@ class AuditServiceTest {
     void getAuditLogsByEntityType_EntityTypeBlank() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntityType("")
+            auditService.getAuditLogsByEntityType("", null, null)
         );
         assertEquals("audit.entityType.required", exception.getMessage());
     }
@@ -227,23 +275,23 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByEntityTypeAndEntityId("USER", "user456")).thenReturn(List.of(auditLog));
+        when(auditRepository.findByEntityTypeAndEntityId("USER", "user456", null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByEntity("USER", "user456");
+        AuditPage result = auditService.getAuditLogsByEntity("USER", "user456", null, null);
 
         // Then
-        assertEquals(1, result.size());
-        assertEquals("USER", result.get(0).getEntityType());
-        assertEquals("user456", result.get(0).getEntityId());
-        verify(auditRepository).findByEntityTypeAndEntityId("USER", "user456");
+        assertEquals(1, result.getItems().size());
+        assertEquals("USER", result.getItems().get(0).getEntityType());
+        assertEquals("user456", result.getItems().get(0).getEntityId());
+        verify(auditRepository).findByEntityTypeAndEntityId("USER", "user456", null, 101);
     }
 
     @Test
     void getAuditLogsByEntity_EntityTypeNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntity(null, "user456")
+            auditService.getAuditLogsByEntity(null, "user456", null, null)
         );
         assertEquals("audit.entityType.required", exception.getMessage());
     }
@@ -252,7 +300,7 @@ class AuditServiceTest {
     void getAuditLogsByEntity_EntityTypeBlank() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntity("", "user456")
+            auditService.getAuditLogsByEntity("", "user456", null, null)
         );
         assertEquals("audit.entityType.required", exception.getMessage());
     }
@@ -261,7 +309,7 @@ class AuditServiceTest {
     void getAuditLogsByEntity_EntityIdNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntity("USER", null)
+            auditService.getAuditLogsByEntity("USER", null, null, null)
         );
         assertEquals("audit.entityId.required", exception.getMessage());
     }
@@ -270,7 +318,7 @@ class AuditServiceTest {
     void getAuditLogsByEntity_EntityIdBlank() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByEntity("USER", "")
+            auditService.getAuditLogsByEntity("USER", "", null, null)
         );
         assertEquals("audit.entityId.required", exception.getMessage());
     }
@@ -282,22 +330,22 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByAction("CREATE")).thenReturn(List.of(auditLog));
+        when(auditRepository.findByAction("CREATE", null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByAction("CREATE");
+        AuditPage result = auditService.getAuditLogsByAction("CREATE", null, null);
 
         // Then
-        assertEquals(1, result.size());
-        assertEquals("CREATE", result.get(0).getAction());
-        verify(auditRepository).findByAction("CREATE");
+        assertEquals(1, result.getItems().size());
+        assertEquals("CREATE", result.getItems().get(0).getAction());
+        verify(auditRepository).findByAction("CREATE", null, 101);
     }
 
     @Test
     void getAuditLogsByAction_ActionNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByAction(null)
+            auditService.getAuditLogsByAction(null, null, null)
         );
         assertEquals("audit.action.required", exception.getMessage());
     }
@@ -306,7 +354,7 @@ class AuditServiceTest {
     void getAuditLogsByAction_ActionBlank() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByAction("")
+            auditService.getAuditLogsByAction("", null, null)
         );
         assertEquals("audit.action.required", exception.getMessage());
     }
@@ -320,21 +368,21 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByTimestampBetween(start, end)).thenReturn(List.of(auditLog));
+        when(auditRepository.findByTimestampBetween(start, end, null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByDateRange(start, end);
+        AuditPage result = auditService.getAuditLogsByDateRange(start, end, null, null);
 
         // Then
-        assertEquals(1, result.size());
-        verify(auditRepository).findByTimestampBetween(start, end);
+        assertEquals(1, result.getItems().size());
+        verify(auditRepository).findByTimestampBetween(start, end, null, 101);
     }
 
     @Test
     void getAuditLogsByDateRange_StartNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByDateRange(null, LocalDateTime.now())
+            auditService.getAuditLogsByDateRange(null, LocalDateTime.now(), null, null)
         );
         assertEquals("audit.dateRange.required", exception.getMessage());
     }
@@ -343,7 +391,7 @@ class AuditServiceTest {
     void getAuditLogsByDateRange_EndNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByDateRange(LocalDateTime.now(), null)
+            auditService.getAuditLogsByDateRange(LocalDateTime.now(), null, null, null)
         );
         assertEquals("audit.dateRange.required", exception.getMessage());
     }
@@ -356,7 +404,7 @@ class AuditServiceTest {
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByDateRange(start, end)
+            auditService.getAuditLogsByDateRange(start, end, null, null)
         );
         assertEquals("audit.dateRange.invalid", exception.getMessage());
     }
@@ -370,14 +418,32 @@ class AuditServiceTest {
             UUID.randomUUID(), "user123", "CREATE", "USER", "user456",
             "Created user", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
         );
-        when(auditRepository.findByUserIdAndTimestampBetween("user123", start, end)).thenReturn(List.of(auditLog));
+        when(auditRepository.findByUserIdAndTimestampBetween("user123", start, end, null, 101)).thenReturn(List.of(auditLog));
 
         // When
-        List<AuditLog> result = auditService.getAuditLogsByUserAndDateRange("user123", start, end);
+        AuditPage result = auditService.getAuditLogsByUserAndDateRange("user123", start, end, null, null);
 
         // Then
-        assertEquals(1, result.size());
-        verify(auditRepository).findByUserIdAndTimestampBetween("user123", start, end);
+        assertEquals(1, result.getItems().size());
+        verify(auditRepository).findByUserIdAndTimestampBetween("user123", start, end, null, 101);
+    }
+
+    @Test
+    void getAuditLogsByCriteria_Success() {
+        // Given
+        AuditCriteria criteria = AuditCriteria.of("user123", "UPDATE", null, null, null, null);
+        AuditLog auditLog = new AuditLog(
+            UUID.randomUUID(), "user123", "UPDATE", "ACCOUNT", "acc-1",
+            "Updated account", LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0"
+        );
+        when(auditRepository.findByCriteria(criteria, null, 21)).thenReturn(List.of(auditLog));
+
+        // When
+        AuditPage result = auditService.getAuditLogsByCriteria(criteria, null, 20);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -388,7 +454,7 @@ class AuditServiceTest {
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserAndDateRange(null, start, end)
+            auditService.getAuditLogsByUserAndDateRange(null, start, end, null, null)
         );
         assertEquals("audit.userId.required", exception.getMessage());
     }
@@ -401,7 +467,7 @@ class AuditServiceTest {
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserAndDateRange("", start, end)
+            auditService.getAuditLogsByUserAndDateRange("", start, end, null, null)
         );
         assertEquals("audit.userId.required", exception.getMessage());
     }
@@ -410,7 +476,7 @@ class AuditServiceTest {
     void getAuditLogsByUserAndDateRange_StartNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserAndDateRange("user123", null, LocalDateTime.now())
+            auditService.getAuditLogsByUserAndDateRange("user123", null, LocalDateTime.now(), null, null)
         );
         assertEquals("audit.dateRange.required", exception.getMessage());
     }
@@ -419,7 +485,7 @@ class AuditServiceTest {
     void getAuditLogsByUserAndDateRange_EndNull() {
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserAndDateRange("user123", LocalDateTime.now(), null)
+            auditService.getAuditLogsByUserAndDateRange("user123", LocalDateTime.now(), null, null, null)
         );
         assertEquals("audit.dateRange.required", exception.getMessage());
     }
@@ -432,8 +498,382 @@ class AuditServiceTest {
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
-            auditService.getAuditLogsByUserAndDateRange("user123", start, end)
+            auditService.getAuditLogsByUserAndDateRange("user123", start, end, null, null)
+        );
+        assertEquals("audit.dateRange.invalid", exception.getMessage());
+    }
+
+    @Test
+    void isAsyncIngestionEnabled_FalseWithoutBuffer() {
+        // When & Then
+        assertFalse(auditService.isAsyncIngestionEnabled());
+    }
+
+    @Test
+    void submitAuditLog_Accepted() {
+        // Given
+        AuditWriteBuffer writeBuffer = mock(AuditWriteBuffer.class);
+        when(writeBuffer.offer(any(AuditLog.class))).thenReturn(true);
+        AuditService asyncService = new AuditService(auditRepository, writeBuffer, null, null, null, null);
+
+        // When
+        AuditLog result = asyncService.submitAuditLog(
+            "user123", "CREATE", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0"
+        );
+
+        // Then
+        assertTrue(asyncService.isAsyncIngestionEnabled());
+        assertNull(result.getId());
+        assertEquals("user123", result.getUserId());
+        assertNotNull(result.getTimestamp());
+        verify(writeBuffer).offer(result);
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void submitAuditLog_QueueFull() {
+        // Given
+        AuditWriteBuffer writeBuffer = mock(AuditWriteBuffer.class);
+        when(writeBuffer.offer(any(AuditLog.class))).thenReturn(false);
+        AuditService asyncService = new AuditService(auditRepository, writeBuffer, null, null, null, null);
+
+        // When & Then
+        AuditIngestionRejectedException exception = assertThrows(AuditIngestionRejectedException.class, () ->
+            asyncService.submitAuditLog("user123", "CREATE", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0")
+        );
+        assertEquals("audit.ingestion.queue.full", exception.getMessage());
+    }
+
+    @Test
+    void submitAuditLog_ValidatesBeforeQueueing() {
+        // Given
+        AuditWriteBuffer writeBuffer = mock(AuditWriteBuffer.class);
+        AuditService asyncService = new AuditService(auditRepository, writeBuffer, null, null, null, null);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            asyncService.submitAuditLog("user123", " ", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0")
+        );
+        assertEquals("audit.action.required", exception.getMessage());
+        verifyNoInteractions(writeBuffer);
+    }
+
+    @Test
+    void submitAuditLog_JournalTakesPrecedenceOverBuffer() {
+        // Given
+        AuditWriteBuffer writeBuffer = mock(AuditWriteBuffer.class);
+        AuditJournalPort journal = mock(AuditJournalPort.class);
+        when(journal.append(any(AuditLog.class))).thenAnswer(invocation -> {
+            AuditLog auditLog = invocation.getArgument(0);
+            return new AuditLog(UUID.randomUUID(), auditLog.getUserId(), auditLog.getAction(), auditLog.getEntityType(),
+                auditLog.getEntityId(), auditLog.getDetails(), auditLog.getTimestamp(), auditLog.getIpAddress(),
+                auditLog.getUserAgent());
+        });
+        AuditService journaledService = new AuditService(auditRepository, writeBuffer, null, null, journal, null);
+
+        // When
+        AuditLog result = journaledService.submitAuditLog(
+            "user123", "CREATE", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0"
+        );
+
+        // Then
+        assertTrue(journaledService.isAsyncIngestionEnabled());
+        assertNotNull(result.getId());
+        verifyNoInteractions(writeBuffer, auditRepository);
+    }
+
+    @Test
+    void submitAuditLog_DisabledWithoutBuffer() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () ->
+            auditService.submitAuditLog("user123", "CREATE", "USER", "user456", "Created user", "192.168.1.1", "Mozilla/5.0")
+        );
+    }
+
+    @Test
+    void createAuditLogBatch_PartialFailure() {
+        // Given
+        List<AuditLog> entries = Arrays.asList(
+            new AuditLog("user1", "CREATE", "USER", "u1", "ok", null, "10.0.0.1", "curl"),
+            new AuditLog("user2", "", "USER", "u2", "missing action", null, "10.0.0.1", "curl"),
+            null,
+            new AuditLog("user4", "DELETE", "LOAN", "l4", "ok", null, "10.0.0.1", "curl")
+        );
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> valid = invocation.getArgument(0);
+            return valid.stream()
+                .map(log -> new AuditLog(UUID.randomUUID(), log.getUserId(), log.getAction(), log.getEntityType(),
+                    log.getEntityId(), log.getDetails(), log.getTimestamp(), log.getIpAddress(), log.getUserAgent()))
+                .toList();
+        });
+
+        // When
+        List<AuditBatchItemResult> results = auditService.createAuditLogBatch(entries);
+
+        // Then
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("user1", results.get(0).getAuditLog().getUserId());
+        assertNotNull(results.get(0).getAuditLog().getTimestamp());
+        assertFalse(results.get(1).isCreated());
+        assertEquals("audit.action.required", results.get(1).getErrorKey());
+        assertEquals("audit.batch.entry.invalid", results.get(2).getErrorKey());
+        assertTrue(results.get(3).isCreated());
+        assertEquals(3, results.get(3).getIndex());
+        verify(auditRepository).saveAll(argThat(valid -> valid.size() == 2));
+    }
+
+    @Test
+    void createAuditLogBatch_AllInvalidSkipsRepository() {
+        // Given
+        List<AuditLog> entries = List.of(
+            new AuditLog(" ", "CREATE", "USER", "u1", null, null, null, null)
+        );
+
+        // When
+        List<AuditBatchItemResult> results = auditService.createAuditLogBatch(entries);
+
+        // Then
+        assertEquals("audit.userId.required", results.get(0).getErrorKey());
+        verify(auditRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createAuditLogBatch_Empty() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.createAuditLogBatch(List.of())
+        );
+        assertEquals("audit.batch.empty", exception.getMessage());
+    }
+
+    @Test
+    void createAuditLogBatch_TooLarge() {
+        // Given
+        AuditLog entry = new AuditLog("user1", "CREATE", "USER", "u1", null, null, null, null);
+        List<AuditLog> entries = Collections.nCopies(AuditService.MAX_BATCH_SIZE + 1, entry);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.createAuditLogBatch(entries)
+        );
+        assertEquals("audit.batch.tooLarge", exception.getMessage());
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void getAuditLogsByEntity_ServedFromTimelineCache() {
+        // Given
+        AuditService cachedService = new AuditService(auditRepository, null, null, timelineCache, null, null);
+        AuditLog cachedLog = new AuditLog(UUID.randomUUID(), "user1", "CREATE", "LOAN", "loan1", null,
+            LocalDateTime.now(), null, null);
+        when(timelineCache.find("LOAN", "loan1", null, 101)).thenReturn(Optional.of(List.of(cachedLog)));
+
+        // When
+        AuditPage result = cachedService.getAuditLogsByEntity("LOAN", "loan1", null, null);
+
+        // Then
+        assertEquals(List.of(cachedLog), result.getItems());
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void getAuditLogsByEntity_FallsBackToRepositoryWhenNotCacheable() {
+        // Given
+        AuditService cachedService = new AuditService(auditRepository, null, null, timelineCache, null, null);
+        when(timelineCache.find("LOAN", "loan1", null, 101)).thenReturn(Optional.empty());
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 101)).thenReturn(List.of());
+
+        // When
+        AuditPage result = cachedService.getAuditLogsByEntity("LOAN", "loan1", null, null);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        verify(auditRepository).findByEntityTypeAndEntityId("LOAN", "loan1", null, 101);
+    }
+
+    @Test
+    void createAuditLog_AppendsToTimelineCache() {
+        // Given
+        AuditService cachedService = new AuditService(auditRepository, null, null, timelineCache, null, null);
+        AuditLog savedAuditLog = new AuditLog(UUID.randomUUID(), "user1", "CREATE", "LOAN", "loan1", null,
+            LocalDateTime.now(), null, null);
+        when(auditRepository.save(any(AuditLog.class))).thenReturn(savedAuditLog);
+
+        // When
+        cachedService.createAuditLog("user1", "CREATE", "LOAN", "loan1", null, null, null);
+
+        // Then
+        verify(timelineCache).append(savedAuditLog);
+    }
+
+    @Test
+    void getAuditLogsByEntity_ReturnsNextCursorWhenMoreRowsExist() {
+        // Given
+        AuditService pagedService = new AuditService(auditRepository, null, new AuditQueryLimits(2, 5), null,
+            null, null);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        AuditLog first = new AuditLog(UUID.randomUUID(), "user1", "CREATE", "LOAN", "loan1", null, base, null, null);
+        AuditLog second = new AuditLog(UUID.randomUUID(), "user1", "UPDATE", "LOAN", "loan1", null, base.plusMinutes(1), null, null);
+        AuditLog third = new AuditLog(UUID.randomUUID(), "user1", "APPROVE", "LOAN", "loan1", null, base.plusMinutes(2), null, null);
+        when(auditRepository.findByEntityTypeAndEntityId("LOAN", "loan1", null, 3)).thenReturn(List.of(first, second, third));
+
+        // When
+        AuditPage result = pagedService.getAuditLogsByEntity("LOAN", "loan1", null, null);
+
+        // Then
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.hasNext());
+        assertEquals(new AuditCursor(second.getTimestamp(), second.getId()), result.getNextCursor());
+    }
+
+    @Test
+    void getAuditLogsByAction_PassesCursorAndCapsPageSize() {
+        // Given
+        AuditService pagedService = new AuditService(auditRepository, null, new AuditQueryLimits(2, 5), null,
+            null, null);
+        AuditCursor cursor = new AuditCursor(LocalDateTime.of(2024, 1, 1, 10, 0), UUID.randomUUID());
+        when(auditRepository.findByAction("CREATE", cursor, 6)).thenReturn(List.of());
+
+        // When
+        AuditPage result = pagedService.getAuditLogsByAction("CREATE", cursor, 50);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.hasNext());
+        verify(auditRepository).findByAction("CREATE", cursor, 6);
+    }
+
+    @Test
+    void getAuditLogsByUserId_InvalidPageSize() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.getAuditLogsByUserId("user123", null, 0)
+        );
+        assertEquals("audit.page.size.invalid", exception.getMessage());
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void exportAuditLogsByDateRange_StreamsOnlyWhenExecuted() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2023, 12, 31, 23, 59);
+        when(auditRepository.streamByTimestampBetween(eq(start), eq(end), any())).thenReturn(42L);
+
+        // When
+        AuditExport export = auditService.exportAuditLogsByDateRange(start, end);
+
+        // Then
+        verifyNoInteractions(auditRepository);
+        assertEquals(42L, export.writeTo(log -> { }));
+        verify(auditRepository).streamByTimestampBetween(eq(start), eq(end), any());
+    }
+
+    @Test
+    void exportAuditLogsByDateRange_StartAfterEnd() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.exportAuditLogsByDateRange(LocalDateTime.of(2024, 1, 2, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0))
+        );
+        assertEquals("audit.dateRange.invalid", exception.getMessage());
+    }
+
+    @Test
+    void searchAuditLogs_WithoutPhrasesUsesIndexDirectly() {
+        // Given
+        AuditSearchQuery query = AuditSearchQuery.parse("approved", null, null);
+        AuditLog hit = new AuditLog(UUID.randomUUID(), "user1", "UPDATE", "LOAN", "loan1", "approved",
+            LocalDateTime.now(), null, null);
+        when(auditRepository.searchDetails(query, null, 101)).thenReturn(List.of(hit));
+
+        // When
+        AuditPage result = auditService.searchAuditLogs(query, null, null);
+
+        // Then
+        assertEquals(List.of(hit), result.getItems());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void searchAuditLogs_FiltersPhraseCandidatesAcrossChunks() {
+        // Given
+        AuditService pagedService = new AuditService(auditRepository, null, new AuditQueryLimits(1, 5), null,
+            null, null);
+        AuditSearchQuery query = AuditSearchQuery.parse("\"loan approved\"", null, null);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0);
+        AuditLog miss1 = new AuditLog(UUID.randomUUID(), "u", "A", "LOAN", "1", "approved loan", base, null, null);
+        AuditLog miss2 = new AuditLog(UUID.randomUUID(), "u", "A", "LOAN", "2", "approved the loan", base.plusMinutes(1), null, null);
+        AuditLog hit1 = new AuditLog(UUID.randomUUID(), "u", "A", "LOAN", "3", "loan approved", base.plusMinutes(2), null, null);
+        AuditLog hit2 = new AuditLog(UUID.randomUUID(), "u", "A", "LOAN", "4", "loan approved again", base.plusMinutes(3), null, null);
+        when(auditRepository.searchDetails(query, null, 2)).thenReturn(List.of(miss1, miss2));
+        when(auditRepository.searchDetails(query, AuditCursor.after(miss2), 2)).thenReturn(List.of(hit1, hit2));
+
+        // When
+        AuditPage result = pagedService.searchAuditLogs(query, null, null);
+
+        // Then
+        assertEquals(List.of(hit1), result.getItems());
+        assertEquals(AuditCursor.after(hit1), result.getNextCursor());
+    }
+
+    @Test
+    void searchAuditLogs_PhraseSearchEndsWhenCandidatesRunOut() {
+        // Given
+        AuditSearchQuery query = AuditSearchQuery.parse("\"loan approved\"", null, null);
+        AuditLog miss = new AuditLog(UUID.randomUUID(), "u", "A", "LOAN", "1", "approved loan",
+            LocalDateTime.now(), null, null);
+        when(auditRepository.searchDetails(query, null, 101)).thenReturn(List.of(miss));
+
+        // When
+        AuditPage result = auditService.searchAuditLogs(query, null, null);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void getActivityStats_RoundsStartDownToBucket() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 3, 10, 12, 34);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 10, 18, 0);
+        List<AuditActivityCount> counts = List.of(new AuditActivityCount(LocalDateTime.of(2024, 3, 10, 12, 0), "CREATE", 42));
+        when(auditRepository.findActivity(AuditStatsGranularity.HOUR, AuditStatsDimension.ACTION, null,
+            LocalDateTime.of(2024, 3, 10, 12, 0), end, AuditService.MAX_STATS_BUCKETS + 1)).thenReturn(counts);
+
+        // When
+        List<AuditActivityCount> result = auditService.getActivityStats(
+            AuditStatsGranularity.HOUR, AuditStatsDimension.ACTION, " ", start, end);
+
+        // Then
+        assertEquals(counts, result);
+    }
+
+    @Test
+    void getActivityStats_TooManyBuckets() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 1, 0, 0);
+        AuditActivityCount count = new AuditActivityCount(start, "user1", 1);
+        when(auditRepository.findActivity(any(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(Collections.nCopies(AuditService.MAX_STATS_BUCKETS + 1, count));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.getActivityStats(AuditStatsGranularity.MINUTE, AuditStatsDimension.USER, null, start, end)
+        );
+        assertEquals("audit.stats.tooManyBuckets", exception.getMessage());
+    }
+
+    @Test
+    void getActivityStats_InvalidRange() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            auditService.getActivityStats(AuditStatsGranularity.DAY, AuditStatsDimension.ACTION, null,
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0))
         );
         assertEquals("audit.dateRange.invalid", exception.getMessage());
+        verifyNoInteractions(auditRepository);
     }
-}
\ No newline at end of file
+}
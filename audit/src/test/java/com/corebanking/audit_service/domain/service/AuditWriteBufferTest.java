@@ -0,0 +1,179 @@
+package com.corebanking.audit_service.domain.service;
+
+import com.corebanking.audit_service.domain.model.AuditLog;
+import com.corebanking.audit_service.domain.port.AuditRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriteBufferTest {
+
+    @Mock
+    private AuditRepositoryPort auditRepository;
+
+    private AuditLog newLog(String userId) {
+        return new AuditLog(userId, "CREATE", "USER", "user456", "Created user",
+            LocalDateTime.now(), "192.168.1.1", "Mozilla/5.0");
+    }
+
+    @Test
+    void offer_RejectedBeforeStart() {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 10, 5, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        // When & Then
+        assertFalse(buffer.offer(newLog("user123")));
+        assertEquals(1, buffer.getRejectedCount());
+    }
+
+    @Test
+    void offer_RejectedWhenQueueFull() {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 1, 1, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return invocation.getArgument(0);
+        });
+        buffer.start();
+
+        // When
+        boolean first = buffer.offer(newLog("user1"));
+        boolean second = buffer.offer(newLog("user2"));
+        boolean third = buffer.offer(newLog("user3"));
+        buffer.stop();
+
+        // Then
+        assertTrue(first);
+        assertTrue(buffer.getRejectedCount() >= 1);
+        assertFalse(second && third);
+    }
+
+    @Test
+    void stop_DrainsQueuedEventsInBatches() {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 100, 10, Duration.ofSeconds(10), Duration.ofSeconds(5));
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        buffer.start();
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            assertTrue(buffer.offer(newLog("user" + i)));
+        }
+        buffer.stop();
+
+        // Then
+        assertEquals(25, buffer.getWrittenCount());
+        assertEquals(0, buffer.getQueueDepth());
+        verify(auditRepository, atLeast(3)).saveAll(argThat(batch -> batch.size() <= 10));
+        assertFalse(buffer.offer(newLog("late")));
+    }
+
+    @Test
+    void flush_TimeTriggeredBeforeBatchIsFull() {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 100, 50, Duration.ofMillis(20), Duration.ofSeconds(1));
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        buffer.start();
+
+        // When
+        buffer.offer(newLog("user123"));
+
+        // Then
+        verify(auditRepository, timeout(1000)).saveAll(argThat(batch -> batch.size() == 1));
+        buffer.stop();
+    }
+
+    @Test
+    void flush_BatchFailureFallsBackToSingleSaves() {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 100, 10, Duration.ofSeconds(10), Duration.ofSeconds(5));
+        when(auditRepository.saveAll(anyList())).thenThrow(new RuntimeException("Deadlock"));
+        when(auditRepository.save(any(AuditLog.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0))
+            .thenThrow(new RuntimeException("Data too long"));
+        buffer.start();
+
+        // When
+        buffer.offer(newLog("user1"));
+        buffer.offer(newLog("user2"));
+        buffer.stop();
+
+        // Then
+        assertEquals(1, buffer.getWrittenCount());
+        assertEquals(1, buffer.getFailedCount());
+        verify(auditRepository, times(2)).save(any(AuditLog.class));
+    }
+
+    @Test
+    void flush_NotifiesListenerForEveryPersistedEvent() {
+        // Given
+        List<AuditLog> notified = new CopyOnWriteArrayList<>();
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 100, 10, Duration.ofSeconds(10),
+            Duration.ofSeconds(5), notified::add);
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        buffer.start();
+
+        // When
+        buffer.offer(newLog("user1"));
+        buffer.offer(newLog("user2"));
+        buffer.stop();
+
+        // Then
+        assertEquals(2, notified.size());
+    }
+
+    @Test
+    void stop_ConcurrentWithOffersWritesEveryAcceptedEvent() throws Exception {
+        // Given
+        AuditWriteBuffer buffer = new AuditWriteBuffer(auditRepository, 10_000, 50, Duration.ofMillis(5), Duration.ofSeconds(10));
+        when(auditRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        buffer.start();
+        int producers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch started = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                started.countDown();
+                int i = 0;
+                while (buffer.offer(newLog("user" + i++))) {
+                    Thread.onSpinWait();
+                }
+            });
+        }
+        started.await();
+
+        // When
+        Thread.sleep(20);
+        buffer.stop();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(buffer.getAcceptedCount() > 0);
+        assertEquals(buffer.getAcceptedCount(), buffer.getWrittenCount());
+        assertEquals(0, buffer.getQueueDepth());
+    }
+
+    @Test
+    void constructor_InvalidCapacity() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            new AuditWriteBuffer(auditRepository, 0, 10, Duration.ofMillis(50), Duration.ofSeconds(1))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.corebanking.customer_service.adapter.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates version 7 UUIDs (RFC 9562): 48 bits of Unix epoch milliseconds followed by a
+ * 12 bit sequence and 62 random bits. Stored as BINARY(16), consecutive ids land next to
+ * each other in the clustered primary key instead of on random pages.
+ * <p>
+ * Within the same millisecond the sequence is incremented, so ids generated by one process
+ * are strictly increasing; if the sequence overflows the timestamp part moves ahead by one
+ * millisecond.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        long timestampAndSequence = nextTimestampAndSequence(epochMillis);
+        long mostSigBits = (timestampAndSequence >>> 12) << 16
+                | 0x7000L
+                | (timestampAndSequence & 0xFFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTimestampAndSequence(long epochMillis) {
+        long candidate = epochMillis << 12;
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_SEQUENCE.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_TIMESTAMP_AND_SEQUENCE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,32 +1,87 @@
 package com.corebanking.risk_service.adapter.persistence;
 
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
 import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public class JpaRiskAssessmentRepositoryAdapter implements RiskAssessmentRepositoryPort {
 
     private final RiskAssessmentJpaRepository jpaRepository;
+    private final RiskRuleDictionary ruleDictionary;
+    private final RiskAssessmentCache cache;
 
-    public JpaRiskAssessmentRepositoryAdapter(RiskAssessmentJpaRepository jpaRepository) {
+    public JpaRiskAssessmentRepositoryAdapter(RiskAssessmentJpaRepository jpaRepository,
+                                              RiskRuleDictionary ruleDictionary, RiskAssessmentCache cache) {
         this.jpaRepository = jpaRepository;
+        this.ruleDictionary = ruleDictionary;
+        this.cache = cache;
     }
 
     @Override
     public Optional<RiskAssessment> findByLoanApplicationId(UUID loanApplicationId) {
-        return jpaRepository.findByLoanApplicationId(loanApplicationId)
+        return cache.get(loanApplicationId, id -> jpaRepository.findByLoanApplicationId(id)
+                .map(this::toDomain));
+    }
+
+    @Override
+    public Optional<RiskAssessment> findByLoanApplicationIdUncached(UUID loanApplicationId) {
+        Optional<RiskAssessment> assessment = jpaRepository.findByLoanApplicationId(loanApplicationId)
                 .map(this::toDomain);
+        assessment.ifPresent(cache::refresh);
+        return assessment;
     }
 
     @Override
     public RiskAssessment save(RiskAssessment riskAssessment) {
+        ruleDictionary.registerAll(riskAssessment.getRulesApplied());
         RiskAssessmentEntity entity = toEntity(riskAssessment);
-        RiskAssessmentEntity saved = jpaRepository.save(entity);
-        return toDomain(saved);
+        RiskAssessment saved;
+        try {
+            saved = toDomain(jpaRepository.save(entity));
+        } catch (RuntimeException e) {
+            // Usually a duplicate or a stale version: the cached entry is what went wrong
+            cache.invalidateAll(List.of(riskAssessment.getLoanApplicationId()));
+            throw e;
+        }
+        cache.put(saved);
+        return saved;
+    }
+
+    @Override
+    public List<RiskAssessment> saveAll(List<RiskAssessment> riskAssessments) {
+        riskAssessments.forEach(assessment -> ruleDictionary.registerAll(assessment.getRulesApplied()));
+        List<RiskAssessmentEntity> entities = riskAssessments.stream()
+                .map(this::toEntity)
+                .toList();
+        List<RiskAssessment> saved;
+        try {
+            saved = jpaRepository.saveAll(entities).stream()
+                    .map(this::toDomain)
+                    .toList();
+        } catch (RuntimeException e) {
+            cache.invalidateAll(riskAssessments.stream().map(RiskAssessment::getLoanApplicationId).toList());
+            throw e;
+        }
+        saved.forEach(cache::refresh);
+        return saved;
+    }
+
+    @Override
+    public Set<UUID> findExistingLoanApplicationIds(Collection<UUID> loanApplicationIds) {
+        if (loanApplicationIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingLoanApplicationIds(loanApplicationIds));
     }
 
     @Override
@@ -35,6 +90,13 @@ public class JpaRiskAssessmentRepositoryAdapter implements RiskAssessmentReposit
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<RiskAssessment> findPageAfter(UUID afterId, int limit) {
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit)).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     private RiskAssessment toDomain(RiskAssessmentEntity entity) {
         return new RiskAssessment(
             entity.getId(),
@@ -42,10 +104,22 @@ public class JpaRiskAssessmentRepositoryAdapter implements RiskAssessmentReposit
             entity.getRiskScore(),
             entity.getRiskLevel(),
             entity.getRulesApplied(),
-            entity.getEvaluatedAt()
+            entity.getEvaluatedAt(),
+            entity.getVersion(),
+            toInputs(entity),
+            entity.getPolicyVersion()
         );
     }
 
+    private RiskEvaluationInput toInputs(RiskAssessmentEntity entity) {
+        if (entity.getCustomerCreditScore() == null || entity.getRequestedAmount() == null
+                || entity.getTermInMonths() == null || entity.getMonthlyIncome() == null) {
+            return null;
+        }
+        return new RiskEvaluationInput(entity.getLoanApplicationId(), entity.getCustomerCreditScore(),
+                entity.getRequestedAmount(), entity.getTermInMonths(), entity.getMonthlyIncome());
+    }
+
     private RiskAssessmentEntity toEntity(RiskAssessment riskAssessment) {
         RiskAssessmentEntity entity = new RiskAssessmentEntity();
         if (riskAssessment.getId() != null) {
@@ -56,6 +130,15 @@ public class JpaRiskAssessmentRepositoryAdapter implements RiskAssessmentReposit
         entity.setRiskLevel(riskAssessment.getRiskLevel());
         entity.setRulesApplied(riskAssessment.getRulesApplied());
         entity.setEvaluatedAt(riskAssessment.getEvaluatedAt());
+        entity.setVersion(riskAssessment.getVersion());
+        entity.setPolicyVersion(riskAssessment.getPolicyVersion());
+        RiskEvaluationInput inputs = riskAssessment.getInputs();
+        if (inputs != null) {
+            entity.setCustomerCreditScore(inputs.customerCreditScore());
+            entity.setRequestedAmount(inputs.requestedAmount());
+            entity.setTermInMonths(inputs.termInMonths());
+            entity.setMonthlyIncome(inputs.monthlyIncome());
+        }
         return entity;
     }
 }
@@ -0,0 +1,150 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of assessments keyed by loan application. Reads load missing
+ * entries, and saves made through this instance replace them, so a loan application just
+ * evaluated here is answered without a query.
+ * <p>
+ * Loan applications without an assessment are cached as well, for the shorter
+ * {@code negativeTtl}, since an assessment created by another instance stays invisible until the
+ * entry expires. Found assessments expire {@code ttl} after they were loaded or saved, which
+ * bounds how long a re-evaluation made elsewhere can go unseen.
+ */
+@Component
+public class RiskAssessmentCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskAssessmentCache.class);
+
+    private final Cache<UUID, Optional<RiskAssessment>> cache;
+    private final LongAdder negativeHits = new LongAdder();
+
+    @Autowired
+    public RiskAssessmentCache(@Value("${app.risk.cache.max-size:100000}") long maxSize,
+                               @Value("${app.risk.cache.ttl:10m}") Duration ttl,
+                               @Value("${app.risk.cache.negative-ttl:5s}") Duration negativeTtl) {
+        this(maxSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    RiskAssessmentCache(long maxSize, Duration ttl, Duration negativeTtl, Ticker ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAfterWrite(ttl, negativeTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached result for the loan application, loading it with {@code loader} if it is
+     * not cached. A loader that throws caches nothing.
+     */
+    public Optional<RiskAssessment> get(UUID loanApplicationId,
+                                        Function<UUID, Optional<RiskAssessment>> loader) {
+        boolean[] loaded = new boolean[1];
+        Optional<RiskAssessment> assessment = cache.get(loanApplicationId, id -> {
+            loaded[0] = true;
+            return loader.apply(id);
+        });
+        if (!loaded[0] && assessment.isEmpty()) {
+            negativeHits.increment();
+        }
+        return assessment;
+    }
+
+    /**
+     * Caches an assessment that has just been saved, replacing any older or negative entry.
+     */
+    public void put(RiskAssessment assessment) {
+        if (assessment != null && assessment.getLoanApplicationId() != null) {
+            cache.put(assessment.getLoanApplicationId(), Optional.of(assessment));
+        }
+    }
+
+    /**
+     * Replaces the entry of a just saved assessment, found or not found, only if there is one. Bulk
+     * writes use it so they do not push recently read assessments out.
+     */
+    public void refresh(RiskAssessment assessment) {
+        if (assessment != null && assessment.getLoanApplicationId() != null) {
+            cache.asMap().computeIfPresent(assessment.getLoanApplicationId(), (id, cached) -> Optional.of(assessment));
+        }
+    }
+
+    /**
+     * Drops the entries of loan applications whose write failed, so the next read sees the row
+     * that is actually stored.
+     */
+    public void invalidateAll(Collection<UUID> loanApplicationIds) {
+        cache.invalidateAll(loanApplicationIds);
+    }
+
+    public long getHitCount() { return cache.stats().hitCount(); }
+    public long getNegativeHitCount() { return negativeHits.sum(); }
+    public long getMissCount() { return cache.stats().missCount(); }
+    public long getEvictionCount() { return cache.stats().evictionCount(); }
+    public long getSize() { return cache.estimatedSize(); }
+
+    // Runs pending evictions now instead of on the next access
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    @Scheduled(fixedDelayString = "${app.risk.cache.stats-interval:PT5M}",
+            initialDelayString = "${app.risk.cache.stats-interval:PT5M}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("Risk assessment cache: size={}, hits={} ({} not found), misses={}, hitRate={}, evictions={}",
+                cache.estimatedSize(), stats.hitCount(), negativeHits.sum(), stats.missCount(),
+                String.format("%.3f", stats.hitRate()), stats.evictionCount());
+    }
+
+    private static final class ExpireAfterWrite implements Expiry<UUID, Optional<RiskAssessment>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        ExpireAfterWrite(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(UUID key, Optional<RiskAssessment> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Optional<RiskAssessment> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Optional<RiskAssessment> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
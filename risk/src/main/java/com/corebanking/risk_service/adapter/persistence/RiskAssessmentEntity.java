@@ -6,7 +6,10 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -20,7 +23,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class RiskAssessmentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     
     @Column(name = "loan_application_id", nullable = false, unique = true)
@@ -36,13 +41,33 @@ public class RiskAssessmentEntity {
     @NotNull(message = "Risk level cannot be null")
     private RiskLevel riskLevel;
     
-    @ElementCollection (fetch = FetchType.EAGER)
-    @CollectionTable(name = "risk_rules_applied", joinColumns = @JoinColumn(name = "risk_assessment_id"))
-    @Column(name = "rule")
+    @Column(name = "rules_applied", nullable = false, columnDefinition = "VARBINARY(128)")
+    @Convert(converter = RiskRulesAppliedConverter.class)
     private List<String> rulesApplied;
     
     @Column(name = "evaluated_at", nullable = false)
     @NotNull(message = "Evaluated at cannot be null")
     private Instant evaluatedAt;
+
+    // Evaluation inputs and the policy that scored them; null on rows stored before they were kept
+    @Column(name = "customer_credit_score", columnDefinition = "SMALLINT")
+    private Integer customerCreditScore;
+
+    @Column(name = "requested_amount", precision = 15, scale = 2)
+    private BigDecimal requestedAmount;
+
+    @Column(name = "term_in_months", columnDefinition = "SMALLINT")
+    private Integer termInMonths;
+
+    @Column(name = "monthly_income", precision = 15, scale = 2)
+    private BigDecimal monthlyIncome;
+
+    @Column(name = "policy_version", length = 64)
+    private String policyVersion;
+
+    // Incremented by each re-evaluation; a save carrying an older version is rejected
+    @Version
+    @Column(name = "assessment_version", nullable = false)
+    private Long version;
 }
 
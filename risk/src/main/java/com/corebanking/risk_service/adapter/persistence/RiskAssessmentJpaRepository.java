@@ -1,10 +1,21 @@
 package com.corebanking.risk_service.adapter.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RiskAssessmentJpaRepository extends JpaRepository<RiskAssessmentEntity, UUID> {
     Optional<RiskAssessmentEntity> findByLoanApplicationId(UUID loanApplicationId);
+
+    @Query("SELECT r.loanApplicationId FROM RiskAssessmentEntity r WHERE r.loanApplicationId IN :ids")
+    List<UUID> findExistingLoanApplicationIds(@Param("ids") Collection<UUID> ids);
+
+    List<RiskAssessmentEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
 }
 
@@ -0,0 +1,27 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lookup table for rule codes. Only mapped so the schema is managed with the rest of the
+ * entities; rows are read and written by {@link RiskRuleDictionary}.
+ */
+@Entity
+@Table(name = "risk_rule_codes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_risk_rule_codes_code", columnNames = "code")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskRuleCodeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(columnDefinition = "SMALLINT UNSIGNED")
+    private Integer id;
+
+    @Column(nullable = false, length = 100)
+    private String code;
+}
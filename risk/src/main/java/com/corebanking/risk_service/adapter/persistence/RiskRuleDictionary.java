@@ -0,0 +1,122 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of rule codes. Each code is stored once in {@code risk_rule_codes} and assessments
+ * reference it by a {@code SMALLINT} id. A policy only has a few dozen codes, so both directions
+ * are cached in process without a bound.
+ * <p>
+ * New codes are inserted in their own transaction so an id is never cached for a row that a
+ * rolled-back assessment write would take with it.
+ */
+@Component
+public class RiskRuleDictionary {
+
+    static final int MAX_ID = 0xFFFF;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations newTransaction;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> codes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RiskRuleDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, requiresNew(transactionManager));
+    }
+
+    RiskRuleDictionary(JdbcTemplate jdbcTemplate, TransactionOperations newTransaction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = newTransaction;
+    }
+
+    /**
+     * Makes sure every code has an id, inserting the new ones.
+     */
+    public void registerAll(Collection<String> ruleCodes) {
+        if (ruleCodes == null) {
+            return;
+        }
+        for (String code : ruleCodes) {
+            register(code);
+        }
+    }
+
+    /**
+     * Returns the id of {@code code}, inserting it first if it is new.
+     */
+    public int register(String code) {
+        Integer id = find(code);
+        if (id != null) {
+            return id;
+        }
+        Integer created = newTransaction.execute(status -> {
+            // INSERT IGNORE lets concurrent writers of the same new code converge on one row
+            jdbcTemplate.update("INSERT IGNORE INTO risk_rule_codes (code) VALUES (?)", code);
+            return selectId(code);
+        });
+        if (created == null) {
+            throw new IllegalStateException("Could not register risk rule code " + code);
+        }
+        remember(code, created);
+        return created;
+    }
+
+    /**
+     * Returns the id of {@code code}, or {@code null} if it has never been registered.
+     */
+    public Integer find(String code) {
+        Integer id = ids.get(code);
+        if (id == null) {
+            id = selectId(code);
+            if (id != null) {
+                remember(code, id);
+            }
+        }
+        return id;
+    }
+
+    public String codeOf(int id) {
+        String code = codes.get(id);
+        if (code == null) {
+            List<String> rows = jdbcTemplate.queryForList("SELECT code FROM risk_rule_codes WHERE id = ?", String.class, id);
+            if (rows.isEmpty()) {
+                throw new IllegalStateException("Unknown risk rule code id " + id);
+            }
+            code = rows.get(0);
+            codes.put(id, code);
+        }
+        return code;
+    }
+
+    private Integer selectId(String code) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT id FROM risk_rule_codes WHERE code = ?", Integer.class, code);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void remember(String code, int id) {
+        if (id > MAX_ID) {
+            throw new IllegalStateException("Risk rule code id " + id + " does not fit in two bytes");
+        }
+        ids.put(code, id);
+        codes.put(id, code);
+    }
+
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -0,0 +1,61 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stores the applied rule codes of an assessment as their dictionary ids, two bytes each and big
+ * endian, in a single {@code VARBINARY} column. The rules load with the row instead of through a
+ * collection table.
+ * <p>
+ * Codes are registered by {@link JpaRiskAssessmentRepositoryAdapter} before a row is saved, so
+ * this only looks them up. Instantiated by Hibernate through Spring's bean container, which
+ * injects the dictionary.
+ */
+@Converter
+public class RiskRulesAppliedConverter implements AttributeConverter<List<String>, byte[]> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final RiskRuleDictionary dictionary;
+
+    public RiskRulesAppliedConverter(RiskRuleDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return EMPTY;
+        }
+        byte[] bytes = new byte[attribute.size() * 2];
+        for (int i = 0; i < attribute.size(); i++) {
+            Integer id = dictionary.find(attribute.get(i));
+            if (id == null) {
+                throw new IllegalStateException("Risk rule code " + attribute.get(i) + " is not registered");
+            }
+            bytes[2 * i] = (byte) (id >>> 8);
+            bytes[2 * i + 1] = (byte) (int) id;
+        }
+        return bytes;
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null || dbData.length == 0) {
+            return List.of();
+        }
+        if (dbData.length % 2 != 0) {
+            throw new IllegalStateException("Risk rule ids column has an odd length of " + dbData.length);
+        }
+        List<String> codes = new ArrayList<>(dbData.length / 2);
+        for (int i = 0; i < dbData.length; i += 2) {
+            codes.add(dictionary.codeOf((dbData[i] & 0xFF) << 8 | (dbData[i + 1] & 0xFF)));
+        }
+        return Collections.unmodifiableList(codes);
+    }
+}
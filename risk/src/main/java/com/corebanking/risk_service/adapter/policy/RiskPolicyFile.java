@@ -0,0 +1,36 @@
+package com.corebanking.risk_service.adapter.policy;
+
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a {@link RiskPolicy} from a JSON rules file. Thresholds are parsed as exact decimals.
+ */
+public final class RiskPolicyFile {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+
+    private RiskPolicyFile() {
+    }
+
+    public static RiskPolicy read(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read risk policy " + path, e);
+        }
+    }
+
+    static RiskPolicy read(InputStream in) throws IOException {
+        return MAPPER.readValue(in, RiskPolicy.class);
+    }
+}
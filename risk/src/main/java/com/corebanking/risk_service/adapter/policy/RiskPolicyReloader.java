@@ -0,0 +1,58 @@
+package com.corebanking.risk_service.adapter.policy;
+
+import com.corebanking.risk_service.domain.service.RiskRuleEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Polls the rules file and hands a changed policy to the {@link RiskRuleEngine}. A file that
+ * cannot be read or compiled is logged once and the running policy is kept.
+ */
+@Component
+@ConditionalOnProperty(name = "app.risk.rules.location")
+public class RiskPolicyReloader {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskPolicyReloader.class);
+
+    private final RiskRuleEngine ruleEngine;
+    private final Path location;
+    private FileTime lastModified;
+
+    public RiskPolicyReloader(RiskRuleEngine ruleEngine, @Value("${app.risk.rules.location}") Path location) {
+        this.ruleEngine = ruleEngine;
+        this.location = location;
+        this.lastModified = modifiedTime();
+    }
+
+    @Scheduled(fixedDelayString = "${app.risk.rules.reload-interval:PT10S}")
+    public synchronized void reloadIfChanged() {
+        FileTime modified = modifiedTime();
+        if (modified == null || modified.equals(lastModified)) {
+            return;
+        }
+        lastModified = modified;
+        try {
+            ruleEngine.reload(RiskPolicyFile.read(location));
+        } catch (RuntimeException e) {
+            log.error("Risk policy {} rejected, keeping {}", location, ruleEngine.getPolicyVersion(), e);
+        }
+    }
+
+    private FileTime modifiedTime() {
+        try {
+            return Files.getLastModifiedTime(location);
+        } catch (IOException e) {
+            log.warn("Risk policy {} is not readable: {}", location, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,28 +1,45 @@
 package com.corebanking.risk_service.adapter.rest;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+
+import java.math.BigDecimal;
 import java.util.UUID;
 
 public record EvaluateRiskRequest(
         @NotNull(message = "Loan application ID cannot be null")
         UUID loanApplicationId,
 
-        @NotNull(message = "Customer credit score cannot be null")
-        @Min(value = 300, message = "Credit score must be at least 300")
-        @Max(value = 850, message = "Credit score must be at most 850")
+        @NotNull(message = "Customer credit score cannot be null", groups = {Default.class, Quote.class})
+        @Min(value = 300, message = "Credit score must be at least 300", groups = {Default.class, Quote.class})
+        @Max(value = 850, message = "Credit score must be at most 850", groups = {Default.class, Quote.class})
         Integer customerCreditScore,
 
-        @NotNull(message = "Requested amount cannot be null")
-        @DecimalMin(value = "10000", message = "Requested amount must be at least 10000")
-        @DecimalMax(value = "50000000", message = "Requested amount must be at most 50000000")
+        @NotNull(message = "Requested amount cannot be null", groups = {Default.class, Quote.class})
+        @DecimalMin(value = "10000", message = "Requested amount must be at least 10000", groups = {Default.class, Quote.class})
+        @DecimalMax(value = "50000000", message = "Requested amount must be at most 50000000", groups = {Default.class, Quote.class})
+        @Digits(integer = 13, fraction = 2, message = "Requested amount must have at most 2 decimals", groups = {Default.class, Quote.class})
         BigDecimal requestedAmount,
 
-        @NotNull(message = "Term in months cannot be null")
-        @Min(value = 6, message = "Term must be at least 6 months")
-        @Max(value = 60, message = "Term must be at most 60 months")
+        @NotNull(message = "Term in months cannot be null", groups = {Default.class, Quote.class})
+        @Min(value = 6, message = "Term must be at least 6 months", groups = {Default.class, Quote.class})
+        @Max(value = 60, message = "Term must be at most 60 months", groups = {Default.class, Quote.class})
         Integer termInMonths,
 
-        @NotNull(message = "Monthly income cannot be null")
-        @DecimalMin(value = "0.01", message = "Monthly income must be greater than 0")
+        @NotNull(message = "Monthly income cannot be null", groups = {Default.class, Quote.class})
+        @DecimalMin(value = "0.01", message = "Monthly income must be greater than 0", groups = {Default.class, Quote.class})
+        @Digits(integer = 13, fraction = 2, message = "Monthly income must have at most 13 digits and 2 decimals", groups = {Default.class, Quote.class})
         BigDecimal monthlyIncome
-) {}
\ No newline at end of file
+) {
+
+    /**
+     * Validation group for quotes: every constraint except the loan application ID, which a quote
+     * does not need.
+     */
+    public interface Quote {}
+}
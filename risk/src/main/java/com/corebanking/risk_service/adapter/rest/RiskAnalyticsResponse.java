@@ -0,0 +1,17 @@
+package com.corebanking.risk_service.adapter.rest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record RiskAnalyticsResponse(
+        boolean rebuilt,
+        Stats total,
+        Instant windowStart,
+        Stats window
+) {
+    public record Stats(long assessments, Map<String, ScoreDistribution> levels, Map<String, Long> ruleHits) {}
+
+    public record ScoreDistribution(long count, double mean, int min, int p50, int p90, int p99, int max,
+                                    List<Long> bands) {}
+}
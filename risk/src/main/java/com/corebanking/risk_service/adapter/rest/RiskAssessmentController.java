@@ -1,18 +1,50 @@
 package com.corebanking.risk_service.adapter.rest;
 
+import com.corebanking.risk_service.domain.model.RiskAnalyticsSnapshot;
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskAssessmentStats;
+import com.corebanking.risk_service.domain.model.RiskBatch;
+import com.corebanking.risk_service.domain.model.RiskBatchItemResult;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskRescoring;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
 import com.corebanking.risk_service.domain.service.RiskAssessmentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -23,10 +55,15 @@ public class RiskAssessmentController {
 
     private final RiskAssessmentService riskAssessmentService;
     private final MessageSource messageSource;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
 
-    public RiskAssessmentController(RiskAssessmentService riskAssessmentService, MessageSource messageSource) {
+    public RiskAssessmentController(RiskAssessmentService riskAssessmentService, MessageSource messageSource,
+                                    Validator validator, ObjectMapper objectMapper) {
         this.riskAssessmentService = riskAssessmentService;
         this.messageSource = messageSource;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -41,26 +78,68 @@ public class RiskAssessmentController {
                 request.termInMonths(), request.monthlyIncome());
 
         try {
-            RiskAssessment assessment = riskAssessmentService.evaluateRisk(
+            RiskEvaluationOutcome outcome = riskAssessmentService.evaluateRisk(
                 request.loanApplicationId(),
                 request.customerCreditScore(),
                 request.requestedAmount(),
                 request.termInMonths(),
                 request.monthlyIncome()
             );
+            return toOutcomeResponse(outcome);
 
-            RiskAssessmentResponse response = new RiskAssessmentResponse(
-                assessment.getId(),
-                assessment.getLoanApplicationId(),
-                assessment.getRiskScore(),
-                assessment.getRiskLevel().name(),
-                assessment.getRulesApplied(),
-                assessment.getEvaluatedAt()
-            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Business validation failed: {}", e.getMessage());
+            String key = e.getMessage();
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
 
-            log.info("Risk assessment created successfully with ID: {} for loan application: {}", 
-                    assessment.getId(), assessment.getLoanApplicationId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    /**
+     * Indicative score with the active policy. Nothing is read or written, so no database
+     * connection is used; the loan application ID is optional.
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<RiskQuoteResponse> quoteRisk(
+            @Validated(EvaluateRiskRequest.Quote.class) @RequestBody EvaluateRiskRequest request) {
+
+        // No per-request logging: quotes are sent on every keystroke
+        RiskEvaluation evaluation = riskAssessmentService.quoteRisk(
+            request.customerCreditScore(),
+            request.requestedAmount(),
+            request.termInMonths(),
+            request.monthlyIncome()
+        );
+        return ResponseEntity.ok(new RiskQuoteResponse(
+            evaluation.riskScore(),
+            evaluation.riskLevel().name(),
+            evaluation.rulesApplied(),
+            evaluation.policyVersion()
+        ));
+    }
+
+    /**
+     * Scores the application again with the active policy and replaces its assessment with a new
+     * version, or creates it if there was none.
+     */
+    @PostMapping("/reevaluate")
+    public ResponseEntity<Object> reevaluateRisk(
+            @Valid @RequestBody EvaluateRiskRequest request,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        log.info("Received risk re-evaluation request: loanApplicationId={}", request.loanApplicationId());
+
+        try {
+            RiskEvaluationOutcome outcome = riskAssessmentService.reevaluateRisk(
+                request.loanApplicationId(),
+                request.customerCreditScore(),
+                request.requestedAmount(),
+                request.termInMonths(),
+                request.monthlyIncome()
+            );
+            return toOutcomeResponse(outcome);
 
         } catch (IllegalArgumentException e) {
             log.warn("Business validation failed: {}", e.getMessage());
@@ -70,6 +149,126 @@ public class RiskAssessmentController {
         }
     }
 
+    /**
+     * Evaluates a batch of applications and streams one NDJSON line per application as each chunk
+     * is committed. Lines are not in request order; {@code index} points back to the request.
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> evaluateRiskBatch(
+            @RequestBody List<EvaluateRiskRequest> requests,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        log.info("Received risk evaluation batch with {} entries", requests != null ? requests.size() : 0);
+
+        // Requests failing bean validation go to the batch as null and are reported with their own message
+        Map<Integer, String> invalid = new HashMap<>();
+        List<RiskEvaluationInput> inputs = new ArrayList<>(requests != null ? requests.size() : 0);
+        if (requests != null) {
+            for (int i = 0; i < requests.size(); i++) {
+                EvaluateRiskRequest request = requests.get(i);
+                String error = request == null ? "risk.batch.entry.invalid" : firstViolation(request);
+                if (error != null) {
+                    invalid.put(i, error);
+                    inputs.add(null);
+                } else {
+                    inputs.add(new RiskEvaluationInput(request.loanApplicationId(), request.customerCreditScore(),
+                            request.requestedAmount(), request.termInMonths(), request.monthlyIncome()));
+                }
+            }
+        }
+
+        RiskBatch batch;
+        try {
+            batch = riskAssessmentService.evaluateRiskBatch(inputs);
+        } catch (IllegalArgumentException e) {
+            log.warn("Batch validation failed: {}", e.getMessage());
+            String message = messageSource.getMessage(e.getMessage(), null, "Unknown error", locale);
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, new ErrorResponse(message)));
+        }
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 65536);
+            batch.run(results -> {
+                try {
+                    for (RiskBatchItemResult result : results) {
+                        writer.write(objectMapper.writeValueAsString(toBatchItemResponse(result, invalid, locale)));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Score distribution per risk level and rule hit counts, for all stored assessments and for
+     * the recent window. Served from memory; no rows are read.
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<RiskAnalyticsResponse> getAnalytics() {
+        RiskAnalyticsSnapshot snapshot = riskAssessmentService.getAnalytics();
+        return ResponseEntity.ok(new RiskAnalyticsResponse(
+            snapshot.rebuilt(),
+            toStats(snapshot.total()),
+            snapshot.windowStart(),
+            toStats(snapshot.window())
+        ));
+    }
+
+    /**
+     * Replays the stored assessments against the candidate policy in the body, in the rules file
+     * format, and returns how many move between levels. Nothing is written.
+     */
+    @PostMapping("/simulations")
+    public ResponseEntity<Object> simulatePolicy(
+            @RequestBody JsonNode body,
+            @RequestHeader(value = "Accept-Language", required = false) String acceptLanguage) {
+
+        Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
+
+        try {
+            // Bound here so a policy the record rejects is reported as invalid, not as unreadable
+            RiskPolicy candidate = objectMapper.treeToValue(body, RiskPolicy.class);
+            log.info("Received risk policy simulation request: policyVersion={}", candidate.version());
+            RiskSimulation simulation = riskAssessmentService.simulatePolicy(candidate);
+            return ResponseEntity.ok(toSimulationResponse(simulation));
+
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("Risk policy simulation rejected: {}", e.getMessage());
+            String key = e instanceof IllegalArgumentException ? e.getMessage() : "risk.simulation.policy.invalid";
+            String message = messageSource.getMessage(key, null, "Unknown error", locale);
+            return ResponseEntity.badRequest().body(new ErrorResponse(message));
+        }
+    }
+
+    /**
+     * Starts re-scoring, with the active policy, every stored assessment that was scored by
+     * another version, from the inputs stored with it. The pass runs in the background; its
+     * progress and counts are read from {@code GET /rescore}. A pass already running is a 409.
+     */
+    @PostMapping("/rescore")
+    public ResponseEntity<RiskRescoreStatusResponse> rescoreAll() {
+        log.info("Received risk re-scoring request");
+
+        RiskRescoreStatus status = riskAssessmentService.startRescore();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/risk-assessments/rescore"))
+                .body(toRescoreStatusResponse(status));
+    }
+
+    @GetMapping("/rescore")
+    public ResponseEntity<RiskRescoreStatusResponse> getRescoreStatus() {
+        return ResponseEntity.ok(toRescoreStatusResponse(riskAssessmentService.getRescoreStatus()));
+    }
+
     @GetMapping("/loan-application/{loanApplicationId}")
     public ResponseEntity<Object> getByLoanApplicationId(
             @PathVariable UUID loanApplicationId,
@@ -78,14 +277,7 @@ public class RiskAssessmentController {
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         return riskAssessmentService.getByLoanApplicationId(loanApplicationId)
-                .map(assessment -> ResponseEntity.<Object>ok(new RiskAssessmentResponse(
-                    assessment.getId(),
-                    assessment.getLoanApplicationId(),
-                    assessment.getRiskScore(),
-                    assessment.getRiskLevel().name(),
-                    assessment.getRulesApplied(),
-                    assessment.getEvaluatedAt()
-                )))
+                .map(assessment -> ResponseEntity.<Object>ok(toResponse(assessment)))
                 .orElseGet(() -> {
                     String message = messageSource.getMessage("risk.assessment.not.found", null, 
                             "Risk assessment not found", locale);
@@ -102,14 +294,7 @@ public class RiskAssessmentController {
         Locale locale = acceptLanguage != null ? Locale.forLanguageTag(acceptLanguage) : Locale.ENGLISH;
 
         return riskAssessmentService.getById(id)
-                .map(assessment -> ResponseEntity.<Object>ok(new RiskAssessmentResponse(
-                    assessment.getId(),
-                    assessment.getLoanApplicationId(),
-                    assessment.getRiskScore(),
-                    assessment.getRiskLevel().name(),
-                    assessment.getRulesApplied(),
-                    assessment.getEvaluatedAt()
-                )))
+                .map(assessment -> ResponseEntity.<Object>ok(toResponse(assessment)))
                 .orElseGet(() -> {
                     String message = messageSource.getMessage("risk.assessment.not.found", null, 
                             "Risk assessment not found", locale);
@@ -117,6 +302,101 @@ public class RiskAssessmentController {
                             .body(new ErrorResponse(message));
                 });
     }
-}
 
+    private ResponseEntity<Object> toOutcomeResponse(RiskEvaluationOutcome outcome) {
+        RiskAssessment assessment = outcome.assessment();
+        switch (outcome.status()) {
+            case CREATED -> log.info("Risk assessment created successfully with ID: {} for loan application: {}",
+                    assessment.getId(), assessment.getLoanApplicationId());
+            case EXISTING -> log.info("Risk assessment {} already exists for loan application: {}",
+                    assessment.getId(), assessment.getLoanApplicationId());
+            case REEVALUATED -> log.info("Risk assessment {} re-evaluated to version {} for loan application: {}",
+                    assessment.getId(), assessment.getVersion(), assessment.getLoanApplicationId());
+        }
+        HttpStatus status = outcome.status() == RiskEvaluationOutcome.Status.CREATED ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(toResponse(assessment));
+    }
+
+    private RiskAssessmentResponse toResponse(RiskAssessment assessment) {
+        return new RiskAssessmentResponse(
+            assessment.getId(),
+            assessment.getLoanApplicationId(),
+            assessment.getRiskScore(),
+            assessment.getRiskLevel().name(),
+            assessment.getRulesApplied(),
+            assessment.getEvaluatedAt(),
+            assessment.getVersion(),
+            assessment.getPolicyVersion(),
+            toInputs(assessment.getInputs())
+        );
+    }
+
+    private RiskAssessmentResponse.Inputs toInputs(RiskEvaluationInput inputs) {
+        if (inputs == null) {
+            return null;
+        }
+        return new RiskAssessmentResponse.Inputs(inputs.customerCreditScore(), inputs.requestedAmount(),
+                inputs.termInMonths(), inputs.monthlyIncome());
+    }
+
+    private RiskAnalyticsResponse.Stats toStats(RiskAssessmentStats stats) {
+        Map<String, RiskAnalyticsResponse.ScoreDistribution> levels = new LinkedHashMap<>();
+        stats.levels().forEach((level, d) -> levels.put(level.name(), new RiskAnalyticsResponse.ScoreDistribution(
+            d.count(), d.mean(), d.min(), d.p50(), d.p90(), d.p99(), d.max(), d.bands())));
+        return new RiskAnalyticsResponse.Stats(stats.assessments(), levels, stats.ruleHits());
+    }
+
+    private RiskSimulationResponse toSimulationResponse(RiskSimulation simulation) {
+        Map<String, Map<String, Long>> migrations = new LinkedHashMap<>();
+        simulation.migrations().forEach((from, row) -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            row.forEach((to, count) -> counts.put(to.name(), count));
+            migrations.put(from.name(), counts);
+        });
+        return new RiskSimulationResponse(simulation.policyVersion(), simulation.simulated(), simulation.skipped(),
+                migrations);
+    }
+
+    private String firstViolation(EvaluateRiskRequest request) {
+        Set<ConstraintViolation<EvaluateRiskRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private RiskRescoreStatusResponse toRescoreStatusResponse(RiskRescoreStatus status) {
+        RiskRescoring result = status.result();
+        return new RiskRescoreStatusResponse(
+            status.running(),
+            status.startedAt(),
+            status.finishedAt(),
+            status.failed(),
+            result == null ? null : new RiskRescoreResponse(
+                result.policyVersion(),
+                result.scanned(),
+                result.rescored(),
+                result.levelChanged(),
+                result.upToDate(),
+                result.skipped(),
+                result.failed()
+            )
+        );
+    }
 
+    private RiskBatchItemResponse toBatchItemResponse(RiskBatchItemResult result, Map<Integer, String> invalid,
+                                                      Locale locale) {
+        if (result.isCreated()) {
+            RiskAssessment assessment = result.getAssessment();
+            return new RiskBatchItemResponse(
+                result.getIndex(),
+                assessment.getId(),
+                assessment.getLoanApplicationId(),
+                assessment.getRiskScore(),
+                assessment.getRiskLevel().name(),
+                assessment.getRulesApplied(),
+                null
+            );
+        }
+        String key = invalid.getOrDefault(result.getIndex(), result.getErrorKey());
+        String message = messageSource.getMessage(key, null, key, locale);
+        return new RiskBatchItemResponse(result.getIndex(), null, null, null, null, null, message);
+    }
+}
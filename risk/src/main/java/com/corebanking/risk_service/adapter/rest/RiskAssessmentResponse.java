@@ -1,5 +1,6 @@
 package com.corebanking.risk_service.adapter.rest;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -10,5 +11,19 @@ public record RiskAssessmentResponse(
         Integer riskScore,
         String riskLevel,
         List<String> rulesApplied,
-        Instant evaluatedAt
-) {}
\ No newline at end of file
+        Instant evaluatedAt,
+        Long version,
+        String policyVersion,
+        Inputs inputs
+) {
+
+    /**
+     * The data the score was computed from; {@code null} for assessments stored before it was kept.
+     */
+    public record Inputs(
+            int customerCreditScore,
+            BigDecimal requestedAmount,
+            int termInMonths,
+            BigDecimal monthlyIncome
+    ) {}
+}
@@ -0,0 +1,14 @@
+package com.corebanking.risk_service.adapter.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+public record RiskBatchItemResponse(
+        int index,
+        UUID id,
+        UUID loanApplicationId,
+        Integer riskScore,
+        String riskLevel,
+        List<String> rulesApplied,
+        String error
+) {}
@@ -0,0 +1,10 @@
+package com.corebanking.risk_service.adapter.rest;
+
+import java.util.List;
+
+public record RiskQuoteResponse(
+        int riskScore,
+        String riskLevel,
+        List<String> rulesApplied,
+        String policyVersion
+) {}
@@ -0,0 +1,11 @@
+package com.corebanking.risk_service.adapter.rest;
+
+public record RiskRescoreResponse(
+        String policyVersion,
+        long scanned,
+        long rescored,
+        long levelChanged,
+        long upToDate,
+        long skipped,
+        long failed
+) {}
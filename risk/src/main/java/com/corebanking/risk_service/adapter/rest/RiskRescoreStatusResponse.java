@@ -0,0 +1,11 @@
+package com.corebanking.risk_service.adapter.rest;
+
+import java.time.Instant;
+
+public record RiskRescoreStatusResponse(
+        boolean running,
+        Instant startedAt,
+        Instant finishedAt,
+        boolean failed,
+        RiskRescoreResponse result
+) {}
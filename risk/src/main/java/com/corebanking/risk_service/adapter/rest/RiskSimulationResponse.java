@@ -0,0 +1,13 @@
+package com.corebanking.risk_service.adapter.rest;
+
+import java.util.Map;
+
+/**
+ * {@code migrations} is keyed by stored level, then by the level under the candidate policy.
+ */
+public record RiskSimulationResponse(
+        String policyVersion,
+        long simulated,
+        long skipped,
+        Map<String, Map<String, Long>> migrations
+) {}
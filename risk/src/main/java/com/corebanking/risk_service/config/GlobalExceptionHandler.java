@@ -1,7 +1,9 @@
 package com.corebanking.risk_service.config;
 
+import com.corebanking.risk_service.domain.service.RiskRescoreRunningException;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +43,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
     }
 
+    // Two instances re-evaluated the same loan application at once; the later save lost
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException e, Locale locale) {
+        String message = messageSource.getMessage("risk.assessment.concurrent.update", null,
+                "Risk assessment was updated concurrently, please retry", locale);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+    }
+
+    @ExceptionHandler(RiskRescoreRunningException.class)
+    public ResponseEntity<String> handleRescoreRunning(RiskRescoreRunningException e, Locale locale) {
+        String message = messageSource.getMessage(e.getMessage(), null,
+                "A risk re-scoring pass is already running", locale);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGenericException(Exception e, Locale locale) {
         String message = messageSource.getMessage("error.internal", null, "Internal server error", locale);
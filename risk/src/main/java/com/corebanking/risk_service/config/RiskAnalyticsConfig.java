@@ -0,0 +1,49 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import com.corebanking.risk_service.domain.service.RiskAnalytics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+@Configuration
+public class RiskAnalyticsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskAnalyticsConfig.class);
+
+    @Value("${app.risk.analytics.rebuild-page-size:1000}")
+    private int rebuildPageSize;
+
+    @Bean
+    public RiskAnalytics riskAnalytics(
+            @Value("${app.risk.analytics.window:PT1H}") Duration window,
+            @Value("${app.risk.analytics.bucket:PT1M}") Duration bucket) {
+        return new RiskAnalytics(window, bucket);
+    }
+
+    /**
+     * Loads the stored assessments in the background, so startup does not wait for the scan.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildRiskAnalytics(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        RiskAnalytics analytics = context.getBean(RiskAnalytics.class);
+        RiskAssessmentRepositoryPort repository = context.getBean(RiskAssessmentRepositoryPort.class);
+        Thread rebuild = new Thread(() -> {
+            try {
+                analytics.rebuild(repository, rebuildPageSize);
+            } catch (RuntimeException e) {
+                log.error("Risk analytics rebuild failed; totals only cover assessments made since startup", e);
+            }
+        }, "risk-analytics-rebuild");
+        rebuild.setDaemon(true);
+        rebuild.start();
+    }
+}
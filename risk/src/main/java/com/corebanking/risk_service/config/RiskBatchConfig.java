@@ -0,0 +1,25 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import com.corebanking.risk_service.domain.service.RiskAnalytics;
+import com.corebanking.risk_service.domain.service.RiskBatchEvaluator;
+import com.corebanking.risk_service.domain.service.RiskRuleEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RiskBatchConfig {
+
+    @Bean(destroyMethod = "close")
+    public RiskBatchEvaluator riskBatchEvaluator(
+            RiskAssessmentRepositoryPort riskAssessmentRepository,
+            RiskRuleEngine riskRuleEngine,
+            RiskAnalytics riskAnalytics,
+            @Value("${app.risk.batch.chunk-size:500}") int chunkSize,
+            @Value("${app.risk.batch.max-size:100000}") int maxSize,
+            @Value("${app.risk.batch.parallelism:4}") int parallelism) {
+        return new RiskBatchEvaluator(riskAssessmentRepository, riskRuleEngine, chunkSize, maxSize, parallelism,
+                riskAnalytics::record);
+    }
+}
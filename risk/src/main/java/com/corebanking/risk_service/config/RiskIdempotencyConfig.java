@@ -0,0 +1,14 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.domain.service.RiskEvaluationIdempotency;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RiskIdempotencyConfig {
+
+    @Bean
+    public RiskEvaluationIdempotency riskEvaluationIdempotency() {
+        return new RiskEvaluationIdempotency();
+    }
+}
@@ -0,0 +1,22 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import com.corebanking.risk_service.domain.service.RiskAnalytics;
+import com.corebanking.risk_service.domain.service.RiskRescorer;
+import com.corebanking.risk_service.domain.service.RiskRuleEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RiskRescoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public RiskRescorer riskRescorer(
+            RiskAssessmentRepositoryPort riskAssessmentRepository,
+            RiskRuleEngine riskRuleEngine,
+            RiskAnalytics riskAnalytics,
+            @Value("${app.risk.rescore.page-size:1000}") int pageSize) {
+        return new RiskRescorer(riskAssessmentRepository, riskRuleEngine, pageSize, riskAnalytics::replace);
+    }
+}
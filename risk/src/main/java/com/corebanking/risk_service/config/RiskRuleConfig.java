@@ -0,0 +1,20 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.adapter.policy.RiskPolicyFile;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.service.RiskRuleEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class RiskRuleConfig {
+
+    @Bean
+    public RiskRuleEngine riskRuleEngine(@Value("${app.risk.rules.location:}") String location) {
+        RiskPolicy policy = location.isBlank() ? RiskPolicy.defaults() : RiskPolicyFile.read(Path.of(location));
+        return new RiskRuleEngine(policy);
+    }
+}
@@ -0,0 +1,19 @@
+package com.corebanking.risk_service.config;
+
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import com.corebanking.risk_service.domain.service.RiskPolicySimulator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RiskSimulationConfig {
+
+    @Bean(destroyMethod = "close")
+    public RiskPolicySimulator riskPolicySimulator(
+            RiskAssessmentRepositoryPort riskAssessmentRepository,
+            @Value("${app.risk.simulation.page-size:5000}") int pageSize,
+            @Value("${app.risk.simulation.parallelism:4}") int parallelism) {
+        return new RiskPolicySimulator(riskAssessmentRepository, pageSize, parallelism);
+    }
+}
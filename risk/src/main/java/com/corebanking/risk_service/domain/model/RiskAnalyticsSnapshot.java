@@ -0,0 +1,12 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of the risk analytics: everything stored ({@code total}) and the assessments
+ * evaluated since {@code windowStart}. {@code rebuilt} is false while stored assessments are still
+ * being loaded, in which case {@code total} is incomplete.
+ */
+public record RiskAnalyticsSnapshot(boolean rebuilt, RiskAssessmentStats total, Instant windowStart,
+                                    RiskAssessmentStats window) {
+}
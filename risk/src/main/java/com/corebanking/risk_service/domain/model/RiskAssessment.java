@@ -9,17 +9,56 @@ public class RiskAssessment {
     private UUID loanApplicationId;
     private Integer riskScore; // 0-100, where >70 = high risk
     private RiskLevel riskLevel;
-    private List<String> rulesApplied;
+    private RiskRuleSet rules;
     private Instant evaluatedAt;
+    private Long version; // null until stored, then incremented by each re-evaluation
+    private RiskEvaluationInput inputs; // null for assessments stored before inputs were kept
+    private String policyVersion; // version of the policy that produced the score; null on the same old rows
 
     public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
-                         RiskLevel riskLevel, List<String> rulesApplied, Instant evaluatedAt) {
+                         RiskLevel riskLevel, RiskRuleSet rules, Instant evaluatedAt, Long version,
+                         RiskEvaluationInput inputs, String policyVersion) {
         this.id = id;
         this.loanApplicationId = loanApplicationId;
         this.riskScore = riskScore;
         this.riskLevel = riskLevel;
-        this.rulesApplied = rulesApplied;
+        this.rules = rules;
         this.evaluatedAt = evaluatedAt;
+        this.version = version;
+        this.inputs = inputs;
+        this.policyVersion = policyVersion;
+    }
+
+    public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, List<String> rulesApplied, Instant evaluatedAt, Long version,
+                         RiskEvaluationInput inputs, String policyVersion) {
+        this(id, loanApplicationId, riskScore, riskLevel, RiskRuleSet.of(rulesApplied), evaluatedAt, version, inputs,
+                policyVersion);
+    }
+
+    public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, RiskRuleSet rules, Instant evaluatedAt, Long version) {
+        this(id, loanApplicationId, riskScore, riskLevel, rules, evaluatedAt, version, null, null);
+    }
+
+    public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, List<String> rulesApplied, Instant evaluatedAt, Long version) {
+        this(id, loanApplicationId, riskScore, riskLevel, RiskRuleSet.of(rulesApplied), evaluatedAt, version, null, null);
+    }
+
+    public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, RiskRuleSet rules, Instant evaluatedAt) {
+        this(id, loanApplicationId, riskScore, riskLevel, rules, evaluatedAt, null);
+    }
+
+    public RiskAssessment(UUID id, UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, List<String> rulesApplied, Instant evaluatedAt) {
+        this(id, loanApplicationId, riskScore, riskLevel, RiskRuleSet.of(rulesApplied), evaluatedAt, null);
+    }
+
+    public RiskAssessment(UUID loanApplicationId, Integer riskScore, 
+                         RiskLevel riskLevel, RiskRuleSet rules, Instant evaluatedAt) {
+        this(null, loanApplicationId, riskScore, riskLevel, rules, evaluatedAt);
     }
 
     public RiskAssessment(UUID loanApplicationId, Integer riskScore, 
@@ -32,7 +71,11 @@ public class RiskAssessment {
     public UUID getLoanApplicationId() { return loanApplicationId; }
     public Integer getRiskScore() { return riskScore; }
     public RiskLevel getRiskLevel() { return riskLevel; }
-    public List<String> getRulesApplied() { return rulesApplied; }
+    public RiskRuleSet getRules() { return rules; }
+    public List<String> getRulesApplied() { return rules.names(); }
     public Instant getEvaluatedAt() { return evaluatedAt; }
+    public Long getVersion() { return version; }
+    public RiskEvaluationInput getInputs() { return inputs; }
+    public String getPolicyVersion() { return policyVersion; }
 }
 
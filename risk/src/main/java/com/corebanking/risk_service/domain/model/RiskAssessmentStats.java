@@ -0,0 +1,11 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.Map;
+
+/**
+ * Aggregates over a set of assessments: how scores are distributed per level and how often each
+ * rule code was applied.
+ */
+public record RiskAssessmentStats(long assessments, Map<RiskLevel, RiskScoreDistribution> levels,
+                                  Map<String, Long> ruleHits) {
+}
@@ -0,0 +1,15 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A validated, not yet executed batch evaluation. Calling {@link #run} scores and persists the
+ * batch, handing results to the sink one chunk at a time as each chunk is committed, and returns
+ * how many assessments were created. Chunks complete in any order and the sink may be called
+ * from several threads, one call at a time.
+ */
+@FunctionalInterface
+public interface RiskBatch {
+    int run(Consumer<List<RiskBatchItemResult>> sink);
+}
@@ -0,0 +1,28 @@
+package com.corebanking.risk_service.domain.model;
+
+public class RiskBatchItemResult {
+    private final int index;
+    private final RiskAssessment assessment;
+    private final String errorKey;
+
+    private RiskBatchItemResult(int index, RiskAssessment assessment, String errorKey) {
+        this.index = index;
+        this.assessment = assessment;
+        this.errorKey = errorKey;
+    }
+
+    public static RiskBatchItemResult created(int index, RiskAssessment assessment) {
+        return new RiskBatchItemResult(index, assessment, null);
+    }
+
+    public static RiskBatchItemResult rejected(int index, String errorKey) {
+        return new RiskBatchItemResult(index, null, errorKey);
+    }
+
+    public boolean isCreated() { return assessment != null; }
+
+    // Getters
+    public int getIndex() { return index; }
+    public RiskAssessment getAssessment() { return assessment; }
+    public String getErrorKey() { return errorKey; }
+}
@@ -0,0 +1,13 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.List;
+
+/**
+ * The outcome of scoring one application against a {@link RiskPolicy}.
+ */
+public record RiskEvaluation(int riskScore, RiskLevel riskLevel, RiskRuleSet rules, String policyVersion) {
+
+    public List<String> rulesApplied() {
+        return rules.names();
+    }
+}
@@ -0,0 +1,15 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The data a risk evaluation is computed from.
+ */
+public record RiskEvaluationInput(
+        UUID loanApplicationId,
+        int customerCreditScore,
+        BigDecimal requestedAmount,
+        int termInMonths,
+        BigDecimal monthlyIncome
+) {}
@@ -0,0 +1,22 @@
+package com.corebanking.risk_service.domain.model;
+
+/**
+ * The assessment returned by an evaluation and whether this call created it, found it already
+ * stored or replaced it with a new version.
+ */
+public record RiskEvaluationOutcome(RiskAssessment assessment, Status status) {
+
+    public enum Status { CREATED, EXISTING, REEVALUATED }
+
+    public static RiskEvaluationOutcome created(RiskAssessment assessment) {
+        return new RiskEvaluationOutcome(assessment, Status.CREATED);
+    }
+
+    public static RiskEvaluationOutcome existing(RiskAssessment assessment) {
+        return new RiskEvaluationOutcome(assessment, Status.EXISTING);
+    }
+
+    public static RiskEvaluationOutcome reevaluated(RiskAssessment assessment) {
+        return new RiskEvaluationOutcome(assessment, Status.REEVALUATED);
+    }
+}
@@ -0,0 +1,9 @@
+package com.corebanking.risk_service.domain.model;
+
+public enum RiskFactor {
+    CREDIT_SCORE,
+    DEBT_TO_INCOME,
+    TERM_IN_MONTHS,
+    MONTHLY_INCOME,
+    REQUESTED_AMOUNT
+}
@@ -0,0 +1,50 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A complete scoring policy: the rule tables, applied in order, and the score above which an
+ * assessment becomes {@code MEDIUM} or {@code HIGH}.
+ */
+public record RiskPolicy(String version, List<RiskRuleTable> tables, int mediumAbove, int highAbove) {
+
+    public RiskPolicy {
+        if (version == null || version.isBlank() || tables == null || tables.isEmpty()) {
+            throw new IllegalArgumentException("Risk policies need a version and at least one rule table");
+        }
+        if (mediumAbove >= highAbove) {
+            throw new IllegalArgumentException("Risk policy level limits must satisfy mediumAbove < highAbove");
+        }
+        tables = List.copyOf(tables);
+    }
+
+    /**
+     * The policy the service shipped with, used when no rules file is configured.
+     */
+    public static RiskPolicy defaults() {
+        return new RiskPolicy("default", List.of(
+            new RiskRuleTable(RiskFactor.CREDIT_SCORE, RiskRuleTable.Comparison.BELOW, List.of(
+                new RiskRule(new BigDecimal("600"), 40, "CREDIT_SCORE_BELOW_600"),
+                new RiskRule(new BigDecimal("650"), 25, "CREDIT_SCORE_BELOW_650"),
+                new RiskRule(new BigDecimal("700"), 15, "CREDIT_SCORE_BELOW_700")
+            ), "CREDIT_SCORE_ACCEPTABLE"),
+            new RiskRuleTable(RiskFactor.DEBT_TO_INCOME, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("0.5"), 30, "DEBT_TO_INCOME_HIGH"),
+                new RiskRule(new BigDecimal("0.3"), 15, "DEBT_TO_INCOME_MEDIUM")
+            ), "DEBT_TO_INCOME_ACCEPTABLE"),
+            new RiskRuleTable(RiskFactor.TERM_IN_MONTHS, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("48"), 15, "TERM_TOO_LONG"),
+                new RiskRule(new BigDecimal("36"), 10, "TERM_LONG")
+            ), "TERM_ACCEPTABLE"),
+            new RiskRuleTable(RiskFactor.MONTHLY_INCOME, RiskRuleTable.Comparison.BELOW, List.of(
+                new RiskRule(new BigDecimal("1000"), 20, "INCOME_TOO_LOW"),
+                new RiskRule(new BigDecimal("2000"), 10, "INCOME_LOW")
+            ), "INCOME_ACCEPTABLE"),
+            new RiskRuleTable(RiskFactor.REQUESTED_AMOUNT, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("1000000"), 15, "AMOUNT_VERY_HIGH"),
+                new RiskRule(new BigDecimal("500000"), 10, "AMOUNT_HIGH")
+            ), "AMOUNT_ACCEPTABLE")
+        ), 40, 70);
+    }
+}
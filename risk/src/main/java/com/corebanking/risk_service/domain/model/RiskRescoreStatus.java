@@ -0,0 +1,16 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.time.Instant;
+
+/**
+ * State of the latest re-scoring pass on this instance. {@code startedAt} is null if none has
+ * run; {@code result} is set once a pass finishes and is null while it runs or if it
+ * {@code failed}.
+ */
+public record RiskRescoreStatus(boolean running, Instant startedAt, Instant finishedAt, boolean failed,
+                                RiskRescoring result) {
+
+    public static RiskRescoreStatus idle() {
+        return new RiskRescoreStatus(false, null, null, false, null);
+    }
+}
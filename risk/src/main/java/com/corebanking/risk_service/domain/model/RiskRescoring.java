@@ -0,0 +1,11 @@
+package com.corebanking.risk_service.domain.model;
+
+/**
+ * Counts from one pass of re-scoring the stored assessments with the active policy.
+ * {@code upToDate} were already scored by that policy and {@code skipped} have no stored inputs;
+ * neither is rewritten. {@code failed} could not be saved, usually because they were re-evaluated
+ * at the same time.
+ */
+public record RiskRescoring(String policyVersion, long scanned, long rescored, long levelChanged,
+                            long upToDate, long skipped, long failed) {
+}
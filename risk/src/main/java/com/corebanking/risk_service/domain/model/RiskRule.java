@@ -0,0 +1,16 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * One band of a {@link RiskRuleTable}: adds {@code points} and records {@code code} when the
+ * factor value crosses {@code threshold}.
+ */
+public record RiskRule(BigDecimal threshold, int points, String code) {
+
+    public RiskRule {
+        if (threshold == null || code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Risk rules need a threshold and a code");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The rules applied by an assessment, kept as a bitmask over the code table of the policy that
+ * produced it. Codes are only turned into a list of names when {@link #names()} is called,
+ * normally when the assessment leaves the service.
+ */
+public final class RiskRuleSet {
+
+    private static final RiskRuleSet EMPTY = new RiskRuleSet(0L, new String[0]);
+
+    private final long mask;
+    private final String[] codes;
+
+    /**
+     * @param mask  bit {@code i} set means {@code codes[i]} was applied
+     * @param codes the policy's code table; shared, never modified
+     */
+    public RiskRuleSet(long mask, String[] codes) {
+        if (codes.length < 64 && (mask >>> codes.length) != 0) {
+            throw new IllegalArgumentException("Rule mask has bits beyond the code table");
+        }
+        this.mask = mask;
+        this.codes = codes;
+    }
+
+    public static RiskRuleSet of(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EMPTY;
+        }
+        if (names.size() > 64) {
+            throw new IllegalArgumentException("A rule set holds at most 64 rules");
+        }
+        String[] codes = names.toArray(String[]::new);
+        return new RiskRuleSet(codes.length == 64 ? -1L : (1L << codes.length) - 1, codes);
+    }
+
+    public boolean contains(String code) {
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            if (codes[Long.numberOfTrailingZeros(bits)].equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * The applied rule codes, in code table order.
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            names.add(codes[Long.numberOfTrailingZeros(bits)]);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof RiskRuleSet other && names().equals(other.names()));
+    }
+
+    @Override
+    public int hashCode() {
+        return names().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return names().toString();
+    }
+
+    // Getters
+    public long getMask() { return mask; }
+    public String getCode(int bit) { return codes[bit]; }
+}
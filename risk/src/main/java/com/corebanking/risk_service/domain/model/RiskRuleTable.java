@@ -0,0 +1,23 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.List;
+
+/**
+ * The rules for one factor. With {@code BELOW} the value is matched against the lowest threshold
+ * it is strictly below; with {@code ABOVE}, against the highest threshold it is strictly above.
+ * A value that matches no threshold adds no points and records {@code defaultCode}.
+ */
+public record RiskRuleTable(RiskFactor factor, Comparison comparison, List<RiskRule> rules, String defaultCode) {
+
+    public enum Comparison {
+        BELOW,
+        ABOVE
+    }
+
+    public RiskRuleTable {
+        if (factor == null || comparison == null || defaultCode == null || defaultCode.isBlank()) {
+            throw new IllegalArgumentException("Risk rule tables need a factor, a comparison and a default code");
+        }
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+}
@@ -0,0 +1,11 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.List;
+
+/**
+ * Risk scores of the assessments at one level. {@code bands} counts scores per ten points
+ * (0-9, 10-19, ..., 90-100); percentiles are exact, since scores are whole numbers from 0 to 100.
+ */
+public record RiskScoreDistribution(long count, double mean, int min, int p50, int p90, int p99, int max,
+                                    List<Long> bands) {
+}
@@ -0,0 +1,12 @@
+package com.corebanking.risk_service.domain.model;
+
+import java.util.Map;
+
+/**
+ * Result of replaying the stored assessments against a candidate policy. {@code migrations} counts
+ * assessments by stored level and then by the level the candidate gives them; assessments stored
+ * without their inputs cannot be replayed and are only counted in {@code skipped}.
+ */
+public record RiskSimulation(String policyVersion, long simulated, long skipped,
+                             Map<RiskLevel, Map<RiskLevel, Long>> migrations) {
+}
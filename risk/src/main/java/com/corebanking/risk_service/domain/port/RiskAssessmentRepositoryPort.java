@@ -1,12 +1,29 @@
 package com.corebanking.risk_service.domain.port;
 
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface RiskAssessmentRepositoryPort {
     Optional<RiskAssessment> findByLoanApplicationId(UUID loanApplicationId);
+
+    /**
+     * Reads the stored assessment, bypassing any cache, so its version is the one a save will be
+     * checked against.
+     */
+    Optional<RiskAssessment> findByLoanApplicationIdUncached(UUID loanApplicationId);
     RiskAssessment save(RiskAssessment riskAssessment);
+    List<RiskAssessment> saveAll(List<RiskAssessment> riskAssessments);
+    Set<UUID> findExistingLoanApplicationIds(Collection<UUID> loanApplicationIds);
     Optional<RiskAssessment> findById(UUID id);
+
+    /**
+     * Up to {@code limit} assessments with an id greater than {@code afterId}, in id order.
+     */
+    List<RiskAssessment> findPageAfter(UUID afterId, int limit);
 }
 
@@ -0,0 +1,280 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAnalyticsSnapshot;
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskAssessmentStats;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskScoreDistribution;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process aggregates of the stored assessments: per-rule hit counts and a score histogram per
+ * {@link RiskLevel}, for all time and for a sliding window made of fixed-size time buckets.
+ * Scores are whole numbers from 0 to 100, so each histogram keeps one counter per score and its
+ * percentiles are exact.
+ * <p>
+ * Recording is lock-free: counters are {@link AtomicLongArray} cells and {@link LongAdder}s, and
+ * a window bucket that has aged out is replaced with a compare-and-set.
+ * <p>
+ * Assessments evaluated before this instance was created are loaded once by {@link #rebuild},
+ * which pages through the table by id; the ones evaluated afterwards are recorded as they are
+ * stored. Assessments written by other instances after this one started are not seen.
+ */
+public class RiskAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskAnalytics.class);
+
+    private static final int SCORES = 101;
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final Clock clock;
+    private final Instant cutoff;
+    private final long bucketMillis;
+    private final Counts total = new Counts();
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    // Rebuild bookkeeping; guarded by this, only touched by rebuild pages and replacements
+    private volatile boolean rebuilt;
+    private UUID rebuildPosition = FIRST_ID;
+    private final Set<UUID> superseded = new HashSet<>();
+
+    public RiskAnalytics(Duration window, Duration bucket) {
+        this(window, bucket, Clock.systemUTC());
+    }
+
+    RiskAnalytics(Duration window, Duration bucket, Clock clock) {
+        if (bucket.toMillis() <= 0 || window.toMillis() < bucket.toMillis()) {
+            throw new IllegalArgumentException("bucket must be positive and no longer than window");
+        }
+        this.clock = clock;
+        this.cutoff = clock.instant();
+        this.bucketMillis = bucket.toMillis();
+        this.buckets = new AtomicReferenceArray<>((int) (window.toMillis() / bucketMillis));
+    }
+
+    /**
+     * Counts a newly stored assessment.
+     */
+    public void record(RiskAssessment assessment) {
+        if (assessment == null || assessment.getEvaluatedAt().isBefore(cutoff)) {
+            // Stored before this instance started: counted by the rebuild
+            return;
+        }
+        add(assessment, 1);
+    }
+
+    /**
+     * Counts {@code current} in place of the assessment it re-evaluated.
+     */
+    public void replace(RiskAssessment previous, RiskAssessment current) {
+        if (previous != null) {
+            boolean counted;
+            synchronized (this) {
+                counted = !previous.getEvaluatedAt().isBefore(cutoff) || rebuilt
+                        || (previous.getId() != null && compare(previous.getId(), rebuildPosition) <= 0);
+                if (!counted && previous.getId() != null) {
+                    // The rebuild has not reached it yet and may still read the old row
+                    superseded.add(previous.getId());
+                }
+            }
+            if (counted) {
+                add(previous, -1);
+            }
+        }
+        record(current);
+    }
+
+    /**
+     * Loads the assessments evaluated before this instance was created, {@code pageSize} rows at a
+     * time in id order. Ids are time-ordered, so each page is a range scan of the primary key.
+     */
+    public void rebuild(RiskAssessmentRepositoryPort repository, int pageSize) {
+        long started = System.nanoTime();
+        long loaded = 0;
+        UUID after = FIRST_ID;
+        while (true) {
+            List<RiskAssessment> page = repository.findPageAfter(after, pageSize);
+            synchronized (this) {
+                for (RiskAssessment assessment : page) {
+                    if (assessment.getEvaluatedAt().isBefore(cutoff) && !superseded.remove(assessment.getId())) {
+                        add(assessment, 1);
+                        loaded++;
+                    }
+                    rebuildPosition = assessment.getId();
+                }
+                if (page.size() < pageSize) {
+                    rebuilt = true;
+                    superseded.clear();
+                    break;
+                }
+            }
+            after = page.get(page.size() - 1).getId();
+        }
+        log.info("Risk analytics rebuilt from {} stored assessments in {} ms", loaded,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isRebuilt() {
+        return rebuilt;
+    }
+
+    public RiskAnalyticsSnapshot snapshot() {
+        long now = Math.floorDiv(clock.millis(), bucketMillis);
+        long oldest = now - buckets.length() + 1;
+        List<Counts> window = new ArrayList<>(buckets.length());
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.slot >= oldest && bucket.slot <= now) {
+                window.add(bucket.counts);
+            }
+        }
+        return new RiskAnalyticsSnapshot(rebuilt, stats(List.of(total)), Instant.ofEpochMilli(oldest * bucketMillis),
+                stats(window));
+    }
+
+    private void add(RiskAssessment assessment, int delta) {
+        total.add(assessment, delta);
+        Counts bucket = bucketFor(assessment.getEvaluatedAt());
+        if (bucket != null) {
+            bucket.add(assessment, delta);
+        }
+    }
+
+    private Counts bucketFor(Instant evaluatedAt) {
+        long slot = Math.floorDiv(evaluatedAt.toEpochMilli(), bucketMillis);
+        long now = Math.floorDiv(clock.millis(), bucketMillis);
+        if (slot > now || slot <= now - buckets.length()) {
+            return null;
+        }
+        int index = (int) Math.floorMod(slot, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.slot == slot) {
+                return bucket.counts;
+            }
+            if (bucket != null && bucket.slot > slot) {
+                // A newer bucket took the slot, so this time is no longer in the window
+                return null;
+            }
+            Bucket fresh = new Bucket(slot);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh.counts;
+            }
+        }
+    }
+
+    private static RiskAssessmentStats stats(List<Counts> counts) {
+        long[][] histograms = new long[LEVELS.length][SCORES];
+        Map<String, Long> ruleHits = new TreeMap<>();
+        for (Counts c : counts) {
+            for (int level = 0; level < LEVELS.length; level++) {
+                for (int score = 0; score < SCORES; score++) {
+                    histograms[level][score] += c.scores.get(level * SCORES + score);
+                }
+            }
+            c.ruleHits.forEach((code, hits) -> ruleHits.merge(code, hits.sum(), Long::sum));
+        }
+        ruleHits.values().removeIf(hits -> hits <= 0);
+
+        long assessments = 0;
+        Map<RiskLevel, RiskScoreDistribution> levels = new EnumMap<>(RiskLevel.class);
+        for (int level = 0; level < LEVELS.length; level++) {
+            RiskScoreDistribution distribution = distribution(histograms[level]);
+            levels.put(LEVELS[level], distribution);
+            assessments += distribution.count();
+        }
+        return new RiskAssessmentStats(assessments, Collections.unmodifiableMap(levels),
+                Collections.unmodifiableMap(ruleHits));
+    }
+
+    private static RiskScoreDistribution distribution(long[] histogram) {
+        long count = 0;
+        long sum = 0;
+        int min = -1;
+        int max = -1;
+        Long[] bands = new Long[10];
+        Arrays.fill(bands, 0L);
+        for (int score = 0; score < SCORES; score++) {
+            long n = histogram[score];
+            if (n <= 0) {
+                continue;
+            }
+            count += n;
+            sum += n * score;
+            min = min < 0 ? score : min;
+            max = score;
+            bands[Math.min(9, score / 10)] += n;
+        }
+        if (count == 0) {
+            return new RiskScoreDistribution(0, 0, 0, 0, 0, 0, 0, List.of(bands));
+        }
+        return new RiskScoreDistribution(count, (double) sum / count, min, percentile(histogram, count, 0.50),
+                percentile(histogram, count, 0.90), percentile(histogram, count, 0.99), max, List.of(bands));
+    }
+
+    // Smallest score with at least ceil(q * count) assessments at or below it
+    private static int percentile(long[] histogram, long count, double q) {
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int score = 0; score < SCORES; score++) {
+            seen += Math.max(0, histogram[score]);
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return SCORES - 1;
+    }
+
+    // Byte order of the BINARY(16) column, which is how the database orders the ids
+    private static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class Counts {
+        private final AtomicLongArray scores = new AtomicLongArray(LEVELS.length * SCORES);
+        private final Map<String, LongAdder> ruleHits = new ConcurrentHashMap<>();
+
+        void add(RiskAssessment assessment, int delta) {
+            int score = Math.min(SCORES - 1, Math.max(0, assessment.getRiskScore()));
+            scores.addAndGet(assessment.getRiskLevel().ordinal() * SCORES + score, delta);
+            for (String code : assessment.getRulesApplied()) {
+                LongAdder hits = ruleHits.get(code);
+                if (hits == null) {
+                    hits = ruleHits.computeIfAbsent(code, c -> new LongAdder());
+                }
+                hits.add(delta);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long slot;
+        private final Counts counts = new Counts();
+
+        Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.corebanking.risk_service.domain.service;
 
+import com.corebanking.risk_service.domain.model.RiskAnalyticsSnapshot;
 import com.corebanking.risk_service.domain.model.RiskAssessment;
-import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskBatch;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
 import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,111 +23,152 @@ import java.util.UUID;
 public class RiskAssessmentService {
 
     private final RiskAssessmentRepositoryPort riskAssessmentRepository;
-
-    public RiskAssessmentService(RiskAssessmentRepositoryPort riskAssessmentRepository) {
+    private final RiskRuleEngine ruleEngine;
+    private final RiskBatchEvaluator batchEvaluator;
+    private final RiskEvaluationIdempotency idempotency;
+    private final RiskAnalytics analytics;
+    private final RiskPolicySimulator simulator;
+    private final RiskRescorer rescorer;
+
+    public RiskAssessmentService(RiskAssessmentRepositoryPort riskAssessmentRepository, RiskRuleEngine ruleEngine,
+                                 RiskBatchEvaluator batchEvaluator, RiskEvaluationIdempotency idempotency,
+                                 RiskAnalytics analytics, RiskPolicySimulator simulator, RiskRescorer rescorer) {
         this.riskAssessmentRepository = riskAssessmentRepository;
+        this.ruleEngine = ruleEngine;
+        this.batchEvaluator = batchEvaluator;
+        this.idempotency = idempotency;
+        this.analytics = analytics;
+        this.simulator = simulator;
+        this.rescorer = rescorer;
     }
 
     /**
-     * Evalúa el riesgo de una solicitud de préstamo basándose en múltiples factores.
+     * Evalúa el riesgo de una solicitud de préstamo basándose en múltiples factores, con las
+     * reglas de la política activa en {@link RiskRuleEngine}. Es idempotente: si la solicitud ya
+     * tiene una evaluación se devuelve la existente, y las llamadas simultáneas para la misma
+     * solicitud esperan a la primera en lugar de repetir el trabajo.
      * 
      * @param loanApplicationId ID de la solicitud de préstamo
      * @param customerCreditScore Puntaje crediticio del cliente (300-850)
      * @param requestedAmount Monto solicitado
      * @param termInMonths Plazo en meses (6-60)
      * @param monthlyIncome Ingresos mensuales del cliente
-     * @return RiskAssessment con el análisis de riesgo
+     * @return la evaluación y si se ha creado en esta llamada
      */
-    public RiskAssessment evaluateRisk(UUID loanApplicationId, Integer customerCreditScore,
-                                      BigDecimal requestedAmount, Integer termInMonths,
-                                      BigDecimal monthlyIncome) {
-        
-        List<String> rulesApplied = new ArrayList<>();
-        int riskScore = 0;
-
-        // Regla 1: Credit Score
-        if (customerCreditScore < 600) {
-            riskScore += 40;
-            rulesApplied.add("CREDIT_SCORE_BELOW_600");
-        } else if (customerCreditScore < 650) {
-            riskScore += 25;
-            rulesApplied.add("CREDIT_SCORE_BELOW_650");
-        } else if (customerCreditScore < 700) {
-            riskScore += 15;
-            rulesApplied.add("CREDIT_SCORE_BELOW_700");
-        } else {
-            rulesApplied.add("CREDIT_SCORE_ACCEPTABLE");
+    public RiskEvaluationOutcome evaluateRisk(UUID loanApplicationId, Integer customerCreditScore,
+                                             BigDecimal requestedAmount, Integer termInMonths,
+                                             BigDecimal monthlyIncome) {
+        Optional<RiskAssessment> stored = riskAssessmentRepository.findByLoanApplicationId(loanApplicationId);
+        if (stored.isPresent()) {
+            return RiskEvaluationOutcome.existing(stored.get());
         }
 
-        // Regla 2: Relación monto solicitado vs ingresos anuales
-        BigDecimal annualIncome = monthlyIncome.multiply(BigDecimal.valueOf(12));
-        BigDecimal debtToIncomeRatio = requestedAmount.divide(annualIncome, 4, java.math.RoundingMode.HALF_UP);
-        
-        if (debtToIncomeRatio.compareTo(BigDecimal.valueOf(0.5)) > 0) {
-            riskScore += 30;
-            rulesApplied.add("DEBT_TO_INCOME_HIGH");
-        } else if (debtToIncomeRatio.compareTo(BigDecimal.valueOf(0.3)) > 0) {
-            riskScore += 15;
-            rulesApplied.add("DEBT_TO_INCOME_MEDIUM");
-        } else {
-            rulesApplied.add("DEBT_TO_INCOME_ACCEPTABLE");
-        }
+        return idempotency.coalesce(loanApplicationId, () -> {
+            // Una evaluación guardada aquí entre la comprobación y la reserva ya está en la caché del repositorio
+            Optional<RiskAssessment> finished = riskAssessmentRepository.findByLoanApplicationId(loanApplicationId);
+            if (finished.isPresent()) {
+                return RiskEvaluationOutcome.existing(finished.get());
+            }
+            RiskAssessment assessment = assess(null, loanApplicationId, customerCreditScore, requestedAmount,
+                    termInMonths, monthlyIncome, null);
+            RiskAssessment saved;
+            try {
+                saved = riskAssessmentRepository.save(assessment);
+            } catch (DataIntegrityViolationException e) {
+                // Otra instancia guardó antes la misma solicitud; si no hay fila, falló otra restricción
+                return riskAssessmentRepository.findByLoanApplicationIdUncached(loanApplicationId)
+                        .map(RiskEvaluationOutcome::existing)
+                        .orElseThrow(() -> e);
+            }
+            analytics.record(saved);
+            return RiskEvaluationOutcome.created(saved);
+        });
+    }
 
-        // Regla 3: Plazo del préstamo
-        if (termInMonths > 48) {
-            riskScore += 15;
-            rulesApplied.add("TERM_TOO_LONG");
-        } else if (termInMonths > 36) {
-            riskScore += 10;
-            rulesApplied.add("TERM_LONG");
-        } else {
-            rulesApplied.add("TERM_ACCEPTABLE");
-        }
+    /**
+     * Calcula un riesgo orientativo con la política activa sin guardar nada: no consulta el
+     * repositorio ni ninguna caché y no cuenta en la analítica.
+     */
+    public RiskEvaluation quoteRisk(int customerCreditScore, BigDecimal requestedAmount, int termInMonths,
+                                    BigDecimal monthlyIncome) {
+        return ruleEngine.evaluate(customerCreditScore, requestedAmount, termInMonths, monthlyIncome);
+    }
 
-        // Regla 4: Ingresos muy bajos
-        if (monthlyIncome.compareTo(BigDecimal.valueOf(1000)) < 0) {
-            riskScore += 20;
-            rulesApplied.add("INCOME_TOO_LOW");
-        } else if (monthlyIncome.compareTo(BigDecimal.valueOf(2000)) < 0) {
-            riskScore += 10;
-            rulesApplied.add("INCOME_LOW");
-        } else {
-            rulesApplied.add("INCOME_ACCEPTABLE");
-        }
+    /**
+     * Vuelve a evaluar una solicitud con la política activa y sustituye su evaluación, cuya
+     * versión se incrementa. Si la solicitud no tenía evaluación se crea. Las reevaluaciones de
+     * la misma solicitud en esta instancia se ejecutan de una en una; entre instancias, la
+     * versión almacenada hace fallar a la que llegue con una versión antigua.
+     */
+    public RiskEvaluationOutcome reevaluateRisk(UUID loanApplicationId, Integer customerCreditScore,
+                                               BigDecimal requestedAmount, Integer termInMonths,
+                                               BigDecimal monthlyIncome) {
+        return idempotency.exclusive(loanApplicationId, () -> {
+            // Sin caché: el guardado debe llevar la versión almacenada, no una que otra instancia ya cambió
+            Optional<RiskAssessment> current = riskAssessmentRepository.findByLoanApplicationIdUncached(loanApplicationId);
+            RiskAssessment assessment = assess(
+                current.map(RiskAssessment::getId).orElse(null),
+                loanApplicationId, customerCreditScore, requestedAmount, termInMonths, monthlyIncome,
+                current.map(RiskAssessment::getVersion).orElse(null)
+            );
+            RiskAssessment saved = riskAssessmentRepository.save(assessment);
+            analytics.replace(current.orElse(null), saved);
+            return current.isPresent() ? RiskEvaluationOutcome.reevaluated(saved) : RiskEvaluationOutcome.created(saved);
+        });
+    }
 
-        // Regla 5: Monto solicitado muy alto
-        if (requestedAmount.compareTo(BigDecimal.valueOf(1000000)) > 0) {
-            riskScore += 15;
-            rulesApplied.add("AMOUNT_VERY_HIGH");
-        } else if (requestedAmount.compareTo(BigDecimal.valueOf(500000)) > 0) {
-            riskScore += 10;
-            rulesApplied.add("AMOUNT_HIGH");
-        } else {
-            rulesApplied.add("AMOUNT_ACCEPTABLE");
-        }
+    /**
+     * Valida el tamaño del lote y devuelve la evaluación pendiente de ejecutar. Las entradas
+     * {@code null} se conservan en su posición y se rechazan como inválidas.
+     */
+    public RiskBatch evaluateRiskBatch(List<RiskEvaluationInput> inputs) {
+        return batchEvaluator.prepare(inputs);
+    }
 
-        // Asegurar que el riskScore esté en el rango 0-100
-        riskScore = Math.min(100, Math.max(0, riskScore));
-
-        // Determinar el nivel de riesgo
-        RiskLevel riskLevel;
-        if (riskScore > 70) {
-            riskLevel = RiskLevel.HIGH;
-        } else if (riskScore > 40) {
-            riskLevel = RiskLevel.MEDIUM;
-        } else {
-            riskLevel = RiskLevel.LOW;
-        }
+    private RiskAssessment assess(UUID id, UUID loanApplicationId, Integer customerCreditScore,
+                                  BigDecimal requestedAmount, Integer termInMonths, BigDecimal monthlyIncome,
+                                  Long version) {
+        RiskEvaluation evaluation = ruleEngine.evaluate(
+            customerCreditScore, requestedAmount, termInMonths, monthlyIncome
+        );
 
-        RiskAssessment assessment = new RiskAssessment(
+        return new RiskAssessment(
+            id,
             loanApplicationId,
-            riskScore,
-            riskLevel,
-            rulesApplied,
-            Instant.now()
+            evaluation.riskScore(),
+            evaluation.riskLevel(),
+            evaluation.rules(),
+            Instant.now(),
+            version,
+            new RiskEvaluationInput(loanApplicationId, customerCreditScore, requestedAmount, termInMonths,
+                    monthlyIncome),
+            evaluation.policyVersion()
         );
+    }
+
+    /**
+     * Vuelve a puntuar todas las evaluaciones guardadas con una política candidata, sin guardar
+     * nada, y cuenta cuántas pasan de cada nivel a cada otro. La política activa no cambia.
+     */
+    public RiskSimulation simulatePolicy(RiskPolicy candidate) {
+        return simulator.simulate(candidate);
+    }
+
+    /**
+     * Empieza en segundo plano a puntuar con la política activa las evaluaciones guardadas con
+     * otra versión, a partir de los datos guardados con cada una, y las guarda como nuevas
+     * versiones. Falla si ya hay un recálculo en curso.
+     */
+    public RiskRescoreStatus startRescore() {
+        return rescorer.start();
+    }
+
+    public RiskRescoreStatus getRescoreStatus() {
+        return rescorer.getStatus();
+    }
 
-        return riskAssessmentRepository.save(assessment);
+    public RiskAnalyticsSnapshot getAnalytics() {
+        return analytics.snapshot();
     }
 
     public Optional<RiskAssessment> getByLoanApplicationId(UUID loanApplicationId) {
@@ -0,0 +1,198 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskBatch;
+import com.corebanking.risk_service.domain.model.RiskBatchItemResult;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Scores and persists large batches of applications. The batch is cut into chunks that run in
+ * parallel on a dedicated fork-join pool; each chunk is scored, checked for existing assessments
+ * with one query and written with one {@code saveAll}, so its rows go out as JDBC batches in a
+ * single transaction.
+ * <p>
+ * A loan application already assessed, or repeated earlier in the same batch, is rejected
+ * instead of failing the whole chunk on the unique constraint. If a chunk still fails, its
+ * assessments are retried one at a time.
+ * <p>
+ * Every stored assessment is passed to the optional {@code onCreated} listener from the chunk's
+ * thread.
+ */
+public class RiskBatchEvaluator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskBatchEvaluator.class);
+
+    private final RiskAssessmentRepositoryPort repository;
+    private final RiskRuleEngine ruleEngine;
+    private final int chunkSize;
+    private final int maxSize;
+    private final ForkJoinPool pool;
+    private final Consumer<RiskAssessment> onCreated;
+    private final Clock clock;
+
+    public RiskBatchEvaluator(RiskAssessmentRepositoryPort repository, RiskRuleEngine ruleEngine,
+                              int chunkSize, int maxSize, int parallelism, Consumer<RiskAssessment> onCreated) {
+        this(repository, ruleEngine, chunkSize, maxSize, parallelism, onCreated, Clock.systemUTC());
+    }
+
+    RiskBatchEvaluator(RiskAssessmentRepositoryPort repository, RiskRuleEngine ruleEngine,
+                       int chunkSize, int maxSize, int parallelism, Consumer<RiskAssessment> onCreated, Clock clock) {
+        if (chunkSize <= 0 || maxSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("chunkSize, maxSize and parallelism must be positive");
+        }
+        this.repository = repository;
+        this.ruleEngine = ruleEngine;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+        this.pool = new ForkJoinPool(parallelism);
+        this.onCreated = onCreated;
+        this.clock = clock;
+    }
+
+    /**
+     * Validates the batch size. A {@code null} entry is kept in place and reported as invalid.
+     */
+    public RiskBatch prepare(List<RiskEvaluationInput> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException("risk.batch.empty");
+        }
+        if (inputs.size() > maxSize) {
+            throw new IllegalArgumentException("risk.batch.tooLarge");
+        }
+        List<RiskEvaluationInput> batch = new ArrayList<>(inputs);
+        return sink -> run(batch, sink);
+    }
+
+    private int run(List<RiskEvaluationInput> inputs, Consumer<List<RiskBatchItemResult>> sink) {
+        boolean[] repeated = new boolean[inputs.size()];
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            RiskEvaluationInput input = inputs.get(i);
+            repeated[i] = input != null && !seen.add(input.loanApplicationId());
+        }
+
+        Consumer<List<RiskBatchItemResult>> serialSink = results -> {
+            synchronized (sink) {
+                sink.accept(results);
+            }
+        };
+        List<ForkJoinTask<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < inputs.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(inputs.size(), from + chunkSize);
+            chunks.add(pool.submit(() -> evaluateChunk(inputs, start, end, repeated, serialSink)));
+        }
+
+        int created = 0;
+        try {
+            for (ForkJoinTask<Integer> chunk : chunks) {
+                created += chunk.join();
+            }
+        } catch (RuntimeException e) {
+            // Usually the client went away; the remaining chunks have nowhere to report to
+            chunks.forEach(chunk -> chunk.cancel(false));
+            throw e;
+        }
+        log.info("Risk batch of {} evaluated: created={}, rejected={}", inputs.size(), created,
+                inputs.size() - created);
+        return created;
+    }
+
+    private int evaluateChunk(List<RiskEvaluationInput> inputs, int start, int end, boolean[] repeated,
+                              Consumer<List<RiskBatchItemResult>> sink) {
+        List<UUID> ids = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            if (inputs.get(i) != null && !repeated[i]) {
+                ids.add(inputs.get(i).loanApplicationId());
+            }
+        }
+        Set<UUID> existing = ids.isEmpty() ? Set.of() : repository.findExistingLoanApplicationIds(ids);
+
+        RiskBatchItemResult[] results = new RiskBatchItemResult[end - start];
+        List<RiskAssessment> pending = new ArrayList<>(ids.size());
+        List<Integer> pendingIndexes = new ArrayList<>(ids.size());
+        Instant evaluatedAt = clock.instant();
+        for (int i = start; i < end; i++) {
+            RiskEvaluationInput input = inputs.get(i);
+            if (input == null) {
+                results[i - start] = RiskBatchItemResult.rejected(i, "risk.batch.entry.invalid");
+            } else if (repeated[i] || existing.contains(input.loanApplicationId())) {
+                results[i - start] = RiskBatchItemResult.rejected(i, "risk.assessment.already.exists");
+            } else {
+                RiskEvaluation evaluation = ruleEngine.evaluate(input.customerCreditScore(),
+                        input.requestedAmount(), input.termInMonths(), input.monthlyIncome());
+                pending.add(new RiskAssessment(null, input.loanApplicationId(), evaluation.riskScore(),
+                        evaluation.riskLevel(), evaluation.rules(), evaluatedAt, null, input,
+                        evaluation.policyVersion()));
+                pendingIndexes.add(i);
+            }
+        }
+
+        int created = save(pending, pendingIndexes, results, start);
+        sink.accept(List.of(results));
+        return created;
+    }
+
+    private int save(List<RiskAssessment> pending, List<Integer> indexes, RiskBatchItemResult[] results, int start) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<RiskAssessment> saved = repository.saveAll(pending);
+            for (int j = 0; j < saved.size(); j++) {
+                int index = indexes.get(j);
+                results[index - start] = RiskBatchItemResult.created(index, saved.get(j));
+                notifyCreated(saved.get(j));
+            }
+            return saved.size();
+        } catch (RuntimeException e) {
+            log.warn("Risk batch chunk of {} failed, retrying one by one: {}", pending.size(), e.getMessage());
+        }
+        int created = 0;
+        for (int j = 0; j < pending.size(); j++) {
+            int index = indexes.get(j);
+            try {
+                RiskAssessment saved = repository.save(pending.get(j));
+                results[index - start] = RiskBatchItemResult.created(index, saved);
+                notifyCreated(saved);
+                created++;
+            } catch (RuntimeException e) {
+                log.warn("Risk assessment for loan application {} could not be saved: {}",
+                        pending.get(j).getLoanApplicationId(), e.getMessage());
+                results[index - start] = RiskBatchItemResult.rejected(index, "risk.batch.entry.failed");
+            }
+        }
+        return created;
+    }
+
+    private void notifyCreated(RiskAssessment saved) {
+        if (onCreated == null) {
+            return;
+        }
+        try {
+            onCreated.accept(saved);
+        } catch (RuntimeException e) {
+            log.warn("Risk assessment listener failed for {}: {}", saved.getLoanApplicationId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,85 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps retries of the same loan application from doing the work twice. Evaluations running in
+ * this instance are tracked per {@code loanApplicationId}, so simultaneous requests wait for the
+ * first one instead of racing it to the unique constraint. Stored assessments are not kept here;
+ * a retry after success is answered by the repository, which caches them.
+ */
+public class RiskEvaluationIdempotency {
+
+    private final ConcurrentMap<UUID, CompletableFuture<RiskEvaluationOutcome>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs {@code evaluation} unless one for the same loan application is already running here, in
+     * which case waits for it and returns its assessment as {@code EXISTING}. A failure is rethrown
+     * to every caller that waited for it.
+     */
+    public RiskEvaluationOutcome coalesce(UUID loanApplicationId, Supplier<RiskEvaluationOutcome> evaluation) {
+        CompletableFuture<RiskEvaluationOutcome> claim = new CompletableFuture<>();
+        CompletableFuture<RiskEvaluationOutcome> running = inFlight.putIfAbsent(loanApplicationId, claim);
+        if (running != null) {
+            coalesced.increment();
+            return RiskEvaluationOutcome.existing(await(running).assessment());
+        }
+        return run(loanApplicationId, claim, evaluation);
+    }
+
+    /**
+     * Runs {@code evaluation} once no other evaluation of the same loan application is running
+     * here. Evaluations that start meanwhile wait for this one.
+     */
+    public RiskEvaluationOutcome exclusive(UUID loanApplicationId, Supplier<RiskEvaluationOutcome> evaluation) {
+        CompletableFuture<RiskEvaluationOutcome> claim = new CompletableFuture<>();
+        CompletableFuture<RiskEvaluationOutcome> running;
+        while ((running = inFlight.putIfAbsent(loanApplicationId, claim)) != null) {
+            // Only waiting for it to finish; its outcome belongs to its own callers
+            running.exceptionally(e -> null).join();
+        }
+        return run(loanApplicationId, claim, evaluation);
+    }
+
+    private RiskEvaluationOutcome run(UUID loanApplicationId, CompletableFuture<RiskEvaluationOutcome> claim,
+                                      Supplier<RiskEvaluationOutcome> evaluation) {
+        RiskEvaluationOutcome outcome;
+        try {
+            outcome = evaluation.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(loanApplicationId, claim);
+            claim.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(loanApplicationId, claim);
+        claim.complete(outcome);
+        return outcome;
+    }
+
+    private static RiskEvaluationOutcome await(CompletableFuture<RiskEvaluationOutcome> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Counters
+    public long getCoalesced() { return coalesced.sum(); }
+}
@@ -0,0 +1,245 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskFactor;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRule;
+import com.corebanking.risk_service.domain.model.RiskRuleSet;
+import com.corebanking.risk_service.domain.model.RiskRuleTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, compiled form of a {@link RiskPolicy}. Each table becomes a sorted threshold array
+ * and parallel point/rule-bit arrays indexed by band, so a factor is scored with one binary search
+ * and no per-rule branching. Applied rules are collected as a bitmask over the plan's code table.
+ * <p>
+ * Factors are compared as scaled longs: whole units for the credit score and term, cents for
+ * money and ten-thousandths for the debt-to-income ratio, which is rounded to four decimals as it
+ * always was. Thresholds are pre-rounded towards the side that keeps every comparison exact for
+ * integer values, so the result is identical to comparing the decimals. Inputs that do not fit
+ * (more than two decimals, negative or huge amounts) fall back to {@link BigDecimal} comparisons.
+ */
+final class RiskEvaluationPlan {
+
+    private static final int MAX_RULE_CODES = 64;
+    // Stored with every assessment
+    private static final int MAX_VERSION_LENGTH = 64;
+
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+    private static final int MONEY_SCALE = 2;
+    private static final int DEBT_TO_INCOME_SCALE = 4;
+    private static final long DEBT_TO_INCOME_UNIT = 10_000L;
+    // Bounds that keep 2 * amount * 10^4 + 12 * income and 24 * income within a long
+    private static final long MAX_RATIO_AMOUNT_CENTS = Long.MAX_VALUE / (4 * DEBT_TO_INCOME_UNIT);
+    private static final long MAX_RATIO_INCOME_CENTS = Long.MAX_VALUE / 48;
+    private static final long UNREPRESENTABLE = Long.MIN_VALUE;
+
+    private final String version;
+    private final FactorPlan[] factors;
+    private final String[] codes;
+    private final int mediumAbove;
+    private final int highAbove;
+
+    private RiskEvaluationPlan(String version, FactorPlan[] factors, String[] codes, int mediumAbove, int highAbove) {
+        this.version = version;
+        this.factors = factors;
+        this.codes = codes;
+        this.mediumAbove = mediumAbove;
+        this.highAbove = highAbove;
+    }
+
+    static RiskEvaluationPlan compile(RiskPolicy policy) {
+        if (policy.version().length() > MAX_VERSION_LENGTH) {
+            throw new IllegalArgumentException("Risk policy versions are limited to " + MAX_VERSION_LENGTH + " characters");
+        }
+        Set<RiskFactor> seen = EnumSet.noneOf(RiskFactor.class);
+        // Bits are handed out in table order so decoding a mask lists rules by factor
+        Map<String, Integer> bits = new LinkedHashMap<>();
+        FactorPlan[] factors = new FactorPlan[policy.tables().size()];
+        for (int i = 0; i < factors.length; i++) {
+            RiskRuleTable table = policy.tables().get(i);
+            if (!seen.add(table.factor())) {
+                throw new IllegalArgumentException("Risk policy has more than one table for " + table.factor());
+            }
+            factors[i] = FactorPlan.compile(table, bits);
+        }
+        if (bits.size() > MAX_RULE_CODES) {
+            throw new IllegalArgumentException("Risk policies are limited to " + MAX_RULE_CODES + " rule codes");
+        }
+        return new RiskEvaluationPlan(policy.version(), factors, bits.keySet().toArray(String[]::new),
+                policy.mediumAbove(), policy.highAbove());
+    }
+
+    RiskEvaluation evaluate(int customerCreditScore, BigDecimal requestedAmount, int termInMonths,
+                            BigDecimal monthlyIncome) {
+        long amountCents = toCents(requestedAmount);
+        long incomeCents = toCents(monthlyIncome);
+        long debtToIncome = UNREPRESENTABLE;
+        if (amountCents != UNREPRESENTABLE && amountCents <= MAX_RATIO_AMOUNT_CENTS
+                && incomeCents > 0 && incomeCents <= MAX_RATIO_INCOME_CENTS) {
+            // HALF_UP of amount / (12 * income) at four decimals, for non-negative operands
+            long denominator = 12 * incomeCents;
+            debtToIncome = (2 * amountCents * DEBT_TO_INCOME_UNIT + denominator) / (2 * denominator);
+        }
+
+        long mask = 0;
+        int riskScore = 0;
+        for (FactorPlan factor : factors) {
+            int band = switch (factor.factor) {
+                case CREDIT_SCORE -> factor.band(customerCreditScore);
+                case TERM_IN_MONTHS -> factor.band(termInMonths);
+                case REQUESTED_AMOUNT -> amountCents != UNREPRESENTABLE
+                        ? factor.band(amountCents) : factor.band(requestedAmount);
+                case MONTHLY_INCOME -> incomeCents != UNREPRESENTABLE
+                        ? factor.band(incomeCents) : factor.band(monthlyIncome);
+                case DEBT_TO_INCOME -> debtToIncome != UNREPRESENTABLE
+                        ? factor.band(debtToIncome) : factor.band(requestedAmount.divide(
+                                monthlyIncome.multiply(MONTHS_PER_YEAR), DEBT_TO_INCOME_SCALE, RoundingMode.HALF_UP));
+            };
+            riskScore += factor.points[band];
+            mask |= factor.ruleBits[band];
+        }
+        riskScore = Math.min(100, Math.max(0, riskScore));
+        return new RiskEvaluation(riskScore, level(riskScore), new RiskRuleSet(mask, codes), version);
+    }
+
+    private RiskLevel level(int riskScore) {
+        if (riskScore > highAbove) {
+            return RiskLevel.HIGH;
+        }
+        return riskScore > mediumAbove ? RiskLevel.MEDIUM : RiskLevel.LOW;
+    }
+
+    /**
+     * Returns the value in cents, or {@link #UNREPRESENTABLE} when it has more than two decimals,
+     * is negative or has more than 16 digits.
+     */
+    private static long toCents(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale > MONEY_SCALE || value.signum() < 0 || value.precision() > 16) {
+            return UNREPRESENTABLE;
+        }
+        long cents = value.unscaledValue().longValue();
+        for (int i = scale; i < MONEY_SCALE; i++) {
+            cents *= 10;
+        }
+        return cents;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    private static final class FactorPlan {
+        private final RiskFactor factor;
+        // Thresholds in the factor's scaled unit: ceiling below, floor above
+        private final long[] scaledThresholds;
+        private final BigDecimal[] thresholds;
+        // BELOW counts thresholds <= value, ABOVE counts thresholds < value
+        private final boolean inclusive;
+        private final int[] points;
+        private final long[] ruleBits;
+
+        private FactorPlan(RiskFactor factor, long[] scaledThresholds, BigDecimal[] thresholds, boolean inclusive,
+                           int[] points, long[] ruleBits) {
+            this.factor = factor;
+            this.scaledThresholds = scaledThresholds;
+            this.thresholds = thresholds;
+            this.inclusive = inclusive;
+            this.points = points;
+            this.ruleBits = ruleBits;
+        }
+
+        static FactorPlan compile(RiskRuleTable table, Map<String, Integer> bits) {
+            List<RiskRule> rules = new ArrayList<>(table.rules());
+            rules.sort(Comparator.comparing(RiskRule::threshold));
+            int n = rules.size();
+            BigDecimal[] thresholds = new BigDecimal[n];
+            long[] scaledThresholds = new long[n];
+            int[] points = new int[n + 1];
+            long[] ruleBits = new long[n + 1];
+            boolean below = table.comparison() == RiskRuleTable.Comparison.BELOW;
+            // Band i is the value of the search; below, band n is the default, above, band 0 is
+            int offset = below ? 0 : 1;
+            ruleBits[below ? n : 0] = bit(bits, table.defaultCode());
+            int scale = scale(table.factor());
+            for (int i = 0; i < n; i++) {
+                RiskRule rule = rules.get(i);
+                if (i > 0 && thresholds[i - 1].compareTo(rule.threshold()) == 0) {
+                    throw new IllegalArgumentException("Risk policy repeats threshold " + rule.threshold()
+                            + " for " + table.factor());
+                }
+                thresholds[i] = rule.threshold();
+                scaledThresholds[i] = scaled(rule.threshold(), scale, below ? RoundingMode.CEILING : RoundingMode.FLOOR);
+                points[i + offset] = rule.points();
+                ruleBits[i + offset] = bit(bits, rule.code());
+            }
+            return new FactorPlan(table.factor(), scaledThresholds, thresholds, below, points, ruleBits);
+        }
+
+        private static long bit(Map<String, Integer> bits, String code) {
+            int index = bits.computeIfAbsent(code, c -> bits.size());
+            return index < MAX_RULE_CODES ? 1L << index : 0L;
+        }
+
+        private static int scale(RiskFactor factor) {
+            return switch (factor) {
+                case CREDIT_SCORE, TERM_IN_MONTHS -> 0;
+                case REQUESTED_AMOUNT, MONTHLY_INCOME -> MONEY_SCALE;
+                case DEBT_TO_INCOME -> DEBT_TO_INCOME_SCALE;
+            };
+        }
+
+        // For an integer x: x < t exactly when x < ceil(t), and x > t exactly when x > floor(t)
+        private static long scaled(BigDecimal threshold, int scale, RoundingMode rounding) {
+            BigDecimal value = threshold.movePointRight(scale).setScale(0, rounding);
+            if (value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+                return Long.MAX_VALUE;
+            }
+            if (value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+                return Long.MIN_VALUE;
+            }
+            return value.longValueExact();
+        }
+
+        int band(long value) {
+            long[] keys = scaledThresholds;
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < value || (inclusive && keys[mid] == value)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int band(BigDecimal value) {
+            int low = 0;
+            int high = thresholds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int cmp = thresholds[mid].compareTo(value);
+                if (cmp < 0 || (cmp == 0 && inclusive)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Replays the stored assessments against a candidate {@link RiskPolicy} without writing anything.
+ * The table is read in id order, one page at a time, while the pages already read are scored on a
+ * dedicated fork-join pool; at most {@code parallelism} pages are held in memory at once. Each page
+ * produces its own counts, which are merged as the pages complete.
+ */
+public class RiskPolicySimulator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskPolicySimulator.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+    // One counter per (stored level, simulated level), then the skipped count
+    private static final int SKIPPED = LEVELS.length * LEVELS.length;
+
+    private final RiskAssessmentRepositoryPort repository;
+    private final int pageSize;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    public RiskPolicySimulator(RiskAssessmentRepositoryPort repository, int pageSize, int parallelism) {
+        if (pageSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("pageSize and parallelism must be positive");
+        }
+        this.repository = repository;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Scores every stored assessment with the candidate policy and counts how the levels move.
+     * A candidate that does not compile is rejected with {@code risk.simulation.policy.invalid}.
+     */
+    public RiskSimulation simulate(RiskPolicy candidate) {
+        RiskEvaluationPlan plan;
+        try {
+            plan = RiskEvaluationPlan.compile(candidate);
+        } catch (IllegalArgumentException e) {
+            log.warn("Risk policy {} rejected for simulation: {}", candidate.version(), e.getMessage());
+            throw new IllegalArgumentException("risk.simulation.policy.invalid", e);
+        }
+
+        long started = System.nanoTime();
+        long[] counts = new long[SKIPPED + 1];
+        Deque<ForkJoinTask<long[]>> inFlight = new ArrayDeque<>(parallelism);
+        try {
+            UUID after = FIRST_ID;
+            List<RiskAssessment> page;
+            do {
+                page = repository.findPageAfter(after, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = page.get(page.size() - 1).getId();
+                List<RiskAssessment> scored = page;
+                if (inFlight.size() == parallelism) {
+                    merge(counts, inFlight.removeFirst().join());
+                }
+                inFlight.addLast(pool.submit(() -> score(plan, scored)));
+            } while (page.size() == pageSize);
+            while (!inFlight.isEmpty()) {
+                merge(counts, inFlight.removeFirst().join());
+            }
+        } catch (RuntimeException e) {
+            inFlight.forEach(task -> task.cancel(false));
+            throw e;
+        }
+
+        RiskSimulation simulation = toSimulation(plan.getVersion(), counts);
+        log.info("Risk policy {} simulated over {} assessments ({} without inputs) in {} ms",
+                simulation.policyVersion(), simulation.simulated(), simulation.skipped(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return simulation;
+    }
+
+    private static long[] score(RiskEvaluationPlan plan, List<RiskAssessment> page) {
+        long[] counts = new long[SKIPPED + 1];
+        for (RiskAssessment assessment : page) {
+            RiskEvaluationInput inputs = assessment.getInputs();
+            if (inputs == null) {
+                counts[SKIPPED]++;
+                continue;
+            }
+            RiskLevel simulated = plan.evaluate(inputs.customerCreditScore(), inputs.requestedAmount(),
+                    inputs.termInMonths(), inputs.monthlyIncome()).riskLevel();
+            counts[assessment.getRiskLevel().ordinal() * LEVELS.length + simulated.ordinal()]++;
+        }
+        return counts;
+    }
+
+    private static void merge(long[] into, long[] counts) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += counts[i];
+        }
+    }
+
+    private static RiskSimulation toSimulation(String policyVersion, long[] counts) {
+        Map<RiskLevel, Map<RiskLevel, Long>> migrations = new EnumMap<>(RiskLevel.class);
+        long simulated = 0;
+        for (RiskLevel from : LEVELS) {
+            Map<RiskLevel, Long> row = new EnumMap<>(RiskLevel.class);
+            for (RiskLevel to : LEVELS) {
+                long count = counts[from.ordinal() * LEVELS.length + to.ordinal()];
+                row.put(to, count);
+                simulated += count;
+            }
+            migrations.put(from, row);
+        }
+        return new RiskSimulation(policyVersion, simulated, counts[SKIPPED], migrations);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,8 @@
+package com.corebanking.risk_service.domain.service;
+
+public class RiskRescoreRunningException extends RuntimeException {
+
+    public RiskRescoreRunningException(String messageKey) {
+        super(messageKey);
+    }
+}
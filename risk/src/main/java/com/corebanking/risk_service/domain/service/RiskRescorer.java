@@ -0,0 +1,216 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskRescoring;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Re-scores the stored assessments with the active policy from the inputs stored with them, so
+ * no other service is called. The table is scanned in id order one page at a time; assessments
+ * already scored by the active policy, or stored without inputs, are left as they are. The rest
+ * are saved as new versions with one {@code saveAll} per page, falling back to one at a time if
+ * the page fails.
+ * <p>
+ * Every replaced assessment is passed to the optional {@code onRescored} listener with the
+ * assessment it replaced. Only one pass runs at a time; {@link #start()} runs it on a dedicated
+ * background thread and {@link #getStatus()} reports its progress and result. {@link #close()}
+ * interrupts a running pass, which stops before its next page.
+ */
+public class RiskRescorer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskRescorer.class);
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final RiskAssessmentRepositoryPort repository;
+    private final RiskRuleEngine ruleEngine;
+    private final int pageSize;
+    private final BiConsumer<RiskAssessment, RiskAssessment> onRescored;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RiskRescoreStatus status = RiskRescoreStatus.idle();
+
+    public RiskRescorer(RiskAssessmentRepositoryPort repository, RiskRuleEngine ruleEngine, int pageSize,
+                        BiConsumer<RiskAssessment, RiskAssessment> onRescored) {
+        this(repository, ruleEngine, pageSize, onRescored, Clock.systemUTC());
+    }
+
+    RiskRescorer(RiskAssessmentRepositoryPort repository, RiskRuleEngine ruleEngine, int pageSize,
+                 BiConsumer<RiskAssessment, RiskAssessment> onRescored, Clock clock) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.repository = repository;
+        this.ruleEngine = ruleEngine;
+        this.pageSize = pageSize;
+        this.onRescored = onRescored;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "risk-rescore");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts one pass on a background thread and returns its running status. Fails with
+     * {@link RiskRescoreRunningException} if a pass is already running.
+     */
+    public RiskRescoreStatus start() {
+        RiskRescoreStatus started = begin();
+        try {
+            executor.execute(() -> {
+                try {
+                    runPass();
+                } catch (RuntimeException e) {
+                    log.error("Risk re-scoring pass failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            status = new RiskRescoreStatus(false, started.startedAt(), clock.instant(), true, null);
+            running.set(false);
+            throw e;
+        }
+        return started;
+    }
+
+    public RiskRescoreStatus getStatus() {
+        return status;
+    }
+
+    private RiskRescoreStatus begin() {
+        if (!running.compareAndSet(false, true)) {
+            throw new RiskRescoreRunningException("risk.rescore.running");
+        }
+        status = new RiskRescoreStatus(true, clock.instant(), null, false, null);
+        return status;
+    }
+
+    private void runPass() {
+        Instant startedAt = status.startedAt();
+        try {
+            RiskRescoring result = scan();
+            status = new RiskRescoreStatus(false, startedAt, clock.instant(), false, result);
+        } catch (RuntimeException e) {
+            status = new RiskRescoreStatus(false, startedAt, clock.instant(), true, null);
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private RiskRescoring scan() {
+        long started = System.nanoTime();
+        Counts counts = new Counts();
+        UUID after = FIRST_ID;
+        List<RiskAssessment> page;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Risk re-scoring interrupted after " + counts.scanned + " assessments");
+            }
+            page = repository.findPageAfter(after, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            after = page.get(page.size() - 1).getId();
+            rescorePage(page, counts);
+        } while (page.size() == pageSize);
+
+        RiskRescoring result = new RiskRescoring(ruleEngine.getPolicyVersion(), counts.scanned, counts.rescored,
+                counts.levelChanged, counts.upToDate, counts.skipped, counts.failed);
+        log.info("Risk assessments re-scored with policy {} in {} ms: {}", result.policyVersion(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis(), result);
+        return result;
+    }
+
+    private void rescorePage(List<RiskAssessment> page, Counts counts) {
+        List<RiskAssessment> previous = new ArrayList<>(page.size());
+        List<RiskAssessment> pending = new ArrayList<>(page.size());
+        Instant evaluatedAt = clock.instant();
+        for (RiskAssessment assessment : page) {
+            counts.scanned++;
+            RiskEvaluationInput inputs = assessment.getInputs();
+            if (inputs == null) {
+                counts.skipped++;
+            } else if (ruleEngine.getPolicyVersion().equals(assessment.getPolicyVersion())) {
+                counts.upToDate++;
+            } else {
+                RiskEvaluation evaluation = ruleEngine.evaluate(inputs.customerCreditScore(), inputs.requestedAmount(),
+                        inputs.termInMonths(), inputs.monthlyIncome());
+                previous.add(assessment);
+                pending.add(new RiskAssessment(assessment.getId(), assessment.getLoanApplicationId(),
+                        evaluation.riskScore(), evaluation.riskLevel(), evaluation.rules(), evaluatedAt,
+                        assessment.getVersion(), inputs, evaluation.policyVersion()));
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<RiskAssessment> saved = repository.saveAll(pending);
+            for (int i = 0; i < saved.size(); i++) {
+                rescored(previous.get(i), saved.get(i), counts);
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Risk re-scoring page of {} failed, retrying one by one: {}", pending.size(), e.getMessage());
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                rescored(previous.get(i), repository.save(pending.get(i)), counts);
+            } catch (RuntimeException e) {
+                log.warn("Risk assessment for loan application {} could not be re-scored: {}",
+                        pending.get(i).getLoanApplicationId(), e.getMessage());
+                counts.failed++;
+            }
+        }
+    }
+
+    private void rescored(RiskAssessment previous, RiskAssessment saved, Counts counts) {
+        counts.rescored++;
+        if (previous.getRiskLevel() != saved.getRiskLevel()) {
+            counts.levelChanged++;
+        }
+        if (onRescored == null) {
+            return;
+        }
+        try {
+            onRescored.accept(previous, saved);
+        } catch (RuntimeException e) {
+            log.warn("Risk re-scoring listener failed for {}: {}", saved.getLoanApplicationId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static final class Counts {
+        long scanned;
+        long rescored;
+        long levelChanged;
+        long upToDate;
+        long skipped;
+        long failed;
+    }
+}
@@ -0,0 +1,59 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+
+/**
+ * Scores applications against the current {@link RiskPolicy}. A reload compiles the new policy
+ * first and then swaps a single reference, so evaluations in flight finish on the plan they
+ * started with and never see a half-applied policy.
+ * <p>
+ * The version is stored with every assessment and is how re-scoring tells stale ones apart, so a
+ * policy whose rules or limits change must come with a new version.
+ */
+public class RiskRuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskRuleEngine.class);
+
+    private volatile RiskEvaluationPlan plan;
+    // Guarded by this; only reload() reads it
+    private RiskPolicy policy;
+
+    public RiskRuleEngine(RiskPolicy policy) {
+        this.plan = RiskEvaluationPlan.compile(policy);
+        this.policy = policy;
+    }
+
+    public RiskEvaluation evaluate(int customerCreditScore, BigDecimal requestedAmount, int termInMonths,
+                                  BigDecimal monthlyIncome) {
+        return plan.evaluate(customerCreditScore, requestedAmount, termInMonths, monthlyIncome);
+    }
+
+    /**
+     * Replaces the active policy. An invalid policy, or one that changes the active policy without
+     * changing its version, throws and leaves the current one in place. Reloading the active policy
+     * unchanged does nothing.
+     */
+    public synchronized void reload(RiskPolicy policy) {
+        if (policy.version().equals(this.policy.version())) {
+            if (policy.equals(this.policy)) {
+                return;
+            }
+            throw new IllegalArgumentException("Risk policy " + policy.version()
+                    + " changed without a new version");
+        }
+        RiskEvaluationPlan compiled = RiskEvaluationPlan.compile(policy);
+        String previous = plan.getVersion();
+        plan = compiled;
+        this.policy = policy;
+        log.info("Risk policy {} replaced by {}", previous, compiled.getVersion());
+    }
+
+    public String getPolicyVersion() {
+        return plan.getVersion();
+    }
+}
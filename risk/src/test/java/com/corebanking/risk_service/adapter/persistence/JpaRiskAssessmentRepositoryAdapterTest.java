@@ -1,16 +1,25 @@
 package com.corebanking.risk_service.adapter.persistence;
 
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
 import com.corebanking.risk_service.domain.model.RiskLevel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +32,12 @@ class JpaRiskAssessmentRepositoryAdapterTest {
     @Mock
     private RiskAssessmentJpaRepository jpaRepository;
 
+    @Mock
+    private RiskRuleDictionary ruleDictionary;
+
+    @Spy
+    private RiskAssessmentCache cache = new RiskAssessmentCache(100, Duration.ofMinutes(10), Duration.ofSeconds(5));
+
     @InjectMocks
     private JpaRiskAssessmentRepositoryAdapter adapter;
 
@@ -39,6 +54,7 @@ class JpaRiskAssessmentRepositoryAdapterTest {
         entity.setRiskLevel(RiskLevel.MEDIUM);
         entity.setRulesApplied(List.of("CREDIT_SCORE_BELOW_700", "DEBT_TO_INCOME_MEDIUM"));
         entity.setEvaluatedAt(evaluatedAt);
+        entity.setVersion(2L);
 
         when(jpaRepository.findByLoanApplicationId(loanApplicationId))
             .thenReturn(Optional.of(entity));
@@ -55,6 +71,9 @@ class JpaRiskAssessmentRepositoryAdapterTest {
         assertEquals(RiskLevel.MEDIUM, assessment.getRiskLevel());
         assertEquals(2, assessment.getRulesApplied().size());
         assertEquals(evaluatedAt, assessment.getEvaluatedAt());
+        assertEquals(2L, assessment.getVersion());
+        assertNull(assessment.getInputs());
+        assertNull(assessment.getPolicyVersion());
         verify(jpaRepository).findByLoanApplicationId(loanApplicationId);
     }
 
@@ -109,9 +128,35 @@ class JpaRiskAssessmentRepositoryAdapterTest {
         assertEquals(RiskLevel.LOW, result.getRiskLevel());
         assertEquals(1, result.getRulesApplied().size());
         assertEquals(evaluatedAt, result.getEvaluatedAt());
+        verify(ruleDictionary).registerAll(List.of("CREDIT_SCORE_ACCEPTABLE"));
         verify(jpaRepository).save(any(RiskAssessmentEntity.class));
     }
 
+    @Test
+    void save_KeepsTheInputs() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskEvaluationInput inputs = new RiskEvaluationInput(
+            loanApplicationId, 640, new BigDecimal("120000.50"), 48, new BigDecimal("3100"));
+        RiskAssessment assessment = new RiskAssessment(null, loanApplicationId, 35, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_BELOW_650"), Instant.now(), null, inputs, "2024-07");
+        when(jpaRepository.save(any(RiskAssessmentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RiskAssessment result = adapter.save(assessment);
+
+        // Then
+        ArgumentCaptor<RiskAssessmentEntity> entity = ArgumentCaptor.forClass(RiskAssessmentEntity.class);
+        verify(jpaRepository).save(entity.capture());
+        assertEquals(640, entity.getValue().getCustomerCreditScore());
+        assertEquals(new BigDecimal("120000.50"), entity.getValue().getRequestedAmount());
+        assertEquals(48, entity.getValue().getTermInMonths());
+        assertEquals(new BigDecimal("3100"), entity.getValue().getMonthlyIncome());
+        assertEquals("2024-07", entity.getValue().getPolicyVersion());
+        assertEquals(inputs, result.getInputs());
+        assertEquals("2024-07", result.getPolicyVersion());
+    }
+
     @Test
     void save_ExistingAssessment() {
         // Given
@@ -151,6 +196,108 @@ class JpaRiskAssessmentRepositoryAdapterTest {
         verify(jpaRepository).save(any(RiskAssessmentEntity.class));
     }
 
+    @Test
+    void findByLoanApplicationId_RepeatedReadsAreCached() {
+        // Given
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        RiskAssessmentEntity entity = new RiskAssessmentEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setLoanApplicationId(found);
+        entity.setRiskScore(45);
+        entity.setRiskLevel(RiskLevel.MEDIUM);
+        entity.setRulesApplied(List.of("CREDIT_SCORE_BELOW_700"));
+        entity.setEvaluatedAt(Instant.now());
+        entity.setVersion(0L);
+        when(jpaRepository.findByLoanApplicationId(found)).thenReturn(Optional.of(entity));
+        when(jpaRepository.findByLoanApplicationId(missing)).thenReturn(Optional.empty());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(adapter.findByLoanApplicationId(found).isPresent());
+            assertTrue(adapter.findByLoanApplicationId(missing).isEmpty());
+        }
+
+        // Then
+        verify(jpaRepository, times(1)).findByLoanApplicationId(found);
+        verify(jpaRepository, times(1)).findByLoanApplicationId(missing);
+        assertEquals(2, cache.getNegativeHitCount());
+    }
+
+    @Test
+    void save_ReplacesCachedNotFound() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        when(jpaRepository.findByLoanApplicationId(loanApplicationId)).thenReturn(Optional.empty());
+        when(jpaRepository.save(any(RiskAssessmentEntity.class))).thenAnswer(invocation -> {
+            RiskAssessmentEntity entity = invocation.getArgument(0);
+            entity.setId(UUID.randomUUID());
+            entity.setVersion(0L);
+            return entity;
+        });
+        adapter.findByLoanApplicationId(loanApplicationId);
+
+        // When
+        RiskAssessment saved = adapter.save(new RiskAssessment(loanApplicationId, 25, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now()));
+        Optional<RiskAssessment> result = adapter.findByLoanApplicationId(loanApplicationId);
+
+        // Then
+        assertSame(saved, result.orElseThrow());
+        verify(jpaRepository, times(1)).findByLoanApplicationId(loanApplicationId);
+    }
+
+    @Test
+    void save_FailureEvictsTheCachedEntry() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        when(jpaRepository.findByLoanApplicationId(loanApplicationId)).thenReturn(Optional.empty());
+        when(jpaRepository.save(any(RiskAssessmentEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate"));
+        adapter.findByLoanApplicationId(loanApplicationId);
+
+        // When
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.save(new RiskAssessment(
+            loanApplicationId, 25, RiskLevel.LOW, List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now())));
+        adapter.findByLoanApplicationId(loanApplicationId);
+
+        // Then
+        verify(jpaRepository, times(2)).findByLoanApplicationId(loanApplicationId);
+    }
+
+    @Test
+    void findByLoanApplicationIdUncached_ReadsThroughAStaleCachedEntry() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessmentEntity stale = new RiskAssessmentEntity();
+        stale.setId(UUID.randomUUID());
+        stale.setLoanApplicationId(loanApplicationId);
+        stale.setRiskScore(45);
+        stale.setRiskLevel(RiskLevel.MEDIUM);
+        stale.setRulesApplied(List.of("CREDIT_SCORE_BELOW_700"));
+        stale.setEvaluatedAt(Instant.now());
+        stale.setVersion(0L);
+        RiskAssessmentEntity current = new RiskAssessmentEntity();
+        current.setId(stale.getId());
+        current.setLoanApplicationId(loanApplicationId);
+        current.setRiskScore(10);
+        current.setRiskLevel(RiskLevel.LOW);
+        current.setRulesApplied(List.of("CREDIT_SCORE_ACCEPTABLE"));
+        current.setEvaluatedAt(Instant.now());
+        current.setVersion(1L);
+        when(jpaRepository.findByLoanApplicationId(loanApplicationId))
+            .thenReturn(Optional.of(stale), Optional.of(current));
+        adapter.findByLoanApplicationId(loanApplicationId);
+
+        // When
+        RiskAssessment result = adapter.findByLoanApplicationIdUncached(loanApplicationId).orElseThrow();
+
+        // Then
+        assertEquals(1L, result.getVersion());
+        assertEquals(1L, adapter.findByLoanApplicationId(loanApplicationId).orElseThrow().getVersion());
+        verify(jpaRepository, times(2)).findByLoanApplicationId(loanApplicationId);
+    }
+
     @Test
     void findById_Found() {
         // Given
@@ -198,4 +345,73 @@ class JpaRiskAssessmentRepositoryAdapterTest {
         assertFalse(result.isPresent());
         verify(jpaRepository).findById(assessmentId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_SavesInOneCall() {
+        // Given
+        Instant evaluatedAt = Instant.now();
+        List<RiskAssessment> assessments = List.of(
+            new RiskAssessment(UUID.randomUUID(), 0, RiskLevel.LOW, List.of("CREDIT_SCORE_ACCEPTABLE"), evaluatedAt),
+            new RiskAssessment(UUID.randomUUID(), 40, RiskLevel.LOW, List.of("CREDIT_SCORE_BELOW_600"), evaluatedAt)
+        );
+        when(jpaRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<RiskAssessmentEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+            return entities;
+        });
+
+        // When
+        List<RiskAssessment> result = adapter.saveAll(assessments);
+
+        // Then
+        assertEquals(2, result.size());
+        assertNotNull(result.get(0).getId());
+        assertEquals(assessments.get(1).getLoanApplicationId(), result.get(1).getLoanApplicationId());
+        assertEquals(40, result.get(1).getRiskScore());
+        verify(ruleDictionary).registerAll(List.of("CREDIT_SCORE_ACCEPTABLE"));
+        verify(ruleDictionary).registerAll(List.of("CREDIT_SCORE_BELOW_600"));
+        verify(jpaRepository).saveAll(anyList());
+        verify(cache, times(2)).refresh(any(RiskAssessment.class));
+        verify(cache, never()).put(any());
+    }
+
+    @Test
+    void findExistingLoanApplicationIds_QueriesOnlyWhenNotEmpty() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        List<UUID> ids = List.of(existing, UUID.randomUUID());
+        when(jpaRepository.findExistingLoanApplicationIds(ids)).thenReturn(List.of(existing));
+
+        // When
+        Set<UUID> found = adapter.findExistingLoanApplicationIds(ids);
+        Set<UUID> none = adapter.findExistingLoanApplicationIds(List.of());
+
+        // Then
+        assertEquals(Set.of(existing), found);
+        assertTrue(none.isEmpty());
+        verify(jpaRepository, times(1)).findExistingLoanApplicationIds(anyCollection());
+    }
+
+    @Test
+    void findPageAfter_RequestsOneBoundedPage() {
+        // Given
+        UUID after = UUID.randomUUID();
+        RiskAssessmentEntity entity = new RiskAssessmentEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setLoanApplicationId(UUID.randomUUID());
+        entity.setRiskScore(30);
+        entity.setRiskLevel(RiskLevel.LOW);
+        entity.setRulesApplied(List.of("TERM_LONG"));
+        entity.setEvaluatedAt(Instant.now());
+        entity.setVersion(0L);
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(eq(after), any(Pageable.class))).thenReturn(List.of(entity));
+
+        // When
+        List<RiskAssessment> page = adapter.findPageAfter(after, 500);
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals(entity.getId(), page.get(0).getId());
+        verify(jpaRepository).findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, 500));
+    }
+}
@@ -0,0 +1,143 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskAssessmentCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final RiskAssessmentCache cache = new RiskAssessmentCache(2, Duration.ofMinutes(10),
+        Duration.ofSeconds(5), nanos::get);
+
+    @Test
+    void get_LoadsOnceAndCountsHits() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment assessment = assessment(loanApplicationId);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Optional<RiskAssessment> first = cache.get(loanApplicationId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(assessment);
+        });
+        Optional<RiskAssessment> second = cache.get(loanApplicationId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Then
+        assertSame(assessment, first.orElseThrow());
+        assertSame(assessment, second.orElseThrow());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getNegativeHitCount());
+    }
+
+    @Test
+    void get_NotFoundIsCachedForTheNegativeTtl() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(loanApplicationId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        boolean cachedEmpty = cache.get(loanApplicationId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(assessment(id));
+        }).isEmpty();
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        boolean reloaded = cache.get(loanApplicationId, id -> {
+            loads.incrementAndGet();
+            return Optional.of(assessment(id));
+        }).isPresent();
+
+        // Then
+        assertTrue(cachedEmpty);
+        assertTrue(reloaded);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getNegativeHitCount());
+    }
+
+    @Test
+    void put_ReplacesNegativeEntryWithTheFullTtl() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment saved = assessment(loanApplicationId);
+        cache.get(loanApplicationId, id -> Optional.empty());
+
+        // When
+        cache.put(saved);
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        Optional<RiskAssessment> result = cache.get(loanApplicationId, id -> Optional.empty());
+
+        // Then
+        assertSame(saved, result.orElseThrow());
+    }
+
+    @Test
+    void refresh_OnlyReplacesCachedEntries() {
+        // Given
+        UUID cachedId = UUID.randomUUID();
+        UUID uncachedId = UUID.randomUUID();
+        cache.get(cachedId, id -> Optional.empty());
+        RiskAssessment saved = assessment(cachedId);
+
+        // When
+        cache.refresh(saved);
+        cache.refresh(assessment(uncachedId));
+
+        // Then
+        assertSame(saved, cache.get(cachedId, id -> Optional.empty()).orElseThrow());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    void invalidateAll_ForcesReload() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        cache.put(assessment(loanApplicationId));
+
+        // When
+        cache.invalidateAll(List.of(loanApplicationId));
+        Optional<RiskAssessment> result = cache.get(loanApplicationId, id -> Optional.empty());
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void maxSize_BoundsTheEntriesAndCountsEvictions() {
+        // When
+        for (int i = 0; i < 50; i++) {
+            cache.put(assessment(UUID.randomUUID()));
+        }
+        cache.cleanUp();
+
+        // Then
+        assertEquals(2, cache.getSize());
+        assertEquals(48, cache.getEvictionCount());
+    }
+
+    private static RiskAssessment assessment(UUID loanApplicationId) {
+        return new RiskAssessment(UUID.randomUUID(), loanApplicationId, 0, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now(), 0L);
+    }
+}
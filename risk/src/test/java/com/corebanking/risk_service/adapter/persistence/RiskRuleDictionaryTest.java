@@ -0,0 +1,89 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskRuleDictionaryTest {
+
+    private static final String SELECT_ID = "SELECT id FROM risk_rule_codes WHERE code = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RiskRuleDictionary dictionary() {
+        return new RiskRuleDictionary(jdbcTemplate, TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    void register_InsertsNewCodeOnceAndCachesIt() {
+        // Given
+        RiskRuleDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "DEBT_TO_INCOME_HIGH"))
+            .thenReturn(List.of())
+            .thenReturn(List.of(3));
+
+        // When
+        int first = dictionary.register("DEBT_TO_INCOME_HIGH");
+        int second = dictionary.register("DEBT_TO_INCOME_HIGH");
+
+        // Then
+        assertEquals(3, first);
+        assertEquals(3, second);
+        assertEquals("DEBT_TO_INCOME_HIGH", dictionary.codeOf(3));
+        verify(jdbcTemplate, times(1)).update(contains("INSERT IGNORE"), eq("DEBT_TO_INCOME_HIGH"));
+        verify(jdbcTemplate, times(2)).queryForList(SELECT_ID, Integer.class, "DEBT_TO_INCOME_HIGH");
+    }
+
+    @Test
+    void find_UnknownCodeDoesNotInsert() {
+        // Given
+        RiskRuleDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList(SELECT_ID, Integer.class, "TERM_TOO_LONG")).thenReturn(List.of());
+
+        // When
+        Integer id = dictionary.find("TERM_TOO_LONG");
+
+        // Then
+        assertNull(id);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void codeOf_LoadsUnknownIdOnce() {
+        // Given
+        RiskRuleDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList("SELECT code FROM risk_rule_codes WHERE id = ?", String.class, 5))
+            .thenReturn(List.of("CREDIT_SCORE_BELOW_600"));
+
+        // When
+        String first = dictionary.codeOf(5);
+        String second = dictionary.codeOf(5);
+
+        // Then
+        assertEquals("CREDIT_SCORE_BELOW_600", first);
+        assertEquals("CREDIT_SCORE_BELOW_600", second);
+        verify(jdbcTemplate, times(1)).queryForList("SELECT code FROM risk_rule_codes WHERE id = ?", String.class, 5);
+    }
+
+    @Test
+    void codeOf_MissingIdFails() {
+        // Given
+        RiskRuleDictionary dictionary = dictionary();
+        when(jdbcTemplate.queryForList("SELECT code FROM risk_rule_codes WHERE id = ?", String.class, 9))
+            .thenReturn(List.of());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> dictionary.codeOf(9));
+    }
+}
@@ -0,0 +1,68 @@
+package com.corebanking.risk_service.adapter.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskRulesAppliedConverterTest {
+
+    @Mock
+    private RiskRuleDictionary dictionary;
+
+    @Test
+    void roundTrip_KeepsCodesInOrder() {
+        // Given
+        RiskRulesAppliedConverter converter = new RiskRulesAppliedConverter(dictionary);
+        when(dictionary.find("CREDIT_SCORE_BELOW_600")).thenReturn(1);
+        when(dictionary.find("DEBT_TO_INCOME_HIGH")).thenReturn(300);
+        when(dictionary.codeOf(1)).thenReturn("CREDIT_SCORE_BELOW_600");
+        when(dictionary.codeOf(300)).thenReturn("DEBT_TO_INCOME_HIGH");
+
+        // When
+        byte[] column = converter.convertToDatabaseColumn(List.of("DEBT_TO_INCOME_HIGH", "CREDIT_SCORE_BELOW_600"));
+        List<String> codes = converter.convertToEntityAttribute(column);
+
+        // Then
+        assertArrayEquals(new byte[] {0x01, 0x2C, 0x00, 0x01}, column);
+        assertEquals(List.of("DEBT_TO_INCOME_HIGH", "CREDIT_SCORE_BELOW_600"), codes);
+    }
+
+    @Test
+    void convert_EmptyAndNull() {
+        // Given
+        RiskRulesAppliedConverter converter = new RiskRulesAppliedConverter(dictionary);
+
+        // When / Then
+        assertEquals(0, converter.convertToDatabaseColumn(null).length);
+        assertEquals(0, converter.convertToDatabaseColumn(List.of()).length);
+        assertEquals(List.of(), converter.convertToEntityAttribute(null));
+        assertEquals(List.of(), converter.convertToEntityAttribute(new byte[0]));
+        verifyNoInteractions(dictionary);
+    }
+
+    @Test
+    void convertToDatabaseColumn_UnregisteredCodeFails() {
+        // Given
+        RiskRulesAppliedConverter converter = new RiskRulesAppliedConverter(dictionary);
+        when(dictionary.find("TERM_TOO_LONG")).thenReturn(null);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> converter.convertToDatabaseColumn(List.of("TERM_TOO_LONG")));
+    }
+
+    @Test
+    void convertToEntityAttribute_OddLengthFails() {
+        // Given
+        RiskRulesAppliedConverter converter = new RiskRulesAppliedConverter(dictionary);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute(new byte[] {0x00, 0x01, 0x02}));
+    }
+}
@@ -0,0 +1,98 @@
+package com.corebanking.risk_service.adapter.policy;
+
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.service.RiskRuleEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskPolicyReloaderTest {
+
+    private static final String POLICY = """
+        {
+          "version": "%s",
+          "mediumAbove": 40,
+          "highAbove": 70,
+          "tables": [
+            {
+              "factor": "CREDIT_SCORE",
+              "comparison": "BELOW",
+              "defaultCode": "CREDIT_SCORE_ACCEPTABLE",
+              "rules": [
+                {"threshold": 600, "points": 40, "code": "CREDIT_SCORE_BELOW_600"},
+                {"threshold": 720, "points": 20, "code": "CREDIT_SCORE_BELOW_720"}
+              ]
+            }
+          ]
+        }
+        """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ParsesRulesFile() throws Exception {
+        // Given
+        Path file = directory.resolve("risk-rules.json");
+        Files.writeString(file, POLICY.formatted("2024-06"));
+
+        // When
+        RiskPolicy policy = RiskPolicyFile.read(file);
+
+        // Then
+        assertEquals("2024-06", policy.version());
+        assertEquals(1, policy.tables().size());
+        assertEquals(0, new BigDecimal("720").compareTo(policy.tables().get(0).rules().get(1).threshold()));
+        assertEquals(20, new RiskRuleEngine(policy)
+            .evaluate(700, new BigDecimal("10000"), 12, new BigDecimal("5000")).riskScore());
+    }
+
+    @Test
+    void reloadIfChanged_AppliesModifiedFile() throws Exception {
+        // Given
+        Path file = directory.resolve("risk-rules.json");
+        Files.writeString(file, POLICY.formatted("v1"));
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicyFile.read(file));
+        RiskPolicyReloader reloader = new RiskPolicyReloader(engine, file);
+
+        // When
+        reloader.reloadIfChanged();
+        String unchanged = engine.getPolicyVersion();
+        write(file, POLICY.formatted("v2"), 1);
+        reloader.reloadIfChanged();
+
+        // Then
+        assertEquals("v1", unchanged);
+        assertEquals("v2", engine.getPolicyVersion());
+    }
+
+    @Test
+    void reloadIfChanged_KeepsPolicyWhenFileIsInvalid() throws Exception {
+        // Given
+        Path file = directory.resolve("risk-rules.json");
+        Files.writeString(file, POLICY.formatted("v1"));
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicyFile.read(file));
+        RiskPolicyReloader reloader = new RiskPolicyReloader(engine, file);
+
+        // When
+        write(file, POLICY.formatted("v2").replace("\"highAbove\": 70", "\"highAbove\": 10"), 1);
+        reloader.reloadIfChanged();
+        write(file, "{ not json", 2);
+        reloader.reloadIfChanged();
+
+        // Then
+        assertEquals("v1", engine.getPolicyVersion());
+    }
+
+    private static void write(Path file, String content, int secondsLater) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(secondsLater)));
+    }
+}
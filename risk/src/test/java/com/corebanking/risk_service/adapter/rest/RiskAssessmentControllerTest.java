@@ -1,22 +1,51 @@
 package com.corebanking.risk_service.adapter.rest;
 
+import com.corebanking.risk_service.domain.model.RiskAnalyticsSnapshot;
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskAssessmentStats;
+import com.corebanking.risk_service.domain.model.RiskBatch;
+import com.corebanking.risk_service.domain.model.RiskBatchItemResult;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
 import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskRescoring;
+import com.corebanking.risk_service.domain.model.RiskRuleSet;
+import com.corebanking.risk_service.domain.model.RiskScoreDistribution;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
 import com.corebanking.risk_service.domain.service.RiskAssessmentService;
+import com.corebanking.risk_service.domain.service.RiskRescoreRunningException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +61,12 @@ class RiskAssessmentControllerTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private RiskAssessmentController controller;
 
@@ -51,7 +86,7 @@ class RiskAssessmentControllerTest {
 
         when(riskAssessmentService.evaluateRisk(
             loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
-        )).thenReturn(assessment);
+        )).thenReturn(RiskEvaluationOutcome.created(assessment));
 
         var request = new EvaluateRiskRequest(
             loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
@@ -88,7 +123,7 @@ class RiskAssessmentControllerTest {
 
         when(riskAssessmentService.evaluateRisk(
             loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
-        )).thenReturn(assessment);
+        )).thenReturn(RiskEvaluationOutcome.created(assessment));
 
         var request = new EvaluateRiskRequest(
             loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
@@ -102,6 +137,141 @@ class RiskAssessmentControllerTest {
         verify(riskAssessmentService).evaluateRisk(loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000"));
     }
 
+    @Test
+    void evaluateRisk_ExistingAssessmentReturnsOk() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        UUID assessmentId = UUID.randomUUID();
+        RiskAssessment assessment = new RiskAssessment(
+            assessmentId,
+            loanApplicationId,
+            45,
+            RiskLevel.MEDIUM,
+            List.of("CREDIT_SCORE_BELOW_700"),
+            Instant.now(),
+            0L
+        );
+
+        when(riskAssessmentService.evaluateRisk(
+            loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
+        )).thenReturn(RiskEvaluationOutcome.existing(assessment));
+
+        var request = new EvaluateRiskRequest(
+            loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000")
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.evaluateRisk(request, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        var response = (RiskAssessmentResponse) result.getBody();
+        assertEquals(assessmentId, response.id());
+        assertEquals(0L, response.version());
+    }
+
+    @Test
+    void quoteRisk_ReturnsScoreWithoutLoanApplication() {
+        // Given
+        RiskEvaluation evaluation = new RiskEvaluation(40, RiskLevel.LOW,
+            RiskRuleSet.of(List.of("CREDIT_SCORE_BELOW_600")), "default");
+        when(riskAssessmentService.quoteRisk(550, new BigDecimal("10000"), 24, new BigDecimal("5000")))
+            .thenReturn(evaluation);
+        var request = new EvaluateRiskRequest(null, 550, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+
+        // When
+        ResponseEntity<RiskQuoteResponse> result = controller.quoteRisk(request);
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(new RiskQuoteResponse(40, "LOW", List.of("CREDIT_SCORE_BELOW_600"), "default"), result.getBody());
+        verify(riskAssessmentService, never()).evaluateRisk(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void quoteGroup_AppliesEveryConstraintButTheLoanApplicationId() {
+        // Given
+        var withoutId = new EvaluateRiskRequest(null, 550, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+        var outOfRange = new EvaluateRiskRequest(null, 200, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator realValidator = factory.getValidator();
+
+            // When
+            var quoteViolations = realValidator.validate(withoutId, EvaluateRiskRequest.Quote.class);
+            var defaultViolations = realValidator.validate(withoutId);
+            var rangeViolations = realValidator.validate(outOfRange, EvaluateRiskRequest.Quote.class);
+
+            // Then
+            assertTrue(quoteViolations.isEmpty());
+            assertEquals(1, defaultViolations.size());
+            assertEquals("Loan application ID cannot be null", defaultViolations.iterator().next().getMessage());
+            assertEquals(1, rangeViolations.size());
+            assertEquals("Credit score must be at least 300", rangeViolations.iterator().next().getMessage());
+        }
+    }
+
+    @Test
+    void validation_RejectsInputsTheStoredColumnsCannotHoldExactly() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        var fractionalAmount = new EvaluateRiskRequest(loanApplicationId, 700, new BigDecimal("10000.005"), 24, new BigDecimal("5000"));
+        var fractionalIncome = new EvaluateRiskRequest(loanApplicationId, 700, new BigDecimal("10000"), 24, new BigDecimal("5000.001"));
+        var hugeIncome = new EvaluateRiskRequest(null, 700, new BigDecimal("10000"), 24, new BigDecimal("10000000000000"));
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator realValidator = factory.getValidator();
+
+            // When
+            var amountViolations = realValidator.validate(fractionalAmount);
+            var incomeViolations = realValidator.validate(fractionalIncome);
+            var hugeIncomeViolations = realValidator.validate(hugeIncome, EvaluateRiskRequest.Quote.class);
+
+            // Then
+            assertEquals("Requested amount must have at most 2 decimals", amountViolations.iterator().next().getMessage());
+            assertEquals(1, amountViolations.size());
+            assertEquals("Monthly income must have at most 13 digits and 2 decimals", incomeViolations.iterator().next().getMessage());
+            assertEquals(1, incomeViolations.size());
+            assertEquals("Monthly income must have at most 13 digits and 2 decimals", hugeIncomeViolations.iterator().next().getMessage());
+            assertEquals(1, hugeIncomeViolations.size());
+        }
+    }
+
+    @Test
+    void reevaluateRisk_ReturnsNewVersion() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        UUID assessmentId = UUID.randomUUID();
+        RiskAssessment assessment = new RiskAssessment(
+            assessmentId,
+            loanApplicationId,
+            55,
+            RiskLevel.MEDIUM,
+            List.of("CREDIT_SCORE_BELOW_650", "DEBT_TO_INCOME_HIGH"),
+            Instant.now(),
+            2L
+        );
+
+        when(riskAssessmentService.reevaluateRisk(
+            loanApplicationId, 620, new BigDecimal("500000"), 24, new BigDecimal("3000")
+        )).thenReturn(RiskEvaluationOutcome.reevaluated(assessment));
+
+        var request = new EvaluateRiskRequest(
+            loanApplicationId, 620, new BigDecimal("500000"), 24, new BigDecimal("3000")
+        );
+
+        // When
+        ResponseEntity<Object> result = controller.reevaluateRisk(request, "en");
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        var response = (RiskAssessmentResponse) result.getBody();
+        assertEquals(assessmentId, response.id());
+        assertEquals(55, response.riskScore());
+        assertEquals(2L, response.version());
+        verify(riskAssessmentService, never()).evaluateRisk(any(), any(), any(), any(), any());
+    }
+
     @Test
     void evaluateRisk_BusinessValidationError() {
         // Given
@@ -130,6 +300,141 @@ class RiskAssessmentControllerTest {
         verify(messageSource).getMessage("INVALID_CREDIT_SCORE", null, "Unknown error", Locale.ENGLISH);
     }
 
+    @Test
+    void evaluateRiskBatch_StreamsOneLinePerRequest() throws Exception {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        UUID assessmentId = UUID.randomUUID();
+        var valid = new EvaluateRiskRequest(loanApplicationId, 650, new BigDecimal("500000"), 24, new BigDecimal("3000"));
+        var invalid = new EvaluateRiskRequest(UUID.randomUUID(), 200, new BigDecimal("500000"), 24, new BigDecimal("3000"));
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<EvaluateRiskRequest> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Credit score must be at least 300");
+        when(validator.validate(valid)).thenReturn(Set.of());
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        RiskAssessment assessment = new RiskAssessment(assessmentId, loanApplicationId, 25, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_BELOW_650"), Instant.now());
+        when(riskAssessmentService.evaluateRiskBatch(anyList())).thenAnswer(invocation -> {
+            List<RiskEvaluationInput> inputs = invocation.getArgument(0);
+            assertEquals(loanApplicationId, inputs.get(0).loanApplicationId());
+            assertNull(inputs.get(1));
+            return (RiskBatch) sink -> {
+                sink.accept(List.of(RiskBatchItemResult.created(0, assessment),
+                    RiskBatchItemResult.rejected(1, "risk.batch.entry.invalid")));
+                return 1;
+            };
+        });
+        when(messageSource.getMessage("Credit score must be at least 300", null, "Credit score must be at least 300",
+            Locale.forLanguageTag("es"))).thenReturn("El puntaje crediticio debe ser al menos 300");
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = controller.evaluateRiskBatch(List.of(valid, invalid), "es");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        RiskBatchItemResponse created = objectMapper.readValue(lines[0], RiskBatchItemResponse.class);
+        RiskBatchItemResponse rejected = objectMapper.readValue(lines[1], RiskBatchItemResponse.class);
+        assertEquals(assessmentId, created.id());
+        assertEquals("LOW", created.riskLevel());
+        assertNull(created.error());
+        assertEquals(1, rejected.index());
+        assertEquals("El puntaje crediticio debe ser al menos 300", rejected.error());
+    }
+
+    @Test
+    void evaluateRiskBatch_TooLarge() throws Exception {
+        // Given
+        var request = new EvaluateRiskRequest(UUID.randomUUID(), 650, new BigDecimal("500000"), 24, new BigDecimal("3000"));
+        when(validator.validate(request)).thenReturn(Set.of());
+        when(riskAssessmentService.evaluateRiskBatch(anyList()))
+            .thenThrow(new IllegalArgumentException("risk.batch.tooLarge"));
+        when(messageSource.getMessage("risk.batch.tooLarge", null, "Unknown error", Locale.ENGLISH))
+            .thenReturn("The batch exceeds the maximum number of evaluations");
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = controller.evaluateRiskBatch(List.of(request), null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("The batch exceeds the maximum number of evaluations",
+            objectMapper.readValue(out.toByteArray(), ErrorResponse.class).error());
+    }
+
+    @Test
+    void getAnalytics_MapsSnapshot() {
+        // Given
+        RiskScoreDistribution empty = new RiskScoreDistribution(0, 0, 0, 0, 0, 0, 0, List.of());
+        RiskScoreDistribution high = new RiskScoreDistribution(2, 80, 75, 75, 85, 85, 85, List.of());
+        Map<RiskLevel, RiskScoreDistribution> levels = new EnumMap<>(Map.of(
+            RiskLevel.LOW, empty, RiskLevel.MEDIUM, empty, RiskLevel.HIGH, high));
+        RiskAssessmentStats stats = new RiskAssessmentStats(2, levels, Map.of("CREDIT_SCORE_BELOW_600", 2L));
+        Instant windowStart = Instant.parse("2024-06-01T09:01:00Z");
+        when(riskAssessmentService.getAnalytics()).thenReturn(new RiskAnalyticsSnapshot(true, stats, windowStart, stats));
+
+        // When
+        ResponseEntity<RiskAnalyticsResponse> result = controller.getAnalytics();
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        RiskAnalyticsResponse response = result.getBody();
+        assertTrue(response.rebuilt());
+        assertEquals(windowStart, response.windowStart());
+        assertEquals(2, response.total().assessments());
+        assertEquals(List.of("LOW", "MEDIUM", "HIGH"), List.copyOf(response.total().levels().keySet()));
+        assertEquals(85, response.total().levels().get("HIGH").p90());
+        assertEquals(2L, response.window().ruleHits().get("CREDIT_SCORE_BELOW_600"));
+    }
+
+    @Test
+    void simulatePolicy_MapsMigrations() {
+        // Given
+        ObjectNode body = objectMapper.valueToTree(RiskPolicy.defaults());
+        body.put("version", "candidate");
+        Map<RiskLevel, Map<RiskLevel, Long>> migrations = new EnumMap<>(Map.of(
+            RiskLevel.LOW, new EnumMap<>(Map.of(RiskLevel.LOW, 5L, RiskLevel.MEDIUM, 1L, RiskLevel.HIGH, 0L)),
+            RiskLevel.MEDIUM, new EnumMap<>(Map.of(RiskLevel.LOW, 0L, RiskLevel.MEDIUM, 3L, RiskLevel.HIGH, 2L)),
+            RiskLevel.HIGH, new EnumMap<>(Map.of(RiskLevel.LOW, 0L, RiskLevel.MEDIUM, 0L, RiskLevel.HIGH, 4L))));
+        when(riskAssessmentService.simulatePolicy(argThat(policy -> "candidate".equals(policy.version()))))
+            .thenReturn(new RiskSimulation("candidate", 15, 2, migrations));
+
+        // When
+        ResponseEntity<Object> result = controller.simulatePolicy(body, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        RiskSimulationResponse response = (RiskSimulationResponse) result.getBody();
+        assertEquals("candidate", response.policyVersion());
+        assertEquals(15, response.simulated());
+        assertEquals(2, response.skipped());
+        assertEquals(List.of("LOW", "MEDIUM", "HIGH"), List.copyOf(response.migrations().keySet()));
+        assertEquals(List.of("LOW", "MEDIUM", "HIGH"), List.copyOf(response.migrations().get("LOW").keySet()));
+        assertEquals(2L, response.migrations().get("MEDIUM").get("HIGH"));
+    }
+
+    @Test
+    void simulatePolicy_InvalidPolicy() {
+        // Given
+        ObjectNode body = objectMapper.valueToTree(RiskPolicy.defaults());
+        body.put("mediumAbove", 80);
+        when(messageSource.getMessage(eq("risk.simulation.policy.invalid"), isNull(), anyString(), eq(Locale.ENGLISH)))
+            .thenReturn("The candidate risk policy is not valid");
+
+        // When
+        ResponseEntity<Object> result = controller.simulatePolicy(body, null);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("The candidate risk policy is not valid", ((ErrorResponse) result.getBody()).error());
+        verify(riskAssessmentService, never()).simulatePolicy(any());
+    }
+
     @Test
     void getByLoanApplicationId_Found() {
         // Given
@@ -161,6 +466,68 @@ class RiskAssessmentControllerTest {
         verify(riskAssessmentService).getByLoanApplicationId(loanApplicationId);
     }
 
+    @Test
+    void getByLoanApplicationId_IncludesInputsAndPolicyVersion() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment assessment = new RiskAssessment(UUID.randomUUID(), loanApplicationId, 15, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_BELOW_700"), Instant.now(), 1L,
+            new RiskEvaluationInput(loanApplicationId, 680, new BigDecimal("25000"), 36, new BigDecimal("4200")),
+            "2024-07");
+        when(riskAssessmentService.getByLoanApplicationId(loanApplicationId)).thenReturn(Optional.of(assessment));
+
+        // When
+        ResponseEntity<Object> result = controller.getByLoanApplicationId(loanApplicationId, null);
+
+        // Then
+        var response = (RiskAssessmentResponse) result.getBody();
+        assertEquals("2024-07", response.policyVersion());
+        assertEquals(new RiskAssessmentResponse.Inputs(680, new BigDecimal("25000"), 36, new BigDecimal("4200")),
+            response.inputs());
+    }
+
+    @Test
+    void rescoreAll_StartsPassInBackground() {
+        // Given
+        Instant startedAt = Instant.parse("2024-07-01T10:00:00Z");
+        when(riskAssessmentService.startRescore())
+            .thenReturn(new RiskRescoreStatus(true, startedAt, null, false, null));
+
+        // When
+        ResponseEntity<RiskRescoreStatusResponse> result = controller.rescoreAll();
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(URI.create("/api/v1/risk-assessments/rescore"), result.getHeaders().getLocation());
+        assertEquals(new RiskRescoreStatusResponse(true, startedAt, null, false, null), result.getBody());
+    }
+
+    @Test
+    void rescoreAll_AlreadyRunning() {
+        // Given
+        when(riskAssessmentService.startRescore()).thenThrow(new RiskRescoreRunningException("risk.rescore.running"));
+
+        // When & Then
+        assertThrows(RiskRescoreRunningException.class, () -> controller.rescoreAll());
+    }
+
+    @Test
+    void getRescoreStatus_ReturnsCountsOfFinishedPass() {
+        // Given
+        Instant startedAt = Instant.parse("2024-07-01T10:00:00Z");
+        Instant finishedAt = Instant.parse("2024-07-01T10:05:00Z");
+        when(riskAssessmentService.getRescoreStatus()).thenReturn(new RiskRescoreStatus(false, startedAt, finishedAt,
+            false, new RiskRescoring("2024-07", 10, 6, 2, 3, 1, 0)));
+
+        // When
+        ResponseEntity<RiskRescoreStatusResponse> result = controller.getRescoreStatus();
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(new RiskRescoreStatusResponse(false, startedAt, finishedAt, false,
+            new RiskRescoreResponse("2024-07", 10, 6, 2, 3, 1, 0)), result.getBody());
+    }
+
     @Test
     void getByLoanApplicationId_NotFound() {
         // Given
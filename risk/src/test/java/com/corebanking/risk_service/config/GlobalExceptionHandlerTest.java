@@ -1,5 +1,6 @@
 package com.corebanking.risk_service.config;
 
+import com.corebanking.risk_service.domain.service.RiskRescoreRunningException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -7,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -166,4 +168,34 @@ class GlobalExceptionHandlerTest {
         assertEquals("Erreur interne du serveur", response.getBody());
         verify(messageSource).getMessage("error.internal", null, "Internal server error", Locale.FRENCH);
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleConcurrentUpdate_ReturnsConflict() {
+        // Given
+        when(messageSource.getMessage(eq("risk.assessment.concurrent.update"), isNull(), anyString(), eq(Locale.ENGLISH)))
+            .thenReturn("Risk assessment was updated concurrently, please retry");
+
+        // When
+        ResponseEntity<String> response = handler.handleConcurrentUpdate(
+            new OptimisticLockingFailureException("stale version"), Locale.ENGLISH);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Risk assessment was updated concurrently, please retry", response.getBody());
+    }
+
+    @Test
+    void handleRescoreRunning_ReturnsConflict() {
+        // Given
+        when(messageSource.getMessage(eq("risk.rescore.running"), isNull(), anyString(), eq(Locale.ENGLISH)))
+            .thenReturn("A risk re-scoring pass is already running");
+
+        // When
+        ResponseEntity<String> response = handler.handleRescoreRunning(
+            new RiskRescoreRunningException("risk.rescore.running"), Locale.ENGLISH);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("A risk re-scoring pass is already running", response.getBody());
+    }
+}
@@ -0,0 +1,204 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAnalyticsSnapshot;
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskScoreDistribution;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskAnalyticsTest {
+
+    private static final Instant START = Instant.parse("2024-06-01T10:00:00Z");
+
+    @Mock
+    private RiskAssessmentRepositoryPort repository;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private RiskAnalytics analytics() {
+        return new RiskAnalytics(Duration.ofMinutes(10), Duration.ofMinutes(1), clock);
+    }
+
+    private static RiskAssessment assessment(UUID id, int score, RiskLevel level, Instant evaluatedAt, String... rules) {
+        return new RiskAssessment(id, UUID.randomUUID(), score, level, List.of(rules), evaluatedAt, 0L);
+    }
+
+    @Test
+    void record_CountsRuleHitsAndScoreDistribution() {
+        // Given
+        RiskAnalytics analytics = analytics();
+
+        // When
+        for (int score = 41; score <= 70; score++) {
+            analytics.record(assessment(UUID.randomUUID(), score, RiskLevel.MEDIUM, START, "DEBT_TO_INCOME_HIGH"));
+        }
+        analytics.record(assessment(UUID.randomUUID(), 80, RiskLevel.HIGH, START,
+            "CREDIT_SCORE_BELOW_600", "DEBT_TO_INCOME_HIGH"));
+        RiskAnalyticsSnapshot snapshot = analytics.snapshot();
+
+        // Then
+        assertEquals(31, snapshot.total().assessments());
+        assertEquals(31L, snapshot.total().ruleHits().get("DEBT_TO_INCOME_HIGH"));
+        assertEquals(1L, snapshot.total().ruleHits().get("CREDIT_SCORE_BELOW_600"));
+        RiskScoreDistribution medium = snapshot.total().levels().get(RiskLevel.MEDIUM);
+        assertEquals(30, medium.count());
+        assertEquals(55.5, medium.mean(), 1e-9);
+        assertEquals(41, medium.min());
+        assertEquals(55, medium.p50());
+        assertEquals(67, medium.p90());
+        assertEquals(70, medium.p99());
+        assertEquals(70, medium.max());
+        assertEquals(List.of(0L, 0L, 0L, 0L, 9L, 10L, 10L, 1L, 0L, 0L), medium.bands());
+        assertEquals(0, snapshot.total().levels().get(RiskLevel.LOW).count());
+        assertEquals(snapshot.total(), snapshot.window());
+    }
+
+    @Test
+    void snapshot_WindowDropsBucketsThatAgedOut() {
+        // Given
+        RiskAnalytics analytics = analytics();
+        analytics.record(assessment(UUID.randomUUID(), 10, RiskLevel.LOW, START, "CREDIT_SCORE_ACCEPTABLE"));
+
+        // When
+        clock.set(START.plus(Duration.ofMinutes(9)));
+        analytics.record(assessment(UUID.randomUUID(), 20, RiskLevel.LOW, clock.instant(), "CREDIT_SCORE_ACCEPTABLE"));
+        RiskAnalyticsSnapshot both = analytics.snapshot();
+        clock.set(START.plus(Duration.ofMinutes(10)));
+        RiskAnalyticsSnapshot later = analytics.snapshot();
+
+        // Then
+        assertEquals(2, both.window().assessments());
+        assertEquals(START, both.windowStart());
+        assertEquals(1, later.window().assessments());
+        assertEquals(20, later.window().levels().get(RiskLevel.LOW).min());
+        assertEquals(2, later.total().assessments());
+    }
+
+    @Test
+    void replace_SwapsThePreviousContribution() {
+        // Given
+        RiskAnalytics analytics = analytics();
+        UUID id = UUID.randomUUID();
+        RiskAssessment previous = assessment(id, 15, RiskLevel.LOW, START, "CREDIT_SCORE_BELOW_700");
+        analytics.record(previous);
+
+        // When
+        analytics.replace(previous, assessment(id, 75, RiskLevel.HIGH, START, "CREDIT_SCORE_BELOW_600"));
+        RiskAnalyticsSnapshot snapshot = analytics.snapshot();
+
+        // Then
+        assertEquals(1, snapshot.total().assessments());
+        assertEquals(0, snapshot.total().levels().get(RiskLevel.LOW).count());
+        assertEquals(1, snapshot.total().levels().get(RiskLevel.HIGH).count());
+        assertFalse(snapshot.total().ruleHits().containsKey("CREDIT_SCORE_BELOW_700"));
+        assertEquals(1L, snapshot.total().ruleHits().get("CREDIT_SCORE_BELOW_600"));
+    }
+
+    @Test
+    void rebuild_PagesThroughStoredAssessmentsOlderThanStartup() {
+        // Given
+        RiskAnalytics analytics = analytics();
+        Instant before = START.minus(Duration.ofDays(3));
+        List<RiskAssessment> stored = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            stored.add(assessment(new UUID(0L, i), 30, RiskLevel.LOW, before, "TERM_ACCEPTABLE"));
+        }
+        // Evaluated after startup, so already counted as it was stored
+        RiskAssessment live = assessment(new UUID(0L, 6), 50, RiskLevel.MEDIUM, START, "TERM_LONG");
+        analytics.record(live);
+        stored.add(live);
+        when(repository.findPageAfter(any(UUID.class), eq(2))).thenAnswer(invocation -> page(stored,
+            invocation.getArgument(0), 2));
+
+        // When
+        analytics.rebuild(repository, 2);
+        RiskAnalyticsSnapshot snapshot = analytics.snapshot();
+
+        // Then
+        assertTrue(snapshot.rebuilt());
+        assertEquals(6, snapshot.total().assessments());
+        assertEquals(5L, snapshot.total().ruleHits().get("TERM_ACCEPTABLE"));
+        assertEquals(1L, snapshot.total().ruleHits().get("TERM_LONG"));
+        assertEquals(1, snapshot.window().assessments());
+        verify(repository, times(4)).findPageAfter(any(UUID.class), eq(2));
+    }
+
+    @Test
+    void replace_DuringRebuildDoesNotCountTheOldRowTwice() {
+        // Given
+        RiskAnalytics analytics = analytics();
+        Instant before = START.minus(Duration.ofDays(1));
+        RiskAssessment first = assessment(new UUID(0L, 1), 10, RiskLevel.LOW, before, "INCOME_ACCEPTABLE");
+        RiskAssessment second = assessment(new UUID(0L, 2), 10, RiskLevel.LOW, before, "INCOME_ACCEPTABLE");
+        RiskAssessment reevaluated = assessment(new UUID(0L, 2), 90, RiskLevel.HIGH, START, "INCOME_TOO_LOW");
+        when(repository.findPageAfter(new UUID(0L, 0L), 1)).thenReturn(List.of(first));
+        // The second page was read before the re-evaluation was stored
+        when(repository.findPageAfter(new UUID(0L, 1), 1)).thenAnswer(invocation -> {
+            analytics.replace(second, reevaluated);
+            return List.of(second);
+        });
+        when(repository.findPageAfter(new UUID(0L, 2), 1)).thenReturn(List.of());
+
+        // When
+        analytics.rebuild(repository, 1);
+        RiskAnalyticsSnapshot snapshot = analytics.snapshot();
+
+        // Then
+        assertEquals(2, snapshot.total().assessments());
+        assertEquals(1, snapshot.total().levels().get(RiskLevel.LOW).count());
+        assertEquals(1, snapshot.total().levels().get(RiskLevel.HIGH).count());
+        assertEquals(1L, snapshot.total().ruleHits().get("INCOME_ACCEPTABLE"));
+    }
+
+    private static List<RiskAssessment> page(List<RiskAssessment> stored, UUID after, int limit) {
+        return stored.stream()
+            .filter(a -> Long.compareUnsigned(a.getId().getLeastSignificantBits(), after.getLeastSignificantBits()) > 0)
+            .limit(limit)
+            .toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.corebanking.risk_service.domain.service;
 
 import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskBatch;
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
+import com.corebanking.risk_service.domain.model.RiskFactor;
 import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskRule;
+import com.corebanking.risk_service.domain.model.RiskRuleTable;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
 import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +41,24 @@ class RiskAssessmentServiceTest {
     @Mock
     private RiskAssessmentRepositoryPort riskAssessmentRepository;
 
+    @Spy
+    private RiskRuleEngine ruleEngine = new RiskRuleEngine(RiskPolicy.defaults());
+
+    @Mock
+    private RiskBatchEvaluator batchEvaluator;
+
+    @Spy
+    private RiskEvaluationIdempotency idempotency = new RiskEvaluationIdempotency();
+
+    @Spy
+    private RiskAnalytics analytics = new RiskAnalytics(Duration.ofHours(1), Duration.ofMinutes(1));
+
+    @Mock
+    private RiskPolicySimulator simulator;
+
+    @Mock
+    private RiskRescorer rescorer;
+
     @InjectMocks
     private RiskAssessmentService riskAssessmentService;
 
@@ -47,7 +81,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertNotNull(result);
@@ -84,7 +118,7 @@ class RiskAssessmentServiceTest {
         // Debt ratio: 1.5M / (800*12) = 1.5M / 9.6K ≈ 0.156 (<0.3)
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 550, new BigDecimal("1500000"), 60, new BigDecimal("800")
-        );
+        ).assessment();
 
         // Then
         assertNotNull(result);
@@ -117,7 +151,7 @@ class RiskAssessmentServiceTest {
         // Debt ratio: 750K / (1500*12) = 750K / 18K ≈ 0.0417 (<0.3)
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 620, new BigDecimal("750000"), 42, new BigDecimal("1500")
-        );
+        ).assessment();
 
         // Then
         assertNotNull(result);
@@ -146,8 +180,8 @@ class RiskAssessmentServiceTest {
 
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
-            loanApplicationId, 580, new BigDecimal("100000"), 24, new BigDecimal("5000")
-        );
+            loanApplicationId, 580, new BigDecimal("10000"), 24, new BigDecimal("5000")
+        ).assessment();
 
         // Then
         assertEquals(40, result.getRiskScore());
@@ -174,7 +208,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 640, new BigDecimal("100000"), 24, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(25, result.getRiskScore());
@@ -201,7 +235,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 680, new BigDecimal("100000"), 24, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(15, result.getRiskScore());
@@ -230,7 +264,7 @@ class RiskAssessmentServiceTest {
         // To get >0.5: amount 500K, income 800 -> ratio ≈0.52 (>0.5)
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("500000"), 24, new BigDecimal("800")
-        );
+        ).assessment();
 
         // Then
         assertEquals(30, result.getRiskScore());
@@ -258,7 +292,7 @@ class RiskAssessmentServiceTest {
         // To get >0.3: amount 400K, income 1000 -> annual 12K, ratio 400K/12K ≈ 0.333 (>0.3)
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("400000"), 24, new BigDecimal("1000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(15, result.getRiskScore());
@@ -285,7 +319,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("100000"), 50, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(15, result.getRiskScore());
@@ -312,7 +346,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("100000"), 40, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(10, result.getRiskScore());
@@ -339,7 +373,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("900")
-        );
+        ).assessment();
 
         // Then
         assertEquals(20, result.getRiskScore());
@@ -366,7 +400,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("1500")
-        );
+        ).assessment();
 
         // Then
         assertEquals(10, result.getRiskScore());
@@ -393,7 +427,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("1200000"), 24, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(15, result.getRiskScore());
@@ -420,7 +454,7 @@ class RiskAssessmentServiceTest {
         // When
         RiskAssessment result = riskAssessmentService.evaluateRisk(
             loanApplicationId, 750, new BigDecimal("600000"), 24, new BigDecimal("5000")
-        );
+        ).assessment();
 
         // Then
         assertEquals(10, result.getRiskScore());
@@ -428,6 +462,262 @@ class RiskAssessmentServiceTest {
         verify(riskAssessmentRepository).save(any(RiskAssessment.class));
     }
 
+    @Test
+    void evaluateRisk_UsesReloadedPolicy() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        ruleEngine.reload(new RiskPolicy("strict", List.of(
+            new RiskRuleTable(RiskFactor.CREDIT_SCORE, RiskRuleTable.Comparison.BELOW, List.of(
+                new RiskRule(new BigDecimal("800"), 50, "CREDIT_SCORE_BELOW_800")
+            ), "CREDIT_SCORE_ACCEPTABLE")
+        ), 40, 70));
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RiskAssessment result = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        ).assessment();
+
+        // Then
+        assertEquals(50, result.getRiskScore());
+        assertEquals(RiskLevel.MEDIUM, result.getRiskLevel());
+        assertEquals(List.of("CREDIT_SCORE_BELOW_800"), result.getRulesApplied());
+    }
+
+    @Test
+    void evaluateRisk_ExistingAssessmentIsReturnedWithoutEvaluating() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment stored = new RiskAssessment(UUID.randomUUID(), loanApplicationId, 25, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_BELOW_650"), Instant.now(), 0L);
+        when(riskAssessmentRepository.findByLoanApplicationId(loanApplicationId)).thenReturn(Optional.of(stored));
+
+        // When
+        RiskEvaluationOutcome first = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 620, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+        RiskEvaluationOutcome retry = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 620, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+
+        // Then
+        assertEquals(RiskEvaluationOutcome.Status.EXISTING, first.status());
+        assertSame(stored, first.assessment());
+        assertEquals(RiskEvaluationOutcome.Status.EXISTING, retry.status());
+        assertSame(stored, retry.assessment());
+        verify(riskAssessmentRepository, times(2)).findByLoanApplicationId(loanApplicationId);
+        verify(riskAssessmentRepository, never()).save(any());
+        verify(ruleEngine, never()).evaluate(anyInt(), any(), anyInt(), any());
+    }
+
+    @Test
+    void evaluateRisk_RetryAfterCreationReturnsTheStoredAssessment() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> {
+            RiskAssessment saved = invocation.getArgument(0);
+            when(riskAssessmentRepository.findByLoanApplicationId(loanApplicationId)).thenReturn(Optional.of(saved));
+            return saved;
+        });
+
+        // When
+        RiskEvaluationOutcome first = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+        RiskEvaluationOutcome retry = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+
+        // Then
+        assertEquals(RiskEvaluationOutcome.Status.CREATED, first.status());
+        assertEquals(RiskEvaluationOutcome.Status.EXISTING, retry.status());
+        assertSame(first.assessment(), retry.assessment());
+        verify(riskAssessmentRepository, times(1)).save(any(RiskAssessment.class));
+        verify(analytics, times(1)).record(first.assessment());
+    }
+
+    @Test
+    void evaluateRisk_LosingTheInsertRaceReturnsTheStoredAssessment() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment stored = new RiskAssessment(UUID.randomUUID(), loanApplicationId, 0, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now(), 0L);
+        when(riskAssessmentRepository.findByLoanApplicationIdUncached(loanApplicationId))
+            .thenReturn(Optional.of(stored));
+        when(riskAssessmentRepository.save(any(RiskAssessment.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate loan_application_id"));
+
+        // When
+        RiskEvaluationOutcome outcome = riskAssessmentService.evaluateRisk(
+            loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+
+        // Then
+        assertEquals(RiskEvaluationOutcome.Status.EXISTING, outcome.status());
+        assertSame(stored, outcome.assessment());
+    }
+
+    @Test
+    void evaluateRisk_SaveFailureWithoutStoredAssessmentIsRethrown() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("policy_version too long");
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenThrow(failure);
+
+        // When / Then
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class, () ->
+            riskAssessmentService.evaluateRisk(loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")));
+        assertSame(failure, thrown);
+        verify(riskAssessmentRepository).findByLoanApplicationIdUncached(loanApplicationId);
+    }
+
+    @Test
+    void evaluateRisk_OtherSaveFailuresPropagateWithoutLookup() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        QueryTimeoutException failure = new QueryTimeoutException("lock wait timeout");
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenThrow(failure);
+
+        // When / Then
+        QueryTimeoutException thrown = assertThrows(QueryTimeoutException.class, () ->
+            riskAssessmentService.evaluateRisk(loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")));
+        assertSame(failure, thrown);
+        verify(riskAssessmentRepository, never()).findByLoanApplicationIdUncached(any());
+    }
+
+    @Test
+    void reevaluateRisk_ReplacesStoredAssessmentKeepingIdAndVersion() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        UUID assessmentId = UUID.randomUUID();
+        RiskAssessment stored = new RiskAssessment(assessmentId, loanApplicationId, 0, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now(), 3L);
+        when(riskAssessmentRepository.findByLoanApplicationIdUncached(loanApplicationId)).thenReturn(Optional.of(stored));
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RiskEvaluationOutcome outcome = riskAssessmentService.reevaluateRisk(
+            loanApplicationId, 580, new BigDecimal("10000"), 24, new BigDecimal("5000")
+        );
+
+        // Then
+        assertEquals(RiskEvaluationOutcome.Status.REEVALUATED, outcome.status());
+        assertEquals(assessmentId, outcome.assessment().getId());
+        assertEquals(3L, outcome.assessment().getVersion());
+        assertEquals(40, outcome.assessment().getRiskScore());
+        assertTrue(outcome.assessment().getRulesApplied().contains("CREDIT_SCORE_BELOW_600"));
+        verify(riskAssessmentRepository, never()).findByLoanApplicationId(any());
+        verify(analytics).replace(stored, outcome.assessment());
+    }
+
+    @Test
+    void reevaluateRisk_WithoutStoredAssessmentCreatesIt() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RiskEvaluationOutcome outcome = riskAssessmentService.reevaluateRisk(
+            loanApplicationId, 750, new BigDecimal("100000"), 24, new BigDecimal("5000")
+        );
+
+        // Then
+        assertEquals(RiskEvaluationOutcome.Status.CREATED, outcome.status());
+        assertNull(outcome.assessment().getId());
+        assertNull(outcome.assessment().getVersion());
+    }
+
+    @Test
+    void getAnalytics_ReflectsStoredEvaluations() {
+        // Given
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        riskAssessmentService.evaluateRisk(UUID.randomUUID(), 580, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+        riskAssessmentService.evaluateRisk(UUID.randomUUID(), 750, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+
+        // When
+        var snapshot = riskAssessmentService.getAnalytics();
+
+        // Then
+        assertEquals(2, snapshot.total().assessments());
+        assertEquals(1L, snapshot.total().ruleHits().get("CREDIT_SCORE_BELOW_600"));
+        assertEquals(2, snapshot.total().levels().get(RiskLevel.LOW).count());
+    }
+
+    @Test
+    void evaluateRisk_StoresTheInputs() {
+        // Given
+        UUID loanApplicationId = UUID.randomUUID();
+        when(riskAssessmentRepository.save(any(RiskAssessment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        riskAssessmentService.evaluateRisk(loanApplicationId, 680, new BigDecimal("25000"), 36, new BigDecimal("4200"));
+
+        // Then
+        ArgumentCaptor<RiskAssessment> saved = ArgumentCaptor.forClass(RiskAssessment.class);
+        verify(riskAssessmentRepository).save(saved.capture());
+        assertEquals(new RiskEvaluationInput(loanApplicationId, 680, new BigDecimal("25000"), 36, new BigDecimal("4200")),
+            saved.getValue().getInputs());
+        assertEquals("default", saved.getValue().getPolicyVersion());
+    }
+
+    @Test
+    void simulatePolicy_DelegatesToSimulatorWithoutWriting() {
+        // Given
+        RiskPolicy candidate = RiskPolicy.defaults();
+        RiskSimulation simulation = new RiskSimulation("default", 0, 0, Map.of());
+        when(simulator.simulate(candidate)).thenReturn(simulation);
+
+        // When
+        RiskSimulation result = riskAssessmentService.simulatePolicy(candidate);
+
+        // Then
+        assertSame(simulation, result);
+        assertEquals("default", ruleEngine.getPolicyVersion());
+        verify(riskAssessmentRepository, never()).save(any());
+    }
+
+    @Test
+    void quoteRisk_ScoresWithoutPersistence() {
+        // When
+        RiskEvaluation quote = riskAssessmentService.quoteRisk(550, new BigDecimal("10000"), 24, new BigDecimal("5000"));
+
+        // Then
+        assertEquals(40, quote.riskScore());
+        assertEquals(RiskLevel.LOW, quote.riskLevel());
+        assertEquals("default", quote.policyVersion());
+        assertTrue(quote.rulesApplied().contains("CREDIT_SCORE_BELOW_600"));
+        verifyNoInteractions(riskAssessmentRepository, idempotency, analytics);
+    }
+
+    @Test
+    void startRescore_DelegatesToRescorer() {
+        // Given
+        RiskRescoreStatus status = new RiskRescoreStatus(true, Instant.EPOCH, null, false, null);
+        when(rescorer.start()).thenReturn(status);
+
+        // When
+        RiskRescoreStatus result = riskAssessmentService.startRescore();
+
+        // Then
+        assertSame(status, result);
+    }
+
+    @Test
+    void evaluateRiskBatch_DelegatesToBatchEvaluator() {
+        // Given
+        List<RiskEvaluationInput> inputs = List.of(new RiskEvaluationInput(
+            UUID.randomUUID(), 700, new BigDecimal("100000"), 24, new BigDecimal("5000")));
+        RiskBatch batch = sink -> 1;
+        when(batchEvaluator.prepare(inputs)).thenReturn(batch);
+
+        // When
+        RiskBatch result = riskAssessmentService.evaluateRiskBatch(inputs);
+
+        // Then
+        assertSame(batch, result);
+        verifyNoInteractions(riskAssessmentRepository);
+    }
+
     @Test
     void getByLoanApplicationId_Found() {
         // Given
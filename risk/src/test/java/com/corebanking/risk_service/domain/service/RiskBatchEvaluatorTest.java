@@ -0,0 +1,160 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskBatchItemResult;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskBatchEvaluatorTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    @Mock
+    private RiskAssessmentRepositoryPort repository;
+
+    private RiskBatchEvaluator evaluator;
+
+    private final List<RiskAssessment> stored = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new RiskBatchEvaluator(repository, new RiskRuleEngine(RiskPolicy.defaults()), 2, 10, 2,
+                stored::add, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.close();
+    }
+
+    @Test
+    void run_ScoresAndSavesEveryChunk() {
+        // Given
+        List<RiskEvaluationInput> inputs = List.of(input(750), input(550), input(680));
+        when(repository.findExistingLoanApplicationIds(anyCollection())).thenReturn(Set.of());
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        List<RiskBatchItemResult> results = new ArrayList<>();
+
+        // When
+        int created = evaluator.prepare(inputs).run(results::addAll);
+
+        // Then
+        assertEquals(3, created);
+        results.sort(Comparator.comparingInt(RiskBatchItemResult::getIndex));
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(RiskBatchItemResult::isCreated));
+        assertEquals(0, results.get(0).getAssessment().getRiskScore());
+        assertEquals(40, results.get(1).getAssessment().getRiskScore());
+        assertEquals(15, results.get(2).getAssessment().getRiskScore());
+        assertEquals(inputs.get(2).loanApplicationId(), results.get(2).getAssessment().getLoanApplicationId());
+        assertEquals(NOW, results.get(2).getAssessment().getEvaluatedAt());
+        assertEquals(inputs.get(2), results.get(2).getAssessment().getInputs());
+        assertEquals("default", results.get(2).getAssessment().getPolicyVersion());
+        assertEquals(3, stored.size());
+        verify(repository, times(2)).saveAll(anyList());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void run_RejectsInvalidRepeatedAndExistingApplications() {
+        // Given
+        RiskEvaluationInput existing = input(700);
+        RiskEvaluationInput fresh = input(700);
+        List<RiskEvaluationInput> inputs = Arrays.asList(existing, null, fresh, fresh);
+        when(repository.findExistingLoanApplicationIds(anyCollection())).thenReturn(Set.of(existing.loanApplicationId()));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        List<RiskBatchItemResult> results = new ArrayList<>();
+
+        // When
+        int created = evaluator.prepare(inputs).run(results::addAll);
+
+        // Then
+        assertEquals(1, created);
+        results.sort(Comparator.comparingInt(RiskBatchItemResult::getIndex));
+        assertEquals("risk.assessment.already.exists", results.get(0).getErrorKey());
+        assertEquals("risk.batch.entry.invalid", results.get(1).getErrorKey());
+        assertTrue(results.get(2).isCreated());
+        assertEquals("risk.assessment.already.exists", results.get(3).getErrorKey());
+    }
+
+    @Test
+    void run_ChunkFailureFallsBackToSingleSaves() {
+        // Given
+        RiskEvaluationInput first = input(750);
+        RiskEvaluationInput second = input(750);
+        when(repository.findExistingLoanApplicationIds(anyCollection())).thenReturn(Set.of());
+        when(repository.saveAll(anyList())).thenThrow(new IllegalStateException("Duplicate entry"));
+        when(repository.save(any(RiskAssessment.class))).thenAnswer(invocation -> {
+            RiskAssessment assessment = invocation.getArgument(0);
+            if (assessment.getLoanApplicationId().equals(second.loanApplicationId())) {
+                throw new IllegalStateException("Duplicate entry");
+            }
+            return withIds(List.of(assessment)).get(0);
+        });
+        List<RiskBatchItemResult> results = new ArrayList<>();
+
+        // When
+        int created = evaluator.prepare(List.of(first, second)).run(results::addAll);
+
+        // Then
+        assertEquals(1, created);
+        results.sort(Comparator.comparingInt(RiskBatchItemResult::getIndex));
+        assertTrue(results.get(0).isCreated());
+        assertEquals("risk.batch.entry.failed", results.get(1).getErrorKey());
+        assertEquals(List.of(results.get(0).getAssessment()), stored);
+    }
+
+    @Test
+    void prepare_RejectsEmptyAndOversizedBatches() {
+        // When / Then
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+            () -> evaluator.prepare(List.of()));
+        List<RiskEvaluationInput> oversized = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            oversized.add(input(700));
+        }
+        IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class,
+            () -> evaluator.prepare(oversized));
+        assertEquals("risk.batch.empty", empty.getMessage());
+        assertEquals("risk.batch.tooLarge", tooLarge.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    private static RiskEvaluationInput input(int creditScore) {
+        return new RiskEvaluationInput(UUID.randomUUID(), creditScore, new BigDecimal("10000"), 24,
+                new BigDecimal("5000"));
+    }
+
+    private static List<RiskAssessment> withIds(List<RiskAssessment> assessments) {
+        return assessments.stream()
+                .map(a -> new RiskAssessment(UUID.randomUUID(), a.getLoanApplicationId(), a.getRiskScore(),
+                        a.getRiskLevel(), a.getRulesApplied(), a.getEvaluatedAt(), null, a.getInputs(),
+                        a.getPolicyVersion()))
+                .toList();
+    }
+}
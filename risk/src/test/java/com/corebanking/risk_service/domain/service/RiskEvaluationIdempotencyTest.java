@@ -0,0 +1,157 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationOutcome;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskEvaluationIdempotencyTest {
+
+    private static RiskAssessment assessment(UUID loanApplicationId) {
+        return new RiskAssessment(UUID.randomUUID(), loanApplicationId, 0, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now(), 0L);
+    }
+
+    @Test
+    void coalesce_SimultaneousCallsRunTheEvaluationOnce() throws Exception {
+        // Given
+        RiskEvaluationIdempotency idempotency = new RiskEvaluationIdempotency();
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment created = assessment(loanApplicationId);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            Future<RiskEvaluationOutcome> owner = executor.submit(() -> idempotency.coalesce(loanApplicationId, () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return RiskEvaluationOutcome.created(created);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<RiskEvaluationOutcome>> retries = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                retries.add(executor.submit(() -> idempotency.coalesce(loanApplicationId, () -> {
+                    runs.incrementAndGet();
+                    return RiskEvaluationOutcome.created(assessment(loanApplicationId));
+                })));
+            }
+            while (idempotency.getCoalesced() < 7) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertEquals(RiskEvaluationOutcome.Status.CREATED, owner.get(5, TimeUnit.SECONDS).status());
+            for (Future<RiskEvaluationOutcome> retry : retries) {
+                RiskEvaluationOutcome outcome = retry.get(5, TimeUnit.SECONDS);
+                assertEquals(RiskEvaluationOutcome.Status.EXISTING, outcome.status());
+                assertSame(created, outcome.assessment());
+            }
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void coalesce_FailureIsRethrownToWaitersAndReleasesTheClaim() throws Exception {
+        // Given
+        RiskEvaluationIdempotency idempotency = new RiskEvaluationIdempotency();
+        UUID loanApplicationId = UUID.randomUUID();
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<RiskEvaluationOutcome> owner = executor.submit(() -> idempotency.coalesce(loanApplicationId, () -> {
+                started.countDown();
+                await(release);
+                throw failure;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<RiskEvaluationOutcome> waiter = executor.submit(() -> idempotency.coalesce(loanApplicationId,
+                () -> RiskEvaluationOutcome.created(assessment(loanApplicationId))));
+            while (idempotency.getCoalesced() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertSame(failure, assertThrows(Exception.class, () -> owner.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(failure, assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+            RiskEvaluationOutcome next = idempotency.coalesce(loanApplicationId,
+                () -> RiskEvaluationOutcome.created(assessment(loanApplicationId)));
+            assertEquals(RiskEvaluationOutcome.Status.CREATED, next.status());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void exclusive_WaitsForTheRunningEvaluationAndThenRunsItsOwn() throws Exception {
+        // Given
+        RiskEvaluationIdempotency idempotency = new RiskEvaluationIdempotency();
+        UUID loanApplicationId = UUID.randomUUID();
+        RiskAssessment first = assessment(loanApplicationId);
+        RiskAssessment second = assessment(loanApplicationId);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<RiskEvaluationOutcome> owner = executor.submit(() -> idempotency.exclusive(loanApplicationId, () -> {
+                running.incrementAndGet();
+                started.countDown();
+                await(release);
+                running.decrementAndGet();
+                return RiskEvaluationOutcome.reevaluated(first);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<RiskEvaluationOutcome> next = executor.submit(() -> idempotency.exclusive(loanApplicationId, () -> {
+                if (running.get() != 0) {
+                    overlaps.incrementAndGet();
+                }
+                return RiskEvaluationOutcome.reevaluated(second);
+            }));
+            release.countDown();
+
+            // Then
+            assertSame(first, owner.get(5, TimeUnit.SECONDS).assessment());
+            assertSame(second, next.get(5, TimeUnit.SECONDS).assessment());
+            assertEquals(0, overlaps.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
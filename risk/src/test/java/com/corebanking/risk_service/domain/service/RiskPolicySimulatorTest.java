@@ -0,0 +1,114 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskSimulation;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskPolicySimulatorTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private RiskAssessmentRepositoryPort repository;
+
+    private RiskPolicySimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new RiskPolicySimulator(repository, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void simulate_CountsLevelMigrationsAcrossPages() {
+        // Given
+        RiskAssessment unchanged = stored(1, 750);
+        RiskAssessment toHigh = stored(2, 550);
+        RiskAssessment toMedium = stored(3, 680);
+        RiskAssessment withoutInputs = new RiskAssessment(new UUID(0L, 4L), UUID.randomUUID(), 10, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now());
+        when(repository.findPageAfter(FIRST_ID, 2)).thenReturn(List.of(unchanged, toHigh));
+        when(repository.findPageAfter(toHigh.getId(), 2)).thenReturn(List.of(toMedium, withoutInputs));
+        when(repository.findPageAfter(withoutInputs.getId(), 2)).thenReturn(List.of());
+
+        // When
+        RiskSimulation simulation = simulator.simulate(candidate());
+
+        // Then
+        assertEquals("candidate", simulation.policyVersion());
+        assertEquals(3, simulation.simulated());
+        assertEquals(1, simulation.skipped());
+        assertEquals(1L, simulation.migrations().get(RiskLevel.LOW).get(RiskLevel.LOW));
+        assertEquals(1L, simulation.migrations().get(RiskLevel.LOW).get(RiskLevel.MEDIUM));
+        assertEquals(1L, simulation.migrations().get(RiskLevel.LOW).get(RiskLevel.HIGH));
+        assertEquals(0L, simulation.migrations().get(RiskLevel.HIGH).get(RiskLevel.HIGH));
+        verify(repository, times(3)).findPageAfter(any(), eq(2));
+        verify(repository, never()).save(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void simulate_ShortPageEndsTheScan() {
+        // Given
+        when(repository.findPageAfter(FIRST_ID, 2)).thenReturn(List.of(stored(1, 750)));
+
+        // When
+        RiskSimulation simulation = simulator.simulate(RiskPolicy.defaults());
+
+        // Then
+        assertEquals(1, simulation.simulated());
+        assertEquals(1L, simulation.migrations().get(RiskLevel.LOW).get(RiskLevel.LOW));
+        verify(repository, times(1)).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void simulate_RejectsPolicyThatDoesNotCompile() {
+        // Given
+        RiskPolicy defaults = RiskPolicy.defaults();
+        RiskPolicy repeated = new RiskPolicy("broken", List.of(defaults.tables().get(0), defaults.tables().get(0)),
+            defaults.mediumAbove(), defaults.highAbove());
+
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> simulator.simulate(repeated));
+
+        // Then
+        assertEquals("risk.simulation.policy.invalid", e.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    // The default policy scores these 0, 40 and 15: LOW for all three
+    private static RiskAssessment stored(long id, int creditScore) {
+        UUID loanApplicationId = UUID.randomUUID();
+        return new RiskAssessment(new UUID(0L, id), loanApplicationId, 0, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.now(), 0L, new RiskEvaluationInput(
+                loanApplicationId, creditScore, new BigDecimal("10000"), 24, new BigDecimal("5000")), "default");
+    }
+
+    private static RiskPolicy candidate() {
+        RiskPolicy defaults = RiskPolicy.defaults();
+        return new RiskPolicy("candidate", defaults.tables(), 10, 30);
+    }
+}
@@ -0,0 +1,207 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskAssessment;
+import com.corebanking.risk_service.domain.model.RiskEvaluationInput;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRescoreStatus;
+import com.corebanking.risk_service.domain.model.RiskRescoring;
+import com.corebanking.risk_service.domain.port.RiskAssessmentRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RiskRescorerTest {
+
+    private static final Instant NOW = Instant.parse("2024-07-01T10:00:00Z");
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private RiskAssessmentRepositoryPort repository;
+
+    private final RiskRuleEngine ruleEngine = new RiskRuleEngine(RiskPolicy.defaults());
+
+    private final List<RiskAssessment[]> replaced = new ArrayList<>();
+
+    private RiskRescorer rescorer;
+
+    @BeforeEach
+    void setUp() {
+        rescorer = new RiskRescorer(repository, ruleEngine, 2, (previous, saved) -> replaced.add(
+            new RiskAssessment[] {previous, saved}), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rescorer.close();
+    }
+
+    @Test
+    void start_RewritesOnlyAssessmentsFromOtherPolicies() throws Exception {
+        // Given
+        RiskAssessment stale = stored(1, 550, RiskLevel.LOW, "2024-01");
+        RiskAssessment current = stored(2, 750, RiskLevel.LOW, "default");
+        RiskAssessment withoutInputs = new RiskAssessment(new UUID(0L, 3L), UUID.randomUUID(), 10, RiskLevel.LOW,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.EPOCH, 0L);
+        when(repository.findPageAfter(FIRST_ID, 2)).thenReturn(List.of(stale, current));
+        when(repository.findPageAfter(current.getId(), 2)).thenReturn(List.of(withoutInputs));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        rescorer.start();
+        RiskRescoring result = awaitFinished().result();
+
+        // Then
+        assertEquals("default", result.policyVersion());
+        assertEquals(3, result.scanned());
+        assertEquals(1, result.rescored());
+        assertEquals(0, result.levelChanged());
+        assertEquals(1, result.upToDate());
+        assertEquals(1, result.skipped());
+        assertEquals(0, result.failed());
+        verify(repository).saveAll(argThat(list -> list.size() == 1));
+        assertEquals(1, replaced.size());
+        RiskAssessment saved = replaced.get(0)[1];
+        assertSame(stale, replaced.get(0)[0]);
+        assertEquals(stale.getId(), saved.getId());
+        assertEquals(stale.getVersion(), saved.getVersion());
+        assertEquals(40, saved.getRiskScore());
+        assertEquals("default", saved.getPolicyVersion());
+        assertEquals(stale.getInputs(), saved.getInputs());
+        assertEquals(NOW, saved.getEvaluatedAt());
+    }
+
+    @Test
+    void start_FailedPageIsRetriedOneByOne() throws Exception {
+        // Given
+        RiskAssessment toHigh = stored(1, 550, RiskLevel.LOW, "2024-01");
+        RiskAssessment conflicting = stored(2, 750, RiskLevel.MEDIUM, "2024-01");
+        ruleEngine.reload(new RiskPolicy("2024-07", RiskPolicy.defaults().tables(), 10, 30));
+        when(repository.findPageAfter(FIRST_ID, 2)).thenReturn(List.of(toHigh, conflicting));
+        when(repository.findPageAfter(conflicting.getId(), 2)).thenReturn(List.of());
+        when(repository.saveAll(anyList())).thenThrow(new OptimisticLockingFailureException("stale"));
+        when(repository.save(any(RiskAssessment.class))).thenAnswer(invocation -> {
+            RiskAssessment assessment = invocation.getArgument(0);
+            if (assessment.getId().equals(conflicting.getId())) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return assessment;
+        });
+
+        // When
+        rescorer.start();
+        RiskRescoring result = awaitFinished().result();
+
+        // Then
+        assertEquals(1, result.rescored());
+        assertEquals(1, result.levelChanged());
+        assertEquals(1, result.failed());
+        assertEquals(RiskLevel.HIGH, replaced.get(0)[1].getRiskLevel());
+    }
+
+    @Test
+    void start_RunsPassInBackgroundAndReportsItsResult() throws Exception {
+        // Given
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findPageAfter(FIRST_ID, 2)).thenAnswer(invocation -> {
+            scanning.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(stored(1, 550, RiskLevel.LOW, "2024-01"));
+        });
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        RiskRescoreStatus started = rescorer.start();
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+        assertThrows(RiskRescoreRunningException.class, rescorer::start);
+        release.countDown();
+
+        // Then
+        assertEquals(new RiskRescoreStatus(true, NOW, null, false, null), started);
+        RiskRescoreStatus finished = awaitFinished();
+        assertFalse(finished.running());
+        assertFalse(finished.failed());
+        assertEquals(NOW, finished.finishedAt());
+        assertEquals(1, finished.result().rescored());
+    }
+
+    @Test
+    void start_ReportsFailedPass() throws Exception {
+        // Given
+        when(repository.findPageAfter(FIRST_ID, 2)).thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        rescorer.start();
+
+        // Then
+        RiskRescoreStatus finished = awaitFinished();
+        assertTrue(finished.failed());
+        assertNull(finished.result());
+        assertEquals(NOW, rescorer.start().startedAt());
+    }
+
+    @Test
+    void close_InterruptsRunningPassBeforeItsNextPage() throws Exception {
+        // Given
+        CountDownLatch scanning = new CountDownLatch(1);
+        List<RiskAssessment> fullPage = List.of(stored(1, 750, RiskLevel.LOW, "default"),
+            stored(2, 750, RiskLevel.LOW, "default"));
+        when(repository.findPageAfter(FIRST_ID, 2)).thenAnswer(invocation -> {
+            scanning.countDown();
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fullPage;
+        });
+        rescorer.start();
+        assertTrue(scanning.await(5, TimeUnit.SECONDS));
+
+        // When
+        rescorer.close();
+
+        // Then
+        RiskRescoreStatus finished = awaitFinished();
+        assertTrue(finished.failed());
+        verify(repository, never()).findPageAfter(eq(fullPage.get(1).getId()), anyInt());
+        assertThrows(RejectedExecutionException.class, rescorer::start);
+        assertFalse(rescorer.getStatus().running());
+    }
+
+    private RiskRescoreStatus awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rescorer.getStatus().running() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return rescorer.getStatus();
+    }
+
+    private static RiskAssessment stored(long id, int creditScore, RiskLevel level, String policyVersion) {
+        UUID loanApplicationId = UUID.randomUUID();
+        return new RiskAssessment(new UUID(0L, id), loanApplicationId, 0, level,
+            List.of("CREDIT_SCORE_ACCEPTABLE"), Instant.EPOCH, 3L, new RiskEvaluationInput(
+                loanApplicationId, creditScore, new BigDecimal("10000"), 24, new BigDecimal("5000")), policyVersion);
+    }
+}
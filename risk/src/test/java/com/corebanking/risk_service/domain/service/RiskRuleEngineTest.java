@@ -0,0 +1,260 @@
+package com.corebanking.risk_service.domain.service;
+
+import com.corebanking.risk_service.domain.model.RiskEvaluation;
+import com.corebanking.risk_service.domain.model.RiskFactor;
+import com.corebanking.risk_service.domain.model.RiskLevel;
+import com.corebanking.risk_service.domain.model.RiskPolicy;
+import com.corebanking.risk_service.domain.model.RiskRule;
+import com.corebanking.risk_service.domain.model.RiskRuleSet;
+import com.corebanking.risk_service.domain.model.RiskRuleTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskRuleEngineTest {
+
+    @Test
+    void evaluate_DefaultPolicyMatchesOriginalRules() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        int[] creditScores = {300, 599, 600, 649, 650, 699, 700, 850};
+        int[] terms = {6, 36, 37, 48, 49, 60};
+        String[] amounts = {"10000", "360000", "360001", "500000", "500000.01", "1000000", "1000001", "50000000"};
+        String[] incomes = {"0.01", "999.99", "1000", "1999.99", "2000", "60000", "83333.33", "100000"};
+
+        // When / Then
+        for (int creditScore : creditScores) {
+            for (int term : terms) {
+                for (String amount : amounts) {
+                    for (String income : incomes) {
+                        BigDecimal requestedAmount = new BigDecimal(amount);
+                        BigDecimal monthlyIncome = new BigDecimal(income);
+                        RiskEvaluation evaluation = engine.evaluate(creditScore, requestedAmount, term, monthlyIncome);
+                        RiskEvaluation expected = original(creditScore, requestedAmount, term, monthlyIncome);
+                        assertEquals(expected.riskScore(), evaluation.riskScore());
+                        assertEquals(expected.riskLevel(), evaluation.riskLevel());
+                        assertEquals(expected.rulesApplied(), evaluation.rulesApplied());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void evaluate_MatchesDecimalRulesForEveryCreditScoreAndTerm() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        String[][] money = {{"10000", "5000"}, {"400000", "1000"}, {"1500000", "800"}, {"750000", "1999.99"}};
+
+        // When / Then
+        for (int creditScore = 300; creditScore <= 850; creditScore++) {
+            for (int term = 6; term <= 60; term++) {
+                for (String[] pair : money) {
+                    BigDecimal requestedAmount = new BigDecimal(pair[0]);
+                    BigDecimal monthlyIncome = new BigDecimal(pair[1]);
+                    assertSameOutcome(original(creditScore, requestedAmount, term, monthlyIncome),
+                        engine.evaluate(creditScore, requestedAmount, term, monthlyIncome));
+                }
+            }
+        }
+    }
+
+    @Test
+    void evaluate_MatchesDecimalRulesForMoneyInputs() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        Random random = new Random(42);
+
+        // When / Then - random amounts and incomes at every scale, plus ratios next to 0.3 and 0.5
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal monthlyIncome = BigDecimal.valueOf(1 + random.nextInt(20_000_000), random.nextInt(5));
+            BigDecimal requestedAmount;
+            if (i % 2 == 0) {
+                requestedAmount = BigDecimal.valueOf(1_000_000 + random.nextLong(4_999_000_000L), random.nextInt(5));
+            } else {
+                BigDecimal ratio = i % 4 == 1 ? new BigDecimal("0.3") : new BigDecimal("0.5");
+                BigDecimal offset = BigDecimal.valueOf(random.nextInt(21) - 10, 2 + random.nextInt(3));
+                requestedAmount = monthlyIncome.multiply(BigDecimal.valueOf(12)).multiply(ratio).add(offset).abs();
+            }
+            int creditScore = 300 + random.nextInt(551);
+            int term = 6 + random.nextInt(55);
+            assertSameOutcome(original(creditScore, requestedAmount, term, monthlyIncome),
+                engine.evaluate(creditScore, requestedAmount, term, monthlyIncome));
+        }
+    }
+
+    @Test
+    void evaluate_FractionalThresholdsMatchDecimalComparison() {
+        // Given - thresholds finer than the kernel's units must still compare exactly
+        RiskPolicy policy = new RiskPolicy("fractional", List.of(
+            new RiskRuleTable(RiskFactor.CREDIT_SCORE, RiskRuleTable.Comparison.BELOW, List.of(
+                new RiskRule(new BigDecimal("650.5"), 20, "CREDIT_BELOW_650_5")
+            ), "CREDIT_OK"),
+            new RiskRuleTable(RiskFactor.TERM_IN_MONTHS, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("36.5"), 10, "TERM_ABOVE_36_5")
+            ), "TERM_OK"),
+            new RiskRuleTable(RiskFactor.DEBT_TO_INCOME, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("0.33335"), 30, "DTI_ABOVE_0_33335")
+            ), "DTI_OK"),
+            new RiskRuleTable(RiskFactor.MONTHLY_INCOME, RiskRuleTable.Comparison.BELOW, List.of(
+                new RiskRule(new BigDecimal("1999.995"), 10, "INCOME_BELOW_1999_995")
+            ), "INCOME_OK"),
+            new RiskRuleTable(RiskFactor.REQUESTED_AMOUNT, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("500000.005"), 10, "AMOUNT_ABOVE_500000_005")
+            ), "AMOUNT_OK")
+        ), 40, 70);
+        RiskRuleEngine engine = new RiskRuleEngine(policy);
+
+        // When
+        RiskEvaluation below = engine.evaluate(650, new BigDecimal("500000.00"), 36, new BigDecimal("1999.99"));
+        RiskEvaluation above = engine.evaluate(651, new BigDecimal("500000.01"), 37, new BigDecimal("2000"));
+        RiskEvaluation ratio = engine.evaluate(700, new BigDecimal("80003"), 12, new BigDecimal("20000"));
+
+        // Then
+        assertEquals(List.of("CREDIT_BELOW_650_5", "TERM_OK", "DTI_ABOVE_0_33335", "INCOME_BELOW_1999_995",
+            "AMOUNT_OK"), below.rulesApplied());
+        assertEquals(List.of("CREDIT_OK", "TERM_ABOVE_36_5", "DTI_ABOVE_0_33335", "INCOME_OK",
+            "AMOUNT_ABOVE_500000_005"), above.rulesApplied());
+        // 80003 / 240000 rounds to 0.3333, which is not above the threshold
+        assertEquals("DTI_OK", ratio.rulesApplied().get(2));
+    }
+
+    @Test
+    void evaluate_ThresholdsAreExclusive() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+
+        // When - score exactly 600, ratio rounded to exactly 0.5000, term exactly 48, amount exactly 1M
+        RiskEvaluation evaluation = engine.evaluate(600, new BigDecimal("1000000"), 48, new BigDecimal("166666.67"));
+
+        // Then
+        assertEquals(List.of("CREDIT_SCORE_BELOW_650", "DEBT_TO_INCOME_MEDIUM", "TERM_LONG", "INCOME_ACCEPTABLE",
+                "AMOUNT_HIGH"), evaluation.rulesApplied());
+    }
+
+    @Test
+    void reload_SwapsPolicy() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        RiskPolicy strict = new RiskPolicy("strict", List.of(
+            new RiskRuleTable(RiskFactor.TERM_IN_MONTHS, RiskRuleTable.Comparison.ABOVE, List.of(
+                new RiskRule(new BigDecimal("24"), 80, "TERM_OVER_24")
+            ), "TERM_ACCEPTABLE")
+        ), 40, 70);
+
+        // When
+        engine.reload(strict);
+        RiskEvaluation evaluation = engine.evaluate(800, new BigDecimal("10000"), 30, new BigDecimal("5000"));
+
+        // Then
+        assertEquals("strict", engine.getPolicyVersion());
+        assertEquals("strict", evaluation.policyVersion());
+        assertEquals(80, evaluation.riskScore());
+        assertEquals(RiskLevel.HIGH, evaluation.riskLevel());
+        assertEquals(List.of("TERM_OVER_24"), evaluation.rulesApplied());
+    }
+
+    @Test
+    void reload_ChangedRulesUnderTheSameVersionAreRejected() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        RiskPolicy relabelled = new RiskPolicy("default", RiskPolicy.defaults().tables(), 30, 70);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> engine.reload(relabelled));
+        engine.reload(RiskPolicy.defaults());
+        assertEquals(RiskLevel.LOW, engine.evaluate(550, new BigDecimal("10000"), 24, new BigDecimal("5000")).riskLevel());
+        assertEquals("default", engine.getPolicyVersion());
+    }
+
+    @Test
+    void reload_InvalidPolicyKeepsCurrent() {
+        // Given
+        RiskRuleEngine engine = new RiskRuleEngine(RiskPolicy.defaults());
+        RiskRuleTable table = new RiskRuleTable(RiskFactor.TERM_IN_MONTHS, RiskRuleTable.Comparison.ABOVE, List.of(
+            new RiskRule(new BigDecimal("24"), 10, "TERM_OVER_24"),
+            new RiskRule(new BigDecimal("24.0"), 20, "TERM_OVER_24_AGAIN")
+        ), "TERM_ACCEPTABLE");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.reload(new RiskPolicy("broken", List.of(table), 40, 70)));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.reload(new RiskPolicy("duplicated", List.of(
+                RiskPolicy.defaults().tables().get(0), RiskPolicy.defaults().tables().get(0)), 40, 70)));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.reload(new RiskPolicy("v".repeat(65), RiskPolicy.defaults().tables(), 40, 70)));
+        assertEquals("default", engine.getPolicyVersion());
+    }
+
+    private static void assertSameOutcome(RiskEvaluation expected, RiskEvaluation actual) {
+        assertEquals(expected.riskScore(), actual.riskScore());
+        assertEquals(expected.riskLevel(), actual.riskLevel());
+        assertEquals(expected.rulesApplied(), actual.rulesApplied());
+    }
+
+    // The rules as they were written inline in RiskAssessmentService
+    private static RiskEvaluation original(int creditScore, BigDecimal requestedAmount, int termInMonths,
+                                           BigDecimal monthlyIncome) {
+        List<String> rulesApplied = new ArrayList<>();
+        int riskScore = 0;
+        if (creditScore < 600) {
+            riskScore += 40;
+            rulesApplied.add("CREDIT_SCORE_BELOW_600");
+        } else if (creditScore < 650) {
+            riskScore += 25;
+            rulesApplied.add("CREDIT_SCORE_BELOW_650");
+        } else if (creditScore < 700) {
+            riskScore += 15;
+            rulesApplied.add("CREDIT_SCORE_BELOW_700");
+        } else {
+            rulesApplied.add("CREDIT_SCORE_ACCEPTABLE");
+        }
+        BigDecimal ratio = requestedAmount.divide(monthlyIncome.multiply(BigDecimal.valueOf(12)), 4, RoundingMode.HALF_UP);
+        if (ratio.compareTo(BigDecimal.valueOf(0.5)) > 0) {
+            riskScore += 30;
+            rulesApplied.add("DEBT_TO_INCOME_HIGH");
+        } else if (ratio.compareTo(BigDecimal.valueOf(0.3)) > 0) {
+            riskScore += 15;
+            rulesApplied.add("DEBT_TO_INCOME_MEDIUM");
+        } else {
+            rulesApplied.add("DEBT_TO_INCOME_ACCEPTABLE");
+        }
+        if (termInMonths > 48) {
+            riskScore += 15;
+            rulesApplied.add("TERM_TOO_LONG");
+        } else if (termInMonths > 36) {
+            riskScore += 10;
+            rulesApplied.add("TERM_LONG");
+        } else {
+            rulesApplied.add("TERM_ACCEPTABLE");
+        }
+        if (monthlyIncome.compareTo(BigDecimal.valueOf(1000)) < 0) {
+            riskScore += 20;
+            rulesApplied.add("INCOME_TOO_LOW");
+        } else if (monthlyIncome.compareTo(BigDecimal.valueOf(2000)) < 0) {
+            riskScore += 10;
+            rulesApplied.add("INCOME_LOW");
+        } else {
+            rulesApplied.add("INCOME_ACCEPTABLE");
+        }
+        if (requestedAmount.compareTo(BigDecimal.valueOf(1000000)) > 0) {
+            riskScore += 15;
+            rulesApplied.add("AMOUNT_VERY_HIGH");
+        } else if (requestedAmount.compareTo(BigDecimal.valueOf(500000)) > 0) {
+            riskScore += 10;
+            rulesApplied.add("AMOUNT_HIGH");
+        } else {
+            rulesApplied.add("AMOUNT_ACCEPTABLE");
+        }
+        riskScore = Math.min(100, Math.max(0, riskScore));
+        RiskLevel level = riskScore > 70 ? RiskLevel.HIGH : riskScore > 40 ? RiskLevel.MEDIUM : RiskLevel.LOW;
+        return new RiskEvaluation(riskScore, level, RiskRuleSet.of(rulesApplied), "original");
+    }
+}